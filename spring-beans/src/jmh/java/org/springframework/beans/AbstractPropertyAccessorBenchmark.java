@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,13 +23,20 @@ import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 
 import org.springframework.beans.propertyeditors.CustomNumberEditor;
 import org.springframework.beans.propertyeditors.StringTrimmerEditor;
+import org.springframework.core.SpringProperties;
 
 /**
  * Benchmark for {@link AbstractPropertyAccessor} use on beans.
  *
+ * <p>Property access through {@link BeanWrapperImpl} is also measured in each of
+ * the supported {@linkplain BeanWrapperImpl#PROPERTY_ACCESS_PROPERTY_NAME access modes}.
+ * Since the access mode is determined once per JVM, each mode needs to run in a fork
+ * of its own, as is the case with JMH's default forking.
+ *
  * @author Brian Clozel
  */
 @BenchmarkMode(Mode.Throughput)
@@ -74,12 +81,66 @@ public class AbstractPropertyAccessorBenchmark {
 
 	}
 
+	@State(Scope.Benchmark)
+	public static class AccessModeState {
+
+		@Param({"reflective", "method-handle", "generated"})
+		public String accessMode;
+
+		public Person target;
+
+		public BeanWrapper beanWrapper;
+
+		@Setup
+		public void setup() {
+			SpringProperties.setProperty(BeanWrapperImpl.PROPERTY_ACCESS_PROPERTY_NAME, this.accessMode);
+			CachedIntrospectionResults.clearClassLoader(Person.class.getClassLoader());
+			this.target = new Person();
+			this.target.setSpouse(new Person());
+			this.beanWrapper = new BeanWrapperImpl(this.target);
+		}
+
+		@TearDown
+		public void tearDown() {
+			SpringProperties.setProperty(BeanWrapperImpl.PROPERTY_ACCESS_PROPERTY_NAME, null);
+			CachedIntrospectionResults.clearClassLoader(Person.class.getClassLoader());
+		}
+	}
+
 	@Benchmark
 	public PrimitiveArrayBean setPropertyValue(BenchmarkState state) {
 		state.propertyAccessor.setPropertyValue("array", state.input);
 		return state.target;
 	}
 
+	@Benchmark
+	public Object getPropertyValueWithAccessMode(AccessModeState state) {
+		return state.beanWrapper.getPropertyValue("name");
+	}
+
+	@Benchmark
+	public Object getNestedPropertyValueWithAccessMode(AccessModeState state) {
+		return state.beanWrapper.getPropertyValue("spouse.name");
+	}
+
+	@Benchmark
+	public Person setPropertyValueWithAccessMode(AccessModeState state) {
+		state.beanWrapper.setPropertyValue("name", "Juergen");
+		return state.target;
+	}
+
+	@Benchmark
+	public Person setPropertyValueWithConversionAndAccessMode(AccessModeState state) {
+		state.beanWrapper.setPropertyValue("age", "42");
+		return state.target;
+	}
+
+	@Benchmark
+	public Person setNestedPropertyValueWithAccessMode(AccessModeState state) {
+		state.beanWrapper.setPropertyValue("spouse.name", "Juergen");
+		return state.target;
+	}
+
 	@SuppressWarnings("unused")
 	private static class PrimitiveArrayBean {
 
@@ -94,4 +155,38 @@ public class AbstractPropertyAccessorBenchmark {
 		}
 	}
 
+	@SuppressWarnings("unused")
+	public static class Person {
+
+		private String name;
+
+		private int age;
+
+		private Person spouse;
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getAge() {
+			return this.age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+
+		public Person getSpouse() {
+			return this.spouse;
+		}
+
+		public void setSpouse(Person spouse) {
+			this.spouse = spouse;
+		}
+	}
+
 }
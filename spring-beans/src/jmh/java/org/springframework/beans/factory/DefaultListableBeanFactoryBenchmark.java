@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,6 +30,7 @@ import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.beans.testfixture.beans.LifecycleBean;
 import org.springframework.beans.testfixture.beans.TestBean;
+import org.springframework.core.ResolvableType;
 
 /**
  * Benchmark for retrieving various bean types from the {@link DefaultListableBeanFactory}.
@@ -46,7 +47,7 @@ public class DefaultListableBeanFactoryBenchmark {
 	@State(Scope.Benchmark)
 	public static class PrototypeCreationState extends Shared {
 
-		@Param({"simple", "dependencyCheck", "constructor", "constructorArgument", "properties", "resolvedProperties"})
+		@Param({"simple", "dependencyCheck", "initMethod", "constructor", "constructorArgument", "properties", "resolvedProperties"})
 		public String mode;
 
 		@Setup
@@ -62,6 +63,12 @@ public class DefaultListableBeanFactoryBenchmark {
 					rbd.setDependencyCheck(RootBeanDefinition.DEPENDENCY_CHECK_OBJECTS);
 					this.beanFactory.addBeanPostProcessor(new LifecycleBean.PostProcessor());
 				}
+				case "initMethod" -> {
+					rbd = new RootBeanDefinition(LifecycleBean.class);
+					rbd.getPropertyValues().add("initMethodDeclared", true);
+					rbd.setInitMethodName("declaredInitMethod");
+					this.beanFactory.addBeanPostProcessor(new LifecycleBean.PostProcessor());
+				}
 				case "constructor" -> {
 					rbd.getConstructorArgumentValues().addGenericArgumentValue("juergen");
 					rbd.getConstructorArgumentValues().addGenericArgumentValue("99");
@@ -133,10 +140,50 @@ public class DefaultListableBeanFactoryBenchmark {
 		return state.beanFactory.getBean(B.class);
 	}
 
+	@State(Scope.Benchmark)
+	public static class LargeContextState extends Shared {
+
+		@Param("6000")
+		public int beanCount;
+
+		public ResolvableType holderType;
+
+		@Setup
+		public void setup() {
+			this.beanFactory = new DefaultListableBeanFactory();
+			for (int i = 0; i < this.beanCount; i++) {
+				this.beanFactory.registerBeanDefinition("a" + i, new RootBeanDefinition(A.class));
+			}
+			this.holderType = ResolvableType.forClassWithGenerics(Holder.class, B.class);
+			RootBeanDefinition holder = new RootBeanDefinition(Holder.class);
+			holder.setTargetType(this.holderType);
+			this.beanFactory.registerBeanDefinition("holder", holder);
+			this.beanFactory.freezeConfiguration();
+			this.beanFactory.preInstantiateSingletons();
+		}
+	}
+
+	@Benchmark
+	public Object genericTypeLookupLargeContext(LargeContextState state) {
+		return state.beanFactory.getBeanProvider(state.holderType).getObject();
+	}
+
+	@Benchmark
+	public Object typeLookupAfterSingletonRegistrationLargeContext(LargeContextState state) {
+		// Registering a singleton clears the by-type cache, as may happen repeatedly during startup
+		state.beanFactory.registerSingleton("b", new B());
+		Object holder = state.beanFactory.getBean(Holder.class);
+		state.beanFactory.destroySingleton("b");
+		return holder;
+	}
+
 	static class A {
 	}
 
 	static class B {
 	}
 
+	static class Holder<T> {
+	}
+
 }
@@ -41,6 +41,8 @@ import org.springframework.core.convert.ConverterNotFoundException;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
@@ -76,6 +78,10 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 	 */
 	private static final Log logger = LogFactory.getLog(AbstractNestablePropertyAccessor.class);
 
+	/** Cache of parsed nested property paths, shared across property accessors. */
+	private static final ConcurrentLruCache<String, NestedPropertyPath> nestedPropertyPathCache =
+			new ConcurrentLruCache<>(256, AbstractNestablePropertyAccessor::parseNestedPropertyPath);
+
 	private int autoGrowCollectionLimit = Integer.MAX_VALUE;
 
 	@Nullable
@@ -438,6 +444,9 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 				if (pv.isConverted()) {
 					valueToApply = pv.getConvertedValue();
 				}
+				else if (isApplicableWithoutConversion(ph, originalValue)) {
+					valueToApply = originalValue;
+				}
 				else {
 					if (isExtractOldValueForEditor() && ph.isReadable()) {
 						try {
@@ -487,6 +496,21 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 		}
 	}
 
+	/**
+	 * Quick check whether the given value can be applied to the given property
+	 * as-is, without going through the full type conversion algorithm: that is,
+	 * a non-collection value of the property type, with neither custom editors
+	 * nor a conversion service registered which might transform it.
+	 */
+	private boolean isApplicableWithoutConversion(PropertyHandler ph, @Nullable Object value) {
+		if (value == null || hasCustomEditors() || getConversionService() != null) {
+			return false;
+		}
+		Class<?> propertyType = ph.getPropertyType();
+		return (propertyType != null && ClassUtils.isAssignableValue(propertyType, value) &&
+				!(value instanceof Collection || value instanceof Map || value.getClass().isArray()));
+	}
+
 	@Override
 	@Nullable
 	public Class<?> getPropertyType(String propertyName) throws BeansException {
@@ -823,17 +847,16 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 	 * @return a property accessor for the target bean
 	 */
 	protected AbstractNestablePropertyAccessor getPropertyAccessorForPropertyPath(String propertyPath) {
-		int pos = PropertyAccessorUtils.getFirstNestedPropertySeparatorIndex(propertyPath);
-		// Handle nested properties recursively.
-		if (pos > -1) {
-			String nestedProperty = propertyPath.substring(0, pos);
-			String nestedPath = propertyPath.substring(pos + 1);
-			AbstractNestablePropertyAccessor nestedPa = getNestedPropertyAccessor(nestedProperty);
-			return nestedPa.getPropertyAccessorForPropertyPath(nestedPath);
-		}
-		else {
-			return this;
+		// Handle nested properties recursively, with the path parsed only once.
+		if (propertyPath.indexOf(NESTED_PROPERTY_SEPARATOR_CHAR) != -1) {
+			NestedPropertyPath nestedPropertyPath = nestedPropertyPathCache.get(propertyPath);
+			ParsedPropertyName nestedProperty = nestedPropertyPath.nestedProperty();
+			if (nestedProperty != null) {
+				AbstractNestablePropertyAccessor nestedPa = getNestedPropertyAccessor(nestedProperty.toTokens());
+				return nestedPa.getPropertyAccessorForPropertyPath(nestedPropertyPath.remainingPath());
+			}
 		}
+		return this;
 	}
 
 	/**
@@ -841,17 +864,16 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 	 * Create a new one if not found in the cache.
 	 * <p>Note: Caching nested PropertyAccessors is necessary now,
 	 * to keep registered custom editors for nested properties.
-	 * @param nestedProperty property to create the PropertyAccessor for
+	 * @param tokens the tokens of the property to create the PropertyAccessor for
 	 * @return the PropertyAccessor instance, either cached or newly created
 	 */
-	private AbstractNestablePropertyAccessor getNestedPropertyAccessor(String nestedProperty) {
+	private AbstractNestablePropertyAccessor getNestedPropertyAccessor(PropertyTokenHolder tokens) {
 		Map<String, AbstractNestablePropertyAccessor> nestedAccessors = this.nestedPropertyAccessors;
 		if (nestedAccessors == null) {
 			nestedAccessors = new HashMap<>();
 			this.nestedPropertyAccessors = nestedAccessors;
 		}
 		// Get value of bean property.
-		PropertyTokenHolder tokens = getPropertyNameTokens(nestedProperty);
 		String canonicalName = tokens.canonicalName;
 		Object value = getPropertyValue(tokens);
 		if (value == null || (value instanceof Optional<?> optional && optional.isEmpty())) {
@@ -937,12 +959,28 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 		}
 	}
 
+	/**
+	 * Parse the given property path into its first nested property, if any,
+	 * and the remaining path below that property.
+	 * @param propertyPath the property path, which may be nested
+	 * @return the parsed property path
+	 */
+	private static NestedPropertyPath parseNestedPropertyPath(String propertyPath) {
+		int pos = PropertyAccessorUtils.getFirstNestedPropertySeparatorIndex(propertyPath);
+		if (pos == -1) {
+			return new NestedPropertyPath(null, propertyPath);
+		}
+		PropertyTokenHolder tokens = getPropertyNameTokens(propertyPath.substring(0, pos));
+		return new NestedPropertyPath(new ParsedPropertyName(tokens.actualName, tokens.canonicalName, tokens.keys),
+				propertyPath.substring(pos + 1));
+	}
+
 	/**
 	 * Parse the given property name into the corresponding property name tokens.
 	 * @param propertyName the property name to parse
 	 * @return representation of the parsed property tokens
 	 */
-	private PropertyTokenHolder getPropertyNameTokens(String propertyName) {
+	private static PropertyTokenHolder getPropertyNameTokens(String propertyName) {
 		String actualName = null;
 		List<String> keys = new ArrayList<>(2);
 		int searchIndex = 0;
@@ -975,7 +1013,7 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 		return tokens;
 	}
 
-	private int getPropertyNameKeyEnd(String propertyName, int startIndex) {
+	private static int getPropertyNameKeyEnd(String propertyName, int startIndex) {
 		int unclosedPrefixes = 0;
 		int length = propertyName.length();
 		for (int i = startIndex; i < length; i++) {
@@ -1072,6 +1110,30 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 	}
 
 
+	/**
+	 * Parsed representation of a property path: its first nested property,
+	 * or {@code null} if not nested, and the remaining path below it.
+	 */
+	private record NestedPropertyPath(@Nullable ParsedPropertyName nestedProperty, String remainingPath) {
+	}
+
+
+	/**
+	 * Immutable form of the tokens for a property name, to be shared across
+	 * property accessors and turned into separate {@link PropertyTokenHolder}
+	 * instances for each use.
+	 */
+	private record ParsedPropertyName(String actualName, String canonicalName, @Nullable String[] keys) {
+
+		PropertyTokenHolder toTokens() {
+			PropertyTokenHolder tokens = new PropertyTokenHolder(this.actualName);
+			tokens.canonicalName = this.canonicalName;
+			tokens.keys = (this.keys != null ? this.keys.clone() : null);
+			return tokens;
+		}
+	}
+
+
 	/**
 	 * Holder class used to store property tokens.
 	 */
@@ -25,7 +25,6 @@ import org.springframework.core.MethodParameter;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.lang.Nullable;
-import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
 
 /**
@@ -60,6 +59,20 @@ import org.springframework.util.ReflectionUtils;
  */
 public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements BeanWrapper {
 
+	/**
+	 * System property that determines how bean property read and write methods
+	 * are invoked: {@code "reflective"} for plain reflection, {@code "generated"}
+	 * for switching frequently accessed properties to generated accessor functions,
+	 * or {@code "method-handle"} for switching them to method handles. Rarely
+	 * accessed properties always use reflection.
+	 * <p>The default is {@code "reflective"}, also applying on GraalVM native image
+	 * irrespective of this setting. The property is read once, on first property
+	 * access; it can also be set in a {@code spring.properties} file on the classpath.
+	 * @since 6.2
+	 * @see org.springframework.core.SpringProperties
+	 */
+	public static final String PROPERTY_ACCESS_PROPERTY_NAME = "spring.beans.property-access";
+
 	/**
 	 * Cached introspections results for this object, to prevent encountering
 	 * the cost of JavaBeans introspection every time.
@@ -269,17 +282,12 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 		@Override
 		@Nullable
 		public Object getValue() throws Exception {
-			Method readMethod = this.pd.getReadMethod();
-			Assert.state(readMethod != null, "No read method available");
-			ReflectionUtils.makeAccessible(readMethod);
-			return readMethod.invoke(getWrappedInstance(), (Object[]) null);
+			return this.pd.getReadMethodInvoker().get(getWrappedInstance());
 		}
 
 		@Override
 		public void setValue(@Nullable Object value) throws Exception {
-			Method writeMethod = this.pd.getWriteMethodForActualAccess();
-			ReflectionUtils.makeAccessible(writeMethod);
-			writeMethod.invoke(getWrappedInstance(), value);
+			this.pd.getWriteMethodInvoker().set(getWrappedInstance(), value);
 		}
 
 		@Override
@@ -76,6 +76,12 @@ final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 	@Nullable
 	private final Class<?> propertyEditorClass;
 
+	@Nullable
+	private volatile PropertyMethodInvoker readMethodInvoker;
+
+	@Nullable
+	private volatile PropertyMethodInvoker writeMethodInvoker;
+
 
 	public GenericTypeAwarePropertyDescriptor(Class<?> beanClass, String propertyName,
 			@Nullable Method readMethod, @Nullable Method writeMethod,
@@ -158,6 +164,34 @@ final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 		return this.writeMethod;
 	}
 
+	/**
+	 * Return an invoker for the read method of this property.
+	 * @since 6.2
+	 */
+	public PropertyMethodInvoker getReadMethodInvoker() {
+		PropertyMethodInvoker invoker = this.readMethodInvoker;
+		if (invoker == null) {
+			Assert.state(this.readMethod != null, "No read method available");
+			invoker = new PropertyMethodInvoker(this.readMethod);
+			this.readMethodInvoker = invoker;
+		}
+		return invoker;
+	}
+
+	/**
+	 * Return an invoker for the write method of this property.
+	 * @since 6.2
+	 * @see #getWriteMethodForActualAccess()
+	 */
+	public PropertyMethodInvoker getWriteMethodInvoker() {
+		PropertyMethodInvoker invoker = this.writeMethodInvoker;
+		if (invoker == null) {
+			invoker = new PropertyMethodInvoker(getWriteMethodForActualAccess());
+			this.writeMethodInvoker = invoker;
+		}
+		return invoker;
+	}
+
 	@Nullable
 	public Method getWriteMethodFallback(@Nullable Class<?> valueType) {
 		if (this.ambiguousWriteMethods != null) {
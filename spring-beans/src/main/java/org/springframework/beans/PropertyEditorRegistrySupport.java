@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -361,6 +361,15 @@ public class PropertyEditorRegistrySupport implements PropertyEditorRegistry {
 		return (elementType != null && this.customEditors != null && this.customEditors.containsKey(elementType));
 	}
 
+	/**
+	 * Determine whether this registry contains any custom editors,
+	 * either type-specific or property-specific.
+	 * @since 6.2
+	 */
+	boolean hasCustomEditors() {
+		return (this.customEditors != null || this.customEditorsForPath != null);
+	}
+
 	/**
 	 * Determine the property type for the given property path.
 	 * <p>Called by {@link #findCustomEditor} if no required type has been specified,
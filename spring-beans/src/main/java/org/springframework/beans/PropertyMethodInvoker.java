@@ -0,0 +1,237 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.NativeDetector;
+import org.springframework.core.SpringProperties;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Invoker for the read or write method of a bean property, as used by
+ * {@link BeanWrapperImpl}.
+ *
+ * <p>By default, methods are invoked through reflection. Depending on the
+ * {@link BeanWrapperImpl#PROPERTY_ACCESS_PROPERTY_NAME} setting, a method that
+ * has been invoked a number of times may instead be switched to a generated
+ * accessor function (through {@link LambdaMetafactory}) or to a
+ * {@link MethodHandle}. Reflection remains in use for rarely accessed
+ * properties, not incurring any generation overhead for one-off bean setup,
+ * as well as for methods that cannot be accessed through a private lookup
+ * (e.g. in non-open modules) and on GraalVM native image.
+ *
+ * <p>Exceptions thrown by the target method are consistently exposed as
+ * {@link InvocationTargetException}, with argument mismatches leading to an
+ * {@link IllegalArgumentException} just like with reflective invocation.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @see GenericTypeAwarePropertyDescriptor#getReadMethodInvoker()
+ * @see GenericTypeAwarePropertyDescriptor#getWriteMethodInvoker()
+ */
+final class PropertyMethodInvoker {
+
+	/**
+	 * Number of invocations before switching from reflection to a method handle
+	 * or a generated accessor function.
+	 */
+	static final int INVOCATION_THRESHOLD = 16;
+
+	private static final MethodType READ_METHOD_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType WRITE_METHOD_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private static final AccessMode defaultAccessMode =
+			AccessMode.determine(SpringProperties.getProperty(BeanWrapperImpl.PROPERTY_ACCESS_PROPERTY_NAME));
+
+
+	private final Method method;
+
+	private final AccessMode accessMode;
+
+	@Nullable
+	private final Class<?> parameterType;
+
+	private int invocationCount;
+
+	/**
+	 * The accessor to use: the {@link Method} itself for reflective invocation,
+	 * a {@link MethodHandle}, or a generated {@link Function} or {@link BiConsumer}.
+	 * {@code null} before reaching the invocation threshold.
+	 */
+	@Nullable
+	private volatile Object accessor;
+
+
+	PropertyMethodInvoker(Method method) {
+		this(method, defaultAccessMode);
+	}
+
+	PropertyMethodInvoker(Method method, AccessMode accessMode) {
+		this.method = method;
+		this.accessMode = accessMode;
+		this.parameterType = (method.getParameterCount() == 1 ?
+				ClassUtils.resolvePrimitiveIfNecessary(method.getParameterTypes()[0]) : null);
+		ReflectionUtils.makeAccessible(method);
+		if (this.accessMode == AccessMode.REFLECTIVE) {
+			this.accessor = method;
+		}
+	}
+
+
+	/**
+	 * Invoke the read method on the given target.
+	 * @param target the target bean
+	 * @return the property value
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public Object get(Object target) throws Exception {
+		Object accessor = obtainAccessor();
+		if (accessor instanceof Method) {
+			return this.method.invoke(target);
+		}
+		checkTarget(target);
+		try {
+			if (accessor instanceof Function<?, ?> function) {
+				return ((Function<Object, Object>) function).apply(target);
+			}
+			return ((MethodHandle) accessor).invokeExact(target);
+		}
+		catch (Throwable ex) {
+			throw new InvocationTargetException(ex);
+		}
+	}
+
+	/**
+	 * Invoke the write method on the given target.
+	 * @param target the target bean
+	 * @param value the property value to set
+	 */
+	@SuppressWarnings("unchecked")
+	public void set(Object target, @Nullable Object value) throws Exception {
+		Object accessor = obtainAccessor();
+		if (accessor instanceof Method) {
+			this.method.invoke(target, value);
+			return;
+		}
+		checkTarget(target);
+		if (value != null ? (this.parameterType != null && !this.parameterType.isInstance(value)) :
+				this.method.getParameterTypes()[0].isPrimitive()) {
+			throw new IllegalArgumentException("argument type mismatch");
+		}
+		try {
+			if (accessor instanceof BiConsumer<?, ?> consumer) {
+				((BiConsumer<Object, Object>) consumer).accept(target, value);
+			}
+			else {
+				((MethodHandle) accessor).invokeExact(target, value);
+			}
+		}
+		catch (Throwable ex) {
+			throw new InvocationTargetException(ex);
+		}
+	}
+
+	private Object obtainAccessor() {
+		Object accessor = this.accessor;
+		if (accessor == null) {
+			if (++this.invocationCount < INVOCATION_THRESHOLD) {
+				return this.method;
+			}
+			synchronized (this) {
+				accessor = this.accessor;
+				if (accessor == null) {
+					accessor = createAccessor();
+					this.accessor = accessor;
+				}
+			}
+		}
+		return accessor;
+	}
+
+	private Object createAccessor() {
+		boolean read = (this.parameterType == null);
+		try {
+			if (this.accessMode == AccessMode.METHOD_HANDLE) {
+				return MethodHandles.lookup().unreflect(this.method).asType(read ? READ_METHOD_TYPE : WRITE_METHOD_TYPE);
+			}
+			Class<?> declaringClass = this.method.getDeclaringClass();
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+			MethodHandle methodHandle = lookup.unreflect(this.method);
+			if (read) {
+				return LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+						READ_METHOD_TYPE, methodHandle, MethodType.methodType(
+								ClassUtils.resolvePrimitiveIfNecessary(this.method.getReturnType()), declaringClass))
+						.getTarget().invoke();
+			}
+			else {
+				return LambdaMetafactory.metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class),
+						WRITE_METHOD_TYPE, methodHandle, MethodType.methodType(
+								void.class, declaringClass, this.parameterType))
+						.getTarget().invoke();
+			}
+		}
+		catch (Throwable ex) {
+			LogFactory.getLog(PropertyMethodInvoker.class).debug(
+					"Falling back to reflective invocation of property method [" + this.method + "]", ex);
+			return this.method;
+		}
+	}
+
+	private void checkTarget(Object target) {
+		if (!this.method.getDeclaringClass().isInstance(target)) {
+			throw new IllegalArgumentException("object is not an instance of declaring class");
+		}
+	}
+
+
+	/**
+	 * Supported modes of property method invocation.
+	 * @see BeanWrapperImpl#PROPERTY_ACCESS_PROPERTY_NAME
+	 */
+	enum AccessMode {
+
+		REFLECTIVE, METHOD_HANDLE, GENERATED;
+
+		static AccessMode determine(@Nullable String value) {
+			if (value == null || value.isBlank() || NativeDetector.inNativeImage()) {
+				return REFLECTIVE;
+			}
+			return switch (value.strip()) {
+				case "reflective" -> REFLECTIVE;
+				case "method-handle" -> METHOD_HANDLE;
+				case "generated" -> GENERATED;
+				default -> throw new IllegalArgumentException(
+						"Unsupported value for " + BeanWrapperImpl.PROPERTY_ACCESS_PROPERTY_NAME + ": " + value);
+			};
+		}
+	}
+
+}
@@ -419,7 +419,7 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 			throws BeansException {
 
 		Object result = existingBean;
-		for (BeanPostProcessor processor : getBeanPostProcessors()) {
+		for (BeanPostProcessor processor : getBeanPostProcessorCache().beforeInitialization) {
 			Object current = processor.postProcessBeforeInitialization(result, beanName);
 			if (current == null) {
 				return result;
@@ -435,7 +435,7 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 			throws BeansException {
 
 		Object result = existingBean;
-		for (BeanPostProcessor processor : getBeanPostProcessors()) {
+		for (BeanPostProcessor processor : getBeanPostProcessorCache().afterInitialization) {
 			Object current = processor.postProcessAfterInitialization(result, beanName);
 			if (current == null) {
 				return result;
@@ -1405,7 +1405,7 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 		// state of the bean before properties are set. This can be used, for example,
 		// to support styles of field injection.
 		if (!mbd.isSynthetic() && hasInstantiationAwareBeanPostProcessors()) {
-			for (InstantiationAwareBeanPostProcessor bp : getBeanPostProcessorCache().instantiationAware) {
+			for (InstantiationAwareBeanPostProcessor bp : getBeanPostProcessorCache().afterInstantiation) {
 				if (!bp.postProcessAfterInstantiation(bw.getWrappedInstance(), beanName)) {
 					return;
 				}
@@ -1431,7 +1431,7 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 			if (pvs == null) {
 				pvs = mbd.getPropertyValues();
 			}
-			for (InstantiationAwareBeanPostProcessor bp : getBeanPostProcessorCache().instantiationAware) {
+			for (InstantiationAwareBeanPostProcessor bp : getBeanPostProcessorCache().propertiesProcessing) {
 				PropertyValues pvsToUse = bp.postProcessProperties(pvs, bw.getWrappedInstance(), beanName);
 				if (pvsToUse == null) {
 					return;
@@ -1873,7 +1873,41 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 	protected void invokeCustomInitMethod(String beanName, Object bean, RootBeanDefinition mbd, String initMethodName)
 			throws Throwable {
 
-		Class<?> beanClass = bean.getClass();
+		Method methodToInvoke = resolveCustomInitMethod(beanName, bean.getClass(), mbd, initMethodName);
+		if (methodToInvoke == null) {
+			// Ignore non-existent default lifecycle methods.
+			return;
+		}
+
+		if (logger.isTraceEnabled()) {
+			logger.trace("Invoking init method '" + methodToInvoke.getName() +
+					"' on bean with name '" + beanName + "'");
+		}
+
+		try {
+			methodToInvoke.invoke(bean);
+		}
+		catch (InvocationTargetException ex) {
+			throw ex.getTargetException();
+		}
+	}
+
+	/**
+	 * Resolve the specified custom init method for the given bean class,
+	 * reusing a previous resolution from the {@link BeanCreationPlan} of
+	 * a non-singleton bean definition.
+	 * @return the accessible init method to invoke, or {@code null} if a
+	 * non-enforced init method does not exist on the given bean class
+	 */
+	@Nullable
+	private Method resolveCustomInitMethod(String beanName, Class<?> beanClass, RootBeanDefinition mbd,
+			String initMethodName) {
+
+		BeanCreationPlan plan = mbd.creationPlan;
+		if (plan != null && plan.hasInitMethod(beanClass, initMethodName)) {
+			return plan.getInitMethod(initMethodName);
+		}
+
 		MethodDescriptor descriptor = MethodDescriptor.create(beanName, beanClass, initMethodName);
 		String methodName = descriptor.methodName();
 
@@ -1886,28 +1920,18 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 				throw new BeanDefinitionValidationException("Could not find an init method named '" +
 						methodName + "' on bean with name '" + beanName + "'");
 			}
-			else {
-				if (logger.isTraceEnabled()) {
-					logger.trace("No default init method named '" + methodName +
-							"' found on bean with name '" + beanName + "'");
-				}
-				// Ignore non-existent default lifecycle methods.
-				return;
+			if (logger.isTraceEnabled()) {
+				logger.trace("No default init method named '" + methodName +
+						"' found on bean with name '" + beanName + "'");
 			}
 		}
-
-		if (logger.isTraceEnabled()) {
-			logger.trace("Invoking init method '" + methodName + "' on bean with name '" + beanName + "'");
+		else {
+			initMethod = ClassUtils.getInterfaceMethodIfPossible(initMethod, beanClass);
+			ReflectionUtils.makeAccessible(initMethod);
 		}
-		Method methodToInvoke = ClassUtils.getInterfaceMethodIfPossible(initMethod, beanClass);
 
-		try {
-			ReflectionUtils.makeAccessible(methodToInvoke);
-			methodToInvoke.invoke(bean);
-		}
-		catch (InvocationTargetException ex) {
-			throw ex.getTargetException();
-		}
+		BeanCreationPlan.registerInitMethod(mbd, beanClass, initMethodName, initMethod);
+		return initMethod;
 	}
 
 
@@ -1941,6 +1965,19 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 		this.factoryBeanInstanceCache.clear();
 	}
 
+	/**
+	 * Clear the caches of candidate factory methods and of filtered property
+	 * descriptors, to be rebuilt on demand.
+	 * @return the number of released cache entries
+	 * @see DefaultListableBeanFactory#compactMetadata()
+	 */
+	int clearIntrospectionCaches() {
+		int count = this.factoryMethodCandidateCache.size() + this.filteredPropertyDescriptorsCache.size();
+		this.factoryMethodCandidateCache.clear();
+		this.filteredPropertyDescriptorsCache.clear();
+		return count;
+	}
+
 	/**
 	 * Expose the logger to collaborating delegates.
 	 * @since 5.0.7
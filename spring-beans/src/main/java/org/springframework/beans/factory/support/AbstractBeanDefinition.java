@@ -193,7 +193,8 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 
 	private boolean fallback = false;
 
-	private final Map<String, AutowireCandidateQualifier> qualifiers = new LinkedHashMap<>();
+	@Nullable
+	private Map<String, AutowireCandidateQualifier> qualifiers;
 
 	@Nullable
 	private Supplier<?> instanceSupplier;
@@ -214,7 +215,8 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	@Nullable
 	private MutablePropertyValues propertyValues;
 
-	private MethodOverrides methodOverrides = new MethodOverrides();
+	@Nullable
+	private MethodOverrides methodOverrides;
 
 	@Nullable
 	private String[] initMethodNames;
@@ -811,14 +813,19 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	 * @see AutowireCandidateQualifier#getTypeName()
 	 */
 	public void addQualifier(AutowireCandidateQualifier qualifier) {
-		this.qualifiers.put(qualifier.getTypeName(), qualifier);
+		Map<String, AutowireCandidateQualifier> qualifiers = this.qualifiers;
+		if (qualifiers == null) {
+			qualifiers = new LinkedHashMap<>(4);
+			this.qualifiers = qualifiers;
+		}
+		qualifiers.put(qualifier.getTypeName(), qualifier);
 	}
 
 	/**
 	 * Return whether this bean has the specified qualifier.
 	 */
 	public boolean hasQualifier(String typeName) {
-		return this.qualifiers.containsKey(typeName);
+		return (this.qualifiers != null && this.qualifiers.containsKey(typeName));
 	}
 
 	/**
@@ -826,7 +833,7 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	 */
 	@Nullable
 	public AutowireCandidateQualifier getQualifier(String typeName) {
-		return this.qualifiers.get(typeName);
+		return (this.qualifiers != null ? this.qualifiers.get(typeName) : null);
 	}
 
 	/**
@@ -834,7 +841,7 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	 * @return the Set of {@link AutowireCandidateQualifier} objects.
 	 */
 	public Set<AutowireCandidateQualifier> getQualifiers() {
-		return new LinkedHashSet<>(this.qualifiers.values());
+		return (this.qualifiers != null ? new LinkedHashSet<>(this.qualifiers.values()) : new LinkedHashSet<>());
 	}
 
 	/**
@@ -843,7 +850,9 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	 */
 	public void copyQualifiersFrom(AbstractBeanDefinition source) {
 		Assert.notNull(source, "Source must not be null");
-		this.qualifiers.putAll(source.qualifiers);
+		if (source.qualifiers != null) {
+			source.qualifiers.values().forEach(this::addQualifier);
+		}
 	}
 
 	/**
@@ -1021,7 +1030,12 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	 * <p>Never returns {@code null}.
 	 */
 	public MethodOverrides getMethodOverrides() {
-		return this.methodOverrides;
+		MethodOverrides methodOverrides = this.methodOverrides;
+		if (methodOverrides == null) {
+			methodOverrides = new MethodOverrides();
+			this.methodOverrides = methodOverrides;
+		}
+		return methodOverrides;
 	}
 
 	/**
@@ -1029,7 +1043,7 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	 * @since 5.0.2
 	 */
 	public boolean hasMethodOverrides() {
-		return !this.methodOverrides.isEmpty();
+		return (this.methodOverrides != null && !this.methodOverrides.isEmpty());
 	}
 
 	/**
@@ -1333,13 +1347,13 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 				this.dependencyCheck == that.dependencyCheck &&
 				Arrays.equals(this.dependsOn, that.dependsOn) &&
 				this.autowireCandidate == that.autowireCandidate &&
-				ObjectUtils.nullSafeEquals(this.qualifiers, that.qualifiers) &&
+				equalsQualifiers(that) &&
 				this.primary == that.primary &&
 				this.nonPublicAccessAllowed == that.nonPublicAccessAllowed &&
 				this.lenientConstructorResolution == that.lenientConstructorResolution &&
 				equalsConstructorArgumentValues(that) &&
 				equalsPropertyValues(that) &&
-				ObjectUtils.nullSafeEquals(this.methodOverrides, that.methodOverrides) &&
+				equalsMethodOverrides(that) &&
 				ObjectUtils.nullSafeEquals(this.factoryBeanName, that.factoryBeanName) &&
 				ObjectUtils.nullSafeEquals(this.factoryMethodName, that.factoryMethodName) &&
 				ObjectUtils.nullSafeEquals(this.initMethodNames, that.initMethodNames) &&
@@ -1351,6 +1365,13 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 				super.equals(other)));
 	}
 
+	private boolean equalsQualifiers(AbstractBeanDefinition other) {
+		if (this.qualifiers == null || this.qualifiers.isEmpty()) {
+			return (other.qualifiers == null || other.qualifiers.isEmpty());
+		}
+		return this.qualifiers.equals(other.qualifiers);
+	}
+
 	private boolean equalsConstructorArgumentValues(AbstractBeanDefinition other) {
 		if (!hasConstructorArgumentValues()) {
 			return !other.hasConstructorArgumentValues();
@@ -1365,6 +1386,13 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 		return ObjectUtils.nullSafeEquals(this.propertyValues, other.propertyValues);
 	}
 
+	private boolean equalsMethodOverrides(AbstractBeanDefinition other) {
+		if (!hasMethodOverrides()) {
+			return !other.hasMethodOverrides();
+		}
+		return ObjectUtils.nullSafeEquals(this.methodOverrides, other.methodOverrides);
+	}
+
 	@Override
 	public int hashCode() {
 		int hashCode = ObjectUtils.nullSafeHashCode(getBeanClassName());
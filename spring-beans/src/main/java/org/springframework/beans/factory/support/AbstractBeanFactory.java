@@ -37,6 +37,7 @@ import org.springframework.beans.BeansException;
 import org.springframework.beans.PropertyEditorRegistrar;
 import org.springframework.beans.PropertyEditorRegistry;
 import org.springframework.beans.PropertyEditorRegistrySupport;
+import org.springframework.beans.PropertyValues;
 import org.springframework.beans.SimpleTypeConverter;
 import org.springframework.beans.TypeConverter;
 import org.springframework.beans.TypeMismatchException;
@@ -64,6 +65,7 @@ import org.springframework.beans.factory.config.Scope;
 import org.springframework.beans.factory.config.SmartInstantiationAwareBeanPostProcessor;
 import org.springframework.core.DecoratingClassLoader;
 import org.springframework.core.NamedThreadLocal;
+import org.springframework.core.NativeDetector;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.log.LogMessage;
@@ -1018,8 +1020,24 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
 			if (bppCache == null) {
 				bppCache = new BeanPostProcessorCache();
 				for (BeanPostProcessor bpp : this.beanPostProcessors) {
+					if (BeanPostProcessorCache.overrides(bpp, BeanPostProcessor.class,
+							"postProcessBeforeInitialization", Object.class, String.class)) {
+						bppCache.beforeInitialization.add(bpp);
+					}
+					if (BeanPostProcessorCache.overrides(bpp, BeanPostProcessor.class,
+							"postProcessAfterInitialization", Object.class, String.class)) {
+						bppCache.afterInitialization.add(bpp);
+					}
 					if (bpp instanceof InstantiationAwareBeanPostProcessor instantiationAwareBpp) {
 						bppCache.instantiationAware.add(instantiationAwareBpp);
+						if (BeanPostProcessorCache.overrides(bpp, InstantiationAwareBeanPostProcessor.class,
+								"postProcessAfterInstantiation", Object.class, String.class)) {
+							bppCache.afterInstantiation.add(instantiationAwareBpp);
+						}
+						if (BeanPostProcessorCache.overrides(bpp, InstantiationAwareBeanPostProcessor.class,
+								"postProcessProperties", PropertyValues.class, Object.class, String.class)) {
+							bppCache.propertiesProcessing.add(instantiationAwareBpp);
+						}
 						if (bpp instanceof SmartInstantiationAwareBeanPostProcessor smartInstantiationAwareBpp) {
 							bppCache.smartInstantiationAware.add(smartInstantiationAwareBpp);
 						}
@@ -1523,6 +1541,27 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
 		});
 	}
 
+	/**
+	 * Release the cached instantiation state (resolved constructor or factory
+	 * method and its arguments) in the merged bean definitions of fully
+	 * initialized singletons. Such a bean definition will go through regular
+	 * constructor resolution again if the singleton ever gets re-created.
+	 * @return the number of merged bean definitions with released state
+	 * @see DefaultListableBeanFactory#compactMetadata()
+	 */
+	int releaseSingletonInstantiationState() {
+		int count = 0;
+		for (Map.Entry<String, RootBeanDefinition> entry : this.mergedBeanDefinitions.entrySet()) {
+			String beanName = entry.getKey();
+			RootBeanDefinition mbd = entry.getValue();
+			if (mbd.isSingleton() && containsSingleton(beanName) && !isSingletonCurrentlyInCreation(beanName) &&
+					mbd.releaseInstantiationState()) {
+				count++;
+			}
+		}
+		return count;
+	}
+
 	/**
 	 * Resolve the bean class for the specified bean definition,
 	 * resolving a bean class name into a Class reference (if necessary)
@@ -2081,18 +2120,49 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
 
 	/**
 	 * Internal cache of pre-filtered post-processors.
+	 * <p>As of 6.2, this also holds the post-processors for each phase of bean
+	 * creation that actually implement the corresponding callback, leaving out
+	 * post-processors which inherit the interface's pass-through default method.
 	 *
 	 * @since 5.3
 	 */
 	static class BeanPostProcessorCache {
 
+		final List<BeanPostProcessor> beforeInitialization = new ArrayList<>();
+
+		final List<BeanPostProcessor> afterInitialization = new ArrayList<>();
+
 		final List<InstantiationAwareBeanPostProcessor> instantiationAware = new ArrayList<>();
 
+		final List<InstantiationAwareBeanPostProcessor> afterInstantiation = new ArrayList<>();
+
+		final List<InstantiationAwareBeanPostProcessor> propertiesProcessing = new ArrayList<>();
+
 		final List<SmartInstantiationAwareBeanPostProcessor> smartInstantiationAware = new ArrayList<>();
 
 		final List<DestructionAwareBeanPostProcessor> destructionAware = new ArrayList<>();
 
 		final List<MergedBeanDefinitionPostProcessor> mergedDefinition = new ArrayList<>();
+
+		/**
+		 * Determine whether the given post-processor overrides the specified default
+		 * callback method, i.e. whether the callback may have any effect at all.
+		 * Conservatively returns {@code true} if the method cannot be introspected.
+		 */
+		static boolean overrides(BeanPostProcessor postProcessor, Class<?> callbackInterface,
+				String methodName, Class<?>... parameterTypes) {
+
+			if (NativeDetector.inNativeImage()) {
+				return true;
+			}
+			try {
+				return (postProcessor.getClass().getMethod(methodName, parameterTypes).getDeclaringClass() !=
+						callbackInterface);
+			}
+			catch (NoSuchMethodException | SecurityException ex) {
+				return true;
+			}
+		}
 	}
 
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Lifecycle steps resolved on first creation of a non-singleton bean, for
+ * reuse in subsequent creations from the same merged bean definition: namely
+ * the custom init and destroy methods, which otherwise get looked up through
+ * reflection for every new prototype or scoped instance.
+ *
+ * <p>A plan is held in {@link RootBeanDefinition#creationPlan} and therefore
+ * discarded along with the merged bean definition whenever the original bean
+ * definition changes. It is only applicable to instances of the bean class
+ * that it has been compiled for, falling back to regular resolution for any
+ * other bean class (e.g. from a factory method with varying return types).
+ *
+ * <p>Plans are immutable: further resolved methods get added through a
+ * copy that replaces the plan in the bean definition, with concurrent
+ * registrations at worst leading to repeated resolution of a method.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @see AbstractAutowireCapableBeanFactory#invokeCustomInitMethod
+ * @see DisposableBeanAdapter
+ */
+final class BeanCreationPlan {
+
+	private final Class<?> beanClass;
+
+	/** Resolved init methods by name, with a {@code null} value for a non-existent method. */
+	private final Map<String, Method> initMethods;
+
+	/** Resolved destroy methods by name, with a {@code null} value for a non-existent method. */
+	private final Map<String, Method> destroyMethods;
+
+
+	private BeanCreationPlan(Class<?> beanClass, Map<String, Method> initMethods, Map<String, Method> destroyMethods) {
+		this.beanClass = beanClass;
+		this.initMethods = initMethods;
+		this.destroyMethods = destroyMethods;
+	}
+
+
+	/**
+	 * Determine whether the given init method has been resolved for the given bean class.
+	 */
+	boolean hasInitMethod(Class<?> beanClass, String initMethodName) {
+		return (this.beanClass == beanClass && this.initMethods.containsKey(initMethodName));
+	}
+
+	/**
+	 * Return the resolved init method for the given name, if any.
+	 * @see #hasInitMethod
+	 */
+	@Nullable
+	Method getInitMethod(String initMethodName) {
+		return this.initMethods.get(initMethodName);
+	}
+
+	/**
+	 * Determine whether the given destroy method has been resolved for the given bean class.
+	 */
+	boolean hasDestroyMethod(Class<?> beanClass, String destroyMethodName) {
+		return (this.beanClass == beanClass && this.destroyMethods.containsKey(destroyMethodName));
+	}
+
+	/**
+	 * Return the resolved destroy method for the given name, if any.
+	 * @see #hasDestroyMethod
+	 */
+	@Nullable
+	Method getDestroyMethod(String destroyMethodName) {
+		return this.destroyMethods.get(destroyMethodName);
+	}
+
+
+	/**
+	 * Register a resolved init method in the plan of the given bean definition,
+	 * if applicable for the kind of bean.
+	 * @param mbd the merged bean definition
+	 * @param beanClass the bean class that the method has been resolved for
+	 * @param initMethodName the init method name as specified in the bean definition
+	 * @param initMethod the resolved init method, or {@code null} if none found
+	 */
+	static void registerInitMethod(RootBeanDefinition mbd, Class<?> beanClass,
+			String initMethodName, @Nullable Method initMethod) {
+
+		if (isApplicable(mbd)) {
+			BeanCreationPlan plan = obtainPlan(mbd, beanClass);
+			Map<String, Method> initMethods = new HashMap<>(plan.initMethods);
+			initMethods.put(initMethodName, initMethod);
+			mbd.creationPlan = new BeanCreationPlan(beanClass, initMethods, plan.destroyMethods);
+		}
+	}
+
+	/**
+	 * Register a resolved destroy method in the plan of the given bean definition,
+	 * if applicable for the kind of bean.
+	 * @param mbd the merged bean definition
+	 * @param beanClass the bean class that the method has been resolved for
+	 * @param destroyMethodName the destroy method name as specified in the bean definition
+	 * @param destroyMethod the resolved destroy method, or {@code null} if none found
+	 */
+	static void registerDestroyMethod(RootBeanDefinition mbd, Class<?> beanClass,
+			String destroyMethodName, @Nullable Method destroyMethod) {
+
+		if (isApplicable(mbd)) {
+			BeanCreationPlan plan = obtainPlan(mbd, beanClass);
+			Map<String, Method> destroyMethods = new HashMap<>(plan.destroyMethods);
+			destroyMethods.put(destroyMethodName, destroyMethod);
+			mbd.creationPlan = new BeanCreationPlan(beanClass, plan.initMethods, destroyMethods);
+		}
+	}
+
+	/**
+	 * A plan is only worth compiling for beans that get created repeatedly,
+	 * and only allowed for bean definitions that permit metadata caching.
+	 */
+	private static boolean isApplicable(RootBeanDefinition mbd) {
+		return (!mbd.isSingleton() && mbd.allowCaching);
+	}
+
+	private static BeanCreationPlan obtainPlan(RootBeanDefinition mbd, Class<?> beanClass) {
+		BeanCreationPlan plan = mbd.creationPlan;
+		if (plan != null && plan.beanClass == beanClass) {
+			return plan;
+		}
+		return new BeanCreationPlan(beanClass, Collections.emptyMap(), Collections.emptyMap());
+	}
+
+}
@@ -25,13 +25,17 @@ import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +45,10 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -48,7 +56,9 @@ import java.util.stream.Stream;
 
 import jakarta.inject.Provider;
 
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.PropertyValue;
 import org.springframework.beans.TypeConverter;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.BeanCurrentlyInCreationException;
@@ -58,6 +68,7 @@ import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.BeanNotOfRequiredTypeException;
 import org.springframework.beans.factory.CannotLoadBeanClassException;
+import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InjectionPoint;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.NoUniqueBeanDefinitionException;
@@ -70,8 +81,10 @@ import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinitionHolder;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
 import org.springframework.beans.factory.config.DependencyDescriptor;
 import org.springframework.beans.factory.config.NamedBeanHolder;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
 import org.springframework.core.NamedThreadLocal;
 import org.springframework.core.OrderComparator;
 import org.springframework.core.Ordered;
@@ -81,6 +94,7 @@ import org.springframework.core.annotation.MergedAnnotations;
 import org.springframework.core.annotation.MergedAnnotations.SearchStrategy;
 import org.springframework.core.log.LogMessage;
 import org.springframework.core.metrics.StartupStep;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.lang.Contract;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -147,6 +161,9 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	private static final Map<String, Reference<DefaultListableBeanFactory>> serializableFactories =
 			new ConcurrentHashMap<>(8);
 
+	/** Interval for re-checking a bean in creation in another parallel pre-instantiation thread. */
+	private static final long PARALLEL_CREATION_CHECK_INTERVAL = 50;
+
 	/** Optional id for this factory, for serialization purposes. */
 	@Nullable
 	private String serializationId;
@@ -161,6 +178,12 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	@Nullable
 	private Executor bootstrapExecutor;
 
+	/** Number of threads to pre-instantiate independent singletons with. */
+	private int preInstantiationParallelism = 1;
+
+	/** Whether to compact metadata once all non-lazy singletons have been pre-instantiated. */
+	private boolean compactMetadataAfterPreInstantiation = false;
+
 	/** Optional OrderComparator for dependency Lists and arrays. */
 	@Nullable
 	private Comparator<Object> dependencyComparator;
@@ -186,6 +209,13 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	/** Map of singleton-only bean names, keyed by dependency type. */
 	private final Map<Class<?>, String[]> singletonBeanNamesByType = new ConcurrentHashMap<>(64);
 
+	/** Map from bean name to the types that the bean may match, for pre-filtering by-type lookups. */
+	private final Map<String, Class<?>[]> beanTypeIndex = new ConcurrentHashMap<>(256);
+
+	/** The post-processor cache that the bean type index has been built with. */
+	@Nullable
+	private volatile Object beanTypeIndexPostProcessors;
+
 	/** List of bean definition names, in registration order. */
 	private volatile List<String> beanDefinitionNames = new ArrayList<>(256);
 
@@ -202,6 +232,24 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	private final NamedThreadLocal<PreInstantiation> preInstantiationThread =
 			new NamedThreadLocal<>("Pre-instantiation thread marker");
 
+	/** Whether parallel pre-instantiation is currently in progress. */
+	private volatile boolean parallelPreInstantiationActive;
+
+	/** Map from bean name to the parallel pre-instantiation thread creating it. */
+	private final Map<String, Thread> parallelCreationThreads = new ConcurrentHashMap<>(16);
+
+	/** Map from parallel pre-instantiation thread to the bean name that it waits for. */
+	private final Map<Thread, String> parallelCreationWaits = new ConcurrentHashMap<>(16);
+
+	/** Names of beans in creation with an early reference exposed to another parallel pre-instantiation thread. */
+	private final Set<String> parallelEarlyReferences = ConcurrentHashMap.newKeySet(16);
+
+	/** Lock for waiting on beans in creation in other parallel pre-instantiation threads. */
+	private final Lock parallelCreationLock = new ReentrantLock();
+
+	/** Signalled on any change of parallel creation state, guarded by the parallel creation lock. */
+	private final Condition parallelCreationChange = this.parallelCreationLock.newCondition();
+
 
 	/**
 	 * Create a new DefaultListableBeanFactory.
@@ -297,6 +345,64 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return this.bootstrapExecutor;
 	}
 
+	/**
+	 * Set the number of threads to pre-instantiate independent singleton beans
+	 * with in {@link #preInstantiateSingletons()}. Default is 1, pre-instantiating
+	 * all singletons one after the other in the calling thread.
+	 * <p>With a parallelism greater than 1, singleton beans are scheduled along
+	 * a dependency graph derived from their bean definitions: depends-on
+	 * declarations, factory bean references, bean references in constructor
+	 * arguments and property values, and the parameter types of resolved
+	 * factory methods and autowire-capable constructors. Beans without pending
+	 * dependencies are instantiated concurrently by the calling thread and up to
+	 * {@code parallelism - 1} workers on the {@link #setBootstrapExecutor bootstrap
+	 * executor} (or on dedicated threads if no bootstrap executor has been set).
+	 * <p>Any further dependencies discovered during instantiation are resolved
+	 * safely: a bean in creation in another thread is waited for, and circular
+	 * references across threads are resolved through early references where
+	 * possible or otherwise fall back to sequential instantiation, unless an
+	 * early reference to the affected bean has been handed out already (failing
+	 * pre-instantiation then). FactoryBeans and {@link BeanFactoryAware} beans,
+	 * which may operate on this factory's shared state, are instantiated
+	 * sequentially upfront, and beans in static dependency cycles are
+	 * instantiated sequentially afterwards.
+	 * @since 6.2
+	 * @see #preInstantiateSingletons()
+	 */
+	public void setPreInstantiationParallelism(int preInstantiationParallelism) {
+		Assert.isTrue(preInstantiationParallelism > 0, "Pre-instantiation parallelism must be greater than 0");
+		this.preInstantiationParallelism = preInstantiationParallelism;
+	}
+
+	/**
+	 * Return the number of threads to pre-instantiate independent singleton beans with.
+	 * @since 6.2
+	 */
+	public int getPreInstantiationParallelism() {
+		return this.preInstantiationParallelism;
+	}
+
+	/**
+	 * Set whether to {@linkplain #compactMetadata() compact metadata} at the end
+	 * of {@link #preInstantiateSingletons()}, releasing state which has only been
+	 * needed for resolving and creating the non-lazy singletons.
+	 * <p>Default is "false". Consider switching this to "true" for large
+	 * application contexts with mostly non-lazy singleton beans.
+	 * @since 6.2
+	 */
+	public void setCompactMetadataAfterPreInstantiation(boolean compactMetadataAfterPreInstantiation) {
+		this.compactMetadataAfterPreInstantiation = compactMetadataAfterPreInstantiation;
+	}
+
+	/**
+	 * Return whether to compact metadata once all non-lazy singletons have been
+	 * pre-instantiated.
+	 * @since 6.2
+	 */
+	public boolean isCompactMetadataAfterPreInstantiation() {
+		return this.compactMetadataAfterPreInstantiation;
+	}
+
 	/**
 	 * Set a {@link java.util.Comparator} for dependency Lists and arrays.
 	 * @since 4.0
@@ -344,6 +450,8 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			this.allowBeanDefinitionOverriding = otherListableFactory.allowBeanDefinitionOverriding;
 			this.allowEagerClassLoading = otherListableFactory.allowEagerClassLoading;
 			this.bootstrapExecutor = otherListableFactory.bootstrapExecutor;
+			this.preInstantiationParallelism = otherListableFactory.preInstantiationParallelism;
+			this.compactMetadataAfterPreInstantiation = otherListableFactory.compactMetadataAfterPreInstantiation;
 			this.dependencyComparator = otherListableFactory.dependencyComparator;
 			// A clone of the AutowireCandidateResolver since it is potentially BeanFactoryAware
 			setAutowireCandidateResolver(otherListableFactory.getAutowireCandidateResolver().cloneIfNecessary());
@@ -577,6 +685,19 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	private String[] doGetBeanNamesForType(ResolvableType type, boolean includeNonSingletons, boolean allowEagerInit) {
 		List<String> result = new ArrayList<>();
 
+		// Pre-filter through the bean type index for a concrete type in a frozen configuration.
+		Class<?> indexedClassToMatch = type.resolve();
+		if (indexedClassToMatch == FactoryBean.class || !isConfigurationFrozen()) {
+			indexedClassToMatch = null;
+		}
+		else if (indexedClassToMatch != null) {
+			Object postProcessors = getBeanPostProcessorCache();
+			if (this.beanTypeIndexPostProcessors != postProcessors) {
+				this.beanTypeIndex.clear();
+				this.beanTypeIndexPostProcessors = postProcessors;
+			}
+		}
+
 		// Check all bean definitions.
 		for (String beanName : this.beanDefinitionNames) {
 			// Only consider bean as eligible if the bean name is not defined as alias for some other bean.
@@ -587,6 +708,9 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 					if (!mbd.isAbstract() && (allowEagerInit ||
 							(mbd.hasBeanClass() || !mbd.isLazyInit() || isAllowEagerClassLoading()) &&
 									!requiresEagerInitForType(mbd.getFactoryBeanName()))) {
+						if (indexedClassToMatch != null && !isTypeMatchCandidate(beanName, mbd, indexedClassToMatch)) {
+							continue;
+						}
 						boolean isFactoryBean = isFactoryBean(beanName, mbd);
 						BeanDefinitionHolder dbd = mbd.getDecoratedDefinition();
 						boolean matchFound = false;
@@ -661,6 +785,88 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return StringUtils.toStringArray(result);
 	}
 
+	/**
+	 * Check whether the specified bean may match the given raw type, according to
+	 * the bean type index. Beans that are not indexed are always considered as
+	 * candidates, to be checked through {@link #isTypeMatch} in full.
+	 * <p>Only to be called for bean definitions that are eligible for type
+	 * matching in the first place, since determining the indexed types may
+	 * load the bean class and initialize a factory bean for a factory method.
+	 * @param beanName the name of the bean
+	 * @param mbd the merged bean definition for the bean
+	 * @param classToMatch the raw type to match
+	 * @return {@code false} if the bean definitely does not match the given type
+	 * @since 6.2
+	 * @see #determineIndexedTypes
+	 */
+	private boolean isTypeMatchCandidate(String beanName, RootBeanDefinition mbd, Class<?> classToMatch) {
+		Class<?>[] indexedTypes = this.beanTypeIndex.get(beanName);
+		if (indexedTypes == null) {
+			Object beanInstance = getSingleton(beanName, false);
+			indexedTypes = determineIndexedTypes(beanName, mbd, beanInstance);
+			if (indexedTypes == null) {
+				return true;
+			}
+			this.beanTypeIndex.put(beanName, indexedTypes);
+			// Singleton registered, removed or in creation in the meantime? Its removal
+			// from the index might have happened before our put, so re-validate here.
+			if (getSingleton(beanName, false) != beanInstance || isCurrentlyInCreation(beanName)) {
+				this.beanTypeIndex.remove(beanName, indexedTypes);
+			}
+		}
+		for (Class<?> indexedType : indexedTypes) {
+			if (ClassUtils.isAssignable(classToMatch, indexedType)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Determine all types that {@link #isTypeMatch} may match the given bean
+	 * against, if these are reliably known upfront: that is, for a singleton
+	 * bean which is not a FactoryBean and not currently in creation, the actual
+	 * class and the target type of an existing instance or the predicted type.
+	 * @param beanName the name of the bean
+	 * @param mbd the merged bean definition for the bean
+	 * @param beanInstance the current singleton instance, if any
+	 * @return the types to index the bean by, or {@code null} if not indexable
+	 * @since 6.2
+	 */
+	@Nullable
+	private Class<?>[] determineIndexedTypes(String beanName, RootBeanDefinition mbd, @Nullable Object beanInstance) {
+		if (mbd.isAbstract() || !mbd.isSingleton() || mbd.getDecoratedDefinition() != null ||
+				isCurrentlyInCreation(beanName)) {
+			return null;
+		}
+		if (beanInstance != null) {
+			if (beanInstance instanceof FactoryBean || beanInstance.getClass() == NullBean.class) {
+				return null;
+			}
+			// Generic matches may be based on the target type rather than a proxy class
+			Set<Class<?>> types = new LinkedHashSet<>(4);
+			types.add(beanInstance.getClass());
+			Class<?> targetType = mbd.getTargetType();
+			if (targetType != null) {
+				types.add(targetType);
+			}
+			ResolvableType definedType = mbd.targetType;
+			if (definedType != null && definedType.resolve() != null) {
+				types.add(definedType.toClass());
+			}
+			definedType = mbd.factoryMethodReturnType;
+			if (definedType != null && definedType.resolve() != null) {
+				types.add(definedType.toClass());
+			}
+			return ClassUtils.toClassArray(types);
+		}
+		Class<?> predictedType = predictBeanType(beanName, mbd, FactoryBean.class, Object.class);
+		if (predictedType == null || FactoryBean.class.isAssignableFrom(predictedType)) {
+			return null;
+		}
+		return new Class<?>[] {predictedType};
+	}
+
 	private boolean isSingleton(String beanName, RootBeanDefinition mbd, @Nullable BeanDefinitionHolder dbd) {
 		return (dbd != null ? mbd.isSingleton() : isSingleton(beanName));
 	}
@@ -937,12 +1143,14 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	protected void clearMergedBeanDefinition(String beanName) {
 		super.clearMergedBeanDefinition(beanName);
 		this.mergedBeanDefinitionHolders.remove(beanName);
+		this.beanTypeIndex.remove(beanName);
 	}
 
 	@Override
 	public void clearMetadataCache() {
 		super.clearMetadataCache();
 		this.mergedBeanDefinitionHolders.clear();
+		this.beanTypeIndex.clear();
 		clearByTypeCache();
 	}
 
@@ -984,7 +1192,9 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		super.checkMergedBeanDefinition(mbd, beanName, args);
 
 		if (mbd.isBackgroundInit()) {
-			if (this.preInstantiationThread.get() == PreInstantiation.MAIN && getBootstrapExecutor() != null) {
+			PreInstantiation preInstantiation = this.preInstantiationThread.get();
+			if ((preInstantiation == PreInstantiation.MAIN || preInstantiation == PreInstantiation.PARALLEL) &&
+					getBootstrapExecutor() != null) {
 				throw new BeanCurrentlyInCreationException(beanName, "Bean marked for background " +
 						"initialization but requested in mainline thread - declare ObjectProvider " +
 						"or lazy injection point in dependent mainline beans");
@@ -1002,7 +1212,8 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 
 	@Override
 	protected boolean isCurrentThreadAllowedToHoldSingletonLock() {
-		return (this.preInstantiationThread.get() != PreInstantiation.BACKGROUND);
+		PreInstantiation preInstantiation = this.preInstantiationThread.get();
+		return (preInstantiation != PreInstantiation.BACKGROUND && preInstantiation != PreInstantiation.PARALLEL);
 	}
 
 	@Override
@@ -1019,6 +1230,9 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		List<CompletableFuture<?>> futures = new ArrayList<>();
 		this.preInstantiationThread.set(PreInstantiation.MAIN);
 		try {
+			if (this.preInstantiationParallelism > 1) {
+				preInstantiateSingletonsInParallel(beanNames);
+			}
 			for (String beanName : beanNames) {
 				RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
 				if (!mbd.isAbstract() && mbd.isSingleton()) {
@@ -1051,6 +1265,44 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 				smartInitialize.end();
 			}
 		}
+
+		if (this.compactMetadataAfterPreInstantiation) {
+			compactMetadata();
+		}
+	}
+
+	/**
+	 * Release metadata which has only been needed for resolving and creating
+	 * the singleton beans that have been fully initialized at this point,
+	 * reducing the memory footprint of a large factory for its remaining lifetime.
+	 * <p>This releases the cached constructor resolution state in the merged
+	 * bean definitions of initialized singletons, the cached bean definition
+	 * holders for autowire candidate checks, and the introspection caches for
+	 * factory method candidates and filtered property descriptors. All of this
+	 * is rebuilt on demand: when creating lazy singletons or prototypes, when
+	 * re-creating a destroyed singleton, or when resolving further dependencies.
+	 * <p>The number of released entries per category is reported through a
+	 * {@code "spring.beans.compact-metadata"} startup step, as well as through
+	 * a corresponding log message at debug level.
+	 * @since 6.2
+	 * @see #setCompactMetadataAfterPreInstantiation
+	 * @see #setApplicationStartup
+	 */
+	public void compactMetadata() {
+		StartupStep compactMetadata = getApplicationStartup().start("spring.beans.compact-metadata");
+		int instantiationState = releaseSingletonInstantiationState();
+		int definitionHolders = this.mergedBeanDefinitionHolders.size();
+		this.mergedBeanDefinitionHolders.clear();
+		int introspectionCaches = clearIntrospectionCaches();
+		compactMetadata.tag("instantiationState", String.valueOf(instantiationState))
+				.tag("definitionHolders", String.valueOf(definitionHolders))
+				.tag("introspectionCaches", String.valueOf(introspectionCaches));
+		compactMetadata.end();
+		if (logger.isDebugEnabled()) {
+			logger.debug("Compacted metadata in " + this + ": released instantiation state for " +
+					instantiationState + " singleton beans, " + definitionHolders + " bean definition holders, " +
+					introspectionCaches + " introspection cache entries");
+		}
 	}
 
 	@Nullable
@@ -1104,6 +1356,209 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		}
 	}
 
+	/**
+	 * Pre-instantiate non-lazy singletons along their dependency graph, using
+	 * multiple threads for independent beans. Any beans left out here are
+	 * instantiated in the regular sequential pass afterwards.
+	 * @param beanNames the names of all bean definitions, in registration order
+	 * @see #setPreInstantiationParallelism
+	 */
+	private void preInstantiateSingletonsInParallel(List<String> beanNames) {
+		StartupStep parallelInstantiation = getApplicationStartup().start("spring.beans.parallel-instantiate")
+				.tag("parallelism", String.valueOf(this.preInstantiationParallelism));
+		Map<String, RootBeanDefinition> candidates = new LinkedHashMap<>();
+		for (String beanName : beanNames) {
+			RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
+			if (!mbd.isAbstract() && mbd.isSingleton() && !mbd.isLazyInit() && !mbd.isBackgroundInit() &&
+					!containsSingleton(beanName)) {
+				if (isParallelPreInstantiationCandidate(beanName, mbd)) {
+					candidates.put(beanName, mbd);
+				}
+				else {
+					// FactoryBean or otherwise operating on shared factory state: sequential upfront.
+					instantiateSingleton(beanName);
+				}
+			}
+		}
+
+		Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+		candidates.forEach((beanName, mbd) -> {
+			if (!containsSingleton(beanName)) {
+				dependencies.put(beanName, determinePreInstantiationDependencies(beanName, mbd));
+			}
+		});
+		if (dependencies.size() > 1) {
+			Executor executor = getBootstrapExecutor();
+			if (executor == null) {
+				executor = new SimpleAsyncTaskExecutor("pre-instantiation-");
+			}
+			this.parallelPreInstantiationActive = true;
+			try {
+				Set<String> remaining = new ParallelSingletonInstantiation(dependencies).instantiate(
+						this::instantiateSingletonInParallelThread, executor, this.preInstantiationParallelism);
+				parallelInstantiation.tag("sequentialFallbackCount", String.valueOf(remaining.size()));
+				if (!remaining.isEmpty() && logger.isDebugEnabled()) {
+					logger.debug("Falling back to sequential pre-instantiation of singleton beans " + remaining);
+				}
+			}
+			finally {
+				this.parallelPreInstantiationActive = false;
+				this.parallelEarlyReferences.clear();
+			}
+		}
+		parallelInstantiation.tag("beanCount", String.valueOf(dependencies.size())).end();
+	}
+
+	/**
+	 * Determine whether the given bean may be instantiated in a parallel thread.
+	 * <p>FactoryBeans and {@link BeanFactoryAware} beans are excluded since they
+	 * may operate on this factory's shared state, as are beans with a bean type
+	 * that cannot be predicted.
+	 */
+	private boolean isParallelPreInstantiationCandidate(String beanName, RootBeanDefinition mbd) {
+		Class<?> beanType = predictBeanType(beanName, mbd);
+		return (beanType != null && !FactoryBean.class.isAssignableFrom(beanType) &&
+				!BeanFactoryAware.class.isAssignableFrom(beanType));
+	}
+
+	/**
+	 * Determine the names of the beans that the given bean is going to depend on,
+	 * as far as derivable from its bean definition: depends-on declarations, the
+	 * factory bean, bean references in constructor arguments and property values,
+	 * and the parameter types of a resolved factory method or autowired constructor.
+	 * <p>This is just used for ordering parallel pre-instantiation, with undeclared
+	 * dependencies being coordinated between threads at creation time.
+	 */
+	private Set<String> determinePreInstantiationDependencies(String beanName, RootBeanDefinition mbd) {
+		Set<String> dependencies = new LinkedHashSet<>();
+		String[] dependsOn = mbd.getDependsOn();
+		if (dependsOn != null) {
+			for (String dep : dependsOn) {
+				dependencies.add(canonicalName(dep));
+			}
+		}
+		String factoryBeanName = mbd.getFactoryBeanName();
+		if (factoryBeanName != null) {
+			dependencies.add(canonicalName(factoryBeanName));
+		}
+		addBeanReferences(mbd, dependencies);
+		Collections.addAll(dependencies, getDependenciesForBean(beanName));
+		try {
+			Executable executable = mbd.getResolvedFactoryMethod();
+			if (executable == null && mbd.getFactoryMethodName() == null && mbd.hasBeanClass()) {
+				Constructor<?>[] ctors = determineConstructorsFromBeanPostProcessors(mbd.getBeanClass(), beanName);
+				if (ctors == null) {
+					ctors = mbd.getPreferredConstructors();
+				}
+				if (ctors != null && ctors.length == 1) {
+					executable = ctors[0];
+				}
+			}
+			if (executable != null) {
+				for (Class<?> paramType : executable.getParameterTypes()) {
+					if (!BeanUtils.isSimpleProperty(paramType) && !isDeferredDependencyType(paramType)) {
+						for (String candidate : getBeanNamesForType(paramType, true, false)) {
+							dependencies.add(BeanFactoryUtils.transformedBeanName(candidate));
+						}
+					}
+				}
+			}
+		}
+		catch (BeansException ex) {
+			// Not resolvable upfront: to be coordinated at creation time.
+			if (logger.isTraceEnabled()) {
+				logger.trace("Failed to determine constructor dependencies of bean '" + beanName + "'", ex);
+			}
+		}
+		return dependencies;
+	}
+
+	private void addBeanReferences(BeanDefinition bd, Set<String> dependencies) {
+		ConstructorArgumentValues cargs = bd.getConstructorArgumentValues();
+		for (ConstructorArgumentValues.ValueHolder valueHolder : cargs.getIndexedArgumentValues().values()) {
+			addBeanReferences(valueHolder.getValue(), dependencies);
+		}
+		for (ConstructorArgumentValues.ValueHolder valueHolder : cargs.getGenericArgumentValues()) {
+			addBeanReferences(valueHolder.getValue(), dependencies);
+		}
+		for (PropertyValue pv : bd.getPropertyValues().getPropertyValueList()) {
+			addBeanReferences(pv.getValue(), dependencies);
+		}
+	}
+
+	private void addBeanReferences(@Nullable Object value, Set<String> dependencies) {
+		if (value instanceof RuntimeBeanReference ref) {
+			if (!ref.isToParent()) {
+				Class<?> beanType = ref.getBeanType();
+				if (beanType != null) {
+					for (String candidate : getBeanNamesForType(beanType, true, false)) {
+						dependencies.add(BeanFactoryUtils.transformedBeanName(candidate));
+					}
+				}
+				else {
+					dependencies.add(canonicalName(ref.getBeanName()));
+				}
+			}
+		}
+		else if (value instanceof BeanDefinitionHolder holder) {
+			addBeanReferences(holder.getBeanDefinition(), dependencies);
+		}
+		else if (value instanceof BeanDefinition innerBd) {
+			addBeanReferences(innerBd, dependencies);
+		}
+		else if (value instanceof Collection<?> collection) {
+			for (Object element : collection) {
+				addBeanReferences(element, dependencies);
+			}
+		}
+		else if (value instanceof Map<?, ?> map) {
+			map.forEach((key, element) -> {
+				addBeanReferences(key, dependencies);
+				addBeanReferences(element, dependencies);
+			});
+		}
+	}
+
+	private static boolean isDeferredDependencyType(Class<?> type) {
+		return (ObjectFactory.class.isAssignableFrom(type) || type == Optional.class ||
+				(jakartaInjectProviderClass != null && type == jakartaInjectProviderClass) ||
+				Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type) || type.isArray());
+	}
+
+	private boolean instantiateSingletonInParallelThread(String beanName) {
+		PreInstantiation previous = this.preInstantiationThread.get();
+		this.preInstantiationThread.set(PreInstantiation.PARALLEL);
+		StartupStep beanInstantiation = getApplicationStartup().start("spring.beans.parallel-instantiate.bean")
+				.tag("beanName", beanName).tag("thread", Thread.currentThread().getName());
+		try {
+			instantiateSingleton(beanName);
+			return true;
+		}
+		catch (BeansException ex) {
+			if (ex.contains(ParallelCreationConflictException.class) &&
+					!ex.contains(ParallelEarlyReferenceException.class)) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Deferring singleton bean '" + beanName + "' to sequential pre-instantiation", ex);
+				}
+				beanInstantiation.tag("deferred", "true");
+				return false;
+			}
+			if (logger.isWarnEnabled()) {
+				logger.warn("Failed to instantiate singleton bean '" + beanName + "' in parallel thread", ex);
+			}
+			throw ex;
+		}
+		finally {
+			beanInstantiation.end();
+			if (previous != null) {
+				this.preInstantiationThread.set(previous);
+			}
+			else {
+				this.preInstantiationThread.remove();
+			}
+		}
+	}
+
 	private void instantiateSingleton(String beanName) {
 		if (isFactoryBean(beanName)) {
 			Object bean = getBean(FACTORY_BEAN_PREFIX + beanName);
@@ -1281,6 +1736,9 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		// Remove the merged bean definition for the given bean, if already created.
 		clearMergedBeanDefinition(beanName);
 
+		// Predicted types of other beans may depend on this bean, e.g. as factory bean.
+		this.beanTypeIndex.clear();
+
 		// Remove corresponding bean from singleton cache, if any. Shouldn't usually
 		// be necessary, rather just meant for overriding a context's default beans
 		// (e.g. the default StaticMessageSource in a StaticApplicationContext).
@@ -1348,9 +1806,249 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	public void destroySingletons() {
 		super.destroySingletons();
 		updateManualSingletonNames(Set::clear, set -> !set.isEmpty());
+		this.beanTypeIndex.clear();
 		clearByTypeCache();
 	}
 
+	/**
+	 * Overridden to re-index the bean by the type of its actual instance.
+	 */
+	@Override
+	protected void addSingleton(String beanName, Object singletonObject) {
+		super.addSingleton(beanName, singletonObject);
+		this.beanTypeIndex.remove(beanName);
+	}
+
+	/**
+	 * Overridden to remove the bean from the bean type index.
+	 */
+	@Override
+	protected void removeSingleton(String beanName) {
+		super.removeSingleton(beanName);
+		this.beanTypeIndex.remove(beanName);
+	}
+
+	/**
+	 * Overridden to remove the bean from the bean type index while in creation,
+	 * since it may be exposed through an early reference of a different type.
+	 */
+	@Override
+	protected void beforeSingletonCreation(String beanName) {
+		super.beforeSingletonCreation(beanName);
+		this.beanTypeIndex.remove(beanName);
+	}
+
+	/**
+	 * Overridden to not expose early references to beans in creation in other
+	 * threads during parallel pre-instantiation.
+	 */
+	@Override
+	@Nullable
+	protected Object getSingleton(String beanName, boolean allowEarlyReference) {
+		if (this.parallelPreInstantiationActive) {
+			Thread creationThread = this.parallelCreationThreads.get(beanName);
+			if (creationThread != null && creationThread != Thread.currentThread()) {
+				return (containsSingleton(beanName) ? super.getSingleton(beanName, false) : null);
+			}
+		}
+		return super.getSingleton(beanName, allowEarlyReference);
+	}
+
+	/**
+	 * Overridden to coordinate the creation of singletons between threads
+	 * during parallel pre-instantiation.
+	 */
+	@Override
+	public Object getSingleton(String beanName, ObjectFactory<?> singletonFactory) {
+		if (this.parallelPreInstantiationActive && this.preInstantiationThread.get() == PreInstantiation.PARALLEL) {
+			return createInParallelThread(beanName,
+					() -> (containsSingleton(beanName) ? super.getSingleton(beanName, false) : null),
+					() -> super.getSingleton(beanName, true),
+					() -> super.getSingleton(beanName, singletonFactory));
+		}
+		return super.getSingleton(beanName, singletonFactory);
+	}
+
+	/**
+	 * Overridden to coordinate the creation of FactoryBean objects between
+	 * threads during parallel pre-instantiation.
+	 */
+	@Override
+	protected Object getObjectFromFactoryBean(FactoryBean<?> factory, String beanName, boolean shouldPostProcess) {
+		if (this.parallelPreInstantiationActive && this.preInstantiationThread.get() == PreInstantiation.PARALLEL &&
+				factory.isSingleton()) {
+			return createInParallelThread(beanName, () -> getCachedObjectForFactoryBean(beanName), () -> null,
+					() -> super.getObjectFromFactoryBean(factory, beanName, shouldPostProcess));
+		}
+		return super.getObjectFromFactoryBean(factory, beanName, shouldPostProcess);
+	}
+
+	/**
+	 * Create the given object in the current parallel pre-instantiation thread,
+	 * or wait for its creation in case of another thread creating it already.
+	 * @param beanName the name of the bean
+	 * @param existingObject callback for a fully initialized object, if any
+	 * @param earlyReference callback for an early reference to the object in
+	 * creation, for resolving a circular reference across threads
+	 * @param creator callback for creating the object in the current thread
+	 * @return the (potentially pre-existing) object
+	 */
+	@SuppressWarnings("NullAway")
+	private Object createInParallelThread(String beanName, Supplier<Object> existingObject,
+			Supplier<Object> earlyReference, Supplier<Object> creator) {
+
+		Object object = existingObject.get();
+		if (object != null) {
+			return object;
+		}
+		Thread currentThread = Thread.currentThread();
+		Thread creationThread;
+		while ((creationThread = this.parallelCreationThreads.putIfAbsent(beanName, currentThread)) != null) {
+			if (creationThread == currentThread) {
+				// Nested creation attempt within the same thread: regular circular reference handling.
+				return creator.get();
+			}
+			object = awaitParallelCreation(beanName, creationThread, existingObject, earlyReference);
+			if (object != null) {
+				return object;
+			}
+		}
+		boolean released = false;
+		try {
+			return creator.get();
+		}
+		catch (RuntimeException ex) {
+			released = true;
+			if (releaseParallelCreation(beanName)) {
+				// Another thread holds on to an early reference: must not be re-created in the sequential pass.
+				throw new ParallelEarlyReferenceException(beanName, ex);
+			}
+			throw ex;
+		}
+		finally {
+			if (!released) {
+				releaseParallelCreation(beanName);
+			}
+		}
+	}
+
+	/**
+	 * Release the given object from creation in the current thread, notifying
+	 * any other threads waiting for it.
+	 * @return whether an early reference to the object has been exposed to
+	 * another thread in the meantime
+	 */
+	private boolean releaseParallelCreation(String beanName) {
+		this.parallelCreationLock.lock();
+		try {
+			this.parallelCreationThreads.remove(beanName);
+			this.parallelCreationChange.signalAll();
+			return this.parallelEarlyReferences.remove(beanName);
+		}
+		finally {
+			this.parallelCreationLock.unlock();
+		}
+	}
+
+	/**
+	 * Wait for the given object to be created by the given thread.
+	 * @return the created object, an early reference in case of a circular
+	 * reference across threads, or {@code null} if the other thread has given
+	 * up creating the object (to be created by the current thread then)
+	 * @throws ParallelCreationConflictException in case of an unresolvable
+	 * circular reference across threads
+	 */
+	@Nullable
+	private Object awaitParallelCreation(String beanName, Thread creationThread,
+			Supplier<Object> existingObject, Supplier<Object> earlyReference) {
+
+		Thread currentThread = Thread.currentThread();
+		int cycleChecks = 0;
+		try {
+			while (true) {
+				this.parallelCreationLock.lock();
+				try {
+					if (this.parallelCreationWaits.put(currentThread, beanName) == null) {
+						// Let other waiting threads check for a circular wait.
+						this.parallelCreationChange.signalAll();
+					}
+					Object object = existingObject.get();
+					if (object != null) {
+						return object;
+					}
+					if (this.parallelCreationThreads.get(beanName) != creationThread) {
+						return null;
+					}
+					if (!isWaitingForThread(creationThread, currentThread)) {
+						cycleChecks = 0;
+						this.parallelCreationChange.await(PARALLEL_CREATION_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+						continue;
+					}
+				}
+				finally {
+					this.parallelCreationLock.unlock();
+				}
+				// Circular wait: resolve through an early reference, as in a sequential circular reference.
+				// Exposure is recorded within the lock, consistent with the release of the creating thread.
+				this.parallelCreationLock.lock();
+				try {
+					if (this.parallelCreationThreads.get(beanName) != creationThread) {
+						continue;
+					}
+					Object object = earlyReference.get();
+					if (object != null) {
+						this.parallelEarlyReferences.add(beanName);
+						return object;
+					}
+				}
+				finally {
+					this.parallelCreationLock.unlock();
+				}
+				if (++cycleChecks > 3) {
+					throw new ParallelCreationConflictException(beanName, creationThread);
+				}
+				this.parallelCreationLock.lock();
+				try {
+					// Give the other threads in the cycle a chance to resolve it on their end.
+					this.parallelCreationChange.await(PARALLEL_CREATION_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+				}
+				finally {
+					this.parallelCreationLock.unlock();
+				}
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new BeanCreationException(beanName,
+					"Interrupted while waiting for creation of bean in thread \"" + creationThread.getName() + "\"");
+		}
+		finally {
+			this.parallelCreationWaits.remove(currentThread);
+		}
+	}
+
+	/**
+	 * Determine whether the given thread is (transitively) waiting for a bean
+	 * in creation in the target thread.
+	 */
+	private boolean isWaitingForThread(Thread thread, Thread targetThread) {
+		Thread current = thread;
+		for (int i = 0; i <= this.parallelCreationWaits.size(); i++) {
+			String awaitedBeanName = this.parallelCreationWaits.get(current);
+			if (awaitedBeanName == null) {
+				return false;
+			}
+			current = this.parallelCreationThreads.get(awaitedBeanName);
+			if (current == null) {
+				return false;
+			}
+			if (current == targetThread) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@Override
 	public void destroySingleton(String beanName) {
 		super.destroySingleton(beanName);
@@ -2541,9 +3239,40 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	}
 
 
+	/**
+	 * Exception for a circular reference between beans in creation in different
+	 * parallel pre-instantiation threads which cannot be resolved through an
+	 * early reference, leading to sequential pre-instantiation of the affected bean.
+	 */
+	@SuppressWarnings("serial")
+	private static class ParallelCreationConflictException extends BeanCurrentlyInCreationException {
+
+		public ParallelCreationConflictException(String beanName, Thread creationThread) {
+			super(beanName, "Circular reference with bean in creation in parallel pre-instantiation thread \"" +
+					creationThread.getName() + "\" - falling back to sequential pre-instantiation");
+		}
+	}
+
+
+	/**
+	 * Exception for the failed creation of a bean whose early reference has
+	 * already been exposed to another parallel pre-instantiation thread: such
+	 * a bean must not be deferred to sequential pre-instantiation since that
+	 * would lead to a second instance of the singleton.
+	 */
+	@SuppressWarnings("serial")
+	private static class ParallelEarlyReferenceException extends BeanCreationException {
+
+		public ParallelEarlyReferenceException(String beanName, Throwable cause) {
+			super(beanName, "Early reference to bean has been exposed to another parallel pre-instantiation " +
+					"thread - cannot fall back to sequential pre-instantiation", cause);
+		}
+	}
+
+
 	private enum PreInstantiation {
 
-		MAIN, BACKGROUND
+		MAIN, BACKGROUND, PARALLEL
 	}
 
 }
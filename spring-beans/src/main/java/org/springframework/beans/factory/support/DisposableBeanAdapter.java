@@ -128,26 +128,8 @@ class DisposableBeanAdapter implements DisposableBean, Runnable, Serializable {
 				this.destroyMethodNames = destroyMethodNames;
 				List<Method> destroyMethods = new ArrayList<>(destroyMethodNames.length);
 				for (String destroyMethodName : destroyMethodNames) {
-					Method destroyMethod = determineDestroyMethod(destroyMethodName);
-					if (destroyMethod == null) {
-						if (beanDefinition.isEnforceDestroyMethod()) {
-							throw new BeanDefinitionValidationException("Could not find a destroy method named '" +
-									destroyMethodName + "' on bean with name '" + beanName + "'");
-						}
-					}
-					else {
-						if (destroyMethod.getParameterCount() > 0) {
-							Class<?>[] paramTypes = destroyMethod.getParameterTypes();
-							if (paramTypes.length > 1) {
-								throw new BeanDefinitionValidationException("Method '" + destroyMethodName + "' of bean '" +
-										beanName + "' has more than one parameter - not supported as destroy method");
-							}
-							else if (paramTypes.length == 1 && boolean.class != paramTypes[0]) {
-								throw new BeanDefinitionValidationException("Method '" + destroyMethodName + "' of bean '" +
-										beanName + "' has a non-boolean parameter - not supported as destroy method");
-							}
-						}
-						destroyMethod = ClassUtils.getInterfaceMethodIfPossible(destroyMethod, bean.getClass());
+					Method destroyMethod = resolveDestroyMethod(destroyMethodName, beanDefinition);
+					if (destroyMethod != null) {
 						destroyMethods.add(destroyMethod);
 					}
 				}
@@ -261,6 +243,46 @@ class DisposableBeanAdapter implements DisposableBean, Runnable, Serializable {
 	}
 
 
+	/**
+	 * Resolve and validate the specified destroy method for the given bean definition,
+	 * reusing a previous resolution from the {@link BeanCreationPlan} of a scoped bean.
+	 * @return the destroy method to invoke, or {@code null} if a non-enforced
+	 * destroy method does not exist on the bean class
+	 */
+	@Nullable
+	private Method resolveDestroyMethod(String destroyMethodName, RootBeanDefinition beanDefinition) {
+		Class<?> beanClass = this.bean.getClass();
+		BeanCreationPlan plan = beanDefinition.creationPlan;
+		if (plan != null && plan.hasDestroyMethod(beanClass, destroyMethodName)) {
+			return plan.getDestroyMethod(destroyMethodName);
+		}
+
+		Method destroyMethod = determineDestroyMethod(destroyMethodName);
+		if (destroyMethod == null) {
+			if (beanDefinition.isEnforceDestroyMethod()) {
+				throw new BeanDefinitionValidationException("Could not find a destroy method named '" +
+						destroyMethodName + "' on bean with name '" + this.beanName + "'");
+			}
+		}
+		else {
+			if (destroyMethod.getParameterCount() > 0) {
+				Class<?>[] paramTypes = destroyMethod.getParameterTypes();
+				if (paramTypes.length > 1) {
+					throw new BeanDefinitionValidationException("Method '" + destroyMethodName + "' of bean '" +
+							this.beanName + "' has more than one parameter - not supported as destroy method");
+				}
+				else if (paramTypes.length == 1 && boolean.class != paramTypes[0]) {
+					throw new BeanDefinitionValidationException("Method '" + destroyMethodName + "' of bean '" +
+							this.beanName + "' has a non-boolean parameter - not supported as destroy method");
+				}
+			}
+			destroyMethod = ClassUtils.getInterfaceMethodIfPossible(destroyMethod, beanClass);
+		}
+
+		BeanCreationPlan.registerDestroyMethod(beanDefinition, beanClass, destroyMethodName, destroyMethod);
+		return destroyMethod;
+	}
+
 	@Nullable
 	private Method determineDestroyMethod(String destroyMethodName) {
 		try {
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Scheduler for instantiating singleton beans in parallel, in the order of a
+ * given dependency graph: a bean is only handed out for instantiation once all
+ * of its dependencies within the graph have been instantiated.
+ *
+ * <p>The calling thread takes part in the instantiation work, with additional
+ * workers being submitted to the given executor. Progress is therefore
+ * guaranteed even if the executor does not provide any threads right away.
+ *
+ * <p>Beans that are part of a dependency cycle (or depend on such a bean)
+ * never become ready and are returned as not instantiated, just like beans
+ * whose instantiation has been declined by the instantiation callback.
+ * The caller is expected to instantiate such beans sequentially.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @see DefaultListableBeanFactory#setPreInstantiationParallelism
+ */
+final class ParallelSingletonInstantiation {
+
+	private final Set<String> beanNames;
+
+	private final Map<String, List<String>> dependentBeanNames = new HashMap<>();
+
+	private final Map<String, Integer> pendingDependencyCounts = new HashMap<>();
+
+	private final Deque<String> readyBeanNames = new ArrayDeque<>();
+
+	private final Set<String> instantiatedBeanNames = new LinkedHashSet<>();
+
+	private int inProgressCount;
+
+	private int activeWorkerCount;
+
+	@Nullable
+	private Throwable failure;
+
+	/** Guards all scheduling state. */
+	private final Lock lock = new ReentrantLock();
+
+	/** Signalled on any change of scheduling state. */
+	private final Condition stateChange = this.lock.newCondition();
+
+
+	/**
+	 * Create a new scheduler for the given dependency graph.
+	 * @param dependencies the names of the beans to instantiate, in preferred
+	 * order, mapped to the names of the beans that they depend on (references
+	 * to beans outside of the graph are ignored)
+	 */
+	ParallelSingletonInstantiation(Map<String, Set<String>> dependencies) {
+		this.beanNames = dependencies.keySet();
+		dependencies.forEach((beanName, dependsOn) -> {
+			int count = 0;
+			for (String dependency : dependsOn) {
+				if (!dependency.equals(beanName) && this.beanNames.contains(dependency)) {
+					this.dependentBeanNames.computeIfAbsent(dependency, key -> new ArrayList<>()).add(beanName);
+					count++;
+				}
+				else if (dependency.equals(beanName)) {
+					// Self-reference: never ready, leave it to sequential instantiation.
+					count++;
+				}
+			}
+			this.pendingDependencyCounts.put(beanName, count);
+			if (count == 0) {
+				this.readyBeanNames.add(beanName);
+			}
+		});
+	}
+
+
+	/**
+	 * Instantiate all beans in the graph with the given callback.
+	 * @param instantiator callback for instantiating a single bean, returning
+	 * {@code false} if the bean has not been instantiated (to be left to
+	 * sequential instantiation, along with all beans that depend on it)
+	 * @param executor the executor to submit additional workers to
+	 * @param parallelism the maximum number of concurrent workers, including
+	 * the calling thread
+	 * @return the names of the beans that have not been instantiated
+	 */
+	Set<String> instantiate(Predicate<String> instantiator, Executor executor, int parallelism) {
+		int workerCount = Math.min(parallelism, this.beanNames.size());
+		for (int i = 1; i < workerCount; i++) {
+			try {
+				executor.execute(() -> work(instantiator));
+			}
+			catch (RejectedExecutionException ex) {
+				break;
+			}
+		}
+		work(instantiator);
+
+		this.lock.lock();
+		try {
+			while (this.activeWorkerCount > 0) {
+				try {
+					this.stateChange.await();
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("Interrupted while waiting for parallel pre-instantiation", ex);
+				}
+			}
+			if (this.failure != null) {
+				ReflectionUtils.rethrowRuntimeException(this.failure);
+			}
+			Set<String> remaining = new LinkedHashSet<>(this.beanNames);
+			remaining.removeAll(this.instantiatedBeanNames);
+			return remaining;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void work(Predicate<String> instantiator) {
+		this.lock.lock();
+		try {
+			this.activeWorkerCount++;
+		}
+		finally {
+			this.lock.unlock();
+		}
+		try {
+			String beanName;
+			while ((beanName = next()) != null) {
+				boolean instantiated;
+				try {
+					instantiated = instantiator.test(beanName);
+				}
+				catch (Throwable ex) {
+					this.lock.lock();
+					try {
+						if (this.failure == null) {
+							this.failure = ex;
+						}
+						this.inProgressCount--;
+						this.stateChange.signalAll();
+					}
+					finally {
+						this.lock.unlock();
+					}
+					return;
+				}
+				complete(beanName, instantiated);
+			}
+		}
+		finally {
+			this.lock.lock();
+			try {
+				this.activeWorkerCount--;
+				this.stateChange.signalAll();
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+	}
+
+	@Nullable
+	private String next() {
+		this.lock.lock();
+		try {
+			while (this.failure == null) {
+				String beanName = this.readyBeanNames.poll();
+				if (beanName != null) {
+					this.inProgressCount++;
+					return beanName;
+				}
+				if (this.inProgressCount == 0) {
+					// Nothing ready and nothing in progress that could make further beans ready.
+					return null;
+				}
+				try {
+					this.stateChange.await();
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					this.failure = new IllegalStateException("Interrupted during parallel pre-instantiation", ex);
+					this.stateChange.signalAll();
+				}
+			}
+			return null;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void complete(String beanName, boolean instantiated) {
+		this.lock.lock();
+		try {
+			this.inProgressCount--;
+			if (instantiated) {
+				this.instantiatedBeanNames.add(beanName);
+				List<String> dependents = this.dependentBeanNames.get(beanName);
+				if (dependents != null) {
+					for (String dependent : dependents) {
+						int count = this.pendingDependencyCounts.merge(dependent, -1, Integer::sum);
+						if (count == 0) {
+							this.readyBeanNames.add(dependent);
+						}
+					}
+				}
+			}
+			this.stateChange.signalAll();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+}
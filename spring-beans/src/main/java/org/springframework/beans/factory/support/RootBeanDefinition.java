@@ -126,6 +126,10 @@ public class RootBeanDefinition extends AbstractBeanDefinition {
 	@Nullable
 	volatile Boolean beforeInstantiationResolved;
 
+	/** Package-visible field for caching lifecycle steps resolved for repeated bean creation. */
+	@Nullable
+	volatile BeanCreationPlan creationPlan;
+
 	@Nullable
 	private Set<Member> externallyManagedConfigMembers;
 
@@ -477,6 +481,24 @@ public class RootBeanDefinition extends AbstractBeanDefinition {
 		}
 	}
 
+	/**
+	 * Release the cached resolved constructor or factory method along with
+	 * its resolved arguments, to be resolved again on next instantiation.
+	 * @return whether there has been any cached state to release
+	 */
+	boolean releaseInstantiationState() {
+		synchronized (this.constructorArgumentLock) {
+			if (this.resolvedConstructorOrFactoryMethod == null) {
+				return false;
+			}
+			this.resolvedConstructorOrFactoryMethod = null;
+			this.constructorArgumentsResolved = false;
+			this.resolvedConstructorArguments = null;
+			this.preparedConstructorArguments = null;
+			return true;
+		}
+	}
+
 	/**
 	 * Register an externally managed configuration method or field.
 	 */
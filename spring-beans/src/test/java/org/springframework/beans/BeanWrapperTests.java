@@ -17,7 +17,10 @@
 package org.springframework.beans;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -299,6 +302,41 @@ class BeanWrapperTests extends AbstractPropertyAccessorTests {
 				.satisfies(ex -> assertThat(ex.getPossibleMatches()).isNull());
 	}
 
+	@Test
+	void nestedPropertyAccessGoesThroughOverriddenPropertyPathNavigation() {
+		TestBean target = new TestBean();
+		target.setSpouse(new TestBean());
+		List<String> propertyPaths = new ArrayList<>();
+		BeanWrapperImpl accessor = new BeanWrapperImpl(target) {
+			@Override
+			protected BeanWrapperImpl getPropertyAccessorForPropertyPath(String propertyPath) {
+				propertyPaths.add(propertyPath);
+				return (BeanWrapperImpl) super.getPropertyAccessorForPropertyPath(propertyPath);
+			}
+		};
+		accessor.setPropertyValue("spouse.name", "tom");
+		accessor.setPropertyValue(new PropertyValue("spouse.age", 42));
+		assertThat(accessor.getPropertyValue("spouse.name")).isEqualTo("tom");
+		assertThat(accessor.getPropertyTypeDescriptor("spouse.age")).isNotNull();
+		assertThat(target.getSpouse().getAge()).isEqualTo(42);
+		assertThat(propertyPaths).containsExactly("spouse.name", "spouse.age", "spouse.name", "spouse.age");
+	}
+
+	@Test
+	void nestedPropertyAccessWithKeysOnDifferentTargets() {
+		TestBean target1 = new TestBean();
+		target1.setSomeMap(new HashMap<>(Map.of("key", new TestBean("first", 1))));
+		TestBean target2 = new TestBean();
+		target2.setSomeMap(new HashMap<>(Map.of("key", new TestBean("second", 2))));
+		BeanWrapper accessor1 = createAccessor(target1);
+		BeanWrapper accessor2 = createAccessor(target2);
+		assertThat(accessor1.getPropertyValue("someMap[key].name")).isEqualTo("first");
+		assertThat(accessor2.getPropertyValue("someMap[key].name")).isEqualTo("second");
+		accessor2.setPropertyValue("someMap['key'].age", 3);
+		assertThat(accessor1.getPropertyValue("someMap[key].age")).isEqualTo(1);
+		assertThat(accessor2.getPropertyValue("someMap[key].age")).isEqualTo(3);
+	}
+
 
 	private interface BaseProperty {
 
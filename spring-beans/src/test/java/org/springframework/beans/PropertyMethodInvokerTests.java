@@ -0,0 +1,193 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import org.springframework.beans.PropertyMethodInvoker.AccessMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link PropertyMethodInvoker} in all access modes.
+ *
+ * @author Spring Framework Team
+ */
+class PropertyMethodInvokerTests {
+
+	private static final int INVOCATIONS = PropertyMethodInvoker.INVOCATION_THRESHOLD * 2;
+
+
+	@ParameterizedTest
+	@ValueSource(strings = {"reflective", "method-handle", "generated"})
+	void readAndWriteProperties(String mode) throws Exception {
+		PropertyMethodInvoker getName = invoker(mode, "getName");
+		PropertyMethodInvoker setName = invoker(mode, "setName", String.class);
+		PropertyMethodInvoker getAge = invoker(mode, "getAge");
+		PropertyMethodInvoker setAge = invoker(mode, "setAge", int.class);
+		PropertyMethodInvoker setNickname = invoker(mode, "setNickname", String.class);
+		PropertyMethodInvoker getNickname = invoker(mode, "getNickname");
+
+		Person person = new Person();
+		for (int i = 0; i < INVOCATIONS; i++) {
+			setName.set(person, "name" + i);
+			assertThat(getName.get(person)).isEqualTo("name" + i);
+			setAge.set(person, i);
+			assertThat(getAge.get(person)).isEqualTo(i);
+			setNickname.set(person, "nick" + i);
+			assertThat(getNickname.get(person)).isEqualTo("nick" + i);
+			setName.set(person, null);
+			assertThat(getName.get(person)).isNull();
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"reflective", "method-handle", "generated"})
+	void exceptionFromTargetMethod(String mode) throws Exception {
+		PropertyMethodInvoker getFailing = invoker(mode, "getFailing");
+
+		Person person = new Person();
+		for (int i = 0; i < INVOCATIONS; i++) {
+			boolean switched = (i >= PropertyMethodInvoker.INVOCATION_THRESHOLD);
+			assertThatExceptionOfType(InvocationTargetException.class)
+					.isThrownBy(() -> getFailing.get(person))
+					.satisfies(ex -> {
+						assertThat(ex.getTargetException()).isInstanceOf(IllegalStateException.class);
+						if (switched) {
+							assertThat(isReflectiveInvocation(ex.getTargetException())).isEqualTo(mode.equals("reflective"));
+						}
+					});
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"reflective", "method-handle", "generated"})
+	void argumentMismatch(String mode) throws Exception {
+		PropertyMethodInvoker setName = invoker(mode, "setName", String.class);
+		PropertyMethodInvoker setAge = invoker(mode, "setAge", int.class);
+
+		Person person = new Person();
+		for (int i = 0; i < INVOCATIONS; i++) {
+			assertThatIllegalArgumentException().isThrownBy(() -> setName.set(person, 1));
+			assertThatIllegalArgumentException().isThrownBy(() -> setAge.set(person, "1"));
+			assertThatIllegalArgumentException().isThrownBy(() -> setAge.set(person, null));
+			assertThatIllegalArgumentException().isThrownBy(() -> setName.set("person", "name"));
+		}
+	}
+
+	@Test
+	void beanWrapperWithFrequentlyAccessedProperties() {
+		Person person = new Person();
+		person.setSpouse(new Person());
+		BeanWrapper bw = new BeanWrapperImpl(person);
+		for (int i = 0; i < INVOCATIONS; i++) {
+			bw.setPropertyValue("age", String.valueOf(i));
+			bw.setPropertyValue("spouse.name", "spouse" + i);
+			assertThat(bw.getPropertyValue("age")).isEqualTo(i);
+			assertThat(bw.getPropertyValue("spouse.name")).isEqualTo("spouse" + i);
+			assertThatExceptionOfType(TypeMismatchException.class)
+					.isThrownBy(() -> bw.setPropertyValue("age", "x"));
+			assertThatExceptionOfType(InvalidPropertyException.class)
+					.isThrownBy(() -> bw.getPropertyValue("failing"))
+					.withRootCauseInstanceOf(IllegalStateException.class);
+		}
+	}
+
+	@Test
+	void determineAccessMode() {
+		assertThat(AccessMode.determine(null)).isEqualTo(AccessMode.REFLECTIVE);
+		assertThat(AccessMode.determine(" ")).isEqualTo(AccessMode.REFLECTIVE);
+		assertThat(AccessMode.determine("reflective")).isEqualTo(AccessMode.REFLECTIVE);
+		assertThat(AccessMode.determine("method-handle")).isEqualTo(AccessMode.METHOD_HANDLE);
+		assertThat(AccessMode.determine(" generated ")).isEqualTo(AccessMode.GENERATED);
+		assertThatIllegalArgumentException().isThrownBy(() -> AccessMode.determine("compiled"));
+	}
+
+
+	private static PropertyMethodInvoker invoker(String mode, String methodName, Class<?>... parameterTypes)
+			throws Exception {
+
+		return new PropertyMethodInvoker(Person.class.getMethod(methodName, parameterTypes), AccessMode.determine(mode));
+	}
+
+	private static boolean isReflectiveInvocation(Throwable ex) {
+		// Only consider the frames between the target method and the invoker
+		return Arrays.stream(ex.getStackTrace())
+				.takeWhile(element -> !element.getClassName().equals(PropertyMethodInvoker.class.getName()))
+				.anyMatch(element -> element.getClassName().equals(Method.class.getName()) &&
+						element.getMethodName().equals("invoke"));
+	}
+
+
+	@SuppressWarnings("unused")
+	private static class Person {
+
+		private String name;
+
+		private int age;
+
+		private String nickname;
+
+		private Person spouse;
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getAge() {
+			return this.age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+
+		public String getNickname() {
+			return this.nickname;
+		}
+
+		public Person setNickname(String nickname) {
+			this.nickname = nickname;
+			return this;
+		}
+
+		public Person getSpouse() {
+			return this.spouse;
+		}
+
+		public void setSpouse(Person spouse) {
+			this.spouse = spouse;
+		}
+
+		public String getFailing() {
+			throw new IllegalStateException("Expected failure");
+		}
+	}
+
+}
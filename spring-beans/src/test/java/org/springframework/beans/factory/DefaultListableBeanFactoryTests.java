@@ -19,6 +19,7 @@ package org.springframework.beans.factory;
 import java.io.Closeable;
 import java.io.Serializable;
 import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
 import java.net.MalformedURLException;
 import java.text.NumberFormat;
 import java.text.ParseException;
@@ -34,6 +35,7 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -57,6 +59,7 @@ import org.springframework.beans.factory.config.ConstructorArgumentValues;
 import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
 import org.springframework.beans.factory.config.PropertiesFactoryBean;
 import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.config.SmartInstantiationAwareBeanPostProcessor;
 import org.springframework.beans.factory.config.TypedStringValue;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.beans.factory.support.AbstractBeanFactory;
@@ -2145,6 +2148,126 @@ class DefaultListableBeanFactoryTests {
 		assertBeanNamesForType(CityRepository.class, true, false, "factoryBean");
 	}
 
+	@Test
+	void getBeanNamesForTypeWithFrozenConfiguration() {
+		lbf.registerBeanDefinition("tb", new RootBeanDefinition(TestBean.class));
+		lbf.registerBeanDefinition("ntb", new RootBeanDefinition(NestedTestBean.class));
+		lbf.registerBeanDefinition("prototype", BeanDefinitionBuilder.rootBeanDefinition(DerivedTestBean.class)
+				.setScope(BeanDefinition.SCOPE_PROTOTYPE).getBeanDefinition());
+		lbf.registerBeanDefinition("factoryBean", new RootBeanDefinition(DummyFactory.class));
+		lbf.freezeConfiguration();
+
+		for (int i = 0; i < 2; i++) {
+			assertThat(lbf.getBeanNamesForType(ITestBean.class)).containsExactly("tb", "prototype", "factoryBean");
+			assertThat(lbf.getBeanNamesForType(TestBean.class, false, true)).containsExactly("tb", "factoryBean");
+			assertThat(lbf.getBeanNamesForType(NestedTestBean.class)).containsExactly("ntb");
+			assertThat(lbf.getBeanNamesForType(Object.class))
+					.containsExactly("tb", "ntb", "prototype", "factoryBean");
+			assertThat(lbf.getBeanNamesForType(ResolvableType.forClassWithGenerics(Comparable.class, Object.class)))
+					.containsExactly("tb", "prototype", "factoryBean");
+			assertThat(lbf.getBeanNamesForType(Runnable.class)).isEmpty();
+		}
+	}
+
+	@Test
+	void getBeanNamesForTypeWithFrozenConfigurationAndProxiedInstance() {
+		lbf.addBeanPostProcessor(new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (beanName.equals("tb")) {
+					return Proxy.newProxyInstance(getClass().getClassLoader(),
+							new Class<?>[] {ITestBean.class, Runnable.class},
+							(proxy, method, args) -> method.invoke(bean, args));
+				}
+				return bean;
+			}
+		});
+		lbf.registerBeanDefinition("tb", new RootBeanDefinition(TestBean.class));
+		lbf.registerBeanDefinition("ntb", new RootBeanDefinition(NestedTestBean.class));
+		lbf.freezeConfiguration();
+		assertThat(lbf.getBeanNamesForType(TestBean.class, true, false)).containsExactly("tb");
+		assertThat(lbf.getBeanNamesForType(Runnable.class, true, false)).isEmpty();
+
+		lbf.getBean("tb");
+		assertThat(lbf.getBeanNamesForType(Runnable.class, true, false)).containsExactly("tb");
+		assertThat(lbf.getBeanNamesForType(ITestBean.class, true, false)).containsExactly("tb");
+		assertThat(lbf.getBeanNamesForType(TestBean.class, true, false)).isEmpty();
+
+		lbf.destroySingleton("tb");
+		assertThat(lbf.getBeanNamesForType(Runnable.class, true, false)).isEmpty();
+		assertThat(lbf.getBeanNamesForType(TestBean.class, true, false)).containsExactly("tb");
+	}
+
+	@Test
+	void getBeanNamesForTypeWithFrozenConfigurationAndInstanceRegisteredDuringPrediction() {
+		AtomicBoolean created = new AtomicBoolean();
+		lbf.addBeanPostProcessor(new SmartInstantiationAwareBeanPostProcessor() {
+			@Override
+			public Class<?> predictBeanType(Class<?> beanClass, String beanName) {
+				// Simulates another thread completing the singleton right after type prediction
+				if (beanName.equals("tb") && created.compareAndSet(false, true)) {
+					lbf.getBean("tb");
+				}
+				return null;
+			}
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (beanName.equals("tb")) {
+					return Proxy.newProxyInstance(getClass().getClassLoader(),
+							new Class<?>[] {ITestBean.class, Runnable.class},
+							(proxy, method, args) -> method.invoke(bean, args));
+				}
+				return bean;
+			}
+		});
+		lbf.registerBeanDefinition("tb", new RootBeanDefinition(TestBean.class));
+		lbf.freezeConfiguration();
+
+		assertThat(lbf.getBeanNamesForType(ITestBean.class, true, false)).containsExactly("tb");
+		assertThat(created).isTrue();
+		assertThat(lbf.getBeanNamesForType(Runnable.class, true, false)).containsExactly("tb");
+		assertThat(lbf.getBeanNamesForType(TestBean.class, true, false)).isEmpty();
+	}
+
+	@Test
+	void getBeanNamesForTypeWithFrozenConfigurationAndNoEagerInit() {
+		lbf.setAllowEagerClassLoading(false);
+		RootBeanDefinition lazy = new RootBeanDefinition();
+		lazy.setBeanClassName(TestBean.class.getName());
+		lazy.setLazyInit(true);
+		lbf.registerBeanDefinition("lazy", lazy);
+		AtomicBoolean factoryCreated = new AtomicBoolean();
+		lbf.registerBeanDefinition("factory", new RootBeanDefinition(RawTestBeanFactoryBean.class, () -> {
+			factoryCreated.set(true);
+			return new RawTestBeanFactoryBean();
+		}));
+		RootBeanDefinition product = new RootBeanDefinition();
+		product.setFactoryBeanName("factory");
+		product.setFactoryMethodName("getObject");
+		lbf.registerBeanDefinition("product", product);
+		lbf.freezeConfiguration();
+
+		assertThat(lbf.getBeanNamesForType(TestBean.class, true, false)).isEmpty();
+		assertThat(((RootBeanDefinition) lbf.getMergedBeanDefinition("lazy")).hasBeanClass()).isFalse();
+		assertThat(factoryCreated).isFalse();
+	}
+
+	@Test
+	void getBeanNamesForTypeWithFrozenConfigurationAndChangedDefinitions() {
+		lbf.registerBeanDefinition("tb", new RootBeanDefinition(TestBean.class));
+		lbf.registerBeanDefinition("ntb", new RootBeanDefinition(NestedTestBean.class));
+		lbf.freezeConfiguration();
+		assertThat(lbf.getBeanNamesForType(ResolvableType.forClass(TestBean.class))).containsExactly("tb");
+
+		lbf.registerBeanDefinition("ntb", new RootBeanDefinition(DerivedTestBean.class));
+		assertThat(lbf.getBeanNamesForType(ResolvableType.forClass(TestBean.class))).containsExactly("tb", "ntb");
+		assertThat(lbf.getBeanNamesForType(ResolvableType.forClass(NestedTestBean.class))).isEmpty();
+
+		lbf.removeBeanDefinition("tb");
+		lbf.registerBeanDefinition("tb2", new RootBeanDefinition(TestBean.class));
+		assertThat(lbf.getBeanNamesForType(ResolvableType.forClass(TestBean.class))).containsExactly("ntb", "tb2");
+	}
+
 	/**
 	 * Verifies that a dependency on a {@link FactoryBean} can <strong>not</strong>
 	 * be autowired <em>by name</em>, as &amp; is an illegal character in
@@ -3313,6 +3436,21 @@ class DefaultListableBeanFactoryTests {
 	public static class CityRepository implements Repository<City, Long> {}
 
 
+	@SuppressWarnings("rawtypes")
+	public static class RawTestBeanFactoryBean implements FactoryBean {
+
+		@Override
+		public Object getObject() {
+			return new TestBean();
+		}
+
+		@Override
+		public Class<?> getObjectType() {
+			return TestBean.class;
+		}
+	}
+
+
 	public static class LazyInitFactory implements FactoryBean<Object> {
 
 		public boolean initialized = false;
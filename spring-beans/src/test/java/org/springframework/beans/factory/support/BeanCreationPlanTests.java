@@ -0,0 +1,244 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.PropertyValues;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.beans.factory.config.Scope;
+import org.springframework.lang.Nullable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BeanCreationPlan} reuse across repeated bean creation,
+ * as well as for the phase-specific post-processor lists in the factory's
+ * post-processor cache.
+ *
+ * @author Spring Framework Team
+ */
+class BeanCreationPlanTests {
+
+	private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+
+	@Test
+	void prototypeInitMethodResolvedOnce() {
+		RootBeanDefinition bd = new RootBeanDefinition(LifecycleBean.class);
+		bd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		bd.setInitMethodNames("init", "customInit");
+		bd.setEnforceInitMethod(false);
+		this.beanFactory.registerBeanDefinition("bean", bd);
+
+		LifecycleBean bean1 = this.beanFactory.getBean(LifecycleBean.class);
+		BeanCreationPlan plan = getCreationPlan("bean");
+		assertThat(plan).isNotNull();
+		assertThat(plan.hasInitMethod(LifecycleBean.class, "init")).isTrue();
+		assertThat(plan.getInitMethod("init")).isNotNull();
+		assertThat(plan.hasInitMethod(LifecycleBean.class, "customInit")).isTrue();
+		assertThat(plan.getInitMethod("customInit")).isNull();
+
+		LifecycleBean bean2 = this.beanFactory.getBean(LifecycleBean.class);
+		assertThat(bean2).isNotSameAs(bean1);
+		assertThat(getCreationPlan("bean")).isSameAs(plan);
+		assertThat(bean1.initCount).isEqualTo(1);
+		assertThat(bean2.initCount).isEqualTo(1);
+	}
+
+	@Test
+	void prototypePlanDiscardedOnBeanDefinitionChange() {
+		RootBeanDefinition bd = new RootBeanDefinition(LifecycleBean.class);
+		bd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		bd.setInitMethodName("init");
+		this.beanFactory.registerBeanDefinition("bean", bd);
+		assertThat(this.beanFactory.getBean(LifecycleBean.class).initCount).isEqualTo(1);
+
+		RootBeanDefinition bd2 = new RootBeanDefinition(LifecycleBean.class);
+		bd2.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		bd2.setInitMethodName("otherInit");
+		this.beanFactory.registerBeanDefinition("bean", bd2);
+		assertThat(getCreationPlan("bean")).isNull();
+		assertThat(this.beanFactory.getBean(LifecycleBean.class).initCount).isEqualTo(10);
+		assertThat(getCreationPlan("bean").hasInitMethod(LifecycleBean.class, "otherInit")).isTrue();
+	}
+
+	@Test
+	void singletonWithoutPlan() {
+		RootBeanDefinition bd = new RootBeanDefinition(LifecycleBean.class);
+		bd.setInitMethodName("init");
+		bd.setDestroyMethodName("destroy");
+		this.beanFactory.registerBeanDefinition("bean", bd);
+
+		assertThat(this.beanFactory.getBean(LifecycleBean.class).initCount).isEqualTo(1);
+		assertThat(getCreationPlan("bean")).isNull();
+	}
+
+	@Test
+	void scopedDestroyMethodResolvedOnce() {
+		SimpleMapScope scope = new SimpleMapScope();
+		this.beanFactory.registerScope("simple", scope);
+		RootBeanDefinition bd = new RootBeanDefinition(LifecycleBean.class);
+		bd.setScope("simple");
+		bd.setDestroyMethodName("destroy");
+		this.beanFactory.registerBeanDefinition("bean", bd);
+
+		LifecycleBean bean1 = this.beanFactory.getBean(LifecycleBean.class);
+		BeanCreationPlan plan = getCreationPlan("bean");
+		assertThat(plan).isNotNull();
+		assertThat(plan.hasDestroyMethod(LifecycleBean.class, "destroy")).isTrue();
+		scope.destroy();
+
+		LifecycleBean bean2 = this.beanFactory.getBean(LifecycleBean.class);
+		assertThat(bean2).isNotSameAs(bean1);
+		assertThat(getCreationPlan("bean")).isSameAs(plan);
+		scope.destroy();
+		assertThat(bean1.destroyed).isTrue();
+		assertThat(bean2.destroyed).isTrue();
+	}
+
+	@Test
+	void postProcessorsFilteredByImplementedCallbacks() {
+		BeanPostProcessor beforeOnly = new BeanPostProcessor() {
+			@Override
+			public Object postProcessBeforeInitialization(Object bean, String beanName) {
+				return bean;
+			}
+		};
+		InstantiationAwareBeanPostProcessor propertiesOnly = new InstantiationAwareBeanPostProcessor() {
+			@Override
+			public PropertyValues postProcessProperties(PropertyValues pvs, Object bean, String beanName) {
+				return pvs;
+			}
+		};
+		BeanPostProcessor subInterface = new AfterInitializationCallback() {
+		};
+		this.beanFactory.addBeanPostProcessor(beforeOnly);
+		this.beanFactory.addBeanPostProcessor(propertiesOnly);
+		this.beanFactory.addBeanPostProcessor(subInterface);
+
+		AbstractBeanFactory.BeanPostProcessorCache cache = this.beanFactory.getBeanPostProcessorCache();
+		assertThat(cache.beforeInitialization).containsExactly(beforeOnly);
+		assertThat(cache.afterInitialization).containsExactly(subInterface);
+		assertThat(cache.instantiationAware).containsExactly(propertiesOnly);
+		assertThat(cache.afterInstantiation).isEmpty();
+		assertThat(cache.propertiesProcessing).containsExactly(propertiesOnly);
+	}
+
+	@Test
+	void postProcessorAddedAfterFirstCreation() {
+		RootBeanDefinition bd = new RootBeanDefinition(LifecycleBean.class);
+		bd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		this.beanFactory.registerBeanDefinition("bean", bd);
+		assertThat(this.beanFactory.getBean(LifecycleBean.class).initCount).isZero();
+
+		this.beanFactory.addBeanPostProcessor(new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				((LifecycleBean) bean).initCount = 100;
+				return bean;
+			}
+		});
+		assertThat(this.beanFactory.getBean(LifecycleBean.class).initCount).isEqualTo(100);
+	}
+
+
+	@Nullable
+	private BeanCreationPlan getCreationPlan(String beanName) {
+		return ((RootBeanDefinition) this.beanFactory.getMergedBeanDefinition(beanName)).creationPlan;
+	}
+
+
+	public static class LifecycleBean {
+
+		int initCount;
+
+		boolean destroyed;
+
+		public void init() {
+			this.initCount++;
+		}
+
+		public void otherInit() {
+			this.initCount += 10;
+		}
+
+		public void destroy() {
+			this.destroyed = true;
+		}
+	}
+
+
+	interface AfterInitializationCallback extends BeanPostProcessor {
+
+		@Override
+		default Object postProcessAfterInitialization(Object bean, String beanName) {
+			return bean;
+		}
+	}
+
+
+	static class SimpleMapScope implements Scope {
+
+		private final Map<String, Object> objects = new HashMap<>();
+
+		private final List<Runnable> destructionCallbacks = new ArrayList<>();
+
+		@Override
+		public Object get(String name, ObjectFactory<?> objectFactory) {
+			return this.objects.computeIfAbsent(name, key -> objectFactory.getObject());
+		}
+
+		@Override
+		@Nullable
+		public Object remove(String name) {
+			return this.objects.remove(name);
+		}
+
+		@Override
+		public void registerDestructionCallback(String name, Runnable callback) {
+			this.destructionCallbacks.add(callback);
+		}
+
+		@Override
+		@Nullable
+		public Object resolveContextualObject(String key) {
+			return null;
+		}
+
+		@Override
+		@Nullable
+		public String getConversationId() {
+			return null;
+		}
+
+		void destroy() {
+			this.objects.clear();
+			this.destructionCallbacks.forEach(Runnable::run);
+			this.destructionCallbacks.clear();
+		}
+	}
+
+}
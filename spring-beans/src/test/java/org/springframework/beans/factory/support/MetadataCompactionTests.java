@@ -0,0 +1,218 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.testfixture.beans.TestBean;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.lang.Nullable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link DefaultListableBeanFactory#compactMetadata()}.
+ *
+ * @author Spring Framework Team
+ */
+class MetadataCompactionTests {
+
+	private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+
+	@Test
+	void compactAfterPreInstantiation() {
+		this.beanFactory.setCompactMetadataAfterPreInstantiation(true);
+		RootBeanDefinition bd = new RootBeanDefinition(TestBean.class);
+		bd.getConstructorArgumentValues().addGenericArgumentValue("name");
+		this.beanFactory.registerBeanDefinition("bean", bd);
+		this.beanFactory.preInstantiateSingletons();
+
+		RootBeanDefinition mbd = (RootBeanDefinition) this.beanFactory.getMergedBeanDefinition("bean");
+		assertThat(mbd.resolvedConstructorOrFactoryMethod).isNull();
+		assertThat(mbd.resolvedConstructorArguments).isNull();
+		assertThat(this.beanFactory.getBean("bean", TestBean.class).getName()).isEqualTo("name");
+	}
+
+	@Test
+	void noCompactionByDefault() {
+		RootBeanDefinition bd = new RootBeanDefinition(TestBean.class);
+		bd.getConstructorArgumentValues().addGenericArgumentValue("name");
+		this.beanFactory.registerBeanDefinition("bean", bd);
+		this.beanFactory.preInstantiateSingletons();
+
+		RootBeanDefinition mbd = (RootBeanDefinition) this.beanFactory.getMergedBeanDefinition("bean");
+		assertThat(mbd.resolvedConstructorOrFactoryMethod).isNotNull();
+	}
+
+	@Test
+	void lazyBeansCreatedAfterCompaction() {
+		RootBeanDefinition bd = new RootBeanDefinition(TestBean.class);
+		bd.getConstructorArgumentValues().addGenericArgumentValue("eager");
+		this.beanFactory.registerBeanDefinition("eager", bd);
+		RootBeanDefinition lazy = new RootBeanDefinition(TestBean.class);
+		lazy.getConstructorArgumentValues().addGenericArgumentValue(new RuntimeBeanReference("eager"));
+		lazy.setLazyInit(true);
+		this.beanFactory.registerBeanDefinition("lazy", lazy);
+		RootBeanDefinition lazyFactoryMethod = new RootBeanDefinition(BeanFactory.class);
+		lazyFactoryMethod.setFactoryMethodName("create");
+		lazyFactoryMethod.getConstructorArgumentValues().addGenericArgumentValue("factoryMethod");
+		lazyFactoryMethod.setLazyInit(true);
+		this.beanFactory.registerBeanDefinition("lazyFactoryMethod", lazyFactoryMethod);
+		this.beanFactory.preInstantiateSingletons();
+		this.beanFactory.getType("lazyFactoryMethod");
+		this.beanFactory.getBeanNamesForType(TestBean.class);
+
+		this.beanFactory.compactMetadata();
+		assertThat(this.beanFactory.getBean("lazy", TestBean.class).getSpouse())
+				.isSameAs(this.beanFactory.getBean("eager"));
+		assertThat(this.beanFactory.getBean("lazyFactoryMethod", TestBean.class).getName())
+				.isEqualTo("factoryMethod");
+		assertThat(this.beanFactory.getBeanNamesForType(TestBean.class))
+				.containsExactly("eager", "lazy", "lazyFactoryMethod");
+	}
+
+	@Test
+	void singletonRecreatedAfterCompaction() {
+		RootBeanDefinition bd = new RootBeanDefinition(TestBean.class);
+		ConstructorArgumentValues cav = bd.getConstructorArgumentValues();
+		cav.addIndexedArgumentValue(0, "name");
+		cav.addIndexedArgumentValue(1, "42");
+		this.beanFactory.registerBeanDefinition("bean", bd);
+		this.beanFactory.preInstantiateSingletons();
+		TestBean bean = this.beanFactory.getBean("bean", TestBean.class);
+
+		this.beanFactory.compactMetadata();
+		this.beanFactory.destroySingleton("bean");
+		TestBean recreated = this.beanFactory.getBean("bean", TestBean.class);
+		assertThat(recreated).isNotSameAs(bean);
+		assertThat(recreated.getName()).isEqualTo("name");
+		assertThat(recreated.getAge()).isEqualTo(42);
+	}
+
+	@Test
+	void compactionReportedThroughStartupStep() {
+		RecordingApplicationStartup startup = new RecordingApplicationStartup();
+		this.beanFactory.setApplicationStartup(startup);
+		RootBeanDefinition bd = new RootBeanDefinition(TestBean.class);
+		bd.getConstructorArgumentValues().addGenericArgumentValue("name");
+		this.beanFactory.registerBeanDefinition("bean", bd);
+		this.beanFactory.preInstantiateSingletons();
+
+		this.beanFactory.compactMetadata();
+		assertThat(startup.tags).containsEntry("instantiationState", "1");
+		this.beanFactory.compactMetadata();
+		assertThat(startup.tags).containsEntry("instantiationState", "0")
+				.containsEntry("definitionHolders", "0").containsEntry("introspectionCaches", "0");
+	}
+
+	@Test
+	void lazilyAllocatedDefinitionStateKeepsEquality() {
+		RootBeanDefinition bd1 = new RootBeanDefinition(TestBean.class);
+		RootBeanDefinition bd2 = new RootBeanDefinition(TestBean.class);
+		bd2.getMethodOverrides();
+		bd2.setAttribute("attr", "value");
+		bd2.removeAttribute("attr");
+		assertThat(bd1).isEqualTo(bd2);
+		assertThat(bd1.hashCode()).isEqualTo(bd2.hashCode());
+		assertThat(bd1.getQualifiers()).isEmpty();
+		assertThat(bd1.hasMethodOverrides()).isFalse();
+		assertThat(bd1.attributeNames()).isEmpty();
+
+		bd1.addQualifier(new AutowireCandidateQualifier("qualifier"));
+		assertThat(bd1).isNotEqualTo(bd2);
+		bd2.copyQualifiersFrom(bd1);
+		assertThat(bd1).isEqualTo(bd2);
+		assertThat(bd2.hasQualifier("qualifier")).isTrue();
+	}
+
+
+	public static class BeanFactory {
+
+		public static TestBean create(String name) {
+			return new TestBean(name);
+		}
+	}
+
+
+	private static class RecordingApplicationStartup implements ApplicationStartup {
+
+		final Map<String, String> tags = new HashMap<>();
+
+		@Override
+		public StartupStep start(String name) {
+			StartupStep step = ApplicationStartup.DEFAULT.start(name);
+			if (!name.equals("spring.beans.compact-metadata")) {
+				return step;
+			}
+			return new RecordingStartupStep(step);
+		}
+
+		private class RecordingStartupStep implements StartupStep {
+
+			private final StartupStep delegate;
+
+			RecordingStartupStep(StartupStep delegate) {
+				this.delegate = delegate;
+			}
+
+			@Override
+			public String getName() {
+				return this.delegate.getName();
+			}
+
+			@Override
+			public long getId() {
+				return this.delegate.getId();
+			}
+
+			@Override
+			@Nullable
+			public Long getParentId() {
+				return this.delegate.getParentId();
+			}
+
+			@Override
+			public StartupStep tag(String key, String value) {
+				tags.put(key, value);
+				return this;
+			}
+
+			@Override
+			public StartupStep tag(String key, Supplier<String> value) {
+				return tag(key, value.get());
+			}
+
+			@Override
+			public Tags getTags() {
+				return this.delegate.getTags();
+			}
+
+			@Override
+			public void end() {
+			}
+		}
+	}
+
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for parallel singleton pre-instantiation in {@link DefaultListableBeanFactory}.
+ *
+ * @author Spring Framework Team
+ * @see DefaultListableBeanFactory#setPreInstantiationParallelism
+ */
+class ParallelPreInstantiationTests {
+
+	private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+	private final List<String> creationLog = Collections.synchronizedList(new ArrayList<>());
+
+
+	@Test
+	void independentBeansInstantiatedConcurrently() {
+		CyclicBarrier barrier = new CyclicBarrier(2);
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		for (int i = 0; i < 4; i++) {
+			this.beanFactory.registerBeanDefinition("bean" + i, new RootBeanDefinition(Object.class, () -> {
+				threads.add(Thread.currentThread());
+				try {
+					// Only passes with two beans in creation at the same time
+					barrier.await(10, TimeUnit.SECONDS);
+				}
+				catch (Exception ex) {
+					throw new IllegalStateException(ex);
+				}
+				return new Object();
+			}));
+		}
+		this.beanFactory.setPreInstantiationParallelism(2);
+		this.beanFactory.preInstantiateSingletons();
+
+		assertThat(this.beanFactory.getSingletonCount()).isEqualTo(4);
+		assertThat(threads).hasSize(2).contains(Thread.currentThread());
+	}
+
+	@Test
+	void dependenciesInstantiatedFirst() {
+		registerLoggingBean("a");
+		registerLoggingBean("b", "a");
+		registerLoggingBean("c", "a", "b");
+		registerLoggingBean("d");
+		registerLoggingBean("e", "c", "d");
+		this.beanFactory.setPreInstantiationParallelism(4);
+		this.beanFactory.preInstantiateSingletons();
+
+		assertThat(this.creationLog).containsExactlyInAnyOrder("a", "b", "c", "d", "e");
+		assertThat(this.creationLog.indexOf("a")).isLessThan(this.creationLog.indexOf("b"));
+		assertThat(this.creationLog.indexOf("b")).isLessThan(this.creationLog.indexOf("c"));
+		assertThat(this.creationLog.indexOf("c")).isLessThan(this.creationLog.indexOf("e"));
+		assertThat(this.creationLog.indexOf("d")).isLessThan(this.creationLog.indexOf("e"));
+	}
+
+	@Test
+	void sharedUndeclaredDependencyCreatedOnce() {
+		AtomicInteger sharedCount = new AtomicInteger();
+		this.beanFactory.registerBeanDefinition("shared", new RootBeanDefinition(Object.class, () -> {
+			sharedCount.incrementAndGet();
+			sleep(100);
+			return new Object();
+		}));
+		for (int i = 0; i < 4; i++) {
+			this.beanFactory.registerBeanDefinition("consumer" + i, new RootBeanDefinition(Holder.class,
+					() -> new Holder(this.beanFactory.getBean("shared"))));
+		}
+		this.beanFactory.setPreInstantiationParallelism(5);
+		this.beanFactory.preInstantiateSingletons();
+
+		Object shared = this.beanFactory.getBean("shared");
+		assertThat(sharedCount).hasValue(1);
+		for (int i = 0; i < 4; i++) {
+			assertThat(this.beanFactory.getBean("consumer" + i, Holder.class).value).isSameAs(shared);
+		}
+	}
+
+	@Test
+	void declaredCircularReferenceInstantiatedSequentially() {
+		RootBeanDefinition bd1 = new RootBeanDefinition(Partner.class);
+		bd1.getPropertyValues().add("partner", new RuntimeBeanReference("partner2"));
+		this.beanFactory.registerBeanDefinition("partner1", bd1);
+		RootBeanDefinition bd2 = new RootBeanDefinition(Partner.class);
+		bd2.getPropertyValues().add("partner", new RuntimeBeanReference("partner1"));
+		this.beanFactory.registerBeanDefinition("partner2", bd2);
+		this.beanFactory.setPreInstantiationParallelism(2);
+		this.beanFactory.preInstantiateSingletons();
+
+		assertPartners();
+	}
+
+	@Test
+	void undeclaredCircularReferenceResolvedAcrossThreads() {
+		for (String beanName : List.of("partner1", "partner2")) {
+			// Autowiring the other partner, excluding itself as a self reference
+			RootBeanDefinition bd = new RootBeanDefinition(SlowPartner.class);
+			bd.setAutowireMode(AutowireCapableBeanFactory.AUTOWIRE_BY_TYPE);
+			this.beanFactory.registerBeanDefinition(beanName, bd);
+		}
+		this.beanFactory.setPreInstantiationParallelism(2);
+		this.beanFactory.preInstantiateSingletons();
+
+		assertPartners();
+	}
+
+	@Test
+	void beanFactoryAwareBeanInstantiatedInCallingThread() {
+		this.beanFactory.registerBeanDefinition("aware", new RootBeanDefinition(AwareBean.class));
+		registerLoggingBean("a");
+		registerLoggingBean("b");
+		this.beanFactory.setPreInstantiationParallelism(2);
+		this.beanFactory.preInstantiateSingletons();
+
+		assertThat(this.beanFactory.getBean(AwareBean.class).creationThread).isSameAs(Thread.currentThread());
+		assertThat(this.creationLog).containsExactlyInAnyOrder("a", "b");
+	}
+
+	@Test
+	void failurePropagated() {
+		registerLoggingBean("a");
+		this.beanFactory.registerBeanDefinition("failing", new RootBeanDefinition(Object.class, () -> {
+			throw new IllegalStateException("Expected failure");
+		}));
+		registerLoggingBean("b");
+		this.beanFactory.setPreInstantiationParallelism(2);
+
+		assertThatExceptionOfType(BeanCreationException.class)
+				.isThrownBy(this.beanFactory::preInstantiateSingletons)
+				.satisfies(ex -> assertThat(ex.getBeanName()).isEqualTo("failing"))
+				.withRootCauseInstanceOf(IllegalStateException.class);
+	}
+
+
+	private void registerLoggingBean(String beanName, String... dependsOn) {
+		RootBeanDefinition bd = new RootBeanDefinition(Object.class, () -> {
+			sleep(20);
+			this.creationLog.add(beanName);
+			return new Object();
+		});
+		bd.setDependsOn(dependsOn);
+		this.beanFactory.registerBeanDefinition(beanName, bd);
+	}
+
+	private void assertPartners() {
+		Partner partner1 = this.beanFactory.getBean("partner1", Partner.class);
+		Partner partner2 = this.beanFactory.getBean("partner2", Partner.class);
+		assertThat(partner1.partner).isSameAs(partner2);
+		assertThat(partner2.partner).isSameAs(partner1);
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+
+	static class Holder {
+
+		final Object value;
+
+		Holder(Object value) {
+			this.value = value;
+		}
+	}
+
+
+	public static class Partner {
+
+		Partner partner;
+
+		public void setPartner(Partner partner) {
+			this.partner = partner;
+		}
+	}
+
+
+	public static class SlowPartner extends Partner {
+
+		public SlowPartner() {
+			sleep(100);
+		}
+	}
+
+
+	public static class AwareBean implements BeanFactoryAware {
+
+		final Thread creationThread = Thread.currentThread();
+
+		@Override
+		public void setBeanFactory(BeanFactory beanFactory) {
+		}
+	}
+
+}
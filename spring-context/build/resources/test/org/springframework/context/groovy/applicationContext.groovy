@@ -0,0 +1,6 @@
+package org.springframework.context.groovy
+
+beans {
+	framework String, 'Grails'
+	foo String, 'hello'
+}
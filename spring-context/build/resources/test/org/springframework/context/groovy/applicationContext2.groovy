@@ -0,0 +1,5 @@
+package org.springframework.context.groovy
+
+beans {
+	company String, 'SpringSource'
+}
@@ -0,0 +1,7 @@
+package org.springframework.scripting.groovy;
+
+import org.springframework.stereotype.Component;
+
+@Component
+class GroovyMessenger2 extends ConcreteMessenger {
+}
@@ -0,0 +1,3 @@
+package org.springframework.scripting.groovy;
+
+return 3 * 2
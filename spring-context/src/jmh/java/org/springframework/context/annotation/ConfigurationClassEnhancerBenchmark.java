@@ -0,0 +1,135 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.annotation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.cglib.core.PersistentClassCache;
+import org.springframework.core.OverridingClassLoader;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Benchmark for the startup cost of {@link ConfigurationClassEnhancer}, with and
+ * without a {@link PersistentClassCache}: each operation enhances a set of
+ * configuration classes in a fresh ClassLoader, as on a fresh JVM start.
+ *
+ * @author Spring Framework Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ConfigurationClassEnhancerBenchmark {
+
+	private static final List<String> CONFIG_CLASSES = List.of(
+			FirstConfig.class.getName(), SecondConfig.class.getName(), ThirdConfig.class.getName());
+
+
+	@Benchmark
+	public void enhance(BenchmarkState state, Blackhole bh) throws ClassNotFoundException {
+		ClassLoader classLoader = new OverridingClassLoader(getClass().getClassLoader()) {
+			@Override
+			protected boolean isEligibleForOverriding(String className) {
+				return CONFIG_CLASSES.contains(className);
+			}
+		};
+		ConfigurationClassEnhancer enhancer = new ConfigurationClassEnhancer();
+		for (String className : CONFIG_CLASSES) {
+			bh.consume(enhancer.enhance(classLoader.loadClass(className), classLoader));
+		}
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"true", "false"})
+		public boolean persistentCache;
+
+		public Path cacheDirectory;
+
+		@Setup
+		public void setup() throws IOException {
+			if (this.persistentCache) {
+				this.cacheDirectory = Files.createTempDirectory("cglib-cache");
+				System.setProperty(PersistentClassCache.CACHE_DIRECTORY_PROPERTY_NAME, this.cacheDirectory.toString());
+			}
+		}
+
+		@TearDown
+		public void tearDown() throws IOException {
+			if (this.cacheDirectory != null) {
+				System.clearProperty(PersistentClassCache.CACHE_DIRECTORY_PROPERTY_NAME);
+				FileSystemUtils.deleteRecursively(this.cacheDirectory);
+			}
+		}
+	}
+
+
+	@Configuration
+	public static class FirstConfig {
+
+		@Bean
+		public String first() {
+			return "first";
+		}
+
+		@Bean
+		public StringBuilder firstBuilder() {
+			return new StringBuilder(first());
+		}
+	}
+
+
+	@Configuration
+	public static class SecondConfig {
+
+		@Bean
+		public Integer second() {
+			return 2;
+		}
+
+		@Bean
+		public Long secondLong() {
+			return second().longValue();
+		}
+	}
+
+
+	@Configuration
+	public static class ThirdConfig {
+
+		@Bean
+		public Object third() {
+			return new Object();
+		}
+	}
+
+}
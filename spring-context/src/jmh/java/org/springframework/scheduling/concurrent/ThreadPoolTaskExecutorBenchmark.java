@@ -0,0 +1,91 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmark for {@link ThreadPoolTaskExecutor} under bursty load, with and
+ * without a {@link ThreadPoolAutoscaler}: each operation submits a burst of
+ * blocking tasks and waits for all of them to complete.
+ * <p>Run in sample time mode for the p99 completion time of a burst.
+ *
+ * @author Spring Framework Team
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ThreadPoolTaskExecutorBenchmark {
+
+	@Benchmark
+	public void burst(BenchmarkState state) throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(state.burstSize);
+		for (int i = 0; i < state.burstSize; i++) {
+			state.executor.execute(() -> {
+				// Simulate blocking I/O
+				LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(200));
+				latch.countDown();
+			});
+		}
+		latch.await();
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"true", "false"})
+		public boolean autoscaling;
+
+		@Param({"50", "200"})
+		public int burstSize;
+
+		public ThreadPoolTaskExecutor executor;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.executor = new ThreadPoolTaskExecutor();
+			this.executor.setCorePoolSize(4);
+			if (this.autoscaling) {
+				ThreadPoolAutoscaler autoscaler = new ThreadPoolAutoscaler(4, 64);
+				autoscaler.setTargetQueueWait(Duration.ofMillis(1));
+				autoscaler.setSampleInterval(Duration.ofMillis(1));
+				this.executor.setAutoscaler(autoscaler);
+			}
+			this.executor.initialize();
+		}
+
+		@TearDown(Level.Trial)
+		public void shutdown() {
+			this.executor.shutdown();
+		}
+	}
+
+}
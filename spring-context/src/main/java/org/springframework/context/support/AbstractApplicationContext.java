@@ -74,6 +74,7 @@ import org.springframework.context.weaving.LoadTimeWeaverAware;
 import org.springframework.context.weaving.LoadTimeWeaverAwareProcessor;
 import org.springframework.core.NativeDetector;
 import org.springframework.core.ResolvableType;
+import org.springframework.core.SpringProperties;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.env.ConfigurableEnvironment;
@@ -88,6 +89,7 @@ import org.springframework.core.metrics.ApplicationStartup;
 import org.springframework.core.metrics.StartupStep;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
@@ -171,6 +173,19 @@ public abstract class AbstractApplicationContext extends DefaultResourceLoader
 	 */
 	public static final String LIFECYCLE_PROCESSOR_BEAN_NAME = "lifecycleProcessor";
 
+	/**
+	 * Boolean flag controlled by a {@code spring.context.annotation-index} system
+	 * property that instructs Spring to index the annotations of all bean classes
+	 * in parallel before instantiating singletons: {@code "true"} for indexing,
+	 * {@code "false"} (the default) for resolving annotations lazily.
+	 * <p>The index is released along with Spring's other common caches at the
+	 * end of the refresh.
+	 * @since 6.2
+	 * @see #indexAnnotations(ConfigurableListableBeanFactory)
+	 * @see AnnotationUtils#indexAnnotations(Class)
+	 */
+	public static final String ANNOTATION_INDEX_PROPERTY_NAME = "spring.context.annotation-index";
+
 
 	static {
 		// Eagerly load the ContextClosedEvent class to avoid weird classloader issues
@@ -983,10 +998,42 @@ public abstract class AbstractApplicationContext extends DefaultResourceLoader
 		// Allow for caching all bean definition metadata, not expecting further changes.
 		beanFactory.freezeConfiguration();
 
+		// Index annotations of all bean classes upfront, if requested.
+		if (SpringProperties.getFlag(ANNOTATION_INDEX_PROPERTY_NAME)) {
+			indexAnnotations(beanFactory);
+		}
+
 		// Instantiate all remaining (non-lazy-init) singletons.
 		beanFactory.preInstantiateSingletons();
 	}
 
+	/**
+	 * Index the annotations of the classes of all beans in the given factory,
+	 * in parallel, for use during singleton instantiation.
+	 * <p>Only called if the {@link #ANNOTATION_INDEX_PROPERTY_NAME} flag is set.
+	 * @param beanFactory the bean factory for this application context
+	 * @since 6.2
+	 * @see AnnotationUtils#indexAnnotations(Class)
+	 */
+	protected void indexAnnotations(ConfigurableListableBeanFactory beanFactory) {
+		Set<Class<?>> beanClasses = new LinkedHashSet<>();
+		for (String beanName : beanFactory.getBeanDefinitionNames()) {
+			try {
+				Class<?> beanType = beanFactory.getType(beanName, false);
+				if (beanType != null) {
+					beanClasses.add(ClassUtils.getUserClass(beanType));
+				}
+			}
+			catch (BeansException ex) {
+				// Type not determinable upfront -> left to lazy annotation resolution.
+				if (logger.isTraceEnabled()) {
+					logger.trace("Skipping annotation index for bean '" + beanName + "': " + ex);
+				}
+			}
+		}
+		beanClasses.parallelStream().forEach(AnnotationUtils::indexAnnotations);
+	}
+
 	/**
 	 * Finish the refresh of this context, invoking the LifecycleProcessor's
 	 * onRefresh() method and publishing the
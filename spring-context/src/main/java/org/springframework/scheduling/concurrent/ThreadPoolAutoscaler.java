@@ -0,0 +1,338 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.concurrent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Adaptive core pool sizing for a {@link ThreadPoolTaskExecutor} or
+ * {@link ThreadPoolTaskScheduler}, driven by queue wait time and pool utilization.
+ *
+ * <p>A {@link ThreadPoolExecutor} only grows beyond its core pool size once its
+ * queue is full, so with the common unbounded or large queue, bursts are served
+ * by the core threads alone and queue wait time grows without bounds. This
+ * autoscaler periodically samples the executor and resizes its core pool within
+ * {@code [minCorePoolSize, maxCorePoolSize]}: growing it while queued tasks wait
+ * longer than the {@link #setTargetQueueWait target queue wait}, and shrinking it
+ * one thread at a time after a {@link #setScaleDownSamples number of samples}
+ * without queue wait and with low utilization.
+ *
+ * <p>Samples are taken on task submission and completion, at most once per
+ * {@link #setSampleInterval sample interval}, so no separate thread is needed.
+ * For a plain task queue, the queue wait time is estimated from the number of
+ * queued tasks and the recent completion rate (Little's law); for the delayed
+ * queue of a scheduler, it is the time that the most overdue task has been
+ * waiting for a thread.
+ *
+ * <p>Each resize decision is recorded and exposed through
+ * {@link #getRecentResizeDecisions()} as well as an optional
+ * {@link #setResizeListener listener}; sampled queue wait times are recorded
+ * in a histogram, see {@link #getQueueWaitPercentile(double)}.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @see ThreadPoolTaskExecutor#setAutoscaler
+ * @see ThreadPoolTaskScheduler#setAutoscaler
+ */
+public class ThreadPoolAutoscaler {
+
+	private static final int HISTOGRAM_BUCKETS = 40;
+
+	private static final int RECENT_DECISIONS = 64;
+
+
+	private final int minCorePoolSize;
+
+	private final int maxCorePoolSize;
+
+	private long targetQueueWaitNanos = TimeUnit.MILLISECONDS.toNanos(10);
+
+	private long sampleIntervalNanos = TimeUnit.MILLISECONDS.toNanos(100);
+
+	private double scaleDownUtilization = 0.5;
+
+	private int scaleDownSamples = 10;
+
+	@Nullable
+	private Consumer<ResizeDecision> resizeListener;
+
+	private final ReentrantLock sampleLock = new ReentrantLock();
+
+	private volatile long nextSampleTime = System.nanoTime();
+
+	private long lastSampleTime = this.nextSampleTime;
+
+	private long lastCompletedTaskCount;
+
+	private int idleSamples;
+
+	private final Deque<ResizeDecision> recentDecisions = new ArrayDeque<>(RECENT_DECISIONS);
+
+	private final AtomicLongArray queueWaitHistogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+
+
+	/**
+	 * Create a new {@code ThreadPoolAutoscaler} for the given bounds.
+	 * @param minCorePoolSize the minimum core pool size to scale down to
+	 * @param maxCorePoolSize the maximum core pool size to scale up to
+	 * (further capped by the executor's maximum pool size)
+	 */
+	public ThreadPoolAutoscaler(int minCorePoolSize, int maxCorePoolSize) {
+		Assert.isTrue(minCorePoolSize > 0, "'minCorePoolSize' must be 1 or higher");
+		Assert.isTrue(maxCorePoolSize >= minCorePoolSize, "'maxCorePoolSize' must not be lower than 'minCorePoolSize'");
+		this.minCorePoolSize = minCorePoolSize;
+		this.maxCorePoolSize = maxCorePoolSize;
+	}
+
+
+	/**
+	 * Return the minimum core pool size to scale down to.
+	 */
+	public int getMinCorePoolSize() {
+		return this.minCorePoolSize;
+	}
+
+	/**
+	 * Return the maximum core pool size to scale up to.
+	 */
+	public int getMaxCorePoolSize() {
+		return this.maxCorePoolSize;
+	}
+
+	/**
+	 * Set the queue wait time beyond which the core pool is grown.
+	 * <p>Default is 10 milliseconds.
+	 */
+	public void setTargetQueueWait(Duration targetQueueWait) {
+		Assert.isTrue(!targetQueueWait.isNegative(), "'targetQueueWait' must not be negative");
+		this.targetQueueWaitNanos = targetQueueWait.toNanos();
+	}
+
+	/**
+	 * Set the minimum interval between two samples, also serving as the
+	 * maximum period over which the task completion rate is measured.
+	 * <p>Default is 100 milliseconds.
+	 */
+	public void setSampleInterval(Duration sampleInterval) {
+		Assert.isTrue(!sampleInterval.isNegative(), "'sampleInterval' must not be negative");
+		this.sampleIntervalNanos = sampleInterval.toNanos();
+	}
+
+	/**
+	 * Set the pool utilization (active threads divided by pool size) below which
+	 * a sample without queue wait counts towards scaling down.
+	 * <p>Default is 0.5.
+	 */
+	public void setScaleDownUtilization(double scaleDownUtilization) {
+		Assert.isTrue(scaleDownUtilization >= 0 && scaleDownUtilization <= 1,
+				"'scaleDownUtilization' must be between 0 and 1");
+		this.scaleDownUtilization = scaleDownUtilization;
+	}
+
+	/**
+	 * Set the number of consecutive idle samples after which the core pool
+	 * is shrunk by one thread.
+	 * <p>Default is 10.
+	 */
+	public void setScaleDownSamples(int scaleDownSamples) {
+		Assert.isTrue(scaleDownSamples > 0, "'scaleDownSamples' must be 1 or higher");
+		this.scaleDownSamples = scaleDownSamples;
+	}
+
+	/**
+	 * Set a listener to be notified of every resize decision.
+	 * <p>The listener is invoked on a task submission or completion thread
+	 * and should therefore return quickly.
+	 */
+	public void setResizeListener(@Nullable Consumer<ResizeDecision> resizeListener) {
+		this.resizeListener = resizeListener;
+	}
+
+
+	/**
+	 * Sample the given executor if the sample interval has elapsed,
+	 * resizing its core pool through the given callback if necessary.
+	 * <p>Returns immediately if another thread is currently sampling.
+	 * @param executor the executor to sample
+	 * @param corePoolSizeSetter the callback for applying a new core pool size
+	 */
+	void sampleIfDue(ThreadPoolExecutor executor, IntConsumer corePoolSizeSetter) {
+		if (System.nanoTime() - this.nextSampleTime >= 0 && this.sampleLock.tryLock()) {
+			try {
+				long now = System.nanoTime();
+				if (now - this.nextSampleTime >= 0) {
+					this.nextSampleTime = now + this.sampleIntervalNanos;
+					sample(executor, corePoolSizeSetter, now);
+				}
+			}
+			finally {
+				this.sampleLock.unlock();
+			}
+		}
+	}
+
+	private void sample(ThreadPoolExecutor executor, IntConsumer corePoolSizeSetter, long now) {
+		// Measure the completion rate over the sample interval at most, not across idle periods
+		long elapsed = now - this.lastSampleTime;
+		long window = Math.max(this.sampleIntervalNanos > 0 ? Math.min(elapsed, this.sampleIntervalNanos) : elapsed, 1);
+		long completedTaskCount = executor.getCompletedTaskCount();
+		long completed = completedTaskCount - this.lastCompletedTaskCount;
+		this.lastSampleTime = now;
+		this.lastCompletedTaskCount = completedTaskCount;
+
+		long queueWait = determineQueueWait(executor.getQueue(), completed, window);
+		int poolSize = executor.getPoolSize();
+		double utilization = (poolSize > 0 ? (double) executor.getActiveCount() / poolSize : 0);
+		recordQueueWait(queueWait);
+
+		int corePoolSize = executor.getCorePoolSize();
+		int upperBound = Math.min(this.maxCorePoolSize, executor.getMaximumPoolSize());
+		int newCorePoolSize = corePoolSize;
+		if (queueWait > this.targetQueueWaitNanos) {
+			this.idleSamples = 0;
+			newCorePoolSize = Math.min(corePoolSize + Math.max(1, corePoolSize / 4), upperBound);
+		}
+		else if (queueWait == 0 && utilization < this.scaleDownUtilization) {
+			if (++this.idleSamples >= this.scaleDownSamples) {
+				this.idleSamples = 0;
+				newCorePoolSize = corePoolSize - 1;
+			}
+		}
+		else {
+			this.idleSamples = 0;
+		}
+		newCorePoolSize = Math.max(Math.min(newCorePoolSize, upperBound), this.minCorePoolSize);
+
+		if (newCorePoolSize != corePoolSize) {
+			corePoolSizeSetter.accept(newCorePoolSize);
+			ResizeDecision decision = new ResizeDecision(Instant.now(), corePoolSize, newCorePoolSize,
+					Duration.ofNanos(queueWait), utilization);
+			if (this.recentDecisions.size() == RECENT_DECISIONS) {
+				this.recentDecisions.removeFirst();
+			}
+			this.recentDecisions.addLast(decision);
+			Consumer<ResizeDecision> listener = this.resizeListener;
+			if (listener != null) {
+				listener.accept(decision);
+			}
+		}
+	}
+
+	private long determineQueueWait(BlockingQueue<Runnable> queue, long completed, long window) {
+		if (queue.peek() instanceof Delayed head) {
+			// Scheduler queue ordered by delay: the head is the most overdue task
+			return Math.max(-head.getDelay(TimeUnit.NANOSECONDS), 0);
+		}
+		int queued = queue.size();
+		if (queued == 0) {
+			return 0;
+		}
+		// Little's law: expected wait = queued tasks / completion rate
+		return (completed > 0 ? (long) ((double) queued * window / completed) : window);
+	}
+
+	private void recordQueueWait(long queueWaitNanos) {
+		long micros = TimeUnit.NANOSECONDS.toMicros(queueWaitNanos);
+		int bucket = Math.min(64 - Long.numberOfLeadingZeros(micros), HISTOGRAM_BUCKETS - 1);
+		this.queueWaitHistogram.incrementAndGet(bucket);
+	}
+
+
+	/**
+	 * Return the most recent resize decisions, oldest first.
+	 */
+	public List<ResizeDecision> getRecentResizeDecisions() {
+		this.sampleLock.lock();
+		try {
+			return new ArrayList<>(this.recentDecisions);
+		}
+		finally {
+			this.sampleLock.unlock();
+		}
+	}
+
+	/**
+	 * Return the histogram of sampled queue wait times: bucket 0 counts samples
+	 * below 1 microsecond, and bucket {@code i} counts samples from
+	 * 2<sup>i-1</sup> up to 2<sup>i</sup> microseconds.
+	 */
+	public long[] getQueueWaitHistogram() {
+		long[] histogram = new long[HISTOGRAM_BUCKETS];
+		for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+			histogram[i] = this.queueWaitHistogram.get(i);
+		}
+		return histogram;
+	}
+
+	/**
+	 * Return the given percentile of sampled queue wait times, as the upper
+	 * bound of the corresponding {@link #getQueueWaitHistogram() histogram} bucket.
+	 * @param percentile the percentile between 0 and 100, e.g. 99
+	 * @return the queue wait time, or {@link Duration#ZERO} if no samples have
+	 * been taken yet
+	 */
+	public Duration getQueueWaitPercentile(double percentile) {
+		Assert.isTrue(percentile >= 0 && percentile <= 100, "'percentile' must be between 0 and 100");
+		long[] histogram = getQueueWaitHistogram();
+		long total = 0;
+		for (long count : histogram) {
+			total += count;
+		}
+		if (total == 0) {
+			return Duration.ZERO;
+		}
+		long threshold = (long) Math.ceil(total * percentile / 100);
+		long cumulative = 0;
+		for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+			cumulative += histogram[i];
+			if (cumulative >= threshold && cumulative > 0) {
+				return (i == 0 ? Duration.ZERO : Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(1L << i)));
+			}
+		}
+		return Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(1L << (HISTOGRAM_BUCKETS - 1)));
+	}
+
+
+	/**
+	 * A resize decision taken by the autoscaler.
+	 * @param timestamp the time of the decision
+	 * @param previousCorePoolSize the core pool size before the decision
+	 * @param newCorePoolSize the core pool size after the decision
+	 * @param queueWait the sampled queue wait time that led to the decision
+	 * @param utilization the sampled pool utilization that led to the decision
+	 */
+	public record ResizeDecision(Instant timestamp, int previousCorePoolSize, int newCorePoolSize,
+			Duration queueWait, double utilization) {
+	}
+
+}
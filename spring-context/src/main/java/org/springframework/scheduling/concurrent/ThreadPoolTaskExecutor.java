@@ -103,6 +103,9 @@ public class ThreadPoolTaskExecutor extends ExecutorConfigurationSupport
 	@Nullable
 	private TaskDecorator taskDecorator;
 
+	@Nullable
+	private ThreadPoolAutoscaler autoscaler;
+
 	@Nullable
 	private ThreadPoolExecutor threadPoolExecutor;
 
@@ -267,6 +270,27 @@ public class ThreadPoolTaskExecutor extends ExecutorConfigurationSupport
 		this.taskDecorator = taskDecorator;
 	}
 
+	/**
+	 * Specify a {@link ThreadPoolAutoscaler} for adapting the core pool size
+	 * to the observed queue wait time and pool utilization at runtime.
+	 * <p>This is particularly useful with the default unlimited queue capacity
+	 * where the pool never grows beyond its core size otherwise. The configured
+	 * {@link #setCorePoolSize "corePoolSize"} serves as the initial size then.
+	 * @since 6.2
+	 */
+	public void setAutoscaler(@Nullable ThreadPoolAutoscaler autoscaler) {
+		this.autoscaler = autoscaler;
+	}
+
+	/**
+	 * Return the {@link ThreadPoolAutoscaler}, if any.
+	 * @since 6.2
+	 */
+	@Nullable
+	public ThreadPoolAutoscaler getAutoscaler() {
+		return this.autoscaler;
+	}
+
 
 	/**
 	 * Note: This method exposes an {@link ExecutorService} to its base class
@@ -293,6 +317,7 @@ public class ThreadPoolTaskExecutor extends ExecutorConfigurationSupport
 					}
 				}
 				super.execute(decorated);
+				autoscaleIfNecessary(this);
 			}
 			@Override
 			protected void beforeExecute(Thread thread, Runnable task) {
@@ -301,6 +326,7 @@ public class ThreadPoolTaskExecutor extends ExecutorConfigurationSupport
 			@Override
 			protected void afterExecute(Runnable task, Throwable ex) {
 				ThreadPoolTaskExecutor.this.afterExecute(task, ex);
+				autoscaleIfNecessary(this);
 			}
 		};
 
@@ -315,6 +341,13 @@ public class ThreadPoolTaskExecutor extends ExecutorConfigurationSupport
 		return executor;
 	}
 
+	private void autoscaleIfNecessary(ThreadPoolExecutor executor) {
+		ThreadPoolAutoscaler autoscaler = this.autoscaler;
+		if (autoscaler != null) {
+			autoscaler.sampleIfDue(executor, this::setCorePoolSize);
+		}
+	}
+
 	/**
 	 * Create the BlockingQueue to use for the ThreadPoolExecutor.
 	 * <p>A LinkedBlockingQueue instance will be created for a positive
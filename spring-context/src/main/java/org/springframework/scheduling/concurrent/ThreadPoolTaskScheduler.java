@@ -92,6 +92,9 @@ public class ThreadPoolTaskScheduler extends ExecutorConfigurationSupport
 	@Nullable
 	private TaskDecorator taskDecorator;
 
+	@Nullable
+	private ThreadPoolAutoscaler autoscaler;
+
 	@Nullable
 	private volatile ErrorHandler errorHandler;
 
@@ -176,6 +179,27 @@ public class ThreadPoolTaskScheduler extends ExecutorConfigurationSupport
 		this.taskDecorator = taskDecorator;
 	}
 
+	/**
+	 * Specify a {@link ThreadPoolAutoscaler} for adapting the pool size to the
+	 * observed delay of due tasks and the pool utilization at runtime.
+	 * The configured {@link #setPoolSize "poolSize"} serves as the initial size then.
+	 * <p>Only applies to the default {@link ScheduledThreadPoolExecutor}
+	 * created by {@link #createExecutor}.
+	 * @since 6.2
+	 */
+	public void setAutoscaler(@Nullable ThreadPoolAutoscaler autoscaler) {
+		this.autoscaler = autoscaler;
+	}
+
+	/**
+	 * Return the {@link ThreadPoolAutoscaler}, if any.
+	 * @since 6.2
+	 */
+	@Nullable
+	public ThreadPoolAutoscaler getAutoscaler() {
+		return this.autoscaler;
+	}
+
 	/**
 	 * Set a custom {@link ErrorHandler} strategy.
 	 */
@@ -243,13 +267,16 @@ public class ThreadPoolTaskScheduler extends ExecutorConfigurationSupport
 			@Override
 			protected void afterExecute(Runnable task, Throwable ex) {
 				ThreadPoolTaskScheduler.this.afterExecute(task, ex);
+				autoscaleIfNecessary(this);
 			}
 			@Override
 			protected <V> RunnableScheduledFuture<V> decorateTask(Runnable runnable, RunnableScheduledFuture<V> task) {
+				autoscaleIfNecessary(this);
 				return decorateTaskIfNecessary(task);
 			}
 			@Override
 			protected <V> RunnableScheduledFuture<V> decorateTask(Callable<V> callable, RunnableScheduledFuture<V> task) {
+				autoscaleIfNecessary(this);
 				return decorateTaskIfNecessary(task);
 			}
 		};
@@ -482,6 +509,13 @@ public class ThreadPoolTaskScheduler extends ExecutorConfigurationSupport
 	}
 
 
+	private void autoscaleIfNecessary(ScheduledThreadPoolExecutor executor) {
+		ThreadPoolAutoscaler autoscaler = this.autoscaler;
+		if (autoscaler != null) {
+			autoscaler.sampleIfDue(executor, this::setPoolSize);
+		}
+	}
+
 	private <V> RunnableScheduledFuture<V> decorateTaskIfNecessary(RunnableScheduledFuture<V> future) {
 		return (this.taskDecorator != null ? new DelegatingRunnableScheduledFuture<>(future, this.taskDecorator) :
 				future);
@@ -19,7 +19,9 @@ package org.springframework.context.support;
 import java.lang.reflect.Proxy;
 import java.nio.file.InvalidPathException;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -37,6 +39,7 @@ import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.config.AbstractFactoryBean;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.config.SmartInstantiationAwareBeanPostProcessor;
 import org.springframework.beans.factory.config.TypedStringValue;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
@@ -47,6 +50,7 @@ import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.DecoratingProxy;
+import org.springframework.core.SpringProperties;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.Environment;
 import org.springframework.core.io.ByteArrayResource;
@@ -89,6 +93,32 @@ class GenericApplicationContextTests {
 	}
 
 
+	@Test
+	void refreshWithAnnotationIndex() {
+		Set<Class<?>> indexedClasses = new HashSet<>();
+		GenericApplicationContext context = new GenericApplicationContext() {
+			@Override
+			protected void indexAnnotations(ConfigurableListableBeanFactory beanFactory) {
+				super.indexAnnotations(beanFactory);
+				for (String beanName : beanFactory.getBeanDefinitionNames()) {
+					indexedClasses.add(beanFactory.getType(beanName));
+				}
+			}
+		};
+		context.registerBeanDefinition("testBean", new RootBeanDefinition(String.class));
+		context.registerBean("initializingBean", InitializingBean.class, () -> () -> {});
+		SpringProperties.setFlag(AbstractApplicationContext.ANNOTATION_INDEX_PROPERTY_NAME);
+		try {
+			context.refresh();
+		}
+		finally {
+			SpringProperties.setProperty(AbstractApplicationContext.ANNOTATION_INDEX_PROPERTY_NAME, null);
+		}
+		assertThat(indexedClasses).contains(String.class, InitializingBean.class);
+		assertThat(context.getBean("testBean")).isEqualTo("");
+		context.close();
+	}
+
 	@Test
 	void getBeanForClass() {
 		context.registerBeanDefinition("testBean", new RootBeanDefinition(String.class));
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.concurrent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.scheduling.concurrent.ThreadPoolAutoscaler.ResizeDecision;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link ThreadPoolAutoscaler} with {@link ThreadPoolTaskExecutor}
+ * and {@link ThreadPoolTaskScheduler}.
+ *
+ * @author Spring Framework Team
+ */
+class ThreadPoolAutoscalerTests {
+
+	@Test
+	void invalidBounds() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new ThreadPoolAutoscaler(0, 1));
+		assertThatIllegalArgumentException().isThrownBy(() -> new ThreadPoolAutoscaler(2, 1));
+	}
+
+	@Test
+	void executorScalesUpWithQueuedTasksAndDownWhenIdle() throws Exception {
+		ThreadPoolAutoscaler autoscaler = new ThreadPoolAutoscaler(1, 4);
+		autoscaler.setTargetQueueWait(Duration.ZERO);
+		autoscaler.setSampleInterval(Duration.ZERO);
+		autoscaler.setScaleDownSamples(1);
+		List<ResizeDecision> notified = new CopyOnWriteArrayList<>();
+		autoscaler.setResizeListener(notified::add);
+
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setAutoscaler(autoscaler);
+		executor.initialize();
+		try {
+			CountDownLatch latch = new CountDownLatch(1);
+			for (int i = 0; i < 6; i++) {
+				executor.execute(() -> awaitQuietly(latch));
+			}
+			assertThat(executor.getCorePoolSize()).isEqualTo(4);
+			assertThat(executor.getThreadPoolExecutor().getCorePoolSize()).isEqualTo(4);
+			assertThat(autoscaler.getRecentResizeDecisions())
+					.extracting(ResizeDecision::newCorePoolSize).containsExactly(2, 3, 4);
+			assertThat(autoscaler.getRecentResizeDecisions()).allSatisfy(decision ->
+					assertThat(decision.queueWait()).isPositive());
+			latch.countDown();
+
+			// Avoid scaling up for individual tasks briefly waiting for an idle thread
+			autoscaler.setTargetQueueWait(Duration.ofSeconds(10));
+			for (int i = 0; i < 100 && executor.getCorePoolSize() > 1; i++) {
+				executor.submit(() -> {}).get(1, TimeUnit.SECONDS);
+			}
+			assertThat(executor.getCorePoolSize()).isEqualTo(1);
+			assertThat(notified).isEqualTo(autoscaler.getRecentResizeDecisions());
+			assertThat(notified).extracting(ResizeDecision::newCorePoolSize).endsWith(3, 2, 1);
+			assertThat(autoscaler.getQueueWaitHistogram()).isNotEmpty();
+			assertThat(autoscaler.getQueueWaitPercentile(100)).isPositive();
+			assertThat(autoscaler.getQueueWaitPercentile(0)).isZero();
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void executorDoesNotExceedMaxPoolSize() {
+		ThreadPoolAutoscaler autoscaler = new ThreadPoolAutoscaler(1, 8);
+		autoscaler.setTargetQueueWait(Duration.ZERO);
+		autoscaler.setSampleInterval(Duration.ZERO);
+
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setMaxPoolSize(2);
+		executor.setAutoscaler(autoscaler);
+		executor.initialize();
+		try {
+			CountDownLatch latch = new CountDownLatch(1);
+			for (int i = 0; i < 4; i++) {
+				executor.execute(() -> awaitQuietly(latch));
+			}
+			assertThat(executor.getCorePoolSize()).isEqualTo(2);
+			latch.countDown();
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void idlePeriodBeforeSampleDoesNotCountAsQueueWait() throws Exception {
+		ThreadPoolAutoscaler autoscaler = new ThreadPoolAutoscaler(1, 4);
+		autoscaler.setTargetQueueWait(Duration.ofMillis(100));
+		autoscaler.setSampleInterval(Duration.ofMillis(10));
+
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 4, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+		try {
+			Thread.sleep(200);
+			executor.getQueue().add(() -> {});
+			autoscaler.sampleIfDue(executor, executor::setCorePoolSize);
+			assertThat(autoscaler.getRecentResizeDecisions()).isEmpty();
+			assertThat(executor.getCorePoolSize()).isEqualTo(1);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void schedulerScalesUpWithOverdueTasks() throws Exception {
+		ThreadPoolAutoscaler autoscaler = new ThreadPoolAutoscaler(1, 3);
+		autoscaler.setTargetQueueWait(Duration.ZERO);
+		autoscaler.setSampleInterval(Duration.ZERO);
+
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setAutoscaler(autoscaler);
+		scheduler.initialize();
+		try {
+			CountDownLatch latch = new CountDownLatch(1);
+			CountDownLatch done = new CountDownLatch(5);
+			scheduler.execute(() -> awaitQuietly(latch));
+			for (int i = 0; i < 5; i++) {
+				scheduler.execute(done::countDown);
+			}
+			Thread.sleep(10);
+			latch.countDown();
+			assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+
+			List<ResizeDecision> decisions = autoscaler.getRecentResizeDecisions();
+			assertThat(decisions).isNotEmpty();
+			assertThat(decisions.get(0).previousCorePoolSize()).isEqualTo(1);
+			assertThat(decisions.get(0).newCorePoolSize()).isEqualTo(2);
+			assertThat(decisions.get(0).queueWait()).isPositive();
+			assertThat(scheduler.getScheduledThreadPoolExecutor().getCorePoolSize()).isBetween(2, 3);
+		}
+		finally {
+			scheduler.shutdown();
+		}
+	}
+
+	@Test
+	void schedulerScalesUpOnSubmissionWhileAllThreadsAreBusy() throws Exception {
+		ThreadPoolAutoscaler autoscaler = new ThreadPoolAutoscaler(1, 3);
+		autoscaler.setTargetQueueWait(Duration.ZERO);
+		autoscaler.setSampleInterval(Duration.ZERO);
+
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setAutoscaler(autoscaler);
+		scheduler.initialize();
+		CountDownLatch latch = new CountDownLatch(1);
+		try {
+			CountDownLatch started = new CountDownLatch(1);
+			CountDownLatch done = new CountDownLatch(1);
+			scheduler.execute(() -> {
+				started.countDown();
+				awaitQuietly(latch);
+			});
+			assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+			scheduler.execute(done::countDown);
+			Thread.sleep(10);
+			scheduler.schedule(() -> {}, Instant.now().plusSeconds(60));
+
+			// Overdue task served by an added thread while the first one is still blocked
+			assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(scheduler.getScheduledThreadPoolExecutor().getCorePoolSize()).isEqualTo(2);
+			assertThat(autoscaler.getRecentResizeDecisions())
+					.extracting(ResizeDecision::newCorePoolSize).containsExactly(2);
+		}
+		finally {
+			latch.countDown();
+			scheduler.shutdown();
+		}
+	}
+
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package org.springframework.core.codec;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -53,6 +54,11 @@ public class StringDecoderBenchmark {
 		blackhole.consume(state.parseLines().blockLast());
 	}
 
+	@Benchmark
+	public void parseManyLines(ManyLinesState state, Blackhole blackhole) {
+		blackhole.consume(state.parseLines().blockLast());
+	}
+
 
 	@State(Scope.Benchmark)
 	@SuppressWarnings({"NotNullFieldNotInitialized", "ConstantConditions"})
@@ -111,4 +117,63 @@ public class StringDecoderBenchmark {
 		}
 	}
 
+
+
+	/**
+	 * Large payloads made of many short lines, as with NDJSON streams or log
+	 * ingestion, with a mix of {@code \n} and {@code \r\n} line endings.
+	 */
+	@State(Scope.Benchmark)
+	@SuppressWarnings({"NotNullFieldNotInitialized", "ConstantConditions"})
+	public static class ManyLinesState {
+
+		private static final Charset CHARSET = StandardCharsets.UTF_8;
+
+		private static final ResolvableType ELEMENT_TYPE = ResolvableType.forClass(String.class);
+
+
+		@Param("1048576")
+		int totalSize;
+
+		@Param({"32", "256"})
+		int lineLength;
+
+		@Param("8192")
+		int chunkSize;
+
+		List<DataBuffer> chunks;
+
+		StringDecoder decoder = StringDecoder.allMimeTypes();
+
+		MimeType mimeType = new MimeType("application", "x-ndjson", CHARSET);
+
+
+		@Setup(Level.Trial)
+		public void setup() {
+			StringBuilder builder = new StringBuilder(this.totalSize + this.lineLength);
+			int line = 0;
+			while (builder.length() < this.totalSize) {
+				String prefix = "{\"line\":" + line + ",\"data\":\"";
+				builder.append(prefix);
+				builder.append("x".repeat(Math.max(0, this.lineLength - prefix.length() - 4)));
+				builder.append(line++ % 2 == 0 ? "\"}\n" : "\"}\r\n");
+			}
+			byte[] bytes = builder.toString().getBytes(CHARSET);
+
+			DataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+			this.chunks = new ArrayList<>();
+			for (int offset = 0; offset < bytes.length; offset += this.chunkSize) {
+				int length = Math.min(this.chunkSize, bytes.length - offset);
+				DataBuffer buffer = bufferFactory.allocateBuffer(length);
+				buffer.write(bytes, offset, length);
+				this.chunks.add(buffer);
+			}
+		}
+
+		public Flux<String> parseLines() {
+			Flux<DataBuffer> input = Flux.fromIterable(this.chunks).doOnNext(DataBufferUtils::retain);
+			return this.decoder.decode(input, ELEMENT_TYPE, this.mimeType, Collections.emptyMap());
+		}
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -39,6 +39,8 @@ import org.springframework.util.CollectionUtils;
 /**
  * Benchmarks for {@link GenericConversionService}.
  *
+ * <p>Run with {@code -prof gc} for the allocation rate per conversion.
+ *
  * @author Brian Clozel
  */
 @BenchmarkMode(Mode.Throughput)
@@ -102,6 +104,44 @@ public class GenericConversionServiceBenchmark {
 	}
 
 
+	@Benchmark
+	public void convertStringToPrimitiveInt(ScalarBenchmarkState state, Blackhole bh) {
+		bh.consume(state.conversionService.convert(state.number, int.class));
+	}
+
+	@Benchmark
+	public void convertStringToPrimitiveIntWithTypeDescriptors(ScalarBenchmarkState state, Blackhole bh) {
+		bh.consume(state.conversionService.convert(state.number, state.stringTypeDesc, state.intTypeDesc));
+	}
+
+	@Benchmark
+	public void convertStringToBoolean(ScalarBenchmarkState state, Blackhole bh) {
+		bh.consume(state.conversionService.convert(state.bool, Boolean.class));
+	}
+
+	@Benchmark
+	public void convertStringToEnum(ScalarBenchmarkState state, Blackhole bh) {
+		bh.consume(state.conversionService.convert(state.enumName, Mode.class));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class ScalarBenchmarkState {
+
+		DefaultConversionService conversionService = new DefaultConversionService();
+
+		String number = "42";
+
+		String bool = "true";
+
+		String enumName = Mode.Throughput.name();
+
+		TypeDescriptor stringTypeDesc = TypeDescriptor.valueOf(String.class);
+
+		TypeDescriptor intTypeDesc = TypeDescriptor.valueOf(int.class);
+	}
+
+
 	@State(Scope.Benchmark)
 	public static class BenchmarkState {
 
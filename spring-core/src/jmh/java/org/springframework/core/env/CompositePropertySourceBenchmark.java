@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -37,7 +37,8 @@ import org.springframework.util.AlternativeJdkIdGenerator;
 import org.springframework.util.IdGenerator;
 
 /**
- * Benchmarks for {@link CompositePropertySource}.
+ * Benchmarks for {@link CompositePropertySource}, also as part of
+ * {@link PropertySourcesPropertyResolver} lookups.
  *
  * @author Yike Xiao
  */
@@ -52,6 +53,19 @@ public class CompositePropertySourceBenchmark {
 		blackhole.consume(state.composite.getPropertyNames());
 	}
 
+	@Benchmark
+	public void getPropertyWithLinearLookup(ResolverBenchmarkState state, Blackhole blackhole) {
+		blackhole.consume(state.linearResolver.getProperty(state.lastPropertyName));
+		blackhole.consume(state.linearResolver.getProperty("missing"));
+	}
+
+	@Benchmark
+	public void getPropertyWithPropertyIndex(ResolverBenchmarkState state, Blackhole blackhole) {
+		blackhole.consume(state.indexedResolver.getProperty(state.lastPropertyName));
+		blackhole.consume(state.indexedResolver.getProperty("missing"));
+	}
+
+
 	@State(Scope.Benchmark)
 	public static class BenchmarkState {
 
@@ -82,4 +96,43 @@ public class CompositePropertySourceBenchmark {
 
 	}
 
+	@State(Scope.Benchmark)
+	public static class ResolverBenchmarkState {
+
+		private static final String VALUE = "value";
+
+		PropertySourcesPropertyResolver linearResolver;
+
+		PropertySourcesPropertyResolver indexedResolver;
+
+		String lastPropertyName;
+
+		@Param({ "5", "15" })
+		int numberOfPropertySources;
+
+		@Param({ "10", "100" })
+		int numberOfPropertyNamesPerSource;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			MutablePropertySources propertySources = new MutablePropertySources();
+			for (int i = 0; i < this.numberOfPropertySources; i++) {
+				CompositePropertySource composite = new CompositePropertySource("composite" + i);
+				for (int j = 0; j < 2; j++) {
+					Map<String, Object> map = new HashMap<>(this.numberOfPropertyNamesPerSource);
+					for (int k = 0; k < this.numberOfPropertyNamesPerSource; k++) {
+						this.lastPropertyName = "property" + i + "." + j + "." + k;
+						map.put(this.lastPropertyName, VALUE);
+					}
+					composite.addPropertySource(new MapPropertySource("propertySource" + i + "." + j, map));
+				}
+				propertySources.addLast(composite);
+			}
+			this.linearResolver = new PropertySourcesPropertyResolver(propertySources);
+			this.indexedResolver = new PropertySourcesPropertyResolver(propertySources);
+			this.indexedResolver.setUsePropertyIndex(true);
+		}
+
+	}
+
 }
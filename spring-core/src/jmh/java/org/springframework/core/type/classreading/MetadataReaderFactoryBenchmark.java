@@ -0,0 +1,116 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Benchmarks for scanning class metadata through {@link PersistentMetadataReaderFactory},
+ * with a cold store (every class file parsed and recorded) versus a warm store
+ * (every class rebuilt from the store), compared to plain ASM parsing.
+ *
+ * @author Spring Framework Team
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+public class MetadataReaderFactoryBenchmark {
+
+	@Benchmark
+	public void parse(ScanState state, Blackhole blackhole) throws IOException {
+		SimpleMetadataReaderFactory factory = new SimpleMetadataReaderFactory();
+		for (Resource resource : state.resources) {
+			blackhole.consume(factory.getMetadataReader(resource).getAnnotationMetadata());
+		}
+	}
+
+	@Benchmark
+	public void coldStore(ScanState state, Blackhole blackhole) throws IOException {
+		PersistentMetadataReaderFactory factory = new PersistentMetadataReaderFactory(state.coldStoreFile);
+		for (Resource resource : state.resources) {
+			blackhole.consume(factory.getMetadataReader(resource).getAnnotationMetadata());
+		}
+		factory.flush();
+	}
+
+	@Benchmark
+	public void warmStore(ScanState state, Blackhole blackhole) throws IOException {
+		PersistentMetadataReaderFactory factory = new PersistentMetadataReaderFactory(state.warmStoreFile);
+		for (Resource resource : state.resources) {
+			blackhole.consume(factory.getMetadataReader(resource).getAnnotationMetadata());
+		}
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class ScanState {
+
+		Resource[] resources;
+
+		Path directory;
+
+		Path coldStoreFile;
+
+		Path warmStoreFile;
+
+		@Setup(Level.Trial)
+		public void setUp() throws IOException {
+			this.resources = new PathMatchingResourcePatternResolver().getResources(
+					"classpath*:org/springframework/core/**/*.class");
+			this.directory = Files.createTempDirectory("metadata-store");
+			this.coldStoreFile = this.directory.resolve("cold.store");
+			this.warmStoreFile = this.directory.resolve("warm.store");
+			PersistentMetadataReaderFactory factory = new PersistentMetadataReaderFactory(this.warmStoreFile);
+			for (Resource resource : this.resources) {
+				factory.getMetadataReader(resource);
+			}
+			factory.flush();
+		}
+
+		@Setup(Level.Invocation)
+		public void deleteColdStore() throws IOException {
+			Files.deleteIfExists(this.coldStoreFile);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() throws IOException {
+			FileSystemUtils.deleteRecursively(this.directory);
+		}
+	}
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.asm.AnnotationVisitor;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.type.AnnotationMetadata;
+
+/**
+ * Benchmark for a classpath scan over generated class files through
+ * {@link SimpleMetadataReader}: only one in a hundred classes matches the
+ * class-level filter and gets its annotated methods introspected.
+ * Compares two-phase parsing (methods parsed on demand, as with
+ * {@link SimpleMetadataReaderFactory#setLazyMethodParsing lazy method parsing})
+ * with the default eager parsing.
+ *
+ * @author Spring Framework Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SimpleMetadataReaderBenchmark {
+
+	private static final String CANDIDATE_ANNOTATION = Order.class.getName();
+
+	private static final String METHOD_ANNOTATION = Order.class.getName();
+
+
+	@Benchmark
+	public void twoPhase(ScanState state, Blackhole bh) throws IOException {
+		for (Resource resource : state.resources) {
+			AnnotationMetadata metadata =
+					new SimpleMetadataReader(resource, state.classLoader, true).getAnnotationMetadata();
+			introspect(metadata, bh);
+		}
+	}
+
+	@Benchmark
+	public void eager(ScanState state, Blackhole bh) throws IOException {
+		for (Resource resource : state.resources) {
+			AnnotationMetadata metadata =
+					new SimpleMetadataReader(resource, state.classLoader, false).getAnnotationMetadata();
+			introspect(metadata, bh);
+		}
+	}
+
+	private static void introspect(AnnotationMetadata metadata, Blackhole bh) {
+		if (metadata.hasAnnotation(CANDIDATE_ANNOTATION)) {
+			bh.consume(metadata.getAnnotatedMethods(METHOD_ANNOTATION));
+		}
+		else {
+			bh.consume(metadata);
+		}
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class ScanState {
+
+		@Param("20000")
+		public int classCount;
+
+		@Param("20")
+		public int methodCount;
+
+		ClassLoader classLoader;
+
+		Resource[] resources;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.classLoader = getClass().getClassLoader();
+			this.resources = new Resource[this.classCount];
+			for (int i = 0; i < this.classCount; i++) {
+				this.resources[i] = new ByteArrayResource(generateClass(i, (i % 100 == 0)));
+			}
+		}
+
+		private byte[] generateClass(int index, boolean candidate) {
+			ClassWriter cw = new ClassWriter(0);
+			cw.visit(Opcodes.V17, Opcodes.ACC_PUBLIC, "com/example/scan/Generated" + index,
+					null, "java/lang/Object", null);
+			if (candidate) {
+				AnnotationVisitor av = cw.visitAnnotation("Lorg/springframework/core/annotation/Order;", true);
+				av.visit("value", index);
+				av.visitEnd();
+			}
+			for (int i = 0; i < this.methodCount; i++) {
+				MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "method" + i, "(Ljava/lang/String;)V", null, null);
+				AnnotationVisitor av = mv.visitAnnotation("Lorg/springframework/core/annotation/Order;", true);
+				av.visit("value", i);
+				av.visitEnd();
+				mv.visitCode();
+				mv.visitInsn(Opcodes.RETURN);
+				mv.visitMaxs(0, 2);
+				mv.visitEnd();
+			}
+			cw.visitEnd();
+			return cw.toByteArray();
+		}
+	}
+
+}
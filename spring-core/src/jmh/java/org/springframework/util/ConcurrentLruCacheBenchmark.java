@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package org.springframework.util;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 import java.util.function.Function;
@@ -57,6 +58,17 @@ public class ConcurrentLruCacheBenchmark {
 		@Param({"0.1"})
 		public float cacheMissRate;
 
+		/**
+		 * Access pattern: "uniform" requests each element once per operation,
+		 * "zipf" follows a skewed distribution over a key space larger than the cache,
+		 * "scan" interleaves a frequently used working set with one-off keys.
+		 */
+		@Param({"uniform", "zipf", "scan"})
+		public String workload;
+
+		@Param({"false", "true"})
+		public boolean frequencyAdmission;
+
 		public List<String> elements;
 
 		public Function<String, String> generator;
@@ -64,13 +76,55 @@ public class ConcurrentLruCacheBenchmark {
 		@Setup(Level.Iteration)
 		public void setup() {
 			this.generator = key -> key + "value";
-			this.lruCache = new ConcurrentLruCache<>(this.capacity, this.generator);
+			this.lruCache = new ConcurrentLruCache<>(this.capacity, this.generator, this.frequencyAdmission);
 			Assert.isTrue(this.cacheMissRate < 1, "cache miss rate should be < 1");
 			Random random = new Random();
+			switch (this.workload) {
+				case "zipf" -> this.elements = zipfElements(random);
+				case "scan" -> this.elements = scanElements(random);
+				default -> this.elements = uniformElements(random);
+			}
+		}
+
+		private List<String> uniformElements(Random random) {
 			int elementsCount = Math.round(this.capacity * (1 + this.cacheMissRate));
-			this.elements = new ArrayList<>(elementsCount);
-			random.ints(elementsCount).forEach(value -> this.elements.add(String.valueOf(value)));
-			this.elements.sort(String::compareTo);
+			List<String> elements = new ArrayList<>(elementsCount);
+			random.ints(elementsCount).forEach(value -> elements.add(String.valueOf(value)));
+			elements.sort(String::compareTo);
+			return elements;
+		}
+
+		private List<String> zipfElements(Random random) {
+			int keySpace = this.capacity * 10;
+			double[] cumulative = new double[keySpace];
+			double sum = 0;
+			for (int i = 0; i < keySpace; i++) {
+				sum += 1.0 / (i + 1);
+				cumulative[i] = sum;
+			}
+			int elementsCount = this.capacity * 10;
+			List<String> elements = new ArrayList<>(elementsCount);
+			for (int i = 0; i < elementsCount; i++) {
+				double target = random.nextDouble() * sum;
+				int index = Arrays.binarySearch(cumulative, target);
+				elements.add("key" + (index >= 0 ? index : -index - 1));
+			}
+			return elements;
+		}
+
+		private List<String> scanElements(Random random) {
+			int workingSetSize = this.capacity / 2;
+			int elementsCount = this.capacity * 10;
+			List<String> elements = new ArrayList<>(elementsCount);
+			for (int i = 0; i < elementsCount; i++) {
+				if (i % 2 == 0) {
+					elements.add("hot" + random.nextInt(workingSetSize));
+				}
+				else {
+					elements.add("scan" + random.nextInt());
+				}
+			}
+			return elements;
 		}
 	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -34,6 +34,7 @@ import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.infra.Blackhole;
 
 /**
@@ -41,6 +42,8 @@ import org.openjdk.jmh.infra.Blackhole;
  * <p>This benchmark ensures that {@link ConcurrentReferenceHashMap} performs
  * better than {@link java.util.Collections#synchronizedMap(Map)} with
  * concurrent read operations.
+ * <p>The contended and GC pressure variants exercise the non-blocking read path
+ * while garbage collected references are being purged.
  * <p>Typically this can be run with {@code "java -jar spring-core-jmh.jar -t 30 -f 2 ConcurrentReferenceHashMapBenchmark"}.
  * @author Brian Clozel
  */
@@ -80,6 +83,55 @@ public class ConcurrentReferenceHashMapBenchmark {
 		}
 	}
 
+	@Benchmark
+	@Threads(16)
+	public void concurrentMapContended(ConcurrentMapBenchmarkData data, Blackhole bh) {
+		for (String element : data.elements) {
+			WeakReference<String> value = data.map.get(element);
+			bh.consume(value);
+		}
+	}
+
+	@Benchmark
+	@Threads(8)
+	public void concurrentMapWithGcPressure(GcPressureBenchmarkData data, Blackhole bh) {
+		for (String element : data.elements) {
+			bh.consume(data.map.get(element));
+		}
+		// Add short-lived entries that become eligible for garbage collection right away
+		for (int i = 0; i < data.churn; i++) {
+			String transientKey = data.elements.get(i % data.elements.size()) + "-" + i;
+			data.map.put(transientKey, transientKey);
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class GcPressureBenchmarkData {
+
+		@Param({"500"})
+		public int capacity;
+
+		@Param({"50"})
+		public int churn;
+
+		public List<String> elements;
+
+		public Map<String, String> map;
+
+		@Setup(Level.Iteration)
+		public void setup() {
+			this.elements = new ArrayList<>(this.capacity);
+			this.map = new ConcurrentReferenceHashMap<>(16, ConcurrentReferenceHashMap.ReferenceType.WEAK);
+			Random random = new Random();
+			random.ints(this.capacity).forEach(value -> {
+				String element = String.valueOf(value);
+				this.elements.add(element);
+				this.map.put(element, element + "value");
+			});
+			this.elements.sort(String::compareTo);
+		}
+	}
+
 	@Benchmark
 	public void synchronizedMap(SynchronizedMapBenchmarkData data, Blackhole bh) {
 		for (String element : data.elements) {
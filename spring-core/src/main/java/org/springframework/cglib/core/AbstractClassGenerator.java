@@ -296,6 +296,21 @@ abstract public class AbstractClassGenerator<T> implements ClassGenerator {
 		return null;
 	}
 
+	// SPRING PATCH BEGIN
+	/**
+	 * Return a stable description of everything that determines the bytecode
+	 * generated for the current class name, for use as a key in a
+	 * {@link PersistentClassCache}.
+	 * <p>Default implementation returns <code>null</code>, not supporting
+	 * persistent caching of generated classes.
+	 * @return the cache key (<code>null</code> if not cacheable)
+	 * @since 6.2
+	 */
+	protected String getPersistentCacheKey() {
+		return null;
+	}
+	// SPRING PATCH END
+
 	protected Object create(Object key) {
 		try {
 			ClassLoader loader = getClassLoader();
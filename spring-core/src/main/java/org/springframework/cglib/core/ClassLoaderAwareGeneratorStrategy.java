@@ -16,12 +16,19 @@
 
 package org.springframework.cglib.core;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * CGLIB GeneratorStrategy variant which exposes the application ClassLoader
  * as current thread context ClassLoader for the time of class generation.
  * The ASM ClassWriter in Spring's ASM variant will pick it up when doing
  * common superclass resolution.
  *
+ * <p>As of 6.2, this strategy also reuses class files from a previous JVM run
+ * if a {@link PersistentClassCache} has been activated through the
+ * {@value PersistentClassCache#CACHE_DIRECTORY_PROPERTY_NAME} property.
+ *
  * @author Juergen Hoeller
  * @since 5.2
  */
@@ -31,6 +38,10 @@ public class ClassLoaderAwareGeneratorStrategy extends DefaultGeneratorStrategy
 
 	private final GeneratorStrategy delegate;
 
+	private final boolean customDelegate;
+
+	private final PersistentClassCache persistentCache;
+
 
 	/**
 	 * Create a default GeneratorStrategy, exposing the given ClassLoader.
@@ -39,6 +50,8 @@ public class ClassLoaderAwareGeneratorStrategy extends DefaultGeneratorStrategy
 	public ClassLoaderAwareGeneratorStrategy(ClassLoader classLoader) {
 		this.classLoader = classLoader;
 		this.delegate = super::generate;
+		this.customDelegate = false;
+		this.persistentCache = null;
 	}
 
 	/**
@@ -49,11 +62,73 @@ public class ClassLoaderAwareGeneratorStrategy extends DefaultGeneratorStrategy
 	public ClassLoaderAwareGeneratorStrategy(ClassLoader classLoader, GeneratorStrategy delegate) {
 		this.classLoader = classLoader;
 		this.delegate = delegate;
+		this.customDelegate = true;
+		this.persistentCache = null;
+	}
+
+	/**
+	 * Create a default GeneratorStrategy, exposing the given ClassLoader
+	 * and using the given persistent cache (instead of the shared one).
+	 * @param classLoader the ClassLoader to expose as current thread context ClassLoader
+	 * @param persistentCache the persistent cache for generated class files
+	 * @since 6.2
+	 */
+	ClassLoaderAwareGeneratorStrategy(ClassLoader classLoader, PersistentClassCache persistentCache) {
+		this.classLoader = classLoader;
+		this.delegate = super::generate;
+		this.customDelegate = false;
+		this.persistentCache = persistentCache;
 	}
 
 
 	@Override
 	public byte[] generate(ClassGenerator cg) throws Exception {
+		PersistentClassCache cache = (this.persistentCache != null ?
+				this.persistentCache : PersistentClassCache.getSharedInstance());
+		if (cache != null && cg instanceof AbstractClassGenerator<?> acg) {
+			String key = getPersistentCacheKey(acg);
+			if (key != null) {
+				String className = acg.getClassName();
+				byte[] classFile = cache.get(className, key);
+				if (classFile == null) {
+					classFile = doGenerate(cg);
+					cache.put(className, key, classFile);
+				}
+				return classFile;
+			}
+		}
+		return doGenerate(cg);
+	}
+
+	/**
+	 * Build the cache key for the given generator, including digests of this
+	 * strategy's own class files since strategy subclasses may transform the
+	 * generated class.
+	 * @return the cache key, or {@code null} if not cacheable
+	 */
+	private String getPersistentCacheKey(AbstractClassGenerator<?> acg) {
+		String generatorKey = acg.getPersistentCacheKey();
+		if (generatorKey == null) {
+			return null;
+		}
+		List<Class<?>> implementationClasses = new ArrayList<>();
+		implementationClasses.add(getClass());
+		if (this.customDelegate) {
+			Class<?> delegateClass = this.delegate.getClass();
+			if (delegateClass.isHidden() || delegateClass.isSynthetic()) {
+				// Lambda or similar without stable class file
+				return null;
+			}
+			implementationClasses.add(delegateClass);
+		}
+		implementationClasses.add(acg.getClass());
+		implementationClasses.add(EmitUtils.class);
+		implementationClasses.add(CodeEmitter.class);
+		String digest = PersistentClassCache.classFileDigest(implementationClasses);
+		return (digest != null ? digest + '\n' + generatorKey : null);
+	}
+
+	private byte[] doGenerate(ClassGenerator cg) throws Exception {
 		if (this.classLoader == null) {
 			return this.delegate.generate(cg);
 		}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cglib.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.asm.ClassReader;
+import org.springframework.core.SpringProperties;
+
+/**
+ * File-based cache for CGLIB-generated class files, allowing for reusing the
+ * bytecode generated in a previous run of the same application on the JVM
+ * instead of generating it again on every startup.
+ *
+ * <p>Entries are keyed by the name of the generated class and a description
+ * of everything that affects the generated bytecode, including digests of the
+ * class files that the generated class is derived from. A stale entry is
+ * therefore never picked up after a change in the application; it is simply
+ * not found anymore. The cache directory may be cleared at any time.
+ *
+ * <p>Activated for {@link ClassLoaderAwareGeneratorStrategy} (as used for all
+ * of Spring's CGLIB proxies) through the {@value #CACHE_DIRECTORY_PROPERTY_NAME}
+ * system property or a corresponding entry in {@code spring.properties}.
+ * I/O errors are logged at debug level and lead to regular class generation.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @see AbstractClassGenerator#getPersistentCacheKey()
+ */
+public final class PersistentClassCache {
+
+	/**
+	 * System property that specifies a directory for caching CGLIB-generated
+	 * class files across JVM runs: {@value}. No persistent cache by default.
+	 */
+	public static final String CACHE_DIRECTORY_PROPERTY_NAME = "spring.cglib.cache.directory";
+
+	private static final String FILE_SUFFIX = ".class";
+
+	private static final Log logger = LogFactory.getLog(PersistentClassCache.class);
+
+	private static volatile PersistentClassCache sharedInstance;
+
+
+	private final Path directory;
+
+
+	/**
+	 * Create a new {@code PersistentClassCache} for the given directory,
+	 * to be created on demand if it does not exist yet.
+	 * @param directory the directory to store class files in
+	 */
+	public PersistentClassCache(Path directory) {
+		if (directory == null) {
+			throw new IllegalArgumentException("Directory must not be null");
+		}
+		this.directory = directory;
+	}
+
+
+	/**
+	 * Return the directory that this cache stores class files in.
+	 */
+	public Path getDirectory() {
+		return this.directory;
+	}
+
+	/**
+	 * Return the cached class file for the given class name and key.
+	 * @param className the name of the generated class
+	 * @param key the description of the generated class
+	 * @return the class file, or {@code null} if not cached (or not readable)
+	 */
+	public byte[] get(String className, String key) {
+		Path file = this.directory.resolve(fileName(className, key));
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+		try {
+			byte[] classFile = Files.readAllBytes(file);
+			if (className.replace('.', '/').equals(new ClassReader(classFile).getClassName())) {
+				return classFile;
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug("Ignoring cached class file [" + file + "] for different class than " + className);
+			}
+		}
+		catch (IOException | RuntimeException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to read cached class file [" + file + "]", ex);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Store the given class file for the given class name and key.
+	 * <p>The file is written to a temporary file first and then moved into
+	 * place, not exposing partially written files to concurrent readers.
+	 * @param className the name of the generated class
+	 * @param key the description of the generated class
+	 * @param classFile the generated class file
+	 */
+	public void put(String className, String key, byte[] classFile) {
+		String fileName = fileName(className, key);
+		Path tempFile = null;
+		try {
+			Files.createDirectories(this.directory);
+			tempFile = Files.createTempFile(this.directory, fileName, ".tmp");
+			Files.write(tempFile, classFile);
+			Path file = this.directory.resolve(fileName);
+			try {
+				Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			}
+			catch (AtomicMoveNotSupportedException ex) {
+				Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		catch (IOException | RuntimeException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to write class file for " + className + " to cache directory [" +
+						this.directory + "]", ex);
+			}
+			if (tempFile != null) {
+				try {
+					Files.deleteIfExists(tempFile);
+				}
+				catch (IOException ignored) {
+				}
+			}
+		}
+	}
+
+	private static String fileName(String className, String key) {
+		return sha256(className + '\n' + key) + FILE_SUFFIX;
+	}
+
+
+	/**
+	 * Return the shared {@code PersistentClassCache} for the directory specified
+	 * through the {@value #CACHE_DIRECTORY_PROPERTY_NAME} property, if any.
+	 * @return the shared cache, or {@code null} if not activated
+	 */
+	public static PersistentClassCache getSharedInstance() {
+		String directory = SpringProperties.getProperty(CACHE_DIRECTORY_PROPERTY_NAME);
+		if (directory == null || directory.isBlank()) {
+			return null;
+		}
+		PersistentClassCache cache = sharedInstance;
+		Path path = Path.of(directory.strip());
+		if (cache == null || !cache.directory.equals(path)) {
+			cache = new PersistentClassCache(path);
+			sharedInstance = cache;
+		}
+		return cache;
+	}
+
+	/**
+	 * Compute a digest over the class files of the given classes, for use in
+	 * a {@link AbstractClassGenerator#getPersistentCacheKey() cache key}.
+	 * <p>JDK classes are identified by name only, with the runtime version
+	 * being part of the digest.
+	 * @param classes the classes to include
+	 * @return the digest, or {@code null} if a class file is not available
+	 * (in which case the generated class should not be cached)
+	 */
+	public static String classFileDigest(Collection<? extends Class<?>> classes) {
+		MessageDigest digest = sha256Digest();
+		digest.update(Runtime.version().toString().getBytes(StandardCharsets.UTF_8));
+		for (Class<?> clazz : classes) {
+			digest.update(clazz.getName().getBytes(StandardCharsets.UTF_8));
+			ClassLoader classLoader = clazz.getClassLoader();
+			if (classLoader == null) {
+				continue;
+			}
+			String resourceName = clazz.getName().replace('.', '/') + FILE_SUFFIX;
+			try (InputStream is = classLoader.getResourceAsStream(resourceName)) {
+				if (is == null) {
+					return null;
+				}
+				digest.update(is.readAllBytes());
+			}
+			catch (IOException ex) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Failed to read class file for " + clazz.getName(), ex);
+				}
+				return null;
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static String sha256(String value) {
+		return HexFormat.of().formatHex(sha256Digest().digest(value.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static MessageDigest sha256Digest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 not supported", ex);
+		}
+	}
+
+}
@@ -27,6 +27,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -47,6 +48,7 @@ import org.springframework.cglib.core.MethodInfo;
 import org.springframework.cglib.core.MethodInfoTransformer;
 import org.springframework.cglib.core.MethodWrapper;
 import org.springframework.cglib.core.ObjectSwitchCallback;
+import org.springframework.cglib.core.PersistentClassCache;
 import org.springframework.cglib.core.ProcessSwitchCallback;
 import org.springframework.cglib.core.ReflectUtils;
 import org.springframework.cglib.core.RejectModifierPredicate;
@@ -601,6 +603,51 @@ public class Enhancer extends AbstractClassGenerator {
 		}
 	}
 
+	// SPRING PATCH BEGIN
+	@Override
+	protected String getPersistentCacheKey() {
+		// Only stable input: the filter is represented by its decision per method,
+		// the superclass and interfaces by digests of their class files.
+		Class sc = (superclass == null) ? Object.class : superclass;
+		Set<Class<?>> types = new LinkedHashSet<>();
+		collectTypeHierarchy(sc, types);
+		if (interfaces != null) {
+			for (Class element : interfaces) {
+				collectTypeHierarchy(element, types);
+			}
+		}
+		String digest = PersistentClassCache.classFileDigest(types);
+		if (digest == null) {
+			return null;
+		}
+		StringBuilder key = new StringBuilder(digest);
+		key.append('\n').append(sc.getName());
+		if (interfaces != null) {
+			key.append('\n').append(Arrays.toString(ReflectUtils.getNames(interfaces)));
+		}
+		key.append('\n').append(Arrays.toString(callbackTypes));
+		key.append('\n').append(useFactory).append(',').append(interceptDuringConstruction)
+				.append(',').append(serialVersionUID);
+		List methods = new ArrayList();
+		getMethods(sc, interfaces, methods);
+		for (Object element : methods) {
+			Method method = (Method) element;
+			key.append('\n').append(method.getDeclaringClass().getName()).append('.').append(method.getName())
+					.append(Type.getMethodDescriptor(method)).append('=').append(filter.accept(method));
+		}
+		return key.toString();
+	}
+
+	private static void collectTypeHierarchy(Class<?> type, Set<Class<?>> types) {
+		if (type != null && types.add(type)) {
+			collectTypeHierarchy(type.getSuperclass(), types);
+			for (Class<?> ifc : type.getInterfaces()) {
+				collectTypeHierarchy(ifc, types);
+			}
+		}
+	}
+	// SPRING PATCH END
+
 	private Signature rename(Signature sig, int index) {
 		return new Signature("CGLIB$" + sig.getName() + "$" + index,
 				sig.getDescriptor());
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package org.springframework.core;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Function;
@@ -39,15 +40,16 @@ import org.springframework.util.StringUtils;
 @SuppressWarnings("serial")
 public abstract class AttributeAccessorSupport implements AttributeAccessor, Serializable {
 
-	/** Map with String keys and Object values. */
-	private final Map<String, Object> attributes = new LinkedHashMap<>();
+	/** Map with String keys and Object values, lazily created on first attribute registration. */
+	@Nullable
+	private Map<String, Object> attributes;
 
 
 	@Override
 	public void setAttribute(String name, @Nullable Object value) {
 		Assert.notNull(name, "Name must not be null");
 		if (value != null) {
-			this.attributes.put(name, value);
+			obtainAttributes().put(name, value);
 		}
 		else {
 			removeAttribute(name);
@@ -58,7 +60,7 @@ public abstract class AttributeAccessorSupport implements AttributeAccessor, Ser
 	@Nullable
 	public Object getAttribute(String name) {
 		Assert.notNull(name, "Name must not be null");
-		return this.attributes.get(name);
+		return (this.attributes != null ? this.attributes.get(name) : null);
 	}
 
 	@Override
@@ -66,7 +68,7 @@ public abstract class AttributeAccessorSupport implements AttributeAccessor, Ser
 	public <T> T computeAttribute(String name, Function<String, T> computeFunction) {
 		Assert.notNull(name, "Name must not be null");
 		Assert.notNull(computeFunction, "Compute function must not be null");
-		Object value = this.attributes.computeIfAbsent(name, computeFunction);
+		Object value = obtainAttributes().computeIfAbsent(name, computeFunction);
 		Assert.state(value != null,
 				() -> String.format("Compute function must not return null for attribute named '%s'", name));
 		return (T) value;
@@ -76,18 +78,18 @@ public abstract class AttributeAccessorSupport implements AttributeAccessor, Ser
 	@Nullable
 	public Object removeAttribute(String name) {
 		Assert.notNull(name, "Name must not be null");
-		return this.attributes.remove(name);
+		return (this.attributes != null ? this.attributes.remove(name) : null);
 	}
 
 	@Override
 	public boolean hasAttribute(String name) {
 		Assert.notNull(name, "Name must not be null");
-		return this.attributes.containsKey(name);
+		return (this.attributes != null && this.attributes.containsKey(name));
 	}
 
 	@Override
 	public String[] attributeNames() {
-		return StringUtils.toStringArray(this.attributes.keySet());
+		return StringUtils.toStringArray(getAttributesOrEmpty().keySet());
 	}
 
 
@@ -107,12 +109,25 @@ public abstract class AttributeAccessorSupport implements AttributeAccessor, Ser
 	@Override
 	public boolean equals(@Nullable Object other) {
 		return (this == other || (other instanceof AttributeAccessorSupport that &&
-				this.attributes.equals(that.attributes)));
+				getAttributesOrEmpty().equals(that.getAttributesOrEmpty())));
 	}
 
 	@Override
 	public int hashCode() {
-		return this.attributes.hashCode();
+		return getAttributesOrEmpty().hashCode();
+	}
+
+	private Map<String, Object> obtainAttributes() {
+		Map<String, Object> attributes = this.attributes;
+		if (attributes == null) {
+			attributes = new LinkedHashMap<>();
+			this.attributes = attributes;
+		}
+		return attributes;
+	}
+
+	private Map<String, Object> getAttributesOrEmpty() {
+		return (this.attributes != null ? this.attributes : Collections.emptyMap());
 	}
 
 }
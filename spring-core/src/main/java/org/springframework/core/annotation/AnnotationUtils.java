@@ -35,6 +35,7 @@ import org.springframework.core.annotation.AnnotationTypeMapping.MirrorSets.Mirr
 import org.springframework.core.annotation.MergedAnnotation.Adapt;
 import org.springframework.core.annotation.MergedAnnotations.SearchStrategy;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ReflectionUtils;
@@ -1338,7 +1339,28 @@ public abstract class AnnotationUtils {
 	}
 
 	/**
-	 * Clear the internal annotation metadata cache.
+	 * Index the annotations declared on the given class, its superclasses and
+	 * its interfaces, including the annotations on their methods, fields and
+	 * constructors, in a single reflective pass per class.
+	 * <p>Subsequent annotation searches on the indexed classes and their
+	 * members, with any search strategy, use the index instead of reflection.
+	 * Unlike the regular annotation metadata cache, the index is strongly held,
+	 * including the resolved meta-annotation and alias mappings of all annotation
+	 * types found, until {@link #clearCache()} is called. This method may be
+	 * called for several classes concurrently, e.g. for pre-populating the index
+	 * for all bean classes in parallel.
+	 * @param clazz the class to index
+	 * @since 6.2
+	 * @see #clearCache()
+	 */
+	public static void indexAnnotations(Class<?> clazz) {
+		Assert.notNull(clazz, "Class must not be null");
+		AnnotationsScanner.index(clazz);
+	}
+
+	/**
+	 * Clear the internal annotation metadata cache, including any
+	 * {@linkplain #indexAnnotations annotation index}.
 	 * @since 4.3.15
 	 */
 	public static void clearCache() {
@@ -18,11 +18,19 @@ package org.springframework.core.annotation;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.springframework.core.BridgeMethodResolver;
@@ -57,6 +65,8 @@ abstract class AnnotationsScanner {
 	private static final Map<Class<?>, Method[]> baseTypeMethodsCache =
 			new ConcurrentReferenceHashMap<>(256);
 
+	private static final Map<Class<?>, ClassIndex> classIndex = new ConcurrentHashMap<>(256);
+
 
 	private AnnotationsScanner() {
 	}
@@ -334,6 +344,10 @@ abstract class AnnotationsScanner {
 			return NO_METHODS;
 		}
 
+		ClassIndex index = classIndex.get(baseType);
+		if (index != null) {
+			return index.baseTypeMethods;
+		}
 		Method[] methods = baseTypeMethodsCache.get(baseType);
 		if (methods == null) {
 			methods = ReflectionUtils.getDeclaredMethods(baseType);
@@ -442,25 +456,17 @@ abstract class AnnotationsScanner {
 
 	static Annotation[] getDeclaredAnnotations(AnnotatedElement source, boolean defensive) {
 		boolean cached = false;
-		Annotation[] annotations = declaredAnnotationCache.get(source);
+		Annotation[] annotations = getIndexedAnnotations(source);
+		if (annotations == null) {
+			annotations = declaredAnnotationCache.get(source);
+		}
 		if (annotations != null) {
 			cached = true;
 		}
 		else {
 			annotations = source.getDeclaredAnnotations();
 			if (annotations.length != 0) {
-				boolean allIgnored = true;
-				for (int i = 0; i < annotations.length; i++) {
-					Annotation annotation = annotations[i];
-					if (isIgnorable(annotation.annotationType()) ||
-							!AttributeMethods.forAnnotationType(annotation.annotationType()).canLoad(annotation)) {
-						annotations[i] = null;
-					}
-					else {
-						allIgnored = false;
-					}
-				}
-				annotations = (allIgnored ? NO_ANNOTATIONS : annotations);
+				annotations = filterDeclaredAnnotations(annotations);
 				if (source instanceof Class || source instanceof Member) {
 					declaredAnnotationCache.put(source, annotations);
 					cached = true;
@@ -473,6 +479,42 @@ abstract class AnnotationsScanner {
 		return annotations.clone();
 	}
 
+	private static Annotation[] readDeclaredAnnotations(AnnotatedElement source) {
+		Annotation[] annotations = source.getDeclaredAnnotations();
+		return (annotations.length != 0 ? filterDeclaredAnnotations(annotations) : annotations);
+	}
+
+	private static Annotation[] filterDeclaredAnnotations(Annotation[] annotations) {
+		boolean allIgnored = true;
+		for (int i = 0; i < annotations.length; i++) {
+			Annotation annotation = annotations[i];
+			if (isIgnorable(annotation.annotationType()) ||
+					!AttributeMethods.forAnnotationType(annotation.annotationType()).canLoad(annotation)) {
+				annotations[i] = null;
+			}
+			else {
+				allIgnored = false;
+			}
+		}
+		return (allIgnored ? NO_ANNOTATIONS : annotations);
+	}
+
+	@Nullable
+	private static Annotation[] getIndexedAnnotations(AnnotatedElement source) {
+		if (classIndex.isEmpty()) {
+			return null;
+		}
+		if (source instanceof Class<?> clazz) {
+			ClassIndex index = classIndex.get(clazz);
+			return (index != null ? index.annotations : null);
+		}
+		if (source instanceof Member member) {
+			ClassIndex index = classIndex.get(member.getDeclaringClass());
+			return (index != null ? index.memberAnnotations.getOrDefault(member, NO_ANNOTATIONS) : null);
+		}
+		return null;
+	}
+
 	private static boolean isIgnorable(Class<?> annotationType) {
 		return AnnotationFilter.PLAIN.matches(annotationType);
 	}
@@ -527,9 +569,119 @@ abstract class AnnotationsScanner {
 		return true;
 	}
 
+	/**
+	 * Index the annotations declared on the given class, its superclasses and
+	 * its interfaces, including their methods, fields and constructors.
+	 * @param clazz the class to index
+	 * @see #clearCache()
+	 */
+	static void index(Class<?> clazz) {
+		Deque<Class<?>> types = new ArrayDeque<>();
+		Set<Class<?>> visited = new HashSet<>();
+		types.add(clazz);
+		while (!types.isEmpty()) {
+			Class<?> type = types.poll();
+			if (type == Object.class || hasPlainJavaAnnotationsOnly(type) || !visited.add(type)) {
+				continue;
+			}
+			if (!classIndex.containsKey(type)) {
+				try {
+					classIndex.putIfAbsent(type, new ClassIndex(type));
+				}
+				catch (Throwable ex) {
+					AnnotationUtils.handleIntrospectionFailure(type, ex);
+				}
+			}
+			Class<?> superclass = type.getSuperclass();
+			if (superclass != null) {
+				types.add(superclass);
+			}
+			types.addAll(Arrays.asList(type.getInterfaces()));
+		}
+	}
+
+	/**
+	 * Determine whether the given class has been {@linkplain #index indexed}.
+	 */
+	static boolean isIndexed(Class<?> clazz) {
+		return classIndex.containsKey(clazz);
+	}
+
 	static void clearCache() {
 		declaredAnnotationCache.clear();
 		baseTypeMethodsCache.clear();
+		classIndex.clear();
+	}
+
+
+	/**
+	 * Index of the annotations declared on a class and its members, built in
+	 * a single reflective pass and held until the cache is cleared. Holds on
+	 * to the {@link AnnotationTypeMappings} of all annotation types found as
+	 * well, keeping their meta-annotation and alias mappings resolved.
+	 */
+	private static final class ClassIndex {
+
+		final Annotation[] annotations;
+
+		final Map<Member, Annotation[]> memberAnnotations;
+
+		final Method[] baseTypeMethods;
+
+		final AnnotationTypeMappings[] mappings;
+
+		ClassIndex(Class<?> clazz) {
+			Set<Class<? extends Annotation>> annotationTypes = new HashSet<>();
+			this.annotations = readDeclaredAnnotations(clazz);
+			collectAnnotationTypes(this.annotations, annotationTypes);
+			Map<Member, Annotation[]> memberAnnotations = new HashMap<>();
+			// Declared methods, including concrete methods on interfaces, with
+			// those not relevant as base type methods cleared along the way
+			Method[] methods = ReflectionUtils.getDeclaredMethods(clazz);
+			int cleared = 0;
+			for (int i = 0; i < methods.length; i++) {
+				Method method = methods[i];
+				Annotation[] annotations = (method.getDeclaringClass() == clazz ?
+						indexMember(method, memberAnnotations, annotationTypes) : readDeclaredAnnotations(method));
+				if (Modifier.isPrivate(method.getModifiers()) || hasPlainJavaAnnotationsOnly(method) ||
+						annotations.length == 0) {
+					methods[i] = null;
+					cleared++;
+				}
+			}
+			for (Field field : clazz.getDeclaredFields()) {
+				indexMember(field, memberAnnotations, annotationTypes);
+			}
+			for (Constructor<?> constructor : clazz.getDeclaredConstructors()) {
+				indexMember(constructor, memberAnnotations, annotationTypes);
+			}
+			this.memberAnnotations = (memberAnnotations.isEmpty() ? Map.of() : memberAnnotations);
+			this.baseTypeMethods = (cleared == methods.length ? NO_METHODS : methods);
+			this.mappings = annotationTypes.stream()
+					.map(AnnotationTypeMappings::forAnnotationType)
+					.toArray(AnnotationTypeMappings[]::new);
+		}
+
+		private static <M extends AnnotatedElement & Member> Annotation[] indexMember(M member,
+				Map<Member, Annotation[]> memberAnnotations, Set<Class<? extends Annotation>> annotationTypes) {
+
+			Annotation[] annotations = readDeclaredAnnotations(member);
+			if (annotations.length != 0) {
+				memberAnnotations.put(member, annotations);
+				collectAnnotationTypes(annotations, annotationTypes);
+			}
+			return annotations;
+		}
+
+		private static void collectAnnotationTypes(Annotation[] annotations,
+				Set<Class<? extends Annotation>> annotationTypes) {
+
+			for (Annotation annotation : annotations) {
+				if (annotation != null) {
+					annotationTypes.add(annotation.annotationType());
+				}
+			}
+		}
 	}
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package org.springframework.core.codec;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.Map;
 
 import reactor.core.publisher.Flux;
@@ -34,6 +36,11 @@ import org.springframework.util.StreamUtils;
 /**
  * Encoder for {@link Resource Resources}.
  *
+ * <p>As of 6.2, the content of {@linkplain Resource#isFile() file-based}
+ * resources can be mapped into memory rather than copied into buffers,
+ * once a {@linkplain #setMemoryMappingThreshold memory mapping threshold}
+ * has been set.
+ *
  * @author Arjen Poutsma
  * @since 5.0
  */
@@ -44,8 +51,17 @@ public class ResourceEncoder extends AbstractSingleValueEncoder<Resource> {
 	 */
 	public static final int DEFAULT_BUFFER_SIZE = StreamUtils.BUFFER_SIZE;
 
+	/**
+	 * The default size threshold for reading files through memory mapping:
+	 * {@code -1}, i.e. memory mapping is disabled.
+	 * @since 6.2
+	 */
+	public static final long DEFAULT_MEMORY_MAPPING_THRESHOLD = -1;
+
 	private final int bufferSize;
 
+	private long memoryMappingThreshold = DEFAULT_MEMORY_MAPPING_THRESHOLD;
+
 
 	public ResourceEncoder() {
 		this(DEFAULT_BUFFER_SIZE);
@@ -58,6 +74,30 @@ public class ResourceEncoder extends AbstractSingleValueEncoder<Resource> {
 	}
 
 
+	/**
+	 * Set the minimum size of {@linkplain Resource#isFile() file-based}
+	 * resources to {@linkplain DataBufferUtils#readMapped read through memory
+	 * mapping}, or {@code -1} to always copy the content into buffers.
+	 * <p>By default, this is set to {@value #DEFAULT_MEMORY_MAPPING_THRESHOLD}.
+	 * Note that a mapping is only released once its buffers are garbage
+	 * collected: until then, the file may not be deleted or replaced on
+	 * Windows, and truncating the file fails reads with an error rather
+	 * than an {@code IOException}.
+	 * @since 6.2
+	 */
+	public void setMemoryMappingThreshold(long memoryMappingThreshold) {
+		this.memoryMappingThreshold = memoryMappingThreshold;
+	}
+
+	/**
+	 * Return the configured memory mapping threshold.
+	 * @since 6.2
+	 */
+	public long getMemoryMappingThreshold() {
+		return this.memoryMappingThreshold;
+	}
+
+
 	@Override
 	public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
 		Class<?> clazz = elementType.toClass();
@@ -72,7 +112,31 @@ public class ResourceEncoder extends AbstractSingleValueEncoder<Resource> {
 			String logPrefix = Hints.getLogPrefix(hints);
 			logger.debug(logPrefix + "Writing [" + resource + "]");
 		}
+		File file = getMappableFile(resource, this.memoryMappingThreshold);
+		if (file != null) {
+			return DataBufferUtils.readMapped(file.toPath(), 0, -1, bufferFactory, this.bufferSize);
+		}
 		return DataBufferUtils.read(resource, bufferFactory, this.bufferSize);
 	}
 
+	/**
+	 * Return the file behind the given resource if it is to be read through
+	 * memory mapping according to the given threshold, or {@code null} otherwise.
+	 */
+	@Nullable
+	static File getMappableFile(Resource resource, long memoryMappingThreshold) {
+		if (memoryMappingThreshold >= 0 && resource.isFile()) {
+			try {
+				File file = resource.getFile();
+				if (file.length() >= memoryMappingThreshold) {
+					return file;
+				}
+			}
+			catch (IOException ex) {
+				// fall back to regular reading
+			}
+		}
+		return null;
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.core.codec;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
@@ -58,6 +59,8 @@ public class ResourceRegionEncoder extends AbstractEncoder<ResourceRegion> {
 
 	private final int bufferSize;
 
+	private long memoryMappingThreshold = ResourceEncoder.DEFAULT_MEMORY_MAPPING_THRESHOLD;
+
 
 	public ResourceRegionEncoder() {
 		this(DEFAULT_BUFFER_SIZE);
@@ -69,6 +72,30 @@ public class ResourceRegionEncoder extends AbstractEncoder<ResourceRegion> {
 		this.bufferSize = bufferSize;
 	}
 
+
+	/**
+	 * Set the minimum size of regions of {@linkplain Resource#isFile()
+	 * file-based} resources to {@linkplain DataBufferUtils#readMapped read
+	 * through memory mapping}, or {@code -1} to always copy the content into
+	 * buffers.
+	 * <p>By default, this is set to
+	 * {@value ResourceEncoder#DEFAULT_MEMORY_MAPPING_THRESHOLD}, i.e. memory
+	 * mapping is disabled. See {@link ResourceEncoder#setMemoryMappingThreshold}
+	 * for the implications of enabling it.
+	 * @since 6.2
+	 */
+	public void setMemoryMappingThreshold(long memoryMappingThreshold) {
+		this.memoryMappingThreshold = memoryMappingThreshold;
+	}
+
+	/**
+	 * Return the configured memory mapping threshold.
+	 * @since 6.2
+	 */
+	public long getMemoryMappingThreshold() {
+		return this.memoryMappingThreshold;
+	}
+
 	@Override
 	public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
 		return super.canEncode(elementType, mimeType)
@@ -129,6 +156,17 @@ public class ResourceRegionEncoder extends AbstractEncoder<ResourceRegion> {
 					"Writing region " + position + "-" + (position + count) + " of [" + resource + "]");
 		}
 
+		if (this.memoryMappingThreshold >= 0 && count >= this.memoryMappingThreshold) {
+			File file = ResourceEncoder.getMappableFile(resource, 0);
+			if (file != null) {
+				Flux<DataBuffer> in = DataBufferUtils.readMapped(file.toPath(), position, count, bufferFactory, this.bufferSize);
+				if (logger.isDebugEnabled()) {
+					in = in.doOnNext(buffer -> Hints.touchDataBuffer(buffer, hints, logger));
+				}
+				return in;
+			}
+		}
+
 		Flux<DataBuffer> in = DataBufferUtils.read(resource, position, bufferFactory, this.bufferSize);
 		if (logger.isDebugEnabled()) {
 			in = in.doOnNext(buffer -> Hints.touchDataBuffer(buffer, hints, logger));
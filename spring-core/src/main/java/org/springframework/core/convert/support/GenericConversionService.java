@@ -72,11 +72,21 @@ public class GenericConversionService implements ConfigurableConversionService {
 	 */
 	private static final GenericConverter NO_MATCH = new NoOpConverter("NO_MATCH");
 
+	/**
+	 * Used as a direct converter cache entry when no converter is available.
+	 * This converter is never returned.
+	 */
+	private static final DirectConverter NO_DIRECT_MATCH =
+			new DirectConverter(NO_MATCH, TypeDescriptor.valueOf(Object.class), TypeDescriptor.valueOf(Object.class), null);
+
 
 	private final Converters converters = new Converters();
 
 	private final Map<ConverterCacheKey, GenericConverter> converterCache = new ConcurrentReferenceHashMap<>(64);
 
+	private final Map<Class<?>, Map<Class<?>, DirectConverter>> directConverterCache =
+			new ConcurrentReferenceHashMap<>(64);
+
 
 	// ConverterRegistry implementation
 
@@ -162,6 +172,13 @@ public class GenericConversionService implements ConfigurableConversionService {
 	@Nullable
 	public <T> T convert(@Nullable Object source, Class<T> targetType) {
 		Assert.notNull(targetType, "Target type to convert to cannot be null");
+		if (source != null) {
+			DirectConverter converter = getDirectConverter(source.getClass(), targetType);
+			if (converter != null) {
+				return (T) handleResult(converter.sourceType, converter.targetType,
+						converter.convert(source, converter.sourceType, converter.targetType));
+			}
+		}
 		return (T) convert(source, TypeDescriptor.forObject(source), TypeDescriptor.valueOf(targetType));
 	}
 
@@ -177,6 +194,14 @@ public class GenericConversionService implements ConfigurableConversionService {
 			throw new IllegalArgumentException("Source to convert from must be an instance of [" +
 					sourceType + "]; instead it was a [" + source.getClass().getName() + "]");
 		}
+		if (source != null && ClassUtils.isSimpleValueType(sourceType.getType()) &&
+				sourceType.getAnnotations().length == 0 && targetType.getAnnotations().length == 0) {
+			// No element types or annotations -> converter determined by source and target class
+			DirectConverter directConverter = getDirectConverter(sourceType.getType(), targetType.getType());
+			if (directConverter != null) {
+				return handleResult(sourceType, targetType, directConverter.convert(source, sourceType, targetType));
+			}
+		}
 		GenericConverter converter = getConverter(sourceType, targetType);
 		if (converter != null) {
 			Object result = ConversionUtils.invokeConverter(converter, source, sourceType, targetType);
@@ -275,8 +300,51 @@ public class GenericConversionService implements ConfigurableConversionService {
 		return generics;
 	}
 
+	/**
+	 * Return a direct converter for the given source and target class, for
+	 * conversions to primitive, wrapper and enum types only, resolved once per
+	 * class pair and then looked up without allocating.
+	 */
+	@Nullable
+	private DirectConverter getDirectConverter(Class<?> sourceClass, Class<?> targetClass) {
+		if (!ClassUtils.isPrimitiveOrWrapper(targetClass) && !targetClass.isEnum()) {
+			return null;
+		}
+		Map<Class<?>, DirectConverter> convertersForSource = this.directConverterCache.get(sourceClass);
+		if (convertersForSource == null) {
+			convertersForSource = this.directConverterCache.computeIfAbsent(
+					sourceClass, key -> new ConcurrentReferenceHashMap<>(16));
+		}
+		DirectConverter converter = convertersForSource.get(targetClass);
+		if (converter == null) {
+			converter = createDirectConverter(sourceClass, targetClass);
+			convertersForSource.put(targetClass, converter);
+		}
+		return (converter != NO_DIRECT_MATCH ? converter : null);
+	}
+
+	@SuppressWarnings("unchecked")
+	private DirectConverter createDirectConverter(Class<?> sourceClass, Class<?> targetClass) {
+		TypeDescriptor sourceType = TypeDescriptor.valueOf(sourceClass);
+		TypeDescriptor targetType = TypeDescriptor.valueOf(targetClass);
+		GenericConverter converter = getConverter(sourceType, targetType);
+		if (converter == null) {
+			return NO_DIRECT_MATCH;
+		}
+		Converter<Object, Object> target = null;
+		if (converter instanceof ConverterAdapter converterAdapter) {
+			target = converterAdapter.converter;
+		}
+		else if (converter instanceof ConverterFactoryAdapter converterFactoryAdapter) {
+			target = (Converter<Object, Object>) converterFactoryAdapter.converterFactory.getConverter(
+					targetType.getObjectType());
+		}
+		return new DirectConverter(converter, sourceType, targetType, target);
+	}
+
 	private void invalidateCache() {
 		this.converterCache.clear();
+		this.directConverterCache.clear();
 	}
 
 	@Nullable
@@ -639,6 +707,35 @@ public class GenericConversionService implements ConfigurableConversionService {
 	}
 
 
+	/**
+	 * Converter resolved for a given source and target class, calling a
+	 * plain {@link Converter} directly where possible.
+	 * @param converter the generic converter for the class pair
+	 * @param sourceType the descriptor for the source class
+	 * @param targetType the descriptor for the target class
+	 * @param target the plain converter behind the generic converter, if any
+	 */
+	private record DirectConverter(GenericConverter converter, TypeDescriptor sourceType,
+			TypeDescriptor targetType, @Nullable Converter<Object, Object> target) {
+
+		@Nullable
+		Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+			if (this.target == null) {
+				return ConversionUtils.invokeConverter(this.converter, source, sourceType, targetType);
+			}
+			try {
+				return this.target.convert(source);
+			}
+			catch (ConversionFailedException ex) {
+				throw ex;
+			}
+			catch (Throwable ex) {
+				throw new ConversionFailedException(sourceType, targetType, source, ex);
+			}
+		}
+	}
+
+
 	/**
 	 * Internal converter that performs no operation.
 	 */
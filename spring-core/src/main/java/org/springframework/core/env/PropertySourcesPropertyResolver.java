@@ -16,6 +16,11 @@
 
 package org.springframework.core.env;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.lang.Nullable;
 
 /**
@@ -34,6 +39,11 @@ public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 	@Nullable
 	private final PropertySources propertySources;
 
+	private boolean usePropertyIndex = false;
+
+	@Nullable
+	private volatile PropertyIndex propertyIndex;
+
 
 	/**
 	 * Create a new resolver against the given property sources.
@@ -44,8 +54,53 @@ public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 	}
 
 
+	/**
+	 * Set whether to resolve properties through an index of property names
+	 * across all {@link EnumerablePropertySource enumerable property sources},
+	 * avoiding a linear walk through the property sources for every lookup.
+	 * <p>Default is "false". Switch this to "true" for a large number of property
+	 * sources with frequent lookups, e.g. for {@code @Value} resolution on prototype
+	 * or request-scoped beans. Non-enumerable property sources as well as
+	 * {@link SystemEnvironmentPropertySource} (with its relaxed name matching) are
+	 * still searched in order of precedence, next to the index.
+	 * <p>The index is only available for {@link MutablePropertySources} and gets
+	 * rebuilt after any property source has been added, removed or replaced there.
+	 * Property values are always retrieved from their property source; however,
+	 * property names added to an enumerable property source afterwards (or property
+	 * sources added to a {@link CompositePropertySource}) are not visible until
+	 * {@link #invalidatePropertyIndex()} has been called.
+	 * @since 6.2
+	 */
+	public void setUsePropertyIndex(boolean usePropertyIndex) {
+		this.usePropertyIndex = usePropertyIndex;
+		this.propertyIndex = null;
+	}
+
+	/**
+	 * Return whether to resolve properties through an index of property names.
+	 * @since 6.2
+	 */
+	public boolean isUsePropertyIndex() {
+		return this.usePropertyIndex;
+	}
+
+	/**
+	 * Discard the current index of property names, if any, enforcing a rebuild
+	 * on the next lookup.
+	 * @since 6.2
+	 * @see #setUsePropertyIndex
+	 */
+	public void invalidatePropertyIndex() {
+		this.propertyIndex = null;
+	}
+
+
 	@Override
 	public boolean containsProperty(String key) {
+		PropertyIndex propertyIndex = getPropertyIndex();
+		if (propertyIndex != null) {
+			return (propertyIndex.findPropertySource(key) != null);
+		}
 		if (this.propertySources != null) {
 			for (PropertySource<?> propertySource : this.propertySources) {
 				if (propertySource.containsProperty(key)) {
@@ -76,6 +131,21 @@ public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 
 	@Nullable
 	protected <T> T getProperty(String key, Class<T> targetValueType, boolean resolveNestedPlaceholders) {
+		PropertyIndex propertyIndex = getPropertyIndex();
+		if (propertyIndex != null) {
+			PropertySource<?> propertySource = propertyIndex.findPropertySource(key);
+			if (propertySource == null) {
+				if (logger.isTraceEnabled()) {
+					logger.trace("Could not find key '" + key + "' in any property source");
+				}
+				return null;
+			}
+			Object value = propertySource.getProperty(key);
+			if (value != null) {
+				return getPropertyValue(key, value, propertySource, targetValueType, resolveNestedPlaceholders);
+			}
+			// Property not available in its indexed property source anymore -> linear walk
+		}
 		if (this.propertySources != null) {
 			for (PropertySource<?> propertySource : this.propertySources) {
 				if (logger.isTraceEnabled()) {
@@ -84,13 +154,7 @@ public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 				}
 				Object value = propertySource.getProperty(key);
 				if (value != null) {
-					if (resolveNestedPlaceholders &&
-							(String.class.equals(targetValueType) || CharSequence.class.equals(targetValueType)) &&
-							value instanceof CharSequence cs) {
-						value = resolveNestedPlaceholders(cs.toString());
-					}
-					logKeyFound(key, propertySource, value);
-					return convertValueIfNecessary(value, targetValueType);
+					return getPropertyValue(key, value, propertySource, targetValueType, resolveNestedPlaceholders);
 				}
 			}
 		}
@@ -100,6 +164,37 @@ public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 		return null;
 	}
 
+	@Nullable
+	private <T> T getPropertyValue(String key, Object value, PropertySource<?> propertySource,
+			Class<T> targetValueType, boolean resolveNestedPlaceholders) {
+
+		if (resolveNestedPlaceholders &&
+				(String.class.equals(targetValueType) || CharSequence.class.equals(targetValueType)) &&
+				value instanceof CharSequence cs) {
+			value = resolveNestedPlaceholders(cs.toString());
+		}
+		logKeyFound(key, propertySource, value);
+		return convertValueIfNecessary(value, targetValueType);
+	}
+
+	/**
+	 * Return the current index of property names, building it if necessary.
+	 * @return the index, or {@code null} if not enabled or not applicable
+	 */
+	@Nullable
+	private PropertyIndex getPropertyIndex() {
+		if (!this.usePropertyIndex || !(this.propertySources instanceof MutablePropertySources mps)) {
+			return null;
+		}
+		PropertyIndex propertyIndex = this.propertyIndex;
+		int modificationCount = mps.getModificationCount();
+		if (propertyIndex == null || propertyIndex.modificationCount != modificationCount) {
+			propertyIndex = PropertyIndex.build(mps, modificationCount);
+			this.propertyIndex = propertyIndex;
+		}
+		return propertyIndex;
+	}
+
 	/**
 	 * Log the given key as found in the given {@link PropertySource}, resulting in
 	 * the given value.
@@ -119,4 +214,87 @@ public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 		}
 	}
 
+
+
+	/**
+	 * Index of property names across the enumerable property sources in a given
+	 * {@link MutablePropertySources} instance, with each name pointing to the
+	 * property source of highest precedence that contains it. Property sources
+	 * that cannot be indexed are kept in order of precedence.
+	 */
+	private static final class PropertyIndex {
+
+		final int modificationCount;
+
+		private final Map<String, IndexedPropertySource> names;
+
+		private final IndexedPropertySource[] unindexedPropertySources;
+
+		private PropertyIndex(int modificationCount, Map<String, IndexedPropertySource> names,
+				IndexedPropertySource[] unindexedPropertySources) {
+
+			this.modificationCount = modificationCount;
+			this.names = names;
+			this.unindexedPropertySources = unindexedPropertySources;
+		}
+
+		/**
+		 * Find the property source of highest precedence which contains the
+		 * given property, checking unindexed property sources of higher
+		 * precedence than the indexed property source for the given name.
+		 */
+		@Nullable
+		PropertySource<?> findPropertySource(String key) {
+			IndexedPropertySource indexed = this.names.get(key);
+			int precedence = (indexed != null ? indexed.precedence : Integer.MAX_VALUE);
+			for (IndexedPropertySource unindexed : this.unindexedPropertySources) {
+				if (unindexed.precedence > precedence) {
+					break;
+				}
+				if (unindexed.propertySource.containsProperty(key)) {
+					return unindexed.propertySource;
+				}
+			}
+			return (indexed != null ? indexed.propertySource : null);
+		}
+
+		static PropertyIndex build(MutablePropertySources propertySources, int modificationCount) {
+			Map<String, IndexedPropertySource> names = new HashMap<>();
+			List<IndexedPropertySource> unindexedPropertySources = new ArrayList<>();
+			int precedence = 0;
+			for (PropertySource<?> propertySource : propertySources) {
+				IndexedPropertySource indexed = new IndexedPropertySource(propertySource, precedence++);
+				if (isIndexable(propertySource)) {
+					for (String name : ((EnumerablePropertySource<?>) propertySource).getPropertyNames()) {
+						names.putIfAbsent(name, indexed);
+					}
+				}
+				else {
+					unindexedPropertySources.add(indexed);
+				}
+			}
+			return new PropertyIndex(modificationCount, names,
+					unindexedPropertySources.toArray(new IndexedPropertySource[0]));
+		}
+
+		private static boolean isIndexable(PropertySource<?> propertySource) {
+			if (!(propertySource instanceof EnumerablePropertySource<?>) ||
+					propertySource instanceof SystemEnvironmentPropertySource) {
+				return false;
+			}
+			if (propertySource instanceof CompositePropertySource composite) {
+				for (PropertySource<?> nested : composite.getPropertySources()) {
+					if (!isIndexable(nested)) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+	}
+
+
+	private record IndexedPropertySource(PropertySource<?> propertySource, int precedence) {
+	}
+
 }
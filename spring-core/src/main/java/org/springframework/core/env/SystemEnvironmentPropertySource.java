@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,10 +16,13 @@
 
 package org.springframework.core.env;
 
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * Specialization of {@link MapPropertySource} designed for use with
@@ -50,6 +53,13 @@ import org.springframework.util.Assert;
  *
  * <pre class="code">SPRING_PROFILES_ACTIVE=p1 java -classpath ... MyApp</pre>
  *
+ * <p>For the actual process environment as returned by {@link System#getenv()},
+ * which cannot change at runtime, this property source precomputes an index of
+ * normalized variable names (upper case, with underscores for periods and hyphens)
+ * and caches resolved property names, including names known to be missing. For any
+ * other map, it resolves names against the map as-is on every lookup, reflecting
+ * changes to the map.
+ *
  * <p>Enable debug- or trace-level logging for this class (or package) for messages
  * explaining when these 'property name resolutions' occur.
  *
@@ -65,12 +75,34 @@ import org.springframework.util.Assert;
  */
 public class SystemEnvironmentPropertySource extends MapPropertySource {
 
+	private static final int RESOLVED_NAME_CACHE_LIMIT = 256;
+
+
+	@Nullable
+	private final Set<String> normalizedNames;
+
+	@Nullable
+	private final ConcurrentLruCache<String, String> resolvedNames;
+
+
 	/**
 	 * Create a new {@code SystemEnvironmentPropertySource} with the given name and
 	 * delegating to the given {@code MapPropertySource}.
 	 */
 	public SystemEnvironmentPropertySource(String name, Map<String, Object> source) {
 		super(name, source);
+		if (isProcessEnvironment(source)) {
+			Set<String> normalizedNames = new HashSet<>(source.size());
+			for (String key : source.keySet()) {
+				normalizedNames.add(normalizePropertyName(key));
+			}
+			this.normalizedNames = normalizedNames;
+			this.resolvedNames = new ConcurrentLruCache<>(RESOLVED_NAME_CACHE_LIMIT, this::doResolvePropertyName);
+		}
+		else {
+			this.normalizedNames = null;
+			this.resolvedNames = null;
+		}
 	}
 
 
@@ -105,6 +137,14 @@ public class SystemEnvironmentPropertySource extends MapPropertySource {
 	 */
 	protected final String resolvePropertyName(String name) {
 		Assert.notNull(name, "Property name must not be null");
+		return (this.resolvedNames != null ? this.resolvedNames.get(name) : doResolvePropertyName(name));
+	}
+
+	private String doResolvePropertyName(String name) {
+		if (this.normalizedNames != null && !this.normalizedNames.contains(normalizePropertyName(name))) {
+			// No variable with any underscore / uppercase variation of the name
+			return name;
+		}
 		String resolvedName = checkPropertyName(name);
 		if (resolvedName != null) {
 			return resolvedName;
@@ -144,4 +184,22 @@ public class SystemEnvironmentPropertySource extends MapPropertySource {
 		return null;
 	}
 
+
+	/**
+	 * Return the normalized form of the given name which all of its underscore /
+	 * uppercase variations have in common.
+	 */
+	private static String normalizePropertyName(String name) {
+		return name.toUpperCase().replace('.', '_').replace('-', '_');
+	}
+
+	private static boolean isProcessEnvironment(Map<String, Object> source) {
+		try {
+			return (source == (Object) System.getenv());
+		}
+		catch (SecurityException ex) {
+			return false;
+		}
+	}
+
 }
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Pool of {@link ByteBuffer ByteBuffers} organized in power-of-two size classes,
+ * used by {@link DefaultPooledDataBufferFactory}.
+ *
+ * <p>Released buffers are first kept in a small per-thread cache, and then in a
+ * shared arena for their size class. Buffers that exceed the largest size class,
+ * or that are released while the arena of their size class is full, are left to
+ * the garbage collector.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ */
+final class ByteBufferPool {
+
+	/**
+	 * The capacity of the smallest size class.
+	 */
+	static final int MIN_SIZE_CLASS_CAPACITY = 256;
+
+	private static final int MIN_SIZE_CLASS_SHIFT = Integer.numberOfTrailingZeros(MIN_SIZE_CLASS_CAPACITY);
+
+
+	private final boolean direct;
+
+	private final int maxPooledCapacity;
+
+	private final int maxBuffersPerSizeClass;
+
+	private volatile int threadLocalCacheSize;
+
+	private final Queue<ByteBuffer>[] arenas;
+
+	private final AtomicIntegerArray arenaSizes;
+
+	private final ThreadLocal<ArrayDeque<ByteBuffer>[]> threadLocalCaches;
+
+	private final AtomicInteger idleCount = new AtomicInteger();
+
+	private final AtomicInteger activeCount = new AtomicInteger();
+
+	private final LongAdder allocationCount = new LongAdder();
+
+	private final LongAdder poolHitCount = new LongAdder();
+
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	ByteBufferPool(boolean direct, int maxPooledCapacity, int maxBuffersPerSizeClass, int threadLocalCacheSize) {
+		Assert.isTrue(maxPooledCapacity >= MIN_SIZE_CLASS_CAPACITY,
+				() -> "'maxPooledCapacity' must be at least " + MIN_SIZE_CLASS_CAPACITY);
+		Assert.isTrue(maxBuffersPerSizeClass >= 0, "'maxBuffersPerSizeClass' must not be negative");
+		Assert.isTrue(threadLocalCacheSize >= 0, "'threadLocalCacheSize' must not be negative");
+		this.direct = direct;
+		this.maxPooledCapacity = Integer.highestOneBit(maxPooledCapacity);
+		this.maxBuffersPerSizeClass = maxBuffersPerSizeClass;
+		this.threadLocalCacheSize = threadLocalCacheSize;
+		int sizeClassCount = sizeClassIndex(this.maxPooledCapacity) + 1;
+		this.arenas = new Queue[sizeClassCount];
+		for (int i = 0; i < sizeClassCount; i++) {
+			this.arenas[i] = new ConcurrentLinkedQueue<>();
+		}
+		this.arenaSizes = new AtomicIntegerArray(sizeClassCount);
+		this.threadLocalCaches = ThreadLocal.withInitial(() -> new ArrayDeque[sizeClassCount]);
+	}
+
+
+	boolean isDirect() {
+		return this.direct;
+	}
+
+	int getMaxPooledCapacity() {
+		return this.maxPooledCapacity;
+	}
+
+	void setThreadLocalCacheSize(int threadLocalCacheSize) {
+		Assert.isTrue(threadLocalCacheSize >= 0, "'threadLocalCacheSize' must not be negative");
+		this.threadLocalCacheSize = threadLocalCacheSize;
+	}
+
+	int getThreadLocalCacheSize() {
+		return this.threadLocalCacheSize;
+	}
+
+	/**
+	 * Acquire a cleared buffer with at least the given capacity from the pool,
+	 * allocating a new buffer for the matching size class if none is available.
+	 * @param capacity the minimum capacity of the buffer
+	 * @return the buffer, or {@code null} if the capacity exceeds the largest
+	 * size class of this pool
+	 */
+	@Nullable
+	ByteBuffer acquire(int capacity) {
+		if (capacity > this.maxPooledCapacity) {
+			return null;
+		}
+		this.allocationCount.increment();
+		this.activeCount.incrementAndGet();
+		int index = sizeClassIndex(capacity);
+		ByteBuffer buffer = null;
+		if (this.threadLocalCacheSize > 0) {
+			ArrayDeque<ByteBuffer> cache = this.threadLocalCaches.get()[index];
+			if (cache != null) {
+				buffer = cache.pollLast();
+			}
+		}
+		if (buffer == null) {
+			buffer = this.arenas[index].poll();
+			if (buffer != null) {
+				this.arenaSizes.decrementAndGet(index);
+			}
+		}
+		if (buffer != null) {
+			this.idleCount.decrementAndGet();
+			this.poolHitCount.increment();
+			return buffer.clear();
+		}
+		int sizeClassCapacity = MIN_SIZE_CLASS_CAPACITY << index;
+		return (this.direct ? ByteBuffer.allocateDirect(sizeClassCapacity) : ByteBuffer.allocate(sizeClassCapacity));
+	}
+
+	/**
+	 * Return a buffer previously obtained from {@link #acquire(int)} to the pool.
+	 * @param buffer the buffer to return
+	 */
+	void release(ByteBuffer buffer) {
+		this.activeCount.decrementAndGet();
+		int index = sizeClassIndex(buffer.capacity());
+		int threadLocalCacheSize = this.threadLocalCacheSize;
+		if (threadLocalCacheSize > 0) {
+			ArrayDeque<ByteBuffer>[] caches = this.threadLocalCaches.get();
+			ArrayDeque<ByteBuffer> cache = caches[index];
+			if (cache == null) {
+				cache = new ArrayDeque<>(threadLocalCacheSize);
+				caches[index] = cache;
+			}
+			if (cache.size() < threadLocalCacheSize) {
+				cache.addLast(buffer);
+				this.idleCount.incrementAndGet();
+				return;
+			}
+		}
+		if (this.arenaSizes.incrementAndGet(index) <= this.maxBuffersPerSizeClass) {
+			this.arenas[index].offer(buffer);
+			this.idleCount.incrementAndGet();
+		}
+		else {
+			this.arenaSizes.decrementAndGet(index);
+		}
+	}
+
+	/**
+	 * Account for a buffer previously obtained from {@link #acquire(int)} that
+	 * is not going to be returned, leaving it to the garbage collector.
+	 */
+	void discard() {
+		this.activeCount.decrementAndGet();
+	}
+
+	/**
+	 * Return the number of buffers currently acquired from this pool.
+	 */
+	int getActiveCount() {
+		return this.activeCount.get();
+	}
+
+	/**
+	 * Return the number of buffers currently available for reuse, both in
+	 * per-thread caches and in shared arenas.
+	 */
+	int getIdleCount() {
+		return this.idleCount.get();
+	}
+
+	/**
+	 * Return the total number of buffers acquired from this pool.
+	 */
+	long getAllocationCount() {
+		return this.allocationCount.sum();
+	}
+
+	/**
+	 * Return the number of acquired buffers that were reused rather than allocated.
+	 */
+	long getPoolHitCount() {
+		return this.poolHitCount.sum();
+	}
+
+	private static int sizeClassIndex(int capacity) {
+		if (capacity <= MIN_SIZE_CLASS_CAPACITY) {
+			return 0;
+		}
+		return (Integer.SIZE - Integer.numberOfLeadingZeros(capacity - 1)) - MIN_SIZE_CLASS_SHIFT;
+	}
+
+}
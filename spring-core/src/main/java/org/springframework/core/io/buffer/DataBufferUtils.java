@@ -25,6 +25,7 @@ import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.Channel;
 import java.nio.channels.Channels;
 import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.file.OpenOption;
@@ -70,6 +71,8 @@ public abstract class DataBufferUtils {
 
 	private static final int DEFAULT_CHUNK_SIZE = 1024;
 
+	private static final int MAX_MAPPED_REGION_SIZE = 8 * 1024 * 1024;
+
 
 	//---------------------------------------------------------------------
 	// Reading
@@ -238,6 +241,43 @@ public abstract class DataBufferUtils {
 	}
 
 
+	/**
+	 * Read a region of the given file {@code Path} into a {@code Flux} of
+	 * {@code DataBuffer}s by mapping it into memory rather than copying it
+	 * through intermediate buffers. The emitted buffers
+	 * {@linkplain DataBufferFactory#wrap(ByteBuffer) wrap} read-only slices of
+	 * the mapped region, so for large files this avoids copying the content
+	 * onto the heap before it is written out. Closes the file when the flux is
+	 * terminated.
+	 * <p>Note that the content of a mapped file must not be modified or
+	 * truncated while the returned buffers are in use, and that the mapping is
+	 * only released once the buffers have been garbage collected.
+	 * @param path the path to read bytes from
+	 * @param position the position in the file to start reading from
+	 * @param count the maximum number of bytes to read, or {@code -1} to read
+	 * until the end of the file
+	 * @param bufferFactory the factory to wrap the mapped regions with
+	 * @param bufferSize the maximum size of the data buffers
+	 * @return a Flux of data buffers read from the given file
+	 * @since 6.2
+	 */
+	public static Flux<DataBuffer> readMapped(
+			Path path, long position, long count, DataBufferFactory bufferFactory, int bufferSize) {
+
+		Assert.notNull(path, "Path must not be null");
+		Assert.notNull(bufferFactory, "DataBufferFactory must not be null");
+		Assert.isTrue(position >= 0, "'position' must be >= 0");
+		Assert.isTrue(count >= -1, "'count' must be >= -1");
+		Assert.isTrue(bufferSize > 0, "'bufferSize' must be > 0");
+
+		return Flux.using(() -> FileChannel.open(path, StandardOpenOption.READ),
+				channel -> Flux.generate(new MappedFileChannelGenerator(channel, position, count, bufferFactory, bufferSize)),
+				DataBufferUtils::closeChannel);
+
+		// No doOnDiscard as operators used do not cache
+	}
+
+
 	//---------------------------------------------------------------------
 	// Writing
 	//---------------------------------------------------------------------
@@ -706,7 +746,7 @@ public abstract class DataBufferUtils {
 	 */
 	public static Matcher matcher(byte[]... delimiters) {
 		Assert.isTrue(delimiters.length > 0, "Delimiters must not be empty");
-		return (delimiters.length == 1 ? createMatcher(delimiters[0]) : new CompositeMatcher(delimiters));
+		return (delimiters.length == 1 ? createMatcher(delimiters[0]) : new AhoCorasickMatcher(delimiters));
 	}
 
 	private static NestedMatcher createMatcher(byte[] delimiter) {
@@ -749,68 +789,136 @@ public abstract class DataBufferUtils {
 
 
 	/**
-	 * Matcher that supports searching for multiple delimiters.
+	 * Matcher that supports searching for multiple delimiters in a single pass,
+	 * based on the Aho-Corasick algorithm. The delimiters are compiled into a
+	 * deterministic automaton over the distinct bytes that occur in them, so
+	 * that every byte of input is examined exactly once, and partial matches
+	 * carry over from one data buffer to the next.
+	 * <p>Where several delimiters end at the same position, the longest of
+	 * them is matched.
+	 * @see <a href="https://en.wikipedia.org/wiki/Aho%E2%80%93Corasick_algorithm">Aho-Corasick algorithm</a>
 	 */
-	private static class CompositeMatcher implements Matcher {
+	private static class AhoCorasickMatcher implements Matcher {
 
 		private static final byte[] NO_DELIMITER = new byte[0];
 
 
-		private final NestedMatcher[] matchers;
+		/** Byte value to input class index, with 0 for bytes not in any delimiter. */
+		private final int[] byteClasses = new int[256];
 
-		byte[] longestDelimiter = NO_DELIMITER;
+		private final int classCount;
 
-		CompositeMatcher(byte[][] delimiters) {
-			this.matchers = initMatchers(delimiters);
-		}
+		/** Transitions, indexed by {@code state * classCount + class}. */
+		private final int[] transitions;
+
+		/** The longest delimiter ending in each state, if any. */
+		private final byte[][] outputs;
 
-		private static NestedMatcher[] initMatchers(byte[][] delimiters) {
-			NestedMatcher[] matchers = new NestedMatcher[delimiters.length];
-			for (int i = 0; i < delimiters.length; i++) {
-				matchers[i] = createMatcher(delimiters[i]);
+		private int state;
+
+		private byte[] matchedDelimiter = NO_DELIMITER;
+
+		AhoCorasickMatcher(byte[][] delimiters) {
+			int classCount = 1;
+			int maxStates = 1;
+			for (byte[] delimiter : delimiters) {
+				Assert.isTrue(delimiter.length > 0, "Delimiter must not be empty");
+				for (byte b : delimiter) {
+					if (this.byteClasses[b & 0xFF] == 0) {
+						this.byteClasses[b & 0xFF] = classCount++;
+					}
+				}
+				maxStates += delimiter.length;
+			}
+			this.classCount = classCount;
+
+			// Build the trie of delimiters, with 0 (the root) denoting a missing transition
+			int[] transitions = new int[maxStates * classCount];
+			byte[][] outputs = new byte[maxStates][];
+			int stateCount = 1;
+			for (byte[] delimiter : delimiters) {
+				int current = 0;
+				for (byte b : delimiter) {
+					int index = current * classCount + this.byteClasses[b & 0xFF];
+					if (transitions[index] == 0) {
+						transitions[index] = stateCount++;
+					}
+					current = transitions[index];
+				}
+				if (outputs[current] == null) {
+					outputs[current] = delimiter;
+				}
+			}
+
+			// Breadth-first computation of failure links, turning the trie into an automaton
+			int[] failures = new int[stateCount];
+			int[] queue = new int[stateCount];
+			int head = 0;
+			int tail = 0;
+			for (int c = 0; c < classCount; c++) {
+				int next = transitions[c];
+				if (next != 0) {
+					queue[tail++] = next;
+				}
 			}
-			return matchers;
+			while (head < tail) {
+				int current = queue[head++];
+				if (outputs[current] == null) {
+					outputs[current] = outputs[failures[current]];
+				}
+				for (int c = 0; c < classCount; c++) {
+					int index = current * classCount + c;
+					int fallback = transitions[failures[current] * classCount + c];
+					if (transitions[index] != 0) {
+						failures[transitions[index]] = fallback;
+						queue[tail++] = transitions[index];
+					}
+					else {
+						transitions[index] = fallback;
+					}
+				}
+			}
+
+			this.transitions = transitions;
+			this.outputs = outputs;
 		}
 
 		@Override
 		public int match(DataBuffer dataBuffer) {
-			this.longestDelimiter = NO_DELIMITER;
+			this.matchedDelimiter = NO_DELIMITER;
 
+			int[] byteClasses = this.byteClasses;
+			int[] transitions = this.transitions;
+			int classCount = this.classCount;
+			int state = this.state;
 			for (int pos = dataBuffer.readPosition(); pos < dataBuffer.writePosition(); pos++) {
-				byte b = dataBuffer.getByte(pos);
-
-				for (NestedMatcher matcher : this.matchers) {
-					if (matcher.match(b) && matcher.delimiter().length > this.longestDelimiter.length) {
-						this.longestDelimiter = matcher.delimiter();
-					}
-				}
-
-				if (this.longestDelimiter != NO_DELIMITER) {
-					reset();
+				state = transitions[state * classCount + byteClasses[dataBuffer.getByte(pos) & 0xFF]];
+				byte[] output = this.outputs[state];
+				if (output != null) {
+					this.matchedDelimiter = output;
+					this.state = 0;
 					return pos;
 				}
 			}
+			this.state = state;
 			return -1;
 		}
 
 		@Override
 		public byte[] delimiter() {
-			Assert.state(this.longestDelimiter != NO_DELIMITER, "'delimiter' not set");
-			return this.longestDelimiter;
+			Assert.state(this.matchedDelimiter != NO_DELIMITER, "'delimiter' not set");
+			return this.matchedDelimiter;
 		}
 
 		@Override
 		public void reset() {
-			for (NestedMatcher matcher : this.matchers) {
-				matcher.reset();
-			}
+			this.state = 0;
 		}
 	}
 
 
 	/**
-	 * Matcher that can be nested within {@link CompositeMatcher} where multiple
-	 * matchers advance together using the same index, one byte at a time.
+	 * Matcher for a single delimiter that can also be advanced one byte at a time.
 	 */
 	private interface NestedMatcher extends Matcher {
 
@@ -971,6 +1079,64 @@ public abstract class DataBufferUtils {
 	}
 
 
+	private static class MappedFileChannelGenerator implements Consumer<SynchronousSink<DataBuffer>> {
+
+		private final FileChannel channel;
+
+		private final DataBufferFactory dataBufferFactory;
+
+		private final int bufferSize;
+
+		private final long count;
+
+		private long position;
+
+		private long end = -1;
+
+		@Nullable
+		private ByteBuffer mappedRegion;
+
+		public MappedFileChannelGenerator(FileChannel channel, long position, long count,
+				DataBufferFactory dataBufferFactory, int bufferSize) {
+
+			this.channel = channel;
+			this.position = position;
+			this.count = count;
+			this.dataBufferFactory = dataBufferFactory;
+			this.bufferSize = bufferSize;
+		}
+
+		@Override
+		public void accept(SynchronousSink<DataBuffer> sink) {
+			try {
+				if (this.end == -1) {
+					long size = this.channel.size();
+					this.end = (this.count != -1 ? Math.min(size, this.position + this.count) : size);
+				}
+				ByteBuffer region = this.mappedRegion;
+				if (region == null || !region.hasRemaining()) {
+					if (this.position >= this.end) {
+						sink.complete();
+						return;
+					}
+					long regionSize = Math.min(this.end - this.position,
+							Math.max(MAX_MAPPED_REGION_SIZE, this.bufferSize));
+					region = this.channel.map(FileChannel.MapMode.READ_ONLY, this.position, regionSize);
+					this.position += regionSize;
+					this.mappedRegion = region;
+				}
+				int length = Math.min(this.bufferSize, region.remaining());
+				ByteBuffer slice = region.slice(region.position(), length);
+				region.position(region.position() + length);
+				sink.next(this.dataBufferFactory.wrap(slice));
+			}
+			catch (IOException ex) {
+				sink.error(ex);
+			}
+		}
+	}
+
+
 	private static class ReadableByteChannelGenerator implements Consumer<SynchronousSink<DataBuffer>> {
 
 		private final ReadableByteChannel channel;
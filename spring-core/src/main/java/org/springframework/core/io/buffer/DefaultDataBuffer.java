@@ -18,7 +18,9 @@ package org.springframework.core.io.buffer;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.function.IntPredicate;
 
@@ -77,6 +79,35 @@ public class DefaultDataBuffer implements DataBuffer {
 		return new DefaultDataBuffer(dataBufferFactory, byteBuffer);
 	}
 
+	/**
+	 * Create a buffer with the given capacity, backed by the remaining space of
+	 * the given {@code ByteBuffer}, which the buffer grows into before it needs
+	 * to allocate.
+	 */
+	static DefaultDataBuffer fromEmptyByteBuffer(
+			DefaultDataBufferFactory dataBufferFactory, ByteBuffer byteBuffer, int capacity) {
+
+		DefaultDataBuffer dataBuffer = new DefaultDataBuffer(dataBufferFactory, byteBuffer);
+		Assert.isTrue(capacity <= dataBuffer.capacity, "Capacity must not exceed remaining ByteBuffer space");
+		dataBuffer.capacity = capacity;
+		return dataBuffer;
+	}
+
+	static DefaultDataBuffer fromComposite(
+			DefaultDataBufferFactory dataBufferFactory, List<DefaultDataBuffer> dataBuffers) {
+
+		List<ByteBuffer> parts = new ArrayList<>(dataBuffers.size());
+		for (DefaultDataBuffer dataBuffer : dataBuffers) {
+			if (dataBuffer instanceof CompositeDefaultDataBuffer composite && composite.parts != null) {
+				composite.readableByteBuffers().forEachRemaining(parts::add);
+			}
+			else if (dataBuffer.readableByteCount() > 0) {
+				parts.add(dataBuffer.byteBuffer.slice(dataBuffer.readPosition, dataBuffer.readableByteCount()));
+			}
+		}
+		return new CompositeDefaultDataBuffer(dataBufferFactory, parts.toArray(new ByteBuffer[0]));
+	}
+
 
 	/**
 	 * Directly exposes the native {@code ByteBuffer} that this buffer is based
@@ -193,7 +224,10 @@ public class DefaultDataBuffer implements DataBuffer {
 		int writePosition = writePosition();
 		int oldCapacity = capacity();
 
-		if (newCapacity > oldCapacity) {
+		if (newCapacity > oldCapacity && newCapacity <= this.byteBuffer.capacity()) {
+			this.capacity = newCapacity;
+		}
+		else if (newCapacity > oldCapacity) {
 			ByteBuffer oldBuffer = this.byteBuffer;
 			ByteBuffer newBuffer = allocate(newCapacity, oldBuffer.isDirect());
 			oldBuffer.position(0).limit(oldBuffer.capacity());
@@ -373,7 +407,7 @@ public class DefaultDataBuffer implements DataBuffer {
 				.slice();
 		this.writePosition = Math.max(this.writePosition, index) - index;
 		this.readPosition = Math.max(this.readPosition, index) - index;
-		this.capacity = this.byteBuffer.capacity();
+		this.capacity -= index;
 
 		return result;
 	}
@@ -539,6 +573,397 @@ public class DefaultDataBuffer implements DataBuffer {
 	}
 
 
+	/**
+	 * A {@code DefaultDataBuffer} that presents the readable bytes of several
+	 * buffers as a single buffer without copying them. Read operations are served
+	 * from the individual parts; any other operation consolidates the content into
+	 * a single native buffer first, switching to regular {@code DefaultDataBuffer}
+	 * behavior from then on.
+	 */
+	private static final class CompositeDefaultDataBuffer extends DefaultDataBuffer {
+
+		private static final ByteBuffer EMPTY_BUFFER = ByteBuffer.allocate(0);
+
+		@Nullable
+		private ByteBuffer[] parts;
+
+		private final int[] offsets;
+
+		private final int length;
+
+		private int compositeReadPosition;
+
+		CompositeDefaultDataBuffer(DefaultDataBufferFactory dataBufferFactory, ByteBuffer[] parts) {
+			super(dataBufferFactory, EMPTY_BUFFER);
+			this.parts = parts;
+			this.offsets = new int[parts.length];
+			int length = 0;
+			for (int i = 0; i < parts.length; i++) {
+				this.offsets[i] = length;
+				length += parts[i].remaining();
+			}
+			this.length = length;
+		}
+
+		/**
+		 * Copy the content into a single native buffer, if not done yet.
+		 */
+		private void consolidate() {
+			ByteBuffer[] parts = this.parts;
+			if (parts != null) {
+				ByteBuffer byteBuffer = allocate(this.length, factory().isDirect());
+				for (ByteBuffer part : parts) {
+					byteBuffer.put(part.duplicate());
+				}
+				byteBuffer.clear();
+				this.parts = null;
+				super.setNativeBuffer(byteBuffer);
+				super.writePosition(this.length);
+				super.readPosition(this.compositeReadPosition);
+			}
+		}
+
+		private int partIndex(int index) {
+			int i = Arrays.binarySearch(this.offsets, index);
+			return (i >= 0 ? i : -i - 2);
+		}
+
+		private void copyTo(ByteBuffer[] parts, int index, ByteBuffer dest, int destPos, int length) {
+			int part = partIndex(index);
+			int partPos = index - this.offsets[part];
+			while (length > 0) {
+				ByteBuffer source = parts[part];
+				int count = Math.min(length, source.remaining() - partPos);
+				dest.put(destPos, source, partPos, count);
+				destPos += count;
+				length -= count;
+				part++;
+				partPos = 0;
+			}
+		}
+
+		private void checkRange(int index, int length) {
+			if (index < 0 || length < 0 || index > this.length - length) {
+				throw new IndexOutOfBoundsException(
+						String.format("index %d and length %d must be within %d", index, length, this.length));
+			}
+		}
+
+		@Override
+		public ByteBuffer getNativeBuffer() {
+			consolidate();
+			return super.getNativeBuffer();
+		}
+
+		@Override
+		public int indexOf(IntPredicate predicate, int fromIndex) {
+			ByteBuffer[] parts = this.parts;
+			if (parts == null) {
+				return super.indexOf(predicate, fromIndex);
+			}
+			Assert.notNull(predicate, "IntPredicate must not be null");
+			if (fromIndex < 0) {
+				fromIndex = 0;
+			}
+			else if (fromIndex >= this.length) {
+				return -1;
+			}
+			for (int part = partIndex(fromIndex); part < parts.length; part++) {
+				ByteBuffer source = parts[part];
+				int offset = this.offsets[part];
+				for (int i = Math.max(fromIndex - offset, 0); i < source.remaining(); i++) {
+					if (predicate.test(source.get(i))) {
+						return offset + i;
+					}
+				}
+			}
+			return -1;
+		}
+
+		@Override
+		public int lastIndexOf(IntPredicate predicate, int fromIndex) {
+			ByteBuffer[] parts = this.parts;
+			if (parts == null) {
+				return super.lastIndexOf(predicate, fromIndex);
+			}
+			Assert.notNull(predicate, "IntPredicate must not be null");
+			int index = Math.min(fromIndex, this.length - 1);
+			if (index < 0) {
+				return -1;
+			}
+			for (int part = partIndex(index); part >= 0; part--) {
+				ByteBuffer source = parts[part];
+				int offset = this.offsets[part];
+				for (int i = Math.min(index - offset, source.remaining() - 1); i >= 0; i--) {
+					if (predicate.test(source.get(i))) {
+						return offset + i;
+					}
+				}
+			}
+			return -1;
+		}
+
+		@Override
+		public int readableByteCount() {
+			return (this.parts != null ? this.length - this.compositeReadPosition : super.readableByteCount());
+		}
+
+		@Override
+		public int writableByteCount() {
+			return (this.parts != null ? 0 : super.writableByteCount());
+		}
+
+		@Override
+		public int readPosition() {
+			return (this.parts != null ? this.compositeReadPosition : super.readPosition());
+		}
+
+		@Override
+		public DefaultDataBuffer readPosition(int readPosition) {
+			if (this.parts == null) {
+				return super.readPosition(readPosition);
+			}
+			if (readPosition < 0 || readPosition > this.length) {
+				throw new IndexOutOfBoundsException(
+						String.format("'readPosition' %d must be >= 0 and <= %d", readPosition, this.length));
+			}
+			this.compositeReadPosition = readPosition;
+			return this;
+		}
+
+		@Override
+		public int writePosition() {
+			return (this.parts != null ? this.length : super.writePosition());
+		}
+
+		@Override
+		public DefaultDataBuffer writePosition(int writePosition) {
+			consolidate();
+			return super.writePosition(writePosition);
+		}
+
+		@Override
+		public int capacity() {
+			return (this.parts != null ? this.length : super.capacity());
+		}
+
+		@Override
+		@Deprecated
+		public DataBuffer capacity(int capacity) {
+			consolidate();
+			return super.capacity(capacity);
+		}
+
+		@Override
+		public DataBuffer ensureWritable(int length) {
+			consolidate();
+			return super.ensureWritable(length);
+		}
+
+		@Override
+		public byte getByte(int index) {
+			ByteBuffer[] parts = this.parts;
+			if (parts == null) {
+				return super.getByte(index);
+			}
+			checkRange(index, 1);
+			int part = partIndex(index);
+			return parts[part].get(index - this.offsets[part]);
+		}
+
+		@Override
+		public byte read() {
+			if (this.parts == null) {
+				return super.read();
+			}
+			byte b = getByte(this.compositeReadPosition);
+			this.compositeReadPosition++;
+			return b;
+		}
+
+		@Override
+		public DefaultDataBuffer read(byte[] destination, int offset, int length) {
+			ByteBuffer[] parts = this.parts;
+			if (parts == null) {
+				return super.read(destination, offset, length);
+			}
+			Assert.notNull(destination, "Byte array must not be null");
+			checkRange(this.compositeReadPosition, length);
+			copyTo(parts, this.compositeReadPosition, ByteBuffer.wrap(destination), offset, length);
+			this.compositeReadPosition += length;
+			return this;
+		}
+
+		@Override
+		public DefaultDataBuffer write(byte b) {
+			consolidate();
+			return super.write(b);
+		}
+
+		@Override
+		public DefaultDataBuffer write(byte[] source, int offset, int length) {
+			consolidate();
+			return super.write(source, offset, length);
+		}
+
+		@Override
+		public DefaultDataBuffer write(DataBuffer... dataBuffers) {
+			consolidate();
+			return super.write(dataBuffers);
+		}
+
+		@Override
+		public DefaultDataBuffer write(ByteBuffer... buffers) {
+			consolidate();
+			return super.write(buffers);
+		}
+
+		@Override
+		@Deprecated
+		public DefaultDataBuffer slice(int index, int length) {
+			consolidate();
+			return super.slice(index, length);
+		}
+
+		@Override
+		public DefaultDataBuffer split(int index) {
+			consolidate();
+			return super.split(index);
+		}
+
+		@Override
+		@Deprecated
+		public ByteBuffer asByteBuffer() {
+			return asByteBuffer(readPosition(), readableByteCount());
+		}
+
+		@Override
+		@Deprecated
+		public ByteBuffer asByteBuffer(int index, int length) {
+			consolidate();
+			return super.asByteBuffer(index, length);
+		}
+
+		@Override
+		@Deprecated
+		public ByteBuffer toByteBuffer(int index, int length) {
+			ByteBuffer[] parts = this.parts;
+			if (parts == null) {
+				return super.toByteBuffer(index, length);
+			}
+			checkRange(index, length);
+			ByteBuffer copy = allocate(length, factory().isDirect());
+			copyTo(parts, index, copy, 0, length);
+			return copy;
+		}
+
+		@Override
+		public void toByteBuffer(int srcPos, ByteBuffer dest, int destPos, int length) {
+			ByteBuffer[] parts = this.parts;
+			if (parts == null) {
+				super.toByteBuffer(srcPos, dest, destPos, length);
+				return;
+			}
+			checkRange(srcPos, length);
+			Assert.notNull(dest, "Dest must not be null");
+			copyTo(parts, srcPos, dest.duplicate().clear(), destPos, length);
+		}
+
+		@Override
+		public DataBuffer.ByteBufferIterator readableByteBuffers() {
+			ByteBuffer[] parts = this.parts;
+			if (parts == null) {
+				return super.readableByteBuffers();
+			}
+			if (this.compositeReadPosition == this.length) {
+				return new CompositeByteBufferIterator(parts, parts.length, 0);
+			}
+			int part = partIndex(this.compositeReadPosition);
+			return new CompositeByteBufferIterator(parts, part, this.compositeReadPosition - this.offsets[part]);
+		}
+
+		@Override
+		public DataBuffer.ByteBufferIterator writableByteBuffers() {
+			consolidate();
+			return super.writableByteBuffers();
+		}
+
+		@Override
+		public String toString(int index, int length, Charset charset) {
+			ByteBuffer[] parts = this.parts;
+			if (parts == null) {
+				return super.toString(index, length, charset);
+			}
+			checkRange(index, length);
+			Assert.notNull(charset, "Charset must not be null");
+			byte[] bytes = new byte[length];
+			copyTo(parts, index, ByteBuffer.wrap(bytes), 0, length);
+			return new String(bytes, charset);
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			if (other instanceof CompositeDefaultDataBuffer that) {
+				that.consolidate();
+			}
+			consolidate();
+			return super.equals(other);
+		}
+
+		@Override
+		public int hashCode() {
+			consolidate();
+			return super.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			ByteBuffer[] parts = this.parts;
+			if (parts == null) {
+				return super.toString();
+			}
+			return String.format("DefaultDataBuffer (r: %d, w: %d, c: %d, parts: %d)",
+					this.compositeReadPosition, this.length, this.length, parts.length);
+		}
+	}
+
+
+	private static final class CompositeByteBufferIterator implements DataBuffer.ByteBufferIterator {
+
+		private final ByteBuffer[] parts;
+
+		private int index;
+
+		private int position;
+
+		CompositeByteBufferIterator(ByteBuffer[] parts, int index, int position) {
+			this.parts = parts;
+			this.index = index;
+			this.position = position;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return (this.index < this.parts.length);
+		}
+
+		@Override
+		public ByteBuffer next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			ByteBuffer part = this.parts[this.index++];
+			ByteBuffer result = part.slice(this.position, part.remaining() - this.position).asReadOnlyBuffer();
+			this.position = 0;
+			return result;
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+
 	private static final class ByteBufferIterator implements DataBuffer.ByteBufferIterator {
 
 		private final ByteBuffer buffer;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -111,11 +111,22 @@ public class DefaultDataBufferFactory implements DataBufferFactory {
 	/**
 	 * {@inheritDoc}
 	 * <p>This implementation creates a single {@link DefaultDataBuffer}
-	 * to contain the data in {@code dataBuffers}.
+	 * to contain the data in {@code dataBuffers}. As of 6.2, if all given
+	 * buffers are {@code DefaultDataBuffer} instances, the returned buffer
+	 * is a composite view of their readable bytes, reading from them without
+	 * copying, e.g. via {@link DataBuffer#asInputStream()} or
+	 * {@link DataBuffer#readableByteBuffers()}. The content is only copied
+	 * into a single native buffer for an operation that needs one, e.g. for
+	 * a write operation. The given buffers must therefore not be modified
+	 * after this call.
 	 */
 	@Override
+	@SuppressWarnings("unchecked")
 	public DefaultDataBuffer join(List<? extends DataBuffer> dataBuffers) {
 		Assert.notEmpty(dataBuffers, "DataBuffer List must not be empty");
+		if (dataBuffers.size() > 1 && dataBuffers.stream().allMatch(DefaultDataBuffer.class::isInstance)) {
+			return DefaultDataBuffer.fromComposite(this, (List<DefaultDataBuffer>) dataBuffers);
+		}
 		int capacity = dataBuffers.stream().mapToInt(DataBuffer::readableByteCount).sum();
 		DefaultDataBuffer result = allocateBuffer(capacity);
 		dataBuffers.forEach(result::write);
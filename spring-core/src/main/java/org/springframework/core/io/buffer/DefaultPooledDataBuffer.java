@@ -0,0 +1,481 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Implementation of the {@code DataBuffer} interface that is backed by memory
+ * obtained from the pool of a {@link DefaultPooledDataBufferFactory}, with
+ * reference counting that returns the memory to the pool once the buffer and
+ * all buffers {@linkplain #split(int) split} from it have been released.
+ *
+ * <p>A buffer that grows beyond the capacity of its size class moves to newly
+ * allocated, non-pooled memory; its original memory is still returned to the
+ * pool on release.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @see DefaultPooledDataBufferFactory
+ */
+public final class DefaultPooledDataBuffer implements PooledDataBuffer {
+
+	private static final Log logger = LogFactory.getLog(DefaultPooledDataBuffer.class);
+
+
+	private final DefaultPooledDataBufferFactory bufferFactory;
+
+	private final DefaultDataBuffer delegate;
+
+	@Nullable
+	private final Lease lease;
+
+	@Nullable
+	private final LeakTracker leakTracker;
+
+	private final AtomicInteger refCount;
+
+	@Nullable
+	private final DefaultPooledDataBuffer parent;
+
+
+	DefaultPooledDataBuffer(DefaultPooledDataBufferFactory bufferFactory, DefaultDataBuffer delegate,
+			@Nullable Lease lease) {
+
+		Assert.notNull(bufferFactory, "BufferFactory must not be null");
+		Assert.notNull(delegate, "Delegate must not be null");
+		this.bufferFactory = bufferFactory;
+		this.delegate = delegate;
+		this.lease = lease;
+		this.leakTracker = (bufferFactory.isLeakDetection() ? new LeakTracker(this, bufferFactory, lease) : null);
+		this.refCount = new AtomicInteger(1);
+		this.parent = null;
+	}
+
+	/**
+	 * Create a derived buffer that shares the reference count of its parent,
+	 * keeping the parent reachable for as long as the derived buffer is.
+	 */
+	private DefaultPooledDataBuffer(DefaultPooledDataBuffer parent, DefaultDataBuffer delegate) {
+		this.bufferFactory = parent.bufferFactory;
+		this.delegate = delegate;
+		this.lease = parent.lease;
+		this.leakTracker = parent.leakTracker;
+		this.refCount = parent.refCount;
+		this.parent = parent;
+	}
+
+
+	@Override
+	public boolean isAllocated() {
+		return this.refCount.get() > 0;
+	}
+
+	@Override
+	public PooledDataBuffer retain() {
+		this.refCount.updateAndGet(c -> {
+			if (c != 0) {
+				return c + 1;
+			}
+			else {
+				throw new IllegalStateException("DefaultPooledDataBuffer already released: " + this);
+			}
+		});
+		return this;
+	}
+
+	@Override
+	public PooledDataBuffer touch(Object hint) {
+		if (this.leakTracker != null) {
+			this.leakTracker.record(hint);
+		}
+		return this;
+	}
+
+	@Override
+	public boolean release() {
+		int result = this.refCount.updateAndGet(c -> {
+			if (c != 0) {
+				return c - 1;
+			}
+			else {
+				throw new IllegalStateException("DefaultPooledDataBuffer already released: " + this);
+			}
+		});
+		if (result == 0) {
+			if (this.leakTracker != null) {
+				this.leakTracker.close();
+			}
+			if (this.lease != null) {
+				this.lease.release();
+			}
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public DefaultPooledDataBufferFactory factory() {
+		return this.bufferFactory;
+	}
+
+	// delegation
+
+	@Override
+	public int indexOf(IntPredicate predicate, int fromIndex) {
+		return this.delegate.indexOf(predicate, fromIndex);
+	}
+
+	@Override
+	public int lastIndexOf(IntPredicate predicate, int fromIndex) {
+		return this.delegate.lastIndexOf(predicate, fromIndex);
+	}
+
+	@Override
+	public int readableByteCount() {
+		return this.delegate.readableByteCount();
+	}
+
+	@Override
+	public int writableByteCount() {
+		return this.delegate.writableByteCount();
+	}
+
+	@Override
+	public int capacity() {
+		return this.delegate.capacity();
+	}
+
+	@Override
+	@Deprecated
+	public DataBuffer capacity(int capacity) {
+		this.delegate.capacity(capacity);
+		return this;
+	}
+
+	@Override
+	public DataBuffer ensureWritable(int capacity) {
+		this.delegate.ensureWritable(capacity);
+		return this;
+	}
+
+	@Override
+	public int readPosition() {
+		return this.delegate.readPosition();
+	}
+
+	@Override
+	public DataBuffer readPosition(int readPosition) {
+		this.delegate.readPosition(readPosition);
+		return this;
+	}
+
+	@Override
+	public int writePosition() {
+		return this.delegate.writePosition();
+	}
+
+	@Override
+	public DataBuffer writePosition(int writePosition) {
+		this.delegate.writePosition(writePosition);
+		return this;
+	}
+
+	@Override
+	public byte getByte(int index) {
+		return this.delegate.getByte(index);
+	}
+
+	@Override
+	public byte read() {
+		return this.delegate.read();
+	}
+
+	@Override
+	public DataBuffer read(byte[] destination) {
+		this.delegate.read(destination);
+		return this;
+	}
+
+	@Override
+	public DataBuffer read(byte[] destination, int offset, int length) {
+		this.delegate.read(destination, offset, length);
+		return this;
+	}
+
+	@Override
+	public DataBuffer write(byte b) {
+		this.delegate.write(b);
+		return this;
+	}
+
+	@Override
+	public DataBuffer write(byte[] source) {
+		this.delegate.write(source);
+		return this;
+	}
+
+	@Override
+	public DataBuffer write(byte[] source, int offset, int length) {
+		this.delegate.write(source, offset, length);
+		return this;
+	}
+
+	@Override
+	public DataBuffer write(DataBuffer... buffers) {
+		this.delegate.write(buffers);
+		return this;
+	}
+
+	@Override
+	public DataBuffer write(ByteBuffer... buffers) {
+		this.delegate.write(buffers);
+		return this;
+	}
+
+	@Override
+	@Deprecated
+	public DataBuffer slice(int index, int length) {
+		DefaultDataBuffer delegateSlice = this.delegate.slice(index, length);
+		return new DefaultPooledDataBuffer(this, delegateSlice);
+	}
+
+	@Override
+	public DataBuffer split(int index) {
+		DefaultDataBuffer delegateSplit = this.delegate.split(index);
+		return new DefaultPooledDataBuffer(this.bufferFactory, delegateSplit, retainLease());
+	}
+
+	@Nullable
+	private Lease retainLease() {
+		if (this.lease != null) {
+			this.lease.retain();
+		}
+		return this.lease;
+	}
+
+	@Override
+	@Deprecated
+	public ByteBuffer asByteBuffer() {
+		return this.delegate.asByteBuffer();
+	}
+
+	@Override
+	@Deprecated
+	public ByteBuffer asByteBuffer(int index, int length) {
+		return this.delegate.asByteBuffer(index, length);
+	}
+
+	@Override
+	@Deprecated
+	public ByteBuffer toByteBuffer(int index, int length) {
+		return this.delegate.toByteBuffer(index, length);
+	}
+
+	@Override
+	public void toByteBuffer(int srcPos, ByteBuffer dest, int destPos, int length) {
+		this.delegate.toByteBuffer(srcPos, dest, destPos, length);
+	}
+
+	@Override
+	public ByteBufferIterator readableByteBuffers() {
+		ByteBufferIterator delegateIterator = this.delegate.readableByteBuffers();
+		return (this.lease != null ? new LeasedByteBufferIterator(delegateIterator, retainLease()) : delegateIterator);
+	}
+
+	@Override
+	public ByteBufferIterator writableByteBuffers() {
+		ByteBufferIterator delegateIterator = this.delegate.writableByteBuffers();
+		return (this.lease != null ? new LeasedByteBufferIterator(delegateIterator, retainLease()) : delegateIterator);
+	}
+
+	@Override
+	public String toString(int index, int length, Charset charset) {
+		return this.delegate.toString(index, length, charset);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.delegate.hashCode();
+	}
+
+	@Override
+	public boolean equals(@Nullable Object other) {
+		return (this == other || (other instanceof DefaultPooledDataBuffer that &&
+				this.delegate.equals(that.delegate)));
+	}
+
+	@Override
+	public String toString() {
+		return String.format("DefaultPooledDataBuffer (r: %d, w: %d, c: %d)",
+				readPosition(), writePosition(), capacity());
+	}
+
+
+	/**
+	 * Reference-counted lease on a {@link ByteBuffer} from a {@link ByteBufferPool},
+	 * shared between a buffer and the buffers split from it.
+	 */
+	static final class Lease {
+
+		private final ByteBufferPool pool;
+
+		private final ByteBuffer byteBuffer;
+
+		private final AtomicInteger refCount = new AtomicInteger(1);
+
+		Lease(ByteBufferPool pool, ByteBuffer byteBuffer) {
+			this.pool = pool;
+			this.byteBuffer = byteBuffer;
+		}
+
+		void retain() {
+			this.refCount.incrementAndGet();
+		}
+
+		void release() {
+			if (this.refCount.decrementAndGet() == 0) {
+				this.pool.release(this.byteBuffer);
+			}
+		}
+
+		void releaseLeaked() {
+			if (this.refCount.decrementAndGet() == 0) {
+				this.pool.discard();
+			}
+		}
+	}
+
+
+	private static final class LeasedByteBufferIterator implements ByteBufferIterator {
+
+		private final ByteBufferIterator delegate;
+
+		@Nullable
+		private Lease lease;
+
+		LeasedByteBufferIterator(ByteBufferIterator delegate, @Nullable Lease lease) {
+			this.delegate = delegate;
+			this.lease = lease;
+		}
+
+		@Override
+		public void close() {
+			this.delegate.close();
+			if (this.lease != null) {
+				this.lease.release();
+				this.lease = null;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.delegate.hasNext();
+		}
+
+		@Override
+		public ByteBuffer next() {
+			return this.delegate.next();
+		}
+	}
+
+
+	/**
+	 * Cleaner action that reports buffers that became unreachable without
+	 * having been released, along with the hints they were touched with,
+	 * and gives up their share of the pooled memory.
+	 */
+	private static final class LeakTracker implements Runnable {
+
+		private static final int MAX_HINTS = 16;
+
+		private final DefaultPooledDataBufferFactory bufferFactory;
+
+		@Nullable
+		private final Lease lease;
+
+		private final Throwable allocationSite;
+
+		private final List<String> hints = new ArrayList<>();
+
+		private final Cleaner.Cleanable cleanable;
+
+		private volatile boolean closed;
+
+		LeakTracker(DefaultPooledDataBuffer dataBuffer, DefaultPooledDataBufferFactory bufferFactory,
+				@Nullable Lease lease) {
+
+			this.bufferFactory = bufferFactory;
+			this.lease = lease;
+			this.allocationSite = new Throwable("DataBuffer allocation site");
+			this.cleanable = LeakDetection.cleaner.register(dataBuffer, this);
+		}
+
+		void record(Object hint) {
+			synchronized (this.hints) {
+				if (this.hints.size() < MAX_HINTS) {
+					this.hints.add(String.valueOf(hint));
+				}
+			}
+		}
+
+		void close() {
+			this.closed = true;
+			this.cleanable.clean();
+		}
+
+		@Override
+		public void run() {
+			if (!this.closed) {
+				this.bufferFactory.leakDetected();
+				if (this.lease != null) {
+					this.lease.releaseLeaked();
+				}
+				if (logger.isWarnEnabled()) {
+					List<String> hints;
+					synchronized (this.hints) {
+						hints = new ArrayList<>(this.hints);
+					}
+					logger.warn("DefaultPooledDataBuffer was garbage collected before being released, " +
+							"touched with hints " + hints, this.allocationSite);
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * Holder for the {@link Cleaner}, only initialized when leak detection is used.
+	 */
+	private static final class LeakDetection {
+
+		static final Cleaner cleaner = Cleaner.create();
+	}
+
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.util.Assert;
+
+/**
+ * Implementation of the {@code DataBufferFactory} interface that creates
+ * {@link DefaultPooledDataBuffer} instances backed by pooled {@link ByteBuffer
+ * ByteBuffers}, for runtimes that do not provide a buffer pool of their own
+ * (i.e. Servlet containers).
+ *
+ * <p>Buffers are taken from power-of-two size classes, kept in small per-thread
+ * caches as well as in bounded arenas shared by all threads. A pooled buffer
+ * starts out with the requested capacity and grows into the remaining memory of
+ * its size class before reallocating. Buffers larger than the
+ * {@linkplain #getMaxPooledCapacity() maximum pooled capacity} are allocated
+ * without pooling, but are still reference counted.
+ *
+ * <p>Allocated buffers must be released through {@link DataBufferUtils#release},
+ * as for any other {@link PooledDataBuffer}. With {@linkplain #setLeakDetection
+ * leak detection} enabled, buffers that are garbage collected without having
+ * been released are logged along with their {@linkplain PooledDataBuffer#touch
+ * touch hints}.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @see DefaultDataBufferFactory
+ */
+public class DefaultPooledDataBufferFactory implements DataBufferFactory {
+
+	/**
+	 * The default maximum capacity of pooled buffers.
+	 * @see #DefaultPooledDataBufferFactory(boolean, int, int)
+	 */
+	public static final int DEFAULT_MAX_POOLED_CAPACITY = 64 * 1024;
+
+	/**
+	 * The default maximum number of buffers kept in the shared arena of each size class.
+	 * @see #DefaultPooledDataBufferFactory(boolean, int, int)
+	 */
+	public static final int DEFAULT_MAX_BUFFERS_PER_SIZE_CLASS = 256;
+
+	/**
+	 * The default number of buffers per size class kept in per-thread caches.
+	 * @see #setThreadLocalCacheSize(int)
+	 */
+	public static final int DEFAULT_THREAD_LOCAL_CACHE_SIZE = 8;
+
+
+	private final DefaultDataBufferFactory delegate;
+
+	private final ByteBufferPool pool;
+
+	private volatile boolean leakDetection;
+
+	private final LongAdder unpooledAllocationCount = new LongAdder();
+
+	private final LongAdder leakCount = new LongAdder();
+
+
+	/**
+	 * Creates a new {@code DefaultPooledDataBufferFactory} with default settings.
+	 */
+	public DefaultPooledDataBufferFactory() {
+		this(false);
+	}
+
+	/**
+	 * Creates a new {@code DefaultPooledDataBufferFactory}, indicating whether
+	 * direct buffers should be pooled.
+	 * @param preferDirect {@code true} if direct buffers are to be preferred;
+	 * {@code false} otherwise
+	 */
+	public DefaultPooledDataBufferFactory(boolean preferDirect) {
+		this(preferDirect, DEFAULT_MAX_POOLED_CAPACITY, DEFAULT_MAX_BUFFERS_PER_SIZE_CLASS);
+	}
+
+	/**
+	 * Creates a new {@code DefaultPooledDataBufferFactory}, indicating whether
+	 * direct buffers should be pooled, and how many buffers of which capacity
+	 * are to be kept in the pool.
+	 * @param preferDirect {@code true} if direct buffers are to be preferred;
+	 * {@code false} otherwise
+	 * @param maxPooledCapacity the capacity of the largest size class, rounded
+	 * down to a power of two; larger buffers are not pooled
+	 * @param maxBuffersPerSizeClass the maximum number of buffers kept in the
+	 * shared arena of each size class
+	 */
+	public DefaultPooledDataBufferFactory(boolean preferDirect, int maxPooledCapacity, int maxBuffersPerSizeClass) {
+		this.delegate = new DefaultDataBufferFactory(preferDirect);
+		this.pool = new ByteBufferPool(preferDirect, maxPooledCapacity, maxBuffersPerSizeClass,
+				DEFAULT_THREAD_LOCAL_CACHE_SIZE);
+	}
+
+
+	/**
+	 * Set the number of buffers per size class that each thread keeps for reuse
+	 * before returning them to the shared arenas.
+	 * <p>Default is {@value #DEFAULT_THREAD_LOCAL_CACHE_SIZE}. Consider setting
+	 * this to 0 when buffers are mostly allocated and released on short-lived
+	 * threads, such as virtual threads.
+	 */
+	public void setThreadLocalCacheSize(int threadLocalCacheSize) {
+		this.pool.setThreadLocalCacheSize(threadLocalCacheSize);
+	}
+
+	/**
+	 * Return the number of buffers per size class kept in per-thread caches.
+	 */
+	public int getThreadLocalCacheSize() {
+		return this.pool.getThreadLocalCacheSize();
+	}
+
+	/**
+	 * Set whether buffers that are garbage collected without having been
+	 * released should be detected and logged at warn level.
+	 * <p>Default is {@code false}. Leak detection records the allocation site
+	 * of every buffer and is therefore meant for development and testing.
+	 * @see #getLeakCount()
+	 */
+	public void setLeakDetection(boolean leakDetection) {
+		this.leakDetection = leakDetection;
+	}
+
+	/**
+	 * Return whether leak detection is enabled.
+	 */
+	public boolean isLeakDetection() {
+		return this.leakDetection;
+	}
+
+	/**
+	 * Return the capacity of the largest size class: buffers with a larger
+	 * initial capacity are allocated without pooling.
+	 */
+	public int getMaxPooledCapacity() {
+		return this.pool.getMaxPooledCapacity();
+	}
+
+
+	@Override
+	@Deprecated
+	public DefaultPooledDataBuffer allocateBuffer() {
+		return allocateBuffer(DefaultDataBufferFactory.DEFAULT_INITIAL_CAPACITY);
+	}
+
+	@Override
+	public DefaultPooledDataBuffer allocateBuffer(int initialCapacity) {
+		Assert.isTrue(initialCapacity >= 0, "'initialCapacity' must not be negative");
+		ByteBuffer byteBuffer = this.pool.acquire(initialCapacity);
+		if (byteBuffer == null) {
+			this.unpooledAllocationCount.increment();
+			return new DefaultPooledDataBuffer(this, this.delegate.allocateBuffer(initialCapacity), null);
+		}
+		DefaultPooledDataBuffer.Lease lease = new DefaultPooledDataBuffer.Lease(this.pool, byteBuffer);
+		return new DefaultPooledDataBuffer(this,
+				DefaultDataBuffer.fromEmptyByteBuffer(this.delegate, byteBuffer, initialCapacity), lease);
+	}
+
+	@Override
+	public DefaultPooledDataBuffer wrap(ByteBuffer byteBuffer) {
+		return new DefaultPooledDataBuffer(this, this.delegate.wrap(byteBuffer), null);
+	}
+
+	@Override
+	public DefaultPooledDataBuffer wrap(byte[] bytes) {
+		return new DefaultPooledDataBuffer(this, this.delegate.wrap(bytes), null);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>This implementation allocates a single pooled buffer to contain the
+	 * data in {@code dataBuffers}, and releases the given buffers.
+	 */
+	@Override
+	public DefaultPooledDataBuffer join(List<? extends DataBuffer> dataBuffers) {
+		Assert.notEmpty(dataBuffers, "DataBuffer List must not be empty");
+		int capacity = dataBuffers.stream().mapToInt(DataBuffer::readableByteCount).sum();
+		DefaultPooledDataBuffer result = allocateBuffer(capacity);
+		dataBuffers.forEach(result::write);
+		dataBuffers.forEach(DataBufferUtils::release);
+		return result;
+	}
+
+	@Override
+	public boolean isDirect() {
+		return this.pool.isDirect();
+	}
+
+
+	// Pool metrics
+
+	/**
+	 * Return the number of pooled buffers that are currently in use,
+	 * i.e. allocated and neither fully released nor detected as leaked.
+	 */
+	public int getActiveBufferCount() {
+		return this.pool.getActiveCount();
+	}
+
+	/**
+	 * Return the number of buffers that are currently available for reuse.
+	 */
+	public int getIdleBufferCount() {
+		return this.pool.getIdleCount();
+	}
+
+	/**
+	 * Return the total number of buffers allocated from the pool.
+	 */
+	public long getPooledAllocationCount() {
+		return this.pool.getAllocationCount();
+	}
+
+	/**
+	 * Return the number of buffers allocated from the pool that reused
+	 * previously released memory.
+	 */
+	public long getPoolHitCount() {
+		return this.pool.getPoolHitCount();
+	}
+
+	/**
+	 * Return the number of buffers allocated without pooling, because their
+	 * initial capacity exceeded the {@linkplain #getMaxPooledCapacity()
+	 * maximum pooled capacity}.
+	 */
+	public long getUnpooledAllocationCount() {
+		return this.unpooledAllocationCount.sum();
+	}
+
+	/**
+	 * Return the number of buffers that were garbage collected without having
+	 * been released, if {@linkplain #setLeakDetection leak detection} is enabled.
+	 */
+	public long getLeakCount() {
+		return this.leakCount.sum();
+	}
+
+	void leakDetected() {
+		this.leakCount.increment();
+	}
+
+
+	@Override
+	public String toString() {
+		return "DefaultPooledDataBufferFactory (preferDirect=" + isDirect() +
+				", active=" + getActiveBufferCount() + ", idle=" + getIdleBufferCount() + ")";
+	}
+
+}
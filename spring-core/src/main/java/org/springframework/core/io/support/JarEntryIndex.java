@@ -0,0 +1,176 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.support;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Persistent index of jar file entries, stored as one file per jar in a
+ * given directory, for {@link PathMatchingResourcePatternResolver}.
+ *
+ * <p>Each index file records the absolute path, size and last-modified
+ * timestamp of its jar file, and is ignored once any of these do not match
+ * the jar file anymore. Entry names are stored in sorted order, with each
+ * name sharing a common prefix with its predecessor stored as a suffix only.
+ *
+ * <p>Index files are written to a temporary file first and then moved into
+ * place, so that several processes may share the same index directory.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ */
+final class JarEntryIndex {
+
+	private static final int FORMAT_VERSION = 1;
+
+	private static final String INDEX_FILE_SUFFIX = ".idx";
+
+	private static final Log logger = LogFactory.getLog(JarEntryIndex.class);
+
+
+	private final Path directory;
+
+
+	JarEntryIndex(Path directory) {
+		this.directory = directory;
+	}
+
+
+	Path getDirectory() {
+		return this.directory;
+	}
+
+	/**
+	 * Read the indexed entries of the given jar file.
+	 * @param jarFile the jar file
+	 * @return the sorted entry names, or {@code null} if there is no valid
+	 * index for the current state of the jar file
+	 */
+	@Nullable
+	NavigableSet<String> getEntries(File jarFile) {
+		Path indexFile = getIndexFile(jarFile);
+		if (!Files.isRegularFile(indexFile)) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+			if (in.readInt() != FORMAT_VERSION || !in.readUTF().equals(jarFile.getAbsolutePath()) ||
+					in.readLong() != jarFile.length() || in.readLong() != jarFile.lastModified()) {
+				return null;
+			}
+			int count = in.readInt();
+			NavigableSet<String> entries = new TreeSet<>();
+			String previous = "";
+			for (int i = 0; i < count; i++) {
+				int prefixLength = in.readInt();
+				String entry = previous.substring(0, prefixLength) + in.readUTF();
+				entries.add(entry);
+				previous = entry;
+			}
+			return entries;
+		}
+		catch (IOException | RuntimeException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Ignoring unreadable jar entry index [" + indexFile + "]: " + ex);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Store the given entries of the given jar file, replacing any previous
+	 * index for the jar file. Failures are logged but not propagated.
+	 * @param jarFile the jar file
+	 * @param entries the sorted entry names
+	 */
+	void storeEntries(File jarFile, NavigableSet<String> entries) {
+		Path indexFile = getIndexFile(jarFile);
+		Path tempFile = null;
+		try {
+			Files.createDirectories(this.directory);
+			tempFile = Files.createTempFile(this.directory, indexFile.getFileName().toString(), ".tmp");
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+				out.writeInt(FORMAT_VERSION);
+				out.writeUTF(jarFile.getAbsolutePath());
+				out.writeLong(jarFile.length());
+				out.writeLong(jarFile.lastModified());
+				out.writeInt(entries.size());
+				String previous = "";
+				for (String entry : entries) {
+					int prefixLength = commonPrefixLength(previous, entry);
+					out.writeInt(prefixLength);
+					out.writeUTF(entry.substring(prefixLength));
+					previous = entry;
+				}
+			}
+			try {
+				Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException ex) {
+				Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		catch (IOException | RuntimeException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to write jar entry index [" + indexFile + "]: " + ex);
+			}
+			if (tempFile != null) {
+				try {
+					Files.deleteIfExists(tempFile);
+				}
+				catch (IOException ignored) {
+				}
+			}
+		}
+	}
+
+	private Path getIndexFile(File jarFile) {
+		String key = DigestUtils.md5DigestAsHex(jarFile.getAbsolutePath().getBytes(StandardCharsets.UTF_8));
+		return this.directory.resolve(key + INDEX_FILE_SUFFIX);
+	}
+
+	private static int commonPrefixLength(String previous, String entry) {
+		int max = Math.min(previous.length(), entry.length());
+		int i = 0;
+		while (i < max && previous.charAt(i) == entry.charAt(i)) {
+			i++;
+		}
+		// Do not split a surrogate pair between prefix and suffix
+		if (i > 0 && Character.isHighSurrogate(entry.charAt(i - 1))) {
+			i--;
+		}
+		return i;
+	}
+
+}
@@ -36,9 +36,11 @@ import java.nio.file.FileSystemNotFoundException;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.NavigableSet;
 import java.util.Objects;
@@ -56,6 +58,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.core.NativeDetector;
+import org.springframework.core.SpringProperties;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
@@ -153,6 +156,15 @@ import org.springframework.util.StringUtils;
  * hierarchy, and then off each resource the same {@code PathMatcher} resolution
  * strategy described above is used for the wildcard sub pattern.
  *
+ * <h3>Startup Performance</h3>
+ *
+ * <p>As of 6.2, the entries of jar files can be kept in a persistent index
+ * through {@link #setJarEntryIndexDirectory} or the
+ * {@value #JAR_ENTRY_INDEX_DIRECTORY_PROPERTY_NAME} property, so that subsequent
+ * runs only need to read jar files that changed in the meantime. In addition,
+ * the root locations for a pattern can be searched concurrently through
+ * {@link #setParallelScanning}.
+ *
  * <h3>Other Notes</h3>
  *
  * <p>As of Spring Framework 6.0, if {@link #getResources(String)} is invoked with
@@ -208,6 +220,15 @@ import org.springframework.util.StringUtils;
  */
 public class PathMatchingResourcePatternResolver implements ResourcePatternResolver {
 
+	/**
+	 * System property that specifies a directory for a persistent index of jar
+	 * file entries, as an alternative to {@link #setJarEntryIndexDirectory}.
+	 * <p>May also be specified in a {@code spring.properties} file on the classpath.
+	 * @since 6.2
+	 * @see org.springframework.core.SpringProperties
+	 */
+	public static final String JAR_ENTRY_INDEX_DIRECTORY_PROPERTY_NAME = "spring.jar-entry-index.directory";
+
 	private static final Log logger = LogFactory.getLog(PathMatchingResourcePatternResolver.class);
 
 	/**
@@ -254,6 +275,11 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 
 	private final Map<String, NavigableSet<String>> jarEntryCache = new ConcurrentHashMap<>();
 
+	@Nullable
+	private JarEntryIndex jarEntryIndex = initJarEntryIndex();
+
+	private boolean parallelScanning = false;
+
 
 	/**
 	 * Create a {@code PathMatchingResourcePatternResolver} with a
@@ -321,6 +347,59 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 		return this.pathMatcher;
 	}
 
+	/**
+	 * Specify a directory for a persistent index of the entries of searched
+	 * jar files, or {@code null} to not keep such an index.
+	 * <p>Each jar file is indexed with its size and last-modified timestamp,
+	 * and only read again once these change. This is particularly useful for
+	 * repeated startups of an application with many jar files on the classpath.
+	 * <p>Default is none, unless specified through the
+	 * {@value #JAR_ENTRY_INDEX_DIRECTORY_PROPERTY_NAME} property.
+	 * @since 6.2
+	 * @see #doFindPathMatchingJarResources
+	 */
+	public void setJarEntryIndexDirectory(@Nullable Path jarEntryIndexDirectory) {
+		this.jarEntryIndex = (jarEntryIndexDirectory != null ? new JarEntryIndex(jarEntryIndexDirectory) : null);
+	}
+
+	/**
+	 * Return the directory for a persistent index of jar file entries, if any.
+	 * @since 6.2
+	 */
+	@Nullable
+	public Path getJarEntryIndexDirectory() {
+		return (this.jarEntryIndex != null ? this.jarEntryIndex.getDirectory() : null);
+	}
+
+	/**
+	 * Specify whether the root locations for a pattern, e.g. the jar files and
+	 * directories for a {@code classpath*:} pattern, should be searched
+	 * concurrently, in the common {@link java.util.concurrent.ForkJoinPool}.
+	 * <p>Default is {@code false}. Switch this to {@code true} for a large number
+	 * of classpath roots, as long as any overridden template methods such as
+	 * {@link #doFindPathMatchingJarResources} and {@link #doFindPathMatchingFileResources}
+	 * are safe to be called concurrently. The order of the resulting resources
+	 * remains the same in any case.
+	 * @since 6.2
+	 */
+	public void setParallelScanning(boolean parallelScanning) {
+		this.parallelScanning = parallelScanning;
+	}
+
+	/**
+	 * Return whether the root locations for a pattern are searched concurrently.
+	 * @since 6.2
+	 */
+	public boolean isParallelScanning() {
+		return this.parallelScanning;
+	}
+
+	@Nullable
+	private static JarEntryIndex initJarEntryIndex() {
+		String directory = SpringProperties.getProperty(JAR_ENTRY_INDEX_DIRECTORY_PROPERTY_NAME);
+		return (StringUtils.hasText(directory) ? new JarEntryIndex(Path.of(directory.trim())) : null);
+	}
+
 
 	@Override
 	public Resource getResource(String location) {
@@ -665,29 +744,30 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 			}
 		}
 
+		String relativeRootPath = (actualRootPath != null && actualRootPath.length() < rootDirPath.length() ?
+				rootDirPath.substring(actualRootPath.length()) : null);
 		Set<Resource> result = new LinkedHashSet<>(64);
-		for (Resource rootDirResource : rootDirResources) {
-			if (actualRootPath != null && actualRootPath.length() < rootDirPath.length()) {
-				// Create sub-resource for requested sub-location from cached common root directory.
-				rootDirResource = rootDirResource.createRelative(rootDirPath.substring(actualRootPath.length()));
-			}
-			rootDirResource = resolveRootDirResource(rootDirResource);
-			URL rootDirUrl = rootDirResource.getURL();
-			if (equinoxResolveMethod != null && rootDirUrl.getProtocol().startsWith("bundle")) {
-				URL resolvedUrl = (URL) ReflectionUtils.invokeMethod(equinoxResolveMethod, null, rootDirUrl);
-				if (resolvedUrl != null) {
-					rootDirUrl = resolvedUrl;
-				}
-				rootDirResource = new UrlResource(rootDirUrl);
-			}
-			if (rootDirUrl.getProtocol().startsWith(ResourceUtils.URL_PROTOCOL_VFS)) {
-				result.addAll(VfsResourceMatchingDelegate.findMatchingResources(rootDirUrl, subPattern, getPathMatcher()));
+		if (this.parallelScanning && rootDirResources.length > 1) {
+			// Search root locations concurrently, collecting their results in the original order.
+			List<Set<Resource>> rootResults;
+			try {
+				rootResults = Arrays.stream(rootDirResources).parallel().map(rootDirResource -> {
+					try {
+						return findPathMatchingResources(rootDirResource, relativeRootPath, subPattern);
+					}
+					catch (IOException ex) {
+						throw new UncheckedIOException(ex);
+					}
+				}).toList();
 			}
-			else if (ResourceUtils.isJarURL(rootDirUrl) || isJarResource(rootDirResource)) {
-				result.addAll(doFindPathMatchingJarResources(rootDirResource, rootDirUrl, subPattern));
+			catch (UncheckedIOException ex) {
+				throw ex.getCause();
 			}
-			else {
-				result.addAll(doFindPathMatchingFileResources(rootDirResource, subPattern));
+			rootResults.forEach(result::addAll);
+		}
+		else {
+			for (Resource rootDirResource : rootDirResources) {
+				result.addAll(findPathMatchingResources(rootDirResource, relativeRootPath, subPattern));
 			}
 		}
 		if (logger.isTraceEnabled()) {
@@ -696,6 +776,33 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 		return result.toArray(new Resource[0]);
 	}
 
+	private Set<Resource> findPathMatchingResources(
+			Resource rootDirResource, @Nullable String relativeRootPath, String subPattern) throws IOException {
+
+		if (relativeRootPath != null) {
+			// Create sub-resource for requested sub-location from cached common root directory.
+			rootDirResource = rootDirResource.createRelative(relativeRootPath);
+		}
+		rootDirResource = resolveRootDirResource(rootDirResource);
+		URL rootDirUrl = rootDirResource.getURL();
+		if (equinoxResolveMethod != null && rootDirUrl.getProtocol().startsWith("bundle")) {
+			URL resolvedUrl = (URL) ReflectionUtils.invokeMethod(equinoxResolveMethod, null, rootDirUrl);
+			if (resolvedUrl != null) {
+				rootDirUrl = resolvedUrl;
+			}
+			rootDirResource = new UrlResource(rootDirUrl);
+		}
+		if (rootDirUrl.getProtocol().startsWith(ResourceUtils.URL_PROTOCOL_VFS)) {
+			return VfsResourceMatchingDelegate.findMatchingResources(rootDirUrl, subPattern, getPathMatcher());
+		}
+		else if (ResourceUtils.isJarURL(rootDirUrl) || isJarResource(rootDirResource)) {
+			return doFindPathMatchingJarResources(rootDirResource, rootDirUrl, subPattern);
+		}
+		else {
+			return doFindPathMatchingFileResources(rootDirResource, subPattern);
+		}
+	}
+
 	/**
 	 * Determine the root directory for the given location.
 	 * <p>Used for determining the starting point for file matching, resolving the
@@ -761,6 +868,8 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 	/**
 	 * Find all resources in jar files that match the given location pattern
 	 * via the Ant-style {@link #getPathMatcher() PathMatcher}.
+	 * <p>The entries of local jar files are taken from the persistent
+	 * {@linkplain #setJarEntryIndexDirectory jar entry index} if available.
 	 * @param rootDirResource the root directory as Resource
 	 * @param rootDirUrl the pre-resolved root directory URL
 	 * @param subPattern the sub pattern to match (below the root directory)
@@ -785,6 +894,15 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 			jarFileUrl = urlFile.substring(0, separatorIndex);
 			rootEntryPath = urlFile.substring(separatorIndex + 2);  // both separators are 2 chars
 			NavigableSet<String> entryCache = this.jarEntryCache.get(jarFileUrl);
+			if (entryCache == null && this.jarEntryIndex != null) {
+				File indexedJarFile = getLocalJarFile(jarFileUrl);
+				if (indexedJarFile != null) {
+					entryCache = this.jarEntryIndex.getEntries(indexedJarFile);
+					if (entryCache != null) {
+						this.jarEntryCache.put(jarFileUrl, entryCache);
+					}
+				}
+			}
 			if (entryCache != null) {
 				Set<Resource> result = new LinkedHashSet<>(64);
 				// Search sorted entries from first entry with rootEntryPath prefix
@@ -862,6 +980,12 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 			}
 			// Cache jar entries in TreeSet for efficient searching on re-encounter.
 			this.jarEntryCache.put(jarFileUrl, entryCache);
+			if (this.jarEntryIndex != null) {
+				File indexedJarFile = getLocalJarFile(jarFileUrl);
+				if (indexedJarFile != null) {
+					this.jarEntryIndex.storeEntries(indexedJarFile, entryCache);
+				}
+			}
 			return result;
 		}
 		finally {
@@ -871,6 +995,24 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 		}
 	}
 
+	/**
+	 * Resolve the given jar file URL into a local file, if possible.
+	 */
+	@Nullable
+	private static File getLocalJarFile(String jarFileUrl) {
+		if (!jarFileUrl.startsWith(ResourceUtils.FILE_URL_PREFIX)) {
+			return null;
+		}
+		File file;
+		try {
+			file = new File(ResourceUtils.toURI(jarFileUrl).getSchemeSpecificPart());
+		}
+		catch (URISyntaxException ex) {
+			file = new File(jarFileUrl.substring(ResourceUtils.FILE_URL_PREFIX.length()));
+		}
+		return (file.isFile() ? file : null);
+	}
+
 	/**
 	 * Resolve the given jar file URL into a JarFile object.
 	 */
@@ -0,0 +1,381 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.task;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link AsyncTaskExecutor} decorator which limits the number of concurrently
+ * running tasks per key, for example per downstream service, before handing
+ * them to a target executor such as a {@link VirtualThreadTaskExecutor}.
+ *
+ * <p>Each key gets its own {@link Semaphore} with the configured concurrency
+ * limit. A submitting thread waits for a permit before the task is handed to
+ * the target executor, in order of arrival by default, up to a configurable
+ * number of waiting submitters and a configurable waiting time per key.
+ * Waiting happens through {@code java.util.concurrent} locking only, parking
+ * a virtual thread without pinning its carrier thread, in contrast to the
+ * monitor-based {@link org.springframework.util.ConcurrencyThrottleSupport}
+ * in {@link SimpleAsyncTaskExecutor}.
+ *
+ * <p>Tasks passed in through the common {@link #execute(Runnable)} and
+ * {@code submit} variants, e.g. for {@code @Async} methods or asynchronous
+ * MVC request handling, are assigned to the key determined by the
+ * {@link #setKeyResolver key resolver}; by default, all such tasks share
+ * a single key. Tasks for specific keys can be passed in through
+ * {@link #execute(Object, Runnable)} and {@link #submitCompletable(Object, Callable)}.
+ *
+ * <p>Live statistics per key are available through {@link #getStatistics(Object)},
+ * e.g. for exposure as metrics.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @see #setConcurrencyLimit
+ * @see #setConcurrencyLimits
+ * @see #setQueueCapacity
+ * @see #setQueueTimeout
+ */
+public class ConcurrencyLimitingTaskExecutor implements AsyncTaskExecutor {
+
+	/**
+	 * Key for tasks that do not resolve to a specific key.
+	 * @see #setKeyResolver
+	 */
+	public static final Object DEFAULT_KEY = ConcurrencyLimitingTaskExecutor.class.getName() + ".DEFAULT_KEY";
+
+	/**
+	 * Permit any number of concurrent invocations: that is, don't throttle concurrency.
+	 */
+	public static final int UNBOUNDED_CONCURRENCY = -1;
+
+
+	private final TaskExecutor targetExecutor;
+
+	private int concurrencyLimit = UNBOUNDED_CONCURRENCY;
+
+	private final Map<Object, Integer> concurrencyLimits = new ConcurrentHashMap<>();
+
+	private int queueCapacity = Integer.MAX_VALUE;
+
+	private long queueTimeout = -1;
+
+	private boolean fair = true;
+
+	private Function<Runnable, Object> keyResolver = task -> DEFAULT_KEY;
+
+	private final Map<Object, Partition> partitions = new ConcurrentHashMap<>();
+
+
+	/**
+	 * Create a new {@code ConcurrencyLimitingTaskExecutor} for the given target executor.
+	 * @param targetExecutor the executor to hand tasks to once they got a permit,
+	 * typically starting a new (virtual) thread per task
+	 */
+	public ConcurrencyLimitingTaskExecutor(TaskExecutor targetExecutor) {
+		Assert.notNull(targetExecutor, "Target executor must not be null");
+		this.targetExecutor = targetExecutor;
+	}
+
+
+	/**
+	 * Return the target executor that tasks are handed to.
+	 */
+	public final TaskExecutor getTargetExecutor() {
+		return this.targetExecutor;
+	}
+
+	/**
+	 * Set the maximum number of concurrently running tasks per key,
+	 * for any key without a specific limit.
+	 * <p>Default is {@link #UNBOUNDED_CONCURRENCY}, i.e. no limit.
+	 * @see #setConcurrencyLimits
+	 */
+	public void setConcurrencyLimit(int concurrencyLimit) {
+		Assert.isTrue(concurrencyLimit > 0 || concurrencyLimit == UNBOUNDED_CONCURRENCY,
+				"Concurrency limit must be positive or UNBOUNDED_CONCURRENCY");
+		this.concurrencyLimit = concurrencyLimit;
+	}
+
+	/**
+	 * Return the maximum number of concurrently running tasks per key,
+	 * for any key without a specific limit.
+	 */
+	public int getConcurrencyLimit() {
+		return this.concurrencyLimit;
+	}
+
+	/**
+	 * Set specific concurrency limits for the given keys, overriding the
+	 * default {@link #setConcurrencyLimit concurrency limit} for those keys.
+	 * <p>Limits need to be configured before any task has been executed
+	 * for the corresponding keys.
+	 */
+	public void setConcurrencyLimits(Map<?, Integer> concurrencyLimits) {
+		concurrencyLimits.forEach((key, limit) -> {
+			Assert.isTrue(limit > 0 || limit == UNBOUNDED_CONCURRENCY,
+					"Concurrency limit must be positive or UNBOUNDED_CONCURRENCY");
+			this.concurrencyLimits.put(key, limit);
+		});
+	}
+
+	/**
+	 * Set the maximum number of submitters waiting for a permit per key,
+	 * beyond which tasks are rejected right away.
+	 * <p>Default is unbounded. A value of 0 rejects tasks right away once
+	 * the concurrency limit for their key has been reached.
+	 */
+	public void setQueueCapacity(int queueCapacity) {
+		Assert.isTrue(queueCapacity >= 0, "Queue capacity must not be negative");
+		this.queueCapacity = queueCapacity;
+	}
+
+	/**
+	 * Set the maximum time in milliseconds to wait for a permit,
+	 * after which the task gets rejected.
+	 * <p>Default is -1, i.e. waiting indefinitely.
+	 */
+	public void setQueueTimeout(long queueTimeout) {
+		this.queueTimeout = queueTimeout;
+	}
+
+	/**
+	 * Set whether permits are granted in order of arrival.
+	 * <p>Default is "true". Switch this to "false" for higher throughput
+	 * at the expense of potential starvation of individual submitters.
+	 * @see Semaphore#Semaphore(int, boolean)
+	 */
+	public void setFair(boolean fair) {
+		this.fair = fair;
+	}
+
+	/**
+	 * Set the strategy for determining the key of a task passed in through
+	 * {@link #execute(Runnable)} or the common {@code submit} variants.
+	 * <p>By default, all such tasks are assigned to {@link #DEFAULT_KEY}.
+	 */
+	public void setKeyResolver(Function<Runnable, Object> keyResolver) {
+		Assert.notNull(keyResolver, "Key resolver must not be null");
+		this.keyResolver = keyResolver;
+	}
+
+
+	@Override
+	public void execute(Runnable task) {
+		Assert.notNull(task, "Runnable must not be null");
+		Object key = this.keyResolver.apply(task);
+		execute((key != null ? key : DEFAULT_KEY), task);
+	}
+
+	/**
+	 * Execute the given task within the concurrency limit for the given key,
+	 * waiting for a permit if necessary.
+	 * @param key the key to apply the concurrency limit for
+	 * @param task the task to execute
+	 * @throws TaskRejectedException if the queue capacity for the given key
+	 * has been exceeded or no permit has been obtained within the queue timeout
+	 */
+	public void execute(Object key, Runnable task) {
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(task, "Runnable must not be null");
+		Partition partition = this.partitions.computeIfAbsent(key, this::createPartition);
+		if (partition.semaphore == null) {
+			this.targetExecutor.execute(task);
+			return;
+		}
+		partition.acquire(key);
+		// Released once only, even if a synchronous target executor rethrows a task failure
+		AtomicBoolean permitHeld = new AtomicBoolean(true);
+		try {
+			this.targetExecutor.execute(() -> {
+				try {
+					task.run();
+				}
+				finally {
+					partition.release(permitHeld);
+				}
+			});
+		}
+		catch (RuntimeException | Error ex) {
+			partition.release(permitHeld);
+			throw ex;
+		}
+	}
+
+	/**
+	 * Submit the given task for execution within the concurrency limit for
+	 * the given key, waiting for a permit if necessary.
+	 * @param key the key to apply the concurrency limit for
+	 * @param task the task to execute
+	 * @return a CompletableFuture representing pending completion of the task
+	 * @throws TaskRejectedException if the queue capacity for the given key
+	 * has been exceeded or no permit has been obtained within the queue timeout
+	 */
+	public <T> CompletableFuture<T> submitCompletable(Object key, Callable<T> task) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		execute(key, () -> {
+			try {
+				future.complete(task.call());
+			}
+			catch (Throwable ex) {
+				future.completeExceptionally(ex);
+			}
+		});
+		return future;
+	}
+
+	/**
+	 * Return current statistics for the given key.
+	 * @param key the key to introspect
+	 * @return the statistics, or {@code null} if no task has been executed
+	 * for the given key yet
+	 */
+	@Nullable
+	public ConcurrencyStatistics getStatistics(Object key) {
+		Partition partition = this.partitions.get(key);
+		return (partition != null ? partition.getStatistics() : null);
+	}
+
+	/**
+	 * Return current statistics for all keys that tasks have been executed for.
+	 */
+	public Map<Object, ConcurrencyStatistics> getStatistics() {
+		Map<Object, ConcurrencyStatistics> statistics = new ConcurrentHashMap<>();
+		this.partitions.forEach((key, partition) -> statistics.put(key, partition.getStatistics()));
+		return statistics;
+	}
+
+	private Partition createPartition(Object key) {
+		int limit = this.concurrencyLimits.getOrDefault(key, this.concurrencyLimit);
+		return new Partition(limit, (limit != UNBOUNDED_CONCURRENCY ? new Semaphore(limit, this.fair) : null),
+				this.queueCapacity, this.queueTimeout);
+	}
+
+
+	/**
+	 * Statistics for a given key.
+	 * @param concurrencyLimit the concurrency limit for the key
+	 * @param inFlight the number of tasks currently holding a permit
+	 * @param queued the number of submitters currently waiting for a permit
+	 * @param acquiredCount the total number of permits granted
+	 * @param rejectedCount the total number of tasks rejected
+	 * @param totalWaitNanos the total time in nanoseconds that submitters
+	 * waited for a permit, including rejected submitters
+	 */
+	public record ConcurrencyStatistics(int concurrencyLimit, int inFlight, int queued,
+			long acquiredCount, long rejectedCount, long totalWaitNanos) {
+	}
+
+
+	/**
+	 * Concurrency limit state for a specific key.
+	 */
+	private static final class Partition {
+
+		private final int concurrencyLimit;
+
+		@Nullable
+		private final Semaphore semaphore;
+
+		private final int queueCapacity;
+
+		private final long queueTimeout;
+
+		private final AtomicInteger queued = new AtomicInteger();
+
+		private final LongAdder acquiredCount = new LongAdder();
+
+		private final LongAdder rejectedCount = new LongAdder();
+
+		private final LongAdder totalWaitNanos = new LongAdder();
+
+		Partition(int concurrencyLimit, @Nullable Semaphore semaphore, int queueCapacity, long queueTimeout) {
+			this.concurrencyLimit = concurrencyLimit;
+			this.semaphore = semaphore;
+			this.queueCapacity = queueCapacity;
+			this.queueTimeout = queueTimeout;
+		}
+
+		void acquire(Object key) {
+			Semaphore semaphore = this.semaphore;
+			Assert.state(semaphore != null, "No concurrency limit");
+			try {
+				// Timed variant with zero timeout, respecting fairness (in contrast to plain tryAcquire)
+				if (semaphore.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+					this.acquiredCount.increment();
+					return;
+				}
+				if (this.queued.incrementAndGet() > this.queueCapacity) {
+					this.queued.decrementAndGet();
+					this.rejectedCount.increment();
+					throw new TaskRejectedException("Concurrency limit of " + this.concurrencyLimit +
+							" reached for key [" + key + "] with " + this.queueCapacity + " waiting tasks");
+				}
+				long startTime = System.nanoTime();
+				boolean acquired;
+				try {
+					if (this.queueTimeout < 0) {
+						semaphore.acquire();
+						acquired = true;
+					}
+					else {
+						acquired = semaphore.tryAcquire(this.queueTimeout, TimeUnit.MILLISECONDS);
+					}
+				}
+				finally {
+					this.queued.decrementAndGet();
+					this.totalWaitNanos.add(System.nanoTime() - startTime);
+				}
+				if (!acquired) {
+					this.rejectedCount.increment();
+					throw new TaskRejectedException("Concurrency limit of " + this.concurrencyLimit +
+							" reached for key [" + key + "]: no permit within " + this.queueTimeout + " ms");
+				}
+				this.acquiredCount.increment();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				this.rejectedCount.increment();
+				throw new TaskRejectedException("Interrupted while waiting for a permit for key [" + key + "]", ex);
+			}
+		}
+
+		void release(AtomicBoolean permitHeld) {
+			if (permitHeld.compareAndSet(true, false) && this.semaphore != null) {
+				this.semaphore.release();
+			}
+		}
+
+		ConcurrencyStatistics getStatistics() {
+			int inFlight = (this.semaphore != null ? this.concurrencyLimit - this.semaphore.availablePermits() : 0);
+			return new ConcurrencyStatistics(this.concurrencyLimit, inFlight, this.queued.get(),
+					this.acquiredCount.sum(), this.rejectedCount.sum(), this.totalWaitNanos.sum());
+		}
+	}
+
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * File-based store for class metadata records, as produced by
+ * {@link RecordingClassVisitor}, keyed by class file URL.
+ *
+ * <p>The store file is read into memory on first access; records are sliced
+ * from its content without further copying. The file is not kept open or
+ * mapped, so that it can be replaced on {@link #write()} on any platform.
+ * Each record carries the last-modified
+ * timestamp, content length and checksum (if known) of its class file and is
+ * only returned for a class file in the same state. Records that have not been
+ * accessed since the store was loaded are dropped when writing the store file,
+ * keeping it to the class files that are still in use.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @see PersistentMetadataReaderFactory
+ */
+final class ClassMetadataStore {
+
+	private static final int MAGIC = 0x53434D44;
+
+	private static final int FORMAT_VERSION = 2;
+
+	private static final Log logger = LogFactory.getLog(ClassMetadataStore.class);
+
+
+	private final Path file;
+
+	@Nullable
+	private volatile Map<String, Entry> entries;
+
+	private final Set<String> accessedKeys = ConcurrentHashMap.newKeySet();
+
+	private volatile boolean modified;
+
+
+	ClassMetadataStore(Path file) {
+		this.file = file;
+	}
+
+
+	Path getFile() {
+		return this.file;
+	}
+
+	/**
+	 * Return the record for the given class file, if available.
+	 * @param key the URL of the class file
+	 * @param lastModified the current last-modified timestamp of the class file
+	 * @param contentLength the current content length of the class file
+	 * @param checksum the current checksum of the class file, or -1 if unknown
+	 * @return the record, or {@code null} if none stored for the current
+	 * state of the class file
+	 */
+	@Nullable
+	ByteBuffer getRecord(String key, long lastModified, long contentLength, long checksum) {
+		Entry entry = getEntries().get(key);
+		if (entry == null || entry.lastModified != lastModified || entry.contentLength != contentLength ||
+				entry.checksum != checksum) {
+			return null;
+		}
+		this.accessedKeys.add(key);
+		return entry.record.duplicate();
+	}
+
+	/**
+	 * Add the given record for the given class file, replacing any previous one.
+	 * @param key the URL of the class file
+	 * @param lastModified the current last-modified timestamp of the class file
+	 * @param contentLength the current content length of the class file
+	 * @param checksum the current checksum of the class file, or -1 if unknown
+	 * @param record the record
+	 */
+	void putRecord(String key, long lastModified, long contentLength, long checksum, byte[] record) {
+		getEntries().put(key, new Entry(lastModified, contentLength, checksum, ByteBuffer.wrap(record)));
+		this.accessedKeys.add(key);
+		this.modified = true;
+	}
+
+	/**
+	 * Return whether records have been added since the store was last loaded
+	 * or written.
+	 */
+	boolean isModified() {
+		return this.modified;
+	}
+
+	/**
+	 * Write all accessed records to the store file, if modified. The file is written to
+	 * a temporary file first and then moved into place, so that concurrent
+	 * readers see either the previous or the new state of the store.
+	 * @throws IOException in case of I/O failure
+	 */
+	synchronized void write() throws IOException {
+		if (!this.modified) {
+			return;
+		}
+		this.modified = false;
+		Map<String, Entry> entries = new LinkedHashMap<>();
+		getEntries().forEach((key, entry) -> {
+			if (this.accessedKeys.contains(key)) {
+				entries.put(key, entry);
+			}
+		});
+		Path directory = this.file.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		Path tempFile = Files.createTempFile(directory, this.file.getFileName().toString(), ".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT_VERSION);
+				out.writeInt(entries.size());
+				for (Map.Entry<String, Entry> mapEntry : entries.entrySet()) {
+					byte[] key = mapEntry.getKey().getBytes(StandardCharsets.UTF_8);
+					Entry entry = mapEntry.getValue();
+					out.writeInt(key.length);
+					out.write(key);
+					out.writeLong(entry.lastModified);
+					out.writeLong(entry.contentLength);
+					out.writeLong(entry.checksum);
+					ByteBuffer record = entry.record.duplicate();
+					out.writeInt(record.remaining());
+					if (record.hasArray()) {
+						out.write(record.array(), record.arrayOffset() + record.position(), record.remaining());
+					}
+					else {
+						byte[] bytes = new byte[record.remaining()];
+						record.get(bytes);
+						out.write(bytes);
+					}
+				}
+			}
+			try {
+				Files.move(tempFile, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException ex) {
+				Files.move(tempFile, this.file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		catch (IOException | RuntimeException ex) {
+			this.modified = true;
+			Files.deleteIfExists(tempFile);
+			throw ex;
+		}
+	}
+
+	private Map<String, Entry> getEntries() {
+		Map<String, Entry> entries = this.entries;
+		if (entries == null) {
+			synchronized (this) {
+				entries = this.entries;
+				if (entries == null) {
+					entries = load();
+					this.entries = entries;
+				}
+			}
+		}
+		return entries;
+	}
+
+	private Map<String, Entry> load() {
+		Map<String, Entry> entries = new ConcurrentHashMap<>();
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(this.file));
+			if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Ignoring class metadata store [" + this.file + "] with unsupported format");
+				}
+				return entries;
+			}
+			int count = buffer.getInt();
+			for (int i = 0; i < count; i++) {
+				int keyLength = buffer.getInt();
+				String key = StandardCharsets.UTF_8.decode(buffer.slice(buffer.position(), keyLength)).toString();
+				buffer.position(buffer.position() + keyLength);
+				long lastModified = buffer.getLong();
+				long contentLength = buffer.getLong();
+				long checksum = buffer.getLong();
+				int recordLength = buffer.getInt();
+				ByteBuffer record = buffer.slice(buffer.position(), recordLength);
+				buffer.position(buffer.position() + recordLength);
+				entries.put(key, new Entry(lastModified, contentLength, checksum, record));
+			}
+		}
+		catch (NoSuchFileException ex) {
+			// No store written yet
+		}
+		catch (IOException | RuntimeException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Ignoring unreadable class metadata store [" + this.file + "]: " + ex);
+			}
+			entries.clear();
+		}
+		return entries;
+	}
+
+
+	private record Entry(long lastModified, long contentLength, long checksum, ByteBuffer record) {
+	}
+
+}
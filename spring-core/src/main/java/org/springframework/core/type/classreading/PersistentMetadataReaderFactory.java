@@ -0,0 +1,205 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ResourceUtils;
+
+/**
+ * Extension of {@link CachingMetadataReaderFactory} which persists the class
+ * metadata it reads in a store file, for reuse across restarts.
+ *
+ * <p>On an in-memory cache miss, the store is consulted first: if it holds a
+ * record for a class file with the same last-modified timestamp and content
+ * length (and for a jar entry, the same CRC-32 checksum, since jars from
+ * reproducible builds carry fixed timestamps), the metadata is rebuilt from
+ * that record without parsing the class file. Otherwise, the class file is
+ * parsed through ASM as usual, with the relevant parts recorded for the store
+ * along the way. Records for class files not read through this factory are
+ * dropped from the store when writing it.
+ *
+ * <p>Only class files with a {@code file:} or {@code jar:} URL are stored.
+ * The store file is read on first access and written on {@link #flush()}
+ * as well as on {@link #clearCache()}, i.e. after configuration class processing
+ * in a typical application context.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ */
+public class PersistentMetadataReaderFactory extends CachingMetadataReaderFactory {
+
+	private static final Log logger = LogFactory.getLog(PersistentMetadataReaderFactory.class);
+
+	private final ClassMetadataStore store;
+
+
+	/**
+	 * Create a new PersistentMetadataReaderFactory for the default class loader,
+	 * using a local resource cache.
+	 * @param storeFile the file to persist class metadata in
+	 */
+	public PersistentMetadataReaderFactory(Path storeFile) {
+		super();
+		this.store = createStore(storeFile);
+	}
+
+	/**
+	 * Create a new PersistentMetadataReaderFactory for the given {@link ClassLoader},
+	 * using a local resource cache.
+	 * @param storeFile the file to persist class metadata in
+	 * @param classLoader the ClassLoader to use
+	 */
+	public PersistentMetadataReaderFactory(Path storeFile, @Nullable ClassLoader classLoader) {
+		super(classLoader);
+		this.store = createStore(storeFile);
+	}
+
+	/**
+	 * Create a new PersistentMetadataReaderFactory for the given {@link ResourceLoader},
+	 * using a shared resource cache if supported or a local resource cache otherwise.
+	 * @param storeFile the file to persist class metadata in
+	 * @param resourceLoader the Spring ResourceLoader to use
+	 * (also determines the ClassLoader to use)
+	 */
+	public PersistentMetadataReaderFactory(Path storeFile, @Nullable ResourceLoader resourceLoader) {
+		super(resourceLoader);
+		this.store = createStore(storeFile);
+	}
+
+	private static ClassMetadataStore createStore(Path storeFile) {
+		Assert.notNull(storeFile, "Store file must not be null");
+		return new ClassMetadataStore(storeFile);
+	}
+
+
+	/**
+	 * Return the file that class metadata is persisted in.
+	 */
+	public final Path getStoreFile() {
+		return this.store.getFile();
+	}
+
+	@Override
+	protected MetadataReader createMetadataReader(Resource resource) throws IOException {
+		URL url = getStoreUrl(resource);
+		if (url == null) {
+			return super.createMetadataReader(resource);
+		}
+		String key = url.toString();
+		long lastModified = resource.lastModified();
+		long contentLength = resource.contentLength();
+		long checksum = getChecksum(url);
+		ClassLoader classLoader = getResourceLoader().getClassLoader();
+
+		ByteBuffer record = this.store.getRecord(key, lastModified, contentLength, checksum);
+		if (record != null) {
+			SimpleAnnotationMetadataReadingVisitor visitor = new SimpleAnnotationMetadataReadingVisitor(classLoader);
+			try {
+				RecordingClassVisitor.replay(record, visitor);
+				return new SimpleMetadataReader(resource, visitor.getMetadata());
+			}
+			catch (IllegalArgumentException | IllegalStateException ex) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Ignoring stored class metadata for " + resource + ": " + ex);
+				}
+			}
+		}
+
+		SimpleAnnotationMetadataReadingVisitor visitor = new SimpleAnnotationMetadataReadingVisitor(classLoader);
+		RecordingClassVisitor recorder = new RecordingClassVisitor(visitor);
+		SimpleMetadataReader.accept(resource, recorder);
+		this.store.putRecord(key, lastModified, contentLength, checksum, recorder.getRecord());
+		return new SimpleMetadataReader(resource, visitor.getMetadata());
+	}
+
+	@Nullable
+	private static URL getStoreUrl(Resource resource) {
+		try {
+			URL url = resource.getURL();
+			if (ResourceUtils.isFileURL(url) || ResourceUtils.isJarURL(url)) {
+				return url;
+			}
+		}
+		catch (IOException ex) {
+			// Not resolvable to a URL -> not stored
+		}
+		return null;
+	}
+
+	/**
+	 * Determine the CRC-32 checksum of the given jar entry, as recorded in the
+	 * jar's central directory, or -1 for a file in the file system.
+	 */
+	private static long getChecksum(URL url) throws IOException {
+		if (ResourceUtils.isJarURL(url) && url.openConnection() instanceof JarURLConnection jarCon) {
+			ResourceUtils.useCachesIfNecessary(jarCon);
+			try {
+				JarEntry jarEntry = jarCon.getJarEntry();
+				if (jarEntry != null) {
+					return jarEntry.getCrc();
+				}
+			}
+			finally {
+				if (!jarCon.getUseCaches()) {
+					jarCon.getJarFile().close();
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Write the class metadata read since the store file has been loaded
+	 * to the store file, if any.
+	 * @throws IOException in case of I/O failure
+	 */
+	public void flush() throws IOException {
+		this.store.write();
+	}
+
+	/**
+	 * Write any pending class metadata to the store file, logging failures,
+	 * and then clear the MetadataReader cache.
+	 * @see #flush()
+	 */
+	@Override
+	public void clearCache() {
+		try {
+			flush();
+		}
+		catch (IOException ex) {
+			if (logger.isWarnEnabled()) {
+				logger.warn("Failed to write class metadata store [" + getStoreFile() + "]: " + ex);
+			}
+		}
+		super.clearCache();
+	}
+
+}
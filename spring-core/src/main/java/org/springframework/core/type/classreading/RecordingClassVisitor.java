@@ -0,0 +1,566 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.asm.AnnotationVisitor;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.SpringAsmInfo;
+import org.springframework.asm.Type;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link ClassVisitor} that records the class, annotation and method events
+ * relevant for {@link SimpleAnnotationMetadataReadingVisitor} into a compact
+ * binary record while passing them on to a delegate visitor.
+ *
+ * <p>A record can be {@linkplain #replay replayed} into another visitor later
+ * on, producing the same metadata without parsing the class file again.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @see PersistentMetadataReaderFactory
+ */
+final class RecordingClassVisitor extends ClassVisitor {
+
+	private static final byte END = 0;
+
+	private static final byte CLASS = 1;
+
+	private static final byte OUTER_CLASS = 2;
+
+	private static final byte INNER_CLASS = 3;
+
+	private static final byte ANNOTATION = 4;
+
+	private static final byte METHOD = 5;
+
+	private static final byte VALUE = 6;
+
+	private static final byte ENUM = 7;
+
+	private static final byte ARRAY = 8;
+
+	private static final byte NULL_STRING = -1;
+
+
+	private final ByteArrayOutputStream record = new ByteArrayOutputStream(256);
+
+	private final DataOutputStream out = new DataOutputStream(this.record);
+
+
+	RecordingClassVisitor(ClassVisitor delegate) {
+		super(SpringAsmInfo.ASM_VERSION, delegate);
+	}
+
+
+	@Override
+	public void visit(int version, int access, String name, @Nullable String signature,
+			@Nullable String superName, @Nullable String[] interfaces) {
+
+		writeByte(CLASS);
+		writeInt(access);
+		writeString(name);
+		writeString(superName);
+		writeInt(interfaces != null ? interfaces.length : 0);
+		if (interfaces != null) {
+			for (String element : interfaces) {
+				writeString(element);
+			}
+		}
+		super.visit(version, access, name, signature, superName, interfaces);
+	}
+
+	@Override
+	public void visitOuterClass(String owner, @Nullable String name, @Nullable String descriptor) {
+		writeByte(OUTER_CLASS);
+		writeString(owner);
+		writeString(name);
+		writeString(descriptor);
+		super.visitOuterClass(owner, name, descriptor);
+	}
+
+	@Override
+	public void visitInnerClass(String name, @Nullable String outerName, @Nullable String innerName, int access) {
+		writeByte(INNER_CLASS);
+		writeString(name);
+		writeString(outerName);
+		writeString(innerName);
+		writeInt(access);
+		super.visitInnerClass(name, outerName, innerName, access);
+	}
+
+	@Override
+	@Nullable
+	public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+		AnnotationVisitor delegate = super.visitAnnotation(descriptor, visible);
+		if (!visible) {
+			// Invisible annotations are never exposed as metadata
+			return delegate;
+		}
+		writeByte(ANNOTATION);
+		writeString(descriptor);
+		return new RecordingAnnotationVisitor(delegate);
+	}
+
+	@Override
+	@Nullable
+	public MethodVisitor visitMethod(int access, String name, String descriptor,
+			@Nullable String signature, @Nullable String[] exceptions) {
+
+		MethodVisitor delegate = super.visitMethod(access, name, descriptor, signature, exceptions);
+		if (delegate == null) {
+			return null;
+		}
+		writeByte(METHOD);
+		writeInt(access);
+		writeString(name);
+		writeString(descriptor);
+		return new RecordingMethodVisitor(delegate);
+	}
+
+	@Override
+	public void visitEnd() {
+		writeByte(END);
+		super.visitEnd();
+	}
+
+	/**
+	 * Return the record of all events visited so far.
+	 */
+	byte[] getRecord() {
+		return this.record.toByteArray();
+	}
+
+
+	private void writeByte(int value) {
+		try {
+			this.out.writeByte(value);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private void writeInt(int value) {
+		try {
+			this.out.writeInt(value);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private void writeString(@Nullable String value) {
+		try {
+			if (value == null) {
+				this.out.writeInt(NULL_STRING);
+			}
+			else {
+				byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+				this.out.writeInt(bytes.length);
+				this.out.write(bytes);
+			}
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private void writeValue(Object value) {
+		try {
+			if (value instanceof String string) {
+				this.out.writeByte('s');
+				writeString(string);
+			}
+			else if (value instanceof Type type) {
+				this.out.writeByte('c');
+				writeString(type.getDescriptor());
+			}
+			else if (value instanceof Boolean bool) {
+				this.out.writeByte('Z');
+				this.out.writeBoolean(bool);
+			}
+			else if (value instanceof Byte number) {
+				this.out.writeByte('B');
+				this.out.writeByte(number);
+			}
+			else if (value instanceof Character character) {
+				this.out.writeByte('C');
+				this.out.writeChar(character);
+			}
+			else if (value instanceof Short number) {
+				this.out.writeByte('S');
+				this.out.writeShort(number);
+			}
+			else if (value instanceof Integer number) {
+				this.out.writeByte('I');
+				this.out.writeInt(number);
+			}
+			else if (value instanceof Long number) {
+				this.out.writeByte('J');
+				this.out.writeLong(number);
+			}
+			else if (value instanceof Float number) {
+				this.out.writeByte('F');
+				this.out.writeFloat(number);
+			}
+			else if (value instanceof Double number) {
+				this.out.writeByte('D');
+				this.out.writeDouble(number);
+			}
+			else if (value instanceof boolean[] array) {
+				this.out.writeByte('z');
+				this.out.writeInt(array.length);
+				for (boolean element : array) {
+					this.out.writeBoolean(element);
+				}
+			}
+			else if (value instanceof byte[] array) {
+				this.out.writeByte('b');
+				this.out.writeInt(array.length);
+				this.out.write(array);
+			}
+			else if (value instanceof char[] array) {
+				this.out.writeByte('h');
+				this.out.writeInt(array.length);
+				for (char element : array) {
+					this.out.writeChar(element);
+				}
+			}
+			else if (value instanceof short[] array) {
+				this.out.writeByte('t');
+				this.out.writeInt(array.length);
+				for (short element : array) {
+					this.out.writeShort(element);
+				}
+			}
+			else if (value instanceof int[] array) {
+				this.out.writeByte('i');
+				this.out.writeInt(array.length);
+				for (int element : array) {
+					this.out.writeInt(element);
+				}
+			}
+			else if (value instanceof long[] array) {
+				this.out.writeByte('j');
+				this.out.writeInt(array.length);
+				for (long element : array) {
+					this.out.writeLong(element);
+				}
+			}
+			else if (value instanceof float[] array) {
+				this.out.writeByte('f');
+				this.out.writeInt(array.length);
+				for (float element : array) {
+					this.out.writeFloat(element);
+				}
+			}
+			else if (value instanceof double[] array) {
+				this.out.writeByte('d');
+				this.out.writeInt(array.length);
+				for (double element : array) {
+					this.out.writeDouble(element);
+				}
+			}
+			else {
+				throw new IllegalArgumentException("Unsupported annotation value type: " + value.getClass().getName());
+			}
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+
+	/**
+	 * Replay the given record into the given visitor.
+	 * @param record the record, as returned from {@link #getRecord()}
+	 * @param visitor the visitor to pass the recorded events to
+	 * @throws IllegalArgumentException if the record is malformed
+	 */
+	static void replay(ByteBuffer record, ClassVisitor visitor) {
+		try {
+			replayClass(record.duplicate(), visitor);
+		}
+		catch (RuntimeException ex) {
+			if (ex instanceof IllegalArgumentException) {
+				throw ex;
+			}
+			throw new IllegalArgumentException("Malformed class metadata record", ex);
+		}
+	}
+
+	private static void replayClass(ByteBuffer in, ClassVisitor visitor) {
+		byte event;
+		while ((event = in.get()) != END) {
+			switch (event) {
+				case CLASS -> {
+					int access = in.getInt();
+					String name = requireString(in);
+					String superName = readString(in);
+					String[] interfaces = new String[in.getInt()];
+					for (int i = 0; i < interfaces.length; i++) {
+						interfaces[i] = requireString(in);
+					}
+					visitor.visit(0, access, name, null, superName, interfaces);
+				}
+				case OUTER_CLASS -> visitor.visitOuterClass(requireString(in), readString(in), readString(in));
+				case INNER_CLASS -> visitor.visitInnerClass(requireString(in), readString(in), readString(in), in.getInt());
+				case ANNOTATION -> replayAnnotation(in, visitor.visitAnnotation(requireString(in), true));
+				case METHOD -> {
+					int access = in.getInt();
+					MethodVisitor methodVisitor = visitor.visitMethod(access, requireString(in), requireString(in), null, null);
+					while ((event = in.get()) != END) {
+						if (event != ANNOTATION) {
+							throw new IllegalArgumentException("Unexpected method event: " + event);
+						}
+						String descriptor = requireString(in);
+						replayAnnotation(in, (methodVisitor != null ? methodVisitor.visitAnnotation(descriptor, true) : null));
+					}
+					if (methodVisitor != null) {
+						methodVisitor.visitEnd();
+					}
+				}
+				default -> throw new IllegalArgumentException("Unexpected class event: " + event);
+			}
+		}
+		visitor.visitEnd();
+	}
+
+	private static void replayAnnotation(ByteBuffer in, @Nullable AnnotationVisitor visitor) {
+		byte event;
+		while ((event = in.get()) != END) {
+			String name = readString(in);
+			switch (event) {
+				case VALUE -> {
+					Object value = readValue(in);
+					if (visitor != null) {
+						visitor.visit(name, value);
+					}
+				}
+				case ENUM -> {
+					String descriptor = requireString(in);
+					String value = requireString(in);
+					if (visitor != null) {
+						visitor.visitEnum(name, descriptor, value);
+					}
+				}
+				case ANNOTATION -> {
+					String descriptor = requireString(in);
+					replayAnnotation(in, (visitor != null ? visitor.visitAnnotation(name, descriptor) : null));
+				}
+				case ARRAY -> replayAnnotation(in, (visitor != null ? visitor.visitArray(name) : null));
+				default -> throw new IllegalArgumentException("Unexpected annotation event: " + event);
+			}
+		}
+		if (visitor != null) {
+			visitor.visitEnd();
+		}
+	}
+
+	@Nullable
+	private static String readString(ByteBuffer in) {
+		int length = in.getInt();
+		if (length == NULL_STRING) {
+			return null;
+		}
+		String value = StandardCharsets.UTF_8.decode(in.slice(in.position(), length)).toString();
+		in.position(in.position() + length);
+		return value;
+	}
+
+	private static String requireString(ByteBuffer in) {
+		String value = readString(in);
+		if (value == null) {
+			throw new IllegalArgumentException("Unexpected null String in class metadata record");
+		}
+		return value;
+	}
+
+	private static Object readValue(ByteBuffer in) {
+		byte type = in.get();
+		switch (type) {
+			case 's' -> {
+				return requireString(in);
+			}
+			case 'c' -> {
+				return Type.getType(requireString(in));
+			}
+			case 'Z' -> {
+				return (in.get() != 0);
+			}
+			case 'B' -> {
+				return in.get();
+			}
+			case 'C' -> {
+				return in.getChar();
+			}
+			case 'S' -> {
+				return in.getShort();
+			}
+			case 'I' -> {
+				return in.getInt();
+			}
+			case 'J' -> {
+				return in.getLong();
+			}
+			case 'F' -> {
+				return in.getFloat();
+			}
+			case 'D' -> {
+				return in.getDouble();
+			}
+			case 'z' -> {
+				boolean[] array = new boolean[in.getInt()];
+				for (int i = 0; i < array.length; i++) {
+					array[i] = (in.get() != 0);
+				}
+				return array;
+			}
+			case 'b' -> {
+				byte[] array = new byte[in.getInt()];
+				in.get(array);
+				return array;
+			}
+			case 'h' -> {
+				char[] array = new char[in.getInt()];
+				in.asCharBuffer().get(array);
+				in.position(in.position() + array.length * Character.BYTES);
+				return array;
+			}
+			case 't' -> {
+				short[] array = new short[in.getInt()];
+				in.asShortBuffer().get(array);
+				in.position(in.position() + array.length * Short.BYTES);
+				return array;
+			}
+			case 'i' -> {
+				int[] array = new int[in.getInt()];
+				in.asIntBuffer().get(array);
+				in.position(in.position() + array.length * Integer.BYTES);
+				return array;
+			}
+			case 'j' -> {
+				long[] array = new long[in.getInt()];
+				in.asLongBuffer().get(array);
+				in.position(in.position() + array.length * Long.BYTES);
+				return array;
+			}
+			case 'f' -> {
+				float[] array = new float[in.getInt()];
+				in.asFloatBuffer().get(array);
+				in.position(in.position() + array.length * Float.BYTES);
+				return array;
+			}
+			case 'd' -> {
+				double[] array = new double[in.getInt()];
+				in.asDoubleBuffer().get(array);
+				in.position(in.position() + array.length * Double.BYTES);
+				return array;
+			}
+			default -> throw new IllegalArgumentException("Unexpected annotation value type: " + type);
+		}
+	}
+
+
+	/**
+	 * {@link MethodVisitor} recording the annotations of a method.
+	 */
+	private final class RecordingMethodVisitor extends MethodVisitor {
+
+		RecordingMethodVisitor(MethodVisitor delegate) {
+			super(SpringAsmInfo.ASM_VERSION, delegate);
+		}
+
+		@Override
+		@Nullable
+		public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+			AnnotationVisitor delegate = super.visitAnnotation(descriptor, visible);
+			if (!visible) {
+				return delegate;
+			}
+			writeByte(ANNOTATION);
+			writeString(descriptor);
+			return new RecordingAnnotationVisitor(delegate);
+		}
+
+		@Override
+		public void visitEnd() {
+			writeByte(END);
+			super.visitEnd();
+		}
+	}
+
+
+	/**
+	 * {@link AnnotationVisitor} recording annotation attributes, including
+	 * nested annotations and arrays, whether or not the delegate is interested.
+	 */
+	private final class RecordingAnnotationVisitor extends AnnotationVisitor {
+
+		RecordingAnnotationVisitor(@Nullable AnnotationVisitor delegate) {
+			super(SpringAsmInfo.ASM_VERSION, delegate);
+		}
+
+		@Override
+		public void visit(@Nullable String name, Object value) {
+			writeByte(VALUE);
+			writeString(name);
+			writeValue(value);
+			super.visit(name, value);
+		}
+
+		@Override
+		public void visitEnum(@Nullable String name, String descriptor, String value) {
+			writeByte(ENUM);
+			writeString(name);
+			writeString(descriptor);
+			writeString(value);
+			super.visitEnum(name, descriptor, value);
+		}
+
+		@Override
+		public AnnotationVisitor visitAnnotation(@Nullable String name, String descriptor) {
+			writeByte(ANNOTATION);
+			writeString(name);
+			writeString(descriptor);
+			return new RecordingAnnotationVisitor(super.visitAnnotation(name, descriptor));
+		}
+
+		@Override
+		public AnnotationVisitor visitArray(@Nullable String name) {
+			writeByte(ARRAY);
+			writeString(name);
+			return new RecordingAnnotationVisitor(super.visitArray(name));
+		}
+
+		@Override
+		public void visitEnd() {
+			writeByte(END);
+			super.visitEnd();
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,12 +19,14 @@ package org.springframework.core.type.classreading;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.springframework.asm.Opcodes;
 import org.springframework.core.annotation.MergedAnnotations;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.core.type.MethodMetadata;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
@@ -54,7 +56,11 @@ final class SimpleAnnotationMetadata implements AnnotationMetadata {
 
 	private final Set<String> memberClassNames;
 
-	private final Set<MethodMetadata> declaredMethods;
+	@Nullable
+	private volatile Set<MethodMetadata> declaredMethods;
+
+	@Nullable
+	private Supplier<Set<MethodMetadata>> declaredMethodsResolver;
 
 	private final MergedAnnotations mergedAnnotations;
 
@@ -77,6 +83,22 @@ final class SimpleAnnotationMetadata implements AnnotationMetadata {
 		this.mergedAnnotations = mergedAnnotations;
 	}
 
+	SimpleAnnotationMetadata(String className, int access, @Nullable String enclosingClassName,
+			@Nullable String superClassName, boolean independentInnerClass, Set<String> interfaceNames,
+			Set<String> memberClassNames, Supplier<Set<MethodMetadata>> declaredMethodsResolver,
+			MergedAnnotations mergedAnnotations) {
+
+		this.className = className;
+		this.access = access;
+		this.enclosingClassName = enclosingClassName;
+		this.superClassName = superClassName;
+		this.independentInnerClass = independentInnerClass;
+		this.interfaceNames = interfaceNames;
+		this.memberClassNames = memberClassNames;
+		this.declaredMethodsResolver = declaredMethodsResolver;
+		this.mergedAnnotations = mergedAnnotations;
+	}
+
 	@Override
 	public String getClassName() {
 		return this.className;
@@ -148,7 +170,7 @@ final class SimpleAnnotationMetadata implements AnnotationMetadata {
 	@Override
 	public Set<MethodMetadata> getAnnotatedMethods(String annotationName) {
 		Set<MethodMetadata> result = new LinkedHashSet<>(4);
-		for (MethodMetadata annotatedMethod : this.declaredMethods) {
+		for (MethodMetadata annotatedMethod : obtainDeclaredMethods()) {
 			if (annotatedMethod.isAnnotated(annotationName)) {
 				result.add(annotatedMethod);
 			}
@@ -158,7 +180,25 @@ final class SimpleAnnotationMetadata implements AnnotationMetadata {
 
 	@Override
 	public Set<MethodMetadata> getDeclaredMethods() {
-		return Collections.unmodifiableSet(this.declaredMethods);
+		return Collections.unmodifiableSet(obtainDeclaredMethods());
+	}
+
+	private Set<MethodMetadata> obtainDeclaredMethods() {
+		Set<MethodMetadata> declaredMethods = this.declaredMethods;
+		if (declaredMethods == null) {
+			synchronized (this) {
+				declaredMethods = this.declaredMethods;
+				if (declaredMethods == null) {
+					Supplier<Set<MethodMetadata>> resolver = this.declaredMethodsResolver;
+					Assert.state(resolver != null, "No declared methods resolver");
+					declaredMethods = resolver.get();
+					this.declaredMethods = declaredMethods;
+					// Release the resolver along with its resource reference
+					this.declaredMethodsResolver = null;
+				}
+			}
+		}
+		return declaredMethods;
 	}
 
 
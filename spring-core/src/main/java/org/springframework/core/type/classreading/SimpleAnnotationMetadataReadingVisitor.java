@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package org.springframework.core.type.classreading;
 
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.springframework.asm.AnnotationVisitor;
 import org.springframework.asm.ClassVisitor;
@@ -63,6 +64,9 @@ final class SimpleAnnotationMetadataReadingVisitor extends ClassVisitor {
 
 	private final Set<MethodMetadata> declaredMethods = new LinkedHashSet<>(4);
 
+	@Nullable
+	private final Supplier<Set<MethodMetadata>> declaredMethodsResolver;
+
 	@Nullable
 	private SimpleAnnotationMetadata metadata;
 
@@ -73,6 +77,21 @@ final class SimpleAnnotationMetadataReadingVisitor extends ClassVisitor {
 	SimpleAnnotationMetadataReadingVisitor(@Nullable ClassLoader classLoader) {
 		super(SpringAsmInfo.ASM_VERSION);
 		this.classLoader = classLoader;
+		this.declaredMethodsResolver = null;
+	}
+
+	/**
+	 * Create a visitor for the class header and class-level annotations only,
+	 * skipping all methods. The declared methods will be obtained from the
+	 * given resolver on first access to method metadata instead.
+	 * @since 6.2
+	 */
+	SimpleAnnotationMetadataReadingVisitor(@Nullable ClassLoader classLoader,
+			Supplier<Set<MethodMetadata>> declaredMethodsResolver) {
+
+		super(SpringAsmInfo.ASM_VERSION);
+		this.classLoader = classLoader;
+		this.declaredMethodsResolver = declaredMethodsResolver;
 	}
 
 
@@ -123,7 +142,8 @@ final class SimpleAnnotationMetadataReadingVisitor extends ClassVisitor {
 			int access, String name, String descriptor, String signature, String[] exceptions) {
 
 		// Skip bridge methods and constructors - we're only interested in original user methods.
-		if (isBridge(access) || name.equals("<init>")) {
+		// Skip all methods if to be resolved lazily, not even decoding their annotations.
+		if (this.declaredMethodsResolver != null || isBridge(access) || name.equals("<init>")) {
 			return null;
 		}
 		return new SimpleMethodMetadataReadingVisitor(this.classLoader, this.className,
@@ -133,9 +153,16 @@ final class SimpleAnnotationMetadataReadingVisitor extends ClassVisitor {
 	@Override
 	public void visitEnd() {
 		MergedAnnotations annotations = MergedAnnotations.of(this.annotations);
-		this.metadata = new SimpleAnnotationMetadata(this.className, this.access,
-				this.enclosingClassName, this.superClassName, this.independentInnerClass,
-				this.interfaceNames, this.memberClassNames, this.declaredMethods, annotations);
+		if (this.declaredMethodsResolver != null) {
+			this.metadata = new SimpleAnnotationMetadata(this.className, this.access,
+					this.enclosingClassName, this.superClassName, this.independentInnerClass,
+					this.interfaceNames, this.memberClassNames, this.declaredMethodsResolver, annotations);
+		}
+		else {
+			this.metadata = new SimpleAnnotationMetadata(this.className, this.access,
+					this.enclosingClassName, this.superClassName, this.independentInnerClass,
+					this.interfaceNames, this.memberClassNames, this.declaredMethods, annotations);
+		}
 	}
 
 	public SimpleAnnotationMetadata getMetadata() {
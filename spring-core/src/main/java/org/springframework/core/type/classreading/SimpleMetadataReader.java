@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,20 +18,34 @@ package org.springframework.core.type.classreading;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Set;
 
 import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
 import org.springframework.core.io.Resource;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.core.type.ClassMetadata;
+import org.springframework.core.type.MethodMetadata;
 import org.springframework.lang.Nullable;
 
 /**
  * {@link MetadataReader} implementation based on an ASM
  * {@link org.springframework.asm.ClassReader}.
  *
+ * <p>As of 6.2, the class file may optionally be parsed in two phases: the
+ * class header and class-level annotations upfront, as needed for evaluating
+ * type filters and conditions, and the declared methods on first access to
+ * method metadata, re-reading the class file from its resource at that point.
+ * Classes that are rejected based on class-level metadata never get their
+ * methods decoded, at the expense of reading and parsing the class file twice
+ * for classes whose methods are introspected. Resources that can only be read
+ * once (see {@link Resource#isOpen()}) are always parsed in a single phase.
+ *
  * @author Juergen Hoeller
  * @author Costin Leau
  * @since 2.5
+ * @see SimpleMetadataReaderFactory#setLazyMethodParsing
  */
 final class SimpleMetadataReader implements MetadataReader {
 
@@ -44,12 +58,50 @@ final class SimpleMetadataReader implements MetadataReader {
 
 
 	SimpleMetadataReader(Resource resource, @Nullable ClassLoader classLoader) throws IOException {
-		SimpleAnnotationMetadataReadingVisitor visitor = new SimpleAnnotationMetadataReadingVisitor(classLoader);
-		getClassReader(resource).accept(visitor, PARSING_OPTIONS);
+		this(resource, classLoader, false);
+	}
+
+	SimpleMetadataReader(Resource resource, @Nullable ClassLoader classLoader, boolean lazyMethodParsing)
+			throws IOException {
+
+		ClassReader classReader = getClassReader(resource);
+		SimpleAnnotationMetadataReadingVisitor visitor = (lazyMethodParsing && !resource.isOpen() ?
+				new SimpleAnnotationMetadataReadingVisitor(classLoader, () -> readDeclaredMethods(resource, classLoader)) :
+				new SimpleAnnotationMetadataReadingVisitor(classLoader));
+		classReader.accept(visitor, PARSING_OPTIONS);
 		this.resource = resource;
 		this.annotationMetadata = visitor.getMetadata();
 	}
 
+	SimpleMetadataReader(Resource resource, AnnotationMetadata annotationMetadata) {
+		this.resource = resource;
+		this.annotationMetadata = annotationMetadata;
+	}
+
+
+	/**
+	 * Parse the class file behind the given resource, passing its
+	 * metadata to the given visitor.
+	 */
+	static void accept(Resource resource, ClassVisitor visitor) throws IOException {
+		getClassReader(resource).accept(visitor, PARSING_OPTIONS);
+	}
+
+	/**
+	 * Parse the declared methods from the class file behind the given resource,
+	 * as the second phase of lazy parsing.
+	 */
+	private static Set<MethodMetadata> readDeclaredMethods(Resource resource, @Nullable ClassLoader classLoader) {
+		SimpleAnnotationMetadataReadingVisitor visitor = new SimpleAnnotationMetadataReadingVisitor(classLoader);
+		try {
+			accept(resource, visitor);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to re-read class file for method metadata: " + resource, ex);
+		}
+		return visitor.getMetadata().getDeclaredMethods();
+	}
+
 	private static ClassReader getClassReader(Resource resource) throws IOException {
 		try (InputStream is = resource.getInputStream()) {
 			try {
@@ -36,6 +36,8 @@ public class SimpleMetadataReaderFactory implements MetadataReaderFactory {
 
 	private final ResourceLoader resourceLoader;
 
+	private boolean lazyMethodParsing;
+
 
 	/**
 	 * Create a new SimpleMetadataReaderFactory for the default class loader.
@@ -71,6 +73,29 @@ public class SimpleMetadataReaderFactory implements MetadataReaderFactory {
 		return this.resourceLoader;
 	}
 
+	/**
+	 * Specify whether to parse the methods of a class file on first access to
+	 * method metadata only, re-reading the class file at that point.
+	 * <p>This avoids decoding the methods of classes that are rejected based on
+	 * class-level metadata, at the expense of reading and parsing the class file
+	 * twice for classes whose methods are introspected, such as every candidate
+	 * for a configuration class. Resources that can only be read once are
+	 * always parsed upfront.
+	 * <p>Default is {@code false}, parsing the entire class file upfront.
+	 * @since 6.2
+	 */
+	public void setLazyMethodParsing(boolean lazyMethodParsing) {
+		this.lazyMethodParsing = lazyMethodParsing;
+	}
+
+	/**
+	 * Return whether to parse the methods of a class file on first access.
+	 * @since 6.2
+	 */
+	public boolean isLazyMethodParsing() {
+		return this.lazyMethodParsing;
+	}
+
 
 	@Override
 	public MetadataReader getMetadataReader(String className) throws IOException {
@@ -100,7 +125,7 @@ public class SimpleMetadataReaderFactory implements MetadataReaderFactory {
 
 	@Override
 	public MetadataReader getMetadataReader(Resource resource) throws IOException {
-		return new SimpleMetadataReader(resource, this.resourceLoader.getClassLoader());
+		return new SimpleMetadataReader(resource, this.resourceLoader.getClassLoader(), this.lazyMethodParsing);
 	}
 
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A bounded pool of fixed-size {@code byte[]} segments, as used by a pooled
+ * {@link FastByteArrayOutputStream}.
+ *
+ * <p>Released segments are kept in a single queue shared across threads, so the
+ * number of retained segments stays within the specified maximum, independent of
+ * the number of threads (including virtual threads). Segments beyond that
+ * capacity are left to garbage collection.
+ *
+ * <p>A segment must not be used by its previous owner after it has been
+ * {@link #release released}, since it may be handed out again right away.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @see FastByteArrayOutputStream#FastByteArrayOutputStream(ByteArraySegmentPool)
+ */
+public class ByteArraySegmentPool {
+
+	/**
+	 * The default segment size: 8 KB.
+	 */
+	public static final int DEFAULT_SEGMENT_SIZE = 8192;
+
+	private static final ByteArraySegmentPool sharedInstance = new ByteArraySegmentPool(DEFAULT_SEGMENT_SIZE, 1024);
+
+
+	private final int segmentSize;
+
+	private final BlockingQueue<byte[]> segments;
+
+
+	/**
+	 * Create a new {@code ByteArraySegmentPool}.
+	 * @param segmentSize the size of each segment in bytes
+	 * @param maxPooledSegments the maximum number of segments to retain
+	 */
+	public ByteArraySegmentPool(int segmentSize, int maxPooledSegments) {
+		Assert.isTrue(segmentSize > 0, "Segment size must be greater than 0");
+		Assert.isTrue(maxPooledSegments > 0, "Max pooled segments must be greater than 0");
+		this.segmentSize = segmentSize;
+		this.segments = new ArrayBlockingQueue<>(maxPooledSegments);
+	}
+
+
+	/**
+	 * Return the size of each segment in bytes.
+	 */
+	public int getSegmentSize() {
+		return this.segmentSize;
+	}
+
+	/**
+	 * Obtain a segment from this pool, or a newly allocated segment
+	 * if none is available.
+	 * <p>The content of a reused segment is undefined.
+	 */
+	public byte[] acquire() {
+		byte[] segment = this.segments.poll();
+		return (segment != null ? segment : new byte[this.segmentSize]);
+	}
+
+	/**
+	 * Return the given segment to this pool.
+	 * <p>Arrays of a different size than the {@link #getSegmentSize() segment size}
+	 * are ignored.
+	 * @param segment the segment obtained from {@link #acquire()}
+	 */
+	public void release(byte[] segment) {
+		if (segment.length != this.segmentSize) {
+			return;
+		}
+		this.segments.offer(segment);
+	}
+
+	/**
+	 * Return the number of segments currently held in this pool.
+	 */
+	public int getPooledSegmentCount() {
+		return this.segments.size();
+	}
+
+
+	/**
+	 * Return a shared default {@code ByteArraySegmentPool} instance with
+	 * {@link #DEFAULT_SEGMENT_SIZE 8 KB} segments and up to 1024 segments
+	 * (8 MB) retained.
+	 */
+	public static ByteArraySegmentPool getSharedInstance() {
+		return sharedInstance;
+	}
+
+}
@@ -0,0 +1,663 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Variant of {@link AntPathMatcher} that compiles each pattern once into a
+ * program of segment matchers, with the same matching semantics.
+ *
+ * <p>Paths are split into segments by offset rather than into substrings,
+ * and pattern segments are matched against those offsets: literal segments
+ * by region comparison, segments with {@code ?} and {@code *} wildcards by
+ * a glob match without regular expressions, and plain <code>{variable}</code> segments
+ * by capturing the entire path segment. Only segments with regular expression
+ * variables such as <code>{name:[a-z]+}</code>, or with several variables,
+ * still delegate to an {@link AntPathStringMatcher}.
+ *
+ * <p>In addition, a {@link PatternSet} allows for matching a path against a
+ * number of patterns at once, splitting the path only once and only evaluating
+ * the patterns that can match its first segment.
+ *
+ * <p>Compiled patterns are kept in an LRU cache of at most 65536 entries,
+ * unless {@linkplain #setCachePatterns pattern caching} is turned off.
+ * The compiled form is used for single-character path separators without
+ * {@linkplain #setTrimTokens token trimming}; other configurations fall back
+ * to the regular {@code AntPathMatcher} algorithm.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ */
+public class CompiledAntPathMatcher extends AntPathMatcher {
+
+	private static final int CACHE_LIMIT = 65536;
+
+
+	private String pathSeparator;
+
+	private boolean caseSensitive = true;
+
+	private boolean trimTokens = false;
+
+	private boolean cachePatterns = true;
+
+	private volatile ConcurrentLruCache<String, CompiledPattern> patternCache = createPatternCache();
+
+
+	/**
+	 * Create a new instance with the {@link #DEFAULT_PATH_SEPARATOR}.
+	 */
+	public CompiledAntPathMatcher() {
+		this.pathSeparator = DEFAULT_PATH_SEPARATOR;
+	}
+
+	/**
+	 * Create a new instance with a custom path separator.
+	 * @param pathSeparator the path separator to use, must not be {@code null}.
+	 */
+	public CompiledAntPathMatcher(String pathSeparator) {
+		super(pathSeparator);
+		this.pathSeparator = pathSeparator;
+	}
+
+
+	@Override
+	public void setPathSeparator(@Nullable String pathSeparator) {
+		super.setPathSeparator(pathSeparator);
+		this.pathSeparator = (pathSeparator != null ? pathSeparator : DEFAULT_PATH_SEPARATOR);
+		this.patternCache = createPatternCache();
+	}
+
+	@Override
+	public void setCaseSensitive(boolean caseSensitive) {
+		super.setCaseSensitive(caseSensitive);
+		this.caseSensitive = caseSensitive;
+		this.patternCache = createPatternCache();
+	}
+
+	@Override
+	public void setTrimTokens(boolean trimTokens) {
+		super.setTrimTokens(trimTokens);
+		this.trimTokens = trimTokens;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>Compiled patterns are kept in a cache of limited size in any case;
+	 * a value of {@code false} turns this cache off as well.
+	 */
+	@Override
+	public void setCachePatterns(boolean cachePatterns) {
+		super.setCachePatterns(cachePatterns);
+		this.cachePatterns = cachePatterns;
+		this.patternCache = createPatternCache();
+	}
+
+	private ConcurrentLruCache<String, CompiledPattern> createPatternCache() {
+		return new ConcurrentLruCache<>((this.cachePatterns ? CACHE_LIMIT : 0), this::compilePattern);
+	}
+
+	private boolean isCompilable() {
+		return (this.pathSeparator.length() == 1 && !this.trimTokens);
+	}
+
+
+	@Override
+	protected boolean doMatch(String pattern, @Nullable String path, boolean fullMatch,
+			@Nullable Map<String, String> uriTemplateVariables) {
+
+		if (!isCompilable()) {
+			return super.doMatch(pattern, path, fullMatch, uriTemplateVariables);
+		}
+		if (path == null) {
+			return false;
+		}
+		CompiledPattern compiledPattern = this.patternCache.get(pattern);
+		if (!compiledPattern.matchesRoot(path)) {
+			return false;
+		}
+		int[] offsets = tokenizeToOffsets(path, this.pathSeparator.charAt(0));
+		return compiledPattern.matches(path, offsets, fullMatch, uriTemplateVariables);
+	}
+
+	/**
+	 * Compile the given patterns into a {@link PatternSet} for matching paths
+	 * against all of them at once.
+	 * <p>The returned set reflects the configuration of this matcher at the time
+	 * of the call, and should be recreated when the configuration changes.
+	 * @param patterns the patterns to compile
+	 * @return the compiled pattern set
+	 */
+	public PatternSet compilePatterns(Collection<String> patterns) {
+		Assert.notNull(patterns, "Patterns must not be null");
+		return new PatternSet(new ArrayList<>(patterns));
+	}
+
+	/**
+	 * Split the given path into segments, returning the start and end offset
+	 * of each segment in consecutive array elements.
+	 */
+	private static int[] tokenizeToOffsets(String path, char separator) {
+		int count = 0;
+		boolean inToken = false;
+		for (int i = 0; i < path.length(); i++) {
+			boolean isSeparator = (path.charAt(i) == separator);
+			if (!isSeparator && !inToken) {
+				count++;
+			}
+			inToken = !isSeparator;
+		}
+		int[] offsets = new int[count * 2];
+		int index = 0;
+		int start = -1;
+		for (int i = 0; i < path.length(); i++) {
+			if (path.charAt(i) == separator) {
+				if (start != -1) {
+					offsets[index++] = start;
+					offsets[index++] = i;
+					start = -1;
+				}
+			}
+			else if (start == -1) {
+				start = i;
+			}
+		}
+		if (start != -1) {
+			offsets[index++] = start;
+			offsets[index] = path.length();
+		}
+		return offsets;
+	}
+
+	private CompiledPattern compilePattern(String pattern) {
+		String[] parts = tokenizePath(pattern);
+		Segment[] segments = new Segment[parts.length];
+		for (int i = 0; i < parts.length; i++) {
+			segments[i] = compileSegment(parts[i]);
+		}
+		return new CompiledPattern(pattern, this.pathSeparator.charAt(0), segments);
+	}
+
+	private Segment compileSegment(String part) {
+		if (part.equals("**")) {
+			return Segment.DOUBLE_WILDCARD;
+		}
+		if (part.equals("*")) {
+			return Segment.SINGLE_WILDCARD;
+		}
+		boolean braces = (part.indexOf('{') != -1 || part.indexOf('}') != -1);
+		if (!braces) {
+			boolean wildcards = (part.indexOf('*') != -1 || part.indexOf('?') != -1);
+			return (wildcards ? new GlobSegment(part, this.caseSensitive) : new LiteralSegment(part, this.caseSensitive));
+		}
+		if (part.length() > 2 && part.charAt(0) == '{' && part.charAt(part.length() - 1) == '}') {
+			String name = part.substring(1, part.length() - 1);
+			if (name.indexOf('{') == -1 && name.indexOf('}') == -1 && name.indexOf(':') == -1 &&
+					!name.startsWith("*")) {
+				return new VariableSegment(name);
+			}
+		}
+		return new DelegatingSegment(new AntPathStringMatcher(part, this.pathSeparator, this.caseSensitive));
+	}
+
+
+	/**
+	 * A set of patterns compiled by {@link #compilePatterns(Collection)}
+	 * for matching paths against all of them at once.
+	 */
+	public final class PatternSet {
+
+		private static final int[] NO_INDEXES = new int[0];
+
+		private final List<String> patterns;
+
+		private final boolean compiled;
+
+		private final char separator;
+
+		private final CompiledPattern[] compiledPatterns;
+
+		/** Indexes of patterns starting with a case-sensitive literal segment, keyed by that segment. */
+		private final Map<String, int[]> literalIndex = new HashMap<>();
+
+		/** Indexes of all other patterns. */
+		private final int[] unindexed;
+
+		private PatternSet(List<String> patterns) {
+			this.patterns = Collections.unmodifiableList(patterns);
+			this.compiledPatterns = new CompiledPattern[patterns.size()];
+			this.compiled = isCompilable();
+			this.separator = pathSeparator.charAt(0);
+			if (!this.compiled) {
+				this.unindexed = NO_INDEXES;
+				return;
+			}
+			Map<String, List<Integer>> literals = new HashMap<>();
+			List<Integer> others = new ArrayList<>();
+			for (int i = 0; i < patterns.size(); i++) {
+				CompiledPattern compiledPattern = compilePattern(patterns.get(i));
+				this.compiledPatterns[i] = compiledPattern;
+				String literal = compiledPattern.getLeadingLiteral();
+				if (literal != null) {
+					literals.computeIfAbsent(literal, key -> new ArrayList<>()).add(i);
+				}
+				else {
+					others.add(i);
+				}
+			}
+			literals.forEach((literal, indexes) -> this.literalIndex.put(literal, toArray(indexes)));
+			this.unindexed = toArray(others);
+		}
+
+		private static int[] toArray(List<Integer> indexes) {
+			return indexes.stream().mapToInt(Integer::intValue).toArray();
+		}
+
+		/**
+		 * Return the patterns in this set, in their original order.
+		 */
+		public List<String> getPatterns() {
+			return this.patterns;
+		}
+
+		/**
+		 * Determine whether the given path matches any of the patterns in this set.
+		 * @param path the path to match
+		 * @return {@code true} if at least one pattern matches
+		 * @see CompiledAntPathMatcher#match(String, String)
+		 */
+		public boolean matchesAny(String path) {
+			return !match(path, true).isEmpty();
+		}
+
+		/**
+		 * Return the patterns in this set that match the given path,
+		 * in their original order.
+		 * @param path the path to match
+		 * @return the matching patterns (possibly empty)
+		 * @see CompiledAntPathMatcher#match(String, String)
+		 */
+		public List<String> getMatchingPatterns(String path) {
+			return match(path, false);
+		}
+
+		private List<String> match(String path, boolean firstOnly) {
+			if (!this.compiled) {
+				List<String> result = new ArrayList<>();
+				for (String pattern : this.patterns) {
+					if (CompiledAntPathMatcher.this.match(pattern, path)) {
+						result.add(pattern);
+						if (firstOnly) {
+							break;
+						}
+					}
+				}
+				return result;
+			}
+
+			int[] offsets = tokenizeToOffsets(path, this.separator);
+			int[] indexed = NO_INDEXES;
+			if (offsets.length > 0 && !this.literalIndex.isEmpty()) {
+				indexed = this.literalIndex.getOrDefault(path.substring(offsets[0], offsets[1]), NO_INDEXES);
+			}
+
+			// Merge both sorted candidate arrays in order to retain the pattern order
+			List<String> result = null;
+			int i = 0;
+			int j = 0;
+			while (i < indexed.length || j < this.unindexed.length) {
+				int candidate;
+				if (j >= this.unindexed.length || (i < indexed.length && indexed[i] < this.unindexed[j])) {
+					candidate = indexed[i++];
+				}
+				else {
+					candidate = this.unindexed[j++];
+				}
+				CompiledPattern compiledPattern = this.compiledPatterns[candidate];
+				if (compiledPattern.matchesRoot(path) && compiledPattern.matches(path, offsets, true, null)) {
+					if (firstOnly) {
+						return Collections.singletonList(compiledPattern.pattern);
+					}
+					if (result == null) {
+						result = new ArrayList<>();
+					}
+					result.add(compiledPattern.pattern);
+				}
+			}
+			return (result != null ? result : Collections.emptyList());
+		}
+
+		@Override
+		public String toString() {
+			return "PatternSet " + this.patterns;
+		}
+	}
+
+
+	/**
+	 * A pattern compiled into segment matchers, evaluated according to the
+	 * algorithm of {@link AntPathMatcher#doMatch}.
+	 */
+	private static final class CompiledPattern {
+
+		final String pattern;
+
+		private final char separator;
+
+		private final boolean absolute;
+
+		private final boolean trailingSeparator;
+
+		private final Segment[] segments;
+
+		CompiledPattern(String pattern, char separator, Segment[] segments) {
+			this.pattern = pattern;
+			this.separator = separator;
+			this.absolute = (!pattern.isEmpty() && pattern.charAt(0) == separator);
+			this.trailingSeparator = (!pattern.isEmpty() && pattern.charAt(pattern.length() - 1) == separator);
+			this.segments = segments;
+		}
+
+		@Nullable
+		String getLeadingLiteral() {
+			if (this.segments.length > 0 && this.segments[0] instanceof LiteralSegment literal &&
+					literal.caseSensitive) {
+				return literal.literal;
+			}
+			return null;
+		}
+
+		boolean matchesRoot(String path) {
+			return ((!path.isEmpty() && path.charAt(0) == this.separator) == this.absolute);
+		}
+
+		boolean matches(String path, int[] offsets, boolean fullMatch,
+				@Nullable Map<String, String> uriTemplateVariables) {
+
+			Segment[] pattSegments = this.segments;
+			boolean pathTrailingSeparator = (!path.isEmpty() && path.charAt(path.length() - 1) == this.separator);
+			int pattIdxStart = 0;
+			int pattIdxEnd = pattSegments.length - 1;
+			int pathIdxStart = 0;
+			int pathIdxEnd = offsets.length / 2 - 1;
+
+			// Match all elements up to the first **
+			while (pattIdxStart <= pattIdxEnd && pathIdxStart <= pathIdxEnd) {
+				Segment segment = pattSegments[pattIdxStart];
+				if (segment == Segment.DOUBLE_WILDCARD) {
+					break;
+				}
+				if (!segment.matches(path, offsets[pathIdxStart * 2], offsets[pathIdxStart * 2 + 1],
+						uriTemplateVariables)) {
+					return false;
+				}
+				pattIdxStart++;
+				pathIdxStart++;
+			}
+
+			if (pathIdxStart > pathIdxEnd) {
+				// Path is exhausted, only match if rest of pattern is * or **'s
+				if (pattIdxStart > pattIdxEnd) {
+					return (this.trailingSeparator == pathTrailingSeparator);
+				}
+				if (!fullMatch) {
+					return true;
+				}
+				if (pattIdxStart == pattIdxEnd && pattSegments[pattIdxStart] == Segment.SINGLE_WILDCARD &&
+						pathTrailingSeparator) {
+					return true;
+				}
+				return onlyDoubleWildcards(pattIdxStart, pattIdxEnd);
+			}
+			else if (pattIdxStart > pattIdxEnd) {
+				// String not exhausted, but pattern is. Failure.
+				return false;
+			}
+			else if (!fullMatch && pattSegments[pattIdxStart] == Segment.DOUBLE_WILDCARD) {
+				// Path start definitely matches due to "**" part in pattern.
+				return true;
+			}
+
+			// up to last '**'
+			while (pattIdxStart <= pattIdxEnd && pathIdxStart <= pathIdxEnd) {
+				Segment segment = pattSegments[pattIdxEnd];
+				if (segment == Segment.DOUBLE_WILDCARD) {
+					break;
+				}
+				if (!segment.matches(path, offsets[pathIdxEnd * 2], offsets[pathIdxEnd * 2 + 1],
+						uriTemplateVariables)) {
+					return false;
+				}
+				if (pattIdxEnd == (pattSegments.length - 1) && this.trailingSeparator != pathTrailingSeparator) {
+					return false;
+				}
+				pattIdxEnd--;
+				pathIdxEnd--;
+			}
+			if (pathIdxStart > pathIdxEnd) {
+				// String is exhausted
+				return onlyDoubleWildcards(pattIdxStart, pattIdxEnd);
+			}
+
+			while (pattIdxStart != pattIdxEnd && pathIdxStart <= pathIdxEnd) {
+				int patIdxTmp = -1;
+				for (int i = pattIdxStart + 1; i <= pattIdxEnd; i++) {
+					if (pattSegments[i] == Segment.DOUBLE_WILDCARD) {
+						patIdxTmp = i;
+						break;
+					}
+				}
+				if (patIdxTmp == pattIdxStart + 1) {
+					// '**/**' situation, so skip one
+					pattIdxStart++;
+					continue;
+				}
+				// Find the pattern between padIdxStart & padIdxTmp in str between
+				// strIdxStart & strIdxEnd
+				int patLength = (patIdxTmp - pattIdxStart - 1);
+				int strLength = (pathIdxEnd - pathIdxStart + 1);
+				int foundIdx = -1;
+
+				strLoop:
+				for (int i = 0; i <= strLength - patLength; i++) {
+					for (int j = 0; j < patLength; j++) {
+						Segment segment = pattSegments[pattIdxStart + j + 1];
+						int pathIdx = pathIdxStart + i + j;
+						if (!segment.matches(path, offsets[pathIdx * 2], offsets[pathIdx * 2 + 1],
+								uriTemplateVariables)) {
+							continue strLoop;
+						}
+					}
+					foundIdx = pathIdxStart + i;
+					break;
+				}
+
+				if (foundIdx == -1) {
+					return false;
+				}
+
+				pattIdxStart = patIdxTmp;
+				pathIdxStart = foundIdx + patLength;
+			}
+
+			return onlyDoubleWildcards(pattIdxStart, pattIdxEnd);
+		}
+
+		private boolean onlyDoubleWildcards(int start, int end) {
+			for (int i = start; i <= end; i++) {
+				if (this.segments[i] != Segment.DOUBLE_WILDCARD) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+
+	/**
+	 * Matcher for a single pattern segment, applied to a region of the path.
+	 */
+	private abstract static class Segment {
+
+		static final Segment DOUBLE_WILDCARD = new AnySegment();
+
+		static final Segment SINGLE_WILDCARD = new AnySegment();
+
+		abstract boolean matches(String path, int start, int end, @Nullable Map<String, String> uriTemplateVariables);
+	}
+
+
+	/**
+	 * Segment that matches any path segment: {@code *} or {@code **}.
+	 */
+	private static final class AnySegment extends Segment {
+
+		@Override
+		boolean matches(String path, int start, int end, @Nullable Map<String, String> uriTemplateVariables) {
+			return true;
+		}
+	}
+
+
+	/**
+	 * Segment without any wildcards or variables.
+	 */
+	private static final class LiteralSegment extends Segment {
+
+		final String literal;
+
+		final boolean caseSensitive;
+
+		LiteralSegment(String literal, boolean caseSensitive) {
+			this.literal = literal;
+			this.caseSensitive = caseSensitive;
+		}
+
+		@Override
+		boolean matches(String path, int start, int end, @Nullable Map<String, String> uriTemplateVariables) {
+			int length = this.literal.length();
+			return (end - start == length && path.regionMatches(!this.caseSensitive, start, this.literal, 0, length));
+		}
+	}
+
+
+	/**
+	 * Segment with {@code ?} and {@code *} wildcards but without variables.
+	 */
+	private static final class GlobSegment extends Segment {
+
+		private final String glob;
+
+		private final boolean caseSensitive;
+
+		GlobSegment(String glob, boolean caseSensitive) {
+			this.glob = glob;
+			this.caseSensitive = caseSensitive;
+		}
+
+		@Override
+		boolean matches(String path, int start, int end, @Nullable Map<String, String> uriTemplateVariables) {
+			String glob = this.glob;
+			int globLength = glob.length();
+			int globIndex = 0;
+			int pathIndex = start;
+			int starIndex = -1;
+			int starMatch = start;
+			while (pathIndex < end) {
+				if (globIndex < globLength && glob.charAt(globIndex) == '*') {
+					starIndex = globIndex++;
+					starMatch = pathIndex;
+				}
+				else if (globIndex < globLength && (glob.charAt(globIndex) == '?' ||
+						charsEqual(glob.charAt(globIndex), path.charAt(pathIndex)))) {
+					globIndex++;
+					pathIndex++;
+				}
+				else if (starIndex != -1) {
+					// Let the last '*' consume one more character and retry
+					globIndex = starIndex + 1;
+					pathIndex = ++starMatch;
+				}
+				else {
+					return false;
+				}
+			}
+			while (globIndex < globLength && glob.charAt(globIndex) == '*') {
+				globIndex++;
+			}
+			return (globIndex == globLength);
+		}
+
+		private boolean charsEqual(char globChar, char pathChar) {
+			if (globChar == pathChar) {
+				return true;
+			}
+			// Same as Pattern.CASE_INSENSITIVE without UNICODE_CASE: US-ASCII only
+			return (!this.caseSensitive && globChar < 128 && pathChar < 128 &&
+					Character.toLowerCase(globChar) == Character.toLowerCase(pathChar));
+		}
+	}
+
+
+	/**
+	 * Segment consisting of a single URI template variable without regular expression.
+	 */
+	private static final class VariableSegment extends Segment {
+
+		private final String name;
+
+		VariableSegment(String name) {
+			this.name = name;
+		}
+
+		@Override
+		boolean matches(String path, int start, int end, @Nullable Map<String, String> uriTemplateVariables) {
+			if (uriTemplateVariables != null) {
+				uriTemplateVariables.put(this.name, path.substring(start, end));
+			}
+			return true;
+		}
+	}
+
+
+	/**
+	 * Segment matched by an {@link AntPathStringMatcher}, for anything beyond
+	 * the capabilities of the other segment types.
+	 */
+	private static final class DelegatingSegment extends Segment {
+
+		private final AntPathStringMatcher matcher;
+
+		DelegatingSegment(AntPathStringMatcher matcher) {
+			this.matcher = matcher;
+		}
+
+		@Override
+		boolean matches(String path, int start, int end, @Nullable Map<String, String> uriTemplateVariables) {
+			return this.matcher.matchStrings(path.substring(start, end), uriTemplateVariables);
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.util;
 
+import java.util.Arrays;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -24,6 +25,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
@@ -37,6 +39,13 @@ import org.springframework.lang.Nullable;
  * <a href="https://github.com/ben-manes/concurrentlinkedhashmap">ConcurrentLinkedHashMap</a>.
  * <p>Read and write operations are internally recorded in dedicated buffers,
  * then drained at chosen times to avoid contention.
+ * <p>As of 6.2, the cache can optionally be created with a frequency-based
+ * admission policy, inspired from
+ * <a href="https://arxiv.org/abs/1512.00727">TinyLFU</a>: a compact frequency
+ * sketch of recently accessed keys decides whether a newly generated entry may
+ * evict the least recently used entry, or whether it should be rejected instead.
+ * This keeps frequently used entries in the cache when scanning through a large
+ * number of keys that are only requested once.
  *
  * @author Brian Clozel
  * @author Ben Manes
@@ -70,6 +79,20 @@ public final class ConcurrentLruCache<K, V> {
 
 	private final AtomicReference<DrainStatus> drainStatus = new AtomicReference<>(DrainStatus.IDLE);
 
+	/*
+	 * Frequency sketch used by the admission policy, only accessed while holding the eviction lock.
+	 */
+	@Nullable
+	private final FrequencySketch frequencySketch;
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder evictionCount = new LongAdder();
+
+	private final LongAdder admissionRejectCount = new LongAdder();
+
 	/**
 	 * Create a new cache instance with the given capacity and generator function.
 	 * @param capacity the maximum number of entries in the cache
@@ -77,15 +100,34 @@ public final class ConcurrentLruCache<K, V> {
 	 * @param generator a function to generate a new value for a given key
 	 */
 	public ConcurrentLruCache(int capacity, Function<K, V> generator) {
-		this(capacity, generator, 16);
+		this(capacity, generator, false);
+	}
+
+	/**
+	 * Create a new cache instance with the given capacity and generator function,
+	 * optionally using a frequency-based admission policy.
+	 * <p>With the admission policy enabled, a new entry only replaces the least
+	 * recently used entry if its key has been requested more often recently;
+	 * otherwise the new entry is rejected and the generated value is simply
+	 * returned to the caller without being retained.
+	 * @param capacity the maximum number of entries in the cache
+	 * (0 indicates no caching, always generating a new value)
+	 * @param generator a function to generate a new value for a given key
+	 * @param frequencyAdmission whether to apply a frequency-based admission
+	 * policy when the cache is full
+	 * @since 6.2
+	 */
+	public ConcurrentLruCache(int capacity, Function<K, V> generator, boolean frequencyAdmission) {
+		this(capacity, generator, 16, frequencyAdmission);
 	}
 
-	private ConcurrentLruCache(int capacity, Function<K, V> generator, int concurrencyLevel) {
+	private ConcurrentLruCache(int capacity, Function<K, V> generator, int concurrencyLevel, boolean frequencyAdmission) {
 		Assert.isTrue(capacity >= 0, "Capacity must be >= 0");
 		this.capacity = capacity;
 		this.cache = new ConcurrentHashMap<>(16, 0.75f, concurrencyLevel);
 		this.generator = generator;
-		this.readOperations = new ReadOperations<>(this.evictionQueue);
+		this.frequencySketch = (frequencyAdmission && capacity > 0 ? new FrequencySketch(capacity) : null);
+		this.readOperations = new ReadOperations<>(this.evictionQueue, this.frequencySketch);
 		this.writeOperations = new WriteOperations();
 	}
 
@@ -96,14 +138,17 @@ public final class ConcurrentLruCache<K, V> {
 	 */
 	public V get(K key) {
 		if (this.capacity == 0) {
+			this.missCount.increment();
 			return this.generator.apply(key);
 		}
 		final Node<K, V> node = this.cache.get(key);
 		if (node == null) {
+			this.missCount.increment();
 			V value = this.generator.apply(key);
 			put(key, value);
 			return value;
 		}
+		this.hitCount.increment();
 		processRead(node);
 		return node.getValue();
 	}
@@ -175,8 +220,59 @@ public final class ConcurrentLruCache<K, V> {
 		return this.cache.size();
 	}
 
+	/**
+	 * Return whether this cache applies a frequency-based admission policy.
+	 * @since 6.2
+	 * @see #ConcurrentLruCache(int, Function, boolean)
+	 */
+	public boolean isFrequencyAdmission() {
+		return (this.frequencySketch != null);
+	}
+
+	/**
+	 * Return the number of {@link #get(Object)} calls that were served
+	 * from the cache.
+	 * @since 6.2
+	 */
+	public long hitCount() {
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * Return the number of {@link #get(Object)} calls that required the
+	 * generation of a new value.
+	 * @since 6.2
+	 */
+	public long missCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Return the number of entries that were evicted from the cache
+	 * in order to make room for new entries.
+	 * <p>Explicit {@link #remove(Object) removals} and {@link #clear() clearing}
+	 * of the cache are not accounted for.
+	 * @since 6.2
+	 */
+	public long evictionCount() {
+		return this.evictionCount.sum();
+	}
+
+	/**
+	 * Return the number of new entries that were not retained in the cache
+	 * because the admission policy favored the least recently used entry.
+	 * <p>Always {@code 0} if the frequency admission policy is not enabled.
+	 * @since 6.2
+	 * @see #isFrequencyAdmission()
+	 */
+	public long admissionRejectCount() {
+		return this.admissionRejectCount.sum();
+	}
+
 	/**
 	 * Immediately remove all entries from this cache.
+	 * <p>With the frequency admission policy, the recorded access frequencies
+	 * are discarded as well.
 	 */
 	public void clear() {
 		this.evictionLock.lock();
@@ -188,6 +284,9 @@ public final class ConcurrentLruCache<K, V> {
 			}
 			this.readOperations.clear();
 			this.writeOperations.drainAll();
+			if (this.frequencySketch != null) {
+				this.frequencySketch.clear();
+			}
 		}
 		finally {
 			this.evictionLock.unlock();
@@ -264,6 +363,9 @@ public final class ConcurrentLruCache<K, V> {
 		@Override
 		public void run() {
 			currentSize.lazySet(currentSize.get() + 1);
+			if (frequencySketch != null) {
+				frequencySketch.increment(this.node.key);
+			}
 			if (this.node.get().isActive()) {
 				evictionQueue.add(this.node);
 				evictEntries();
@@ -272,13 +374,34 @@ public final class ConcurrentLruCache<K, V> {
 
 		private void evictEntries() {
 			while (currentSize.get() > capacity) {
-				final Node<K, V> node = evictionQueue.poll();
-				if (node == null) {
+				final Node<K, V> victim = evictionQueue.peek();
+				if (victim == null) {
 					return;
 				}
-				cache.remove(node.key, node);
-				markAsRemoved(node);
+				if (rejectCandidate(victim)) {
+					evictionQueue.remove(this.node);
+					cache.remove(this.node.key, this.node);
+					markAsRemoved(this.node);
+					admissionRejectCount.increment();
+				}
+				else {
+					evictionQueue.poll();
+					cache.remove(victim.key, victim);
+					markAsRemoved(victim);
+					evictionCount.increment();
+				}
+			}
+		}
+
+		/*
+		 * Determine whether the newly added node should be rejected in favor of the given victim:
+		 * only the case if the victim's key has been requested at least as frequently.
+		 */
+		private boolean rejectCandidate(Node<K, V> victim) {
+			if (frequencySketch == null || victim == this.node || !this.node.get().isActive()) {
+				return false;
 			}
+			return (frequencySketch.frequency(this.node.key) <= frequencySketch.frequency(victim.key));
 		}
 
 	}
@@ -396,8 +519,12 @@ public final class ConcurrentLruCache<K, V> {
 
 		private final EvictionQueue<K, V> evictionQueue;
 
-		ReadOperations(EvictionQueue<K, V> evictionQueue) {
+		@Nullable
+		private final FrequencySketch frequencySketch;
+
+		ReadOperations(EvictionQueue<K, V> evictionQueue, @Nullable FrequencySketch frequencySketch) {
 			this.evictionQueue = evictionQueue;
+			this.frequencySketch = frequencySketch;
 			for (int i = 0; i < BUFFER_COUNT; i++) {
 				this.buffers[i] = new AtomicReferenceArray<>(BUFFER_SIZE);
 			}
@@ -447,6 +574,9 @@ public final class ConcurrentLruCache<K, V> {
 				}
 				buffer.lazySet(index, null);
 				this.evictionQueue.moveToBack(node);
+				if (this.frequencySketch != null) {
+					this.frequencySketch.increment(node.key);
+				}
 				this.readCount[bufferIndex]++;
 			}
 			this.processedCount.lazySet(bufferIndex, writeCount);
@@ -530,6 +660,11 @@ public final class ConcurrentLruCache<K, V> {
 		Node<K, V> last;
 
 
+		@Nullable
+		Node<K, V> peek() {
+			return this.first;
+		}
+
 		@Nullable
 		Node<K, V> poll() {
 			if (this.first == null) {
@@ -609,4 +744,104 @@ public final class ConcurrentLruCache<K, V> {
 
 	}
 
+	/*
+	 * Count-Min sketch holding the popularity of keys within a time window,
+	 * with 4-bit counters that are periodically halved to age older accesses.
+	 * Not thread-safe: only used while holding the eviction lock.
+	 */
+	private static final class FrequencySketch {
+
+		private static final long[] SEEDS = {
+				0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+		private static final long RESET_MASK = 0x7777777777777777L;
+
+		private static final long ONE_MASK = 0x1111111111111111L;
+
+		private static final int MAX_COUNT = 15;
+
+		/*
+		 * Each long holds sixteen 4-bit counters, grouped in four blocks of four counters.
+		 */
+		private final long[] table;
+
+		private final int tableMask;
+
+		/*
+		 * Number of increments after which all counters are halved.
+		 */
+		private final int sampleSize;
+
+		private int additions;
+
+		FrequencySketch(int capacity) {
+			int maximum = Math.min(capacity, 1 << 30);
+			this.table = new long[Math.max(1, Integer.highestOneBit(maximum - 1) << 1)];
+			this.tableMask = this.table.length - 1;
+			this.sampleSize = (int) Math.min(10L * maximum, Integer.MAX_VALUE);
+		}
+
+		int frequency(Object key) {
+			int hash = spread(key.hashCode());
+			int start = (hash & 3) << 2;
+			int frequency = MAX_COUNT;
+			for (int i = 0; i < 4; i++) {
+				int index = indexOf(hash, i);
+				int count = (int) ((this.table[index] >>> ((start + i) << 2)) & 0xfL);
+				frequency = Math.min(frequency, count);
+			}
+			return frequency;
+		}
+
+		void increment(Object key) {
+			int hash = spread(key.hashCode());
+			int start = (hash & 3) << 2;
+			boolean added = false;
+			for (int i = 0; i < 4; i++) {
+				int index = indexOf(hash, i);
+				added |= incrementAt(index, start + i);
+			}
+			if (added && ++this.additions == this.sampleSize) {
+				reset();
+			}
+		}
+
+		private boolean incrementAt(int index, int counter) {
+			int offset = counter << 2;
+			long mask = (0xfL << offset);
+			if ((this.table[index] & mask) != mask) {
+				this.table[index] += (1L << offset);
+				return true;
+			}
+			return false;
+		}
+
+		void clear() {
+			Arrays.fill(this.table, 0L);
+			this.additions = 0;
+		}
+
+		private void reset() {
+			int oddCount = 0;
+			for (int i = 0; i < this.table.length; i++) {
+				oddCount += Long.bitCount(this.table[i] & ONE_MASK);
+				this.table[i] = (this.table[i] >>> 1) & RESET_MASK;
+			}
+			this.additions = (this.additions - (oddCount >>> 2)) >>> 1;
+		}
+
+		private int indexOf(int hash, int depth) {
+			long h = (hash + SEEDS[depth]) * SEEDS[depth];
+			h += (h >>> 32);
+			return ((int) h) & this.tableMask;
+		}
+
+		private static int spread(int hash) {
+			int h = hash;
+			h = ((h >>> 16) ^ h) * 0x45d9f3b;
+			h = ((h >>> 16) ^ h) * 0x45d9f3b;
+			return (h >>> 16) ^ h;
+		}
+	}
+
 }
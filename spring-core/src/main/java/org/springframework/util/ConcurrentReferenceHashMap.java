@@ -16,6 +16,8 @@
 
 package org.springframework.util;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
@@ -28,8 +30,10 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
@@ -54,6 +58,11 @@ import org.springframework.lang.Nullable;
  * <p>If not explicitly specified, this implementation will use
  * {@linkplain SoftReference soft entry references}.
  *
+ * <p>Read operations do not block: references are published to the segment tables
+ * with release semantics and read with acquire semantics, and references that have
+ * been garbage collected are purged in batches by a single thread that manages to
+ * acquire the segment lock, rather than by every reading thread in turn.
+ *
  * @author Phillip Webb
  * @author Juergen Hoeller
  * @author Brian Clozel
@@ -75,6 +84,8 @@ public class ConcurrentReferenceHashMap<K, V> extends AbstractMap<K, V> implemen
 
 	private static final int MAXIMUM_SEGMENT_SIZE = 1 << 30;
 
+	private static final VarHandle REFERENCE_ARRAY = MethodHandles.arrayElementVarHandle(Reference[].class);
+
 
 	/**
 	 * Array of segments indexed using the high order bits from the hash.
@@ -483,6 +494,12 @@ public class ConcurrentReferenceHashMap<K, V> extends AbstractMap<K, V> implemen
 		 */
 		private int resizeThreshold;
 
+		/**
+		 * References polled for purging by reading threads that did not acquire the
+		 * lock, to be purged as part of the next restructure.
+		 */
+		private final Queue<Reference<K, V>> pendingPurges = new ConcurrentLinkedQueue<>();
+
 		public Segment(int initialSize, int resizeThreshold) {
 			this.referenceManager = createReferenceManager();
 			this.initialSize = initialSize;
@@ -493,7 +510,7 @@ public class ConcurrentReferenceHashMap<K, V> extends AbstractMap<K, V> implemen
 		@Nullable
 		public Reference<K, V> getReference(@Nullable Object key, int hash, Restructure restructure) {
 			if (restructure == Restructure.WHEN_NECESSARY) {
-				restructureIfNecessary(false);
+				purgeIfPossible();
 			}
 			if (this.count.get() == 0) {
 				return null;
@@ -501,7 +518,7 @@ public class ConcurrentReferenceHashMap<K, V> extends AbstractMap<K, V> implemen
 			// Use a local copy to protect against other threads writing
 			Reference<K, V>[] references = this.references;
 			int index = getIndex(hash, references);
-			Reference<K, V> head = references[index];
+			Reference<K, V> head = getReferenceAt(references, index);
 			return findInChain(head, key, hash);
 		}
 
@@ -532,7 +549,7 @@ public class ConcurrentReferenceHashMap<K, V> extends AbstractMap<K, V> implemen
 					@SuppressWarnings("unchecked")
 					Entry<K, V> newEntry = new Entry<>((K) key, value);
 					Reference<K, V> newReference = Segment.this.referenceManager.createReference(newEntry, hash, head);
-					Segment.this.references[index] = newReference;
+					setReferenceAt(Segment.this.references, index, newReference);
 					Segment.this.count.incrementAndGet();
 				};
 				return task.execute(ref, entry, entries);
@@ -573,19 +590,49 @@ public class ConcurrentReferenceHashMap<K, V> extends AbstractMap<K, V> implemen
 			int currCount = this.count.get();
 			boolean needsResize = allowResize && (currCount > 0 && currCount >= this.resizeThreshold);
 			Reference<K, V> ref = this.referenceManager.pollForPurge();
-			if (ref != null || (needsResize)) {
+			if (ref != null || needsResize || !this.pendingPurges.isEmpty()) {
 				restructure(allowResize, ref);
 			}
 		}
 
+		/**
+		 * Purge references that have been garbage collected without blocking the
+		 * calling thread. A polled reference is handed over to the thread currently
+		 * holding the lock if the lock cannot be acquired immediately; that thread
+		 * (or the next one to acquire the lock) then purges all pending references
+		 * in a single restructure.
+		 */
+		private void purgeIfPossible() {
+			Reference<K, V> ref = this.referenceManager.pollForPurge();
+			if (ref != null) {
+				this.pendingPurges.add(ref);
+			}
+			if (!this.pendingPurges.isEmpty() && tryLock()) {
+				try {
+					restructure(false, null);
+				}
+				finally {
+					unlock();
+				}
+			}
+		}
+
 		private void restructure(boolean allowResize, @Nullable Reference<K, V> ref) {
 			boolean needsResize;
 			lock();
 			try {
 				int expectedCount = this.count.get();
 				Set<Reference<K, V>> toPurge = Collections.emptySet();
+				if (ref == null) {
+					ref = this.pendingPurges.poll();
+				}
 				if (ref != null) {
 					toPurge = new HashSet<>();
+					while (ref != null) {
+						toPurge.add(ref);
+						ref = this.pendingPurges.poll();
+					}
+					ref = this.referenceManager.pollForPurge();
 					while (ref != null) {
 						toPurge.add(ref);
 						ref = this.referenceManager.pollForPurge();
@@ -646,7 +693,7 @@ public class ConcurrentReferenceHashMap<K, V> extends AbstractMap<K, V> implemen
 							}
 							ref = ref.getNext();
 						}
-						this.references[i] = purgedRef;
+						setReferenceAt(this.references, i, purgedRef);
 					}
 				}
 				this.count.set(Math.max(newCount, 0));
@@ -657,7 +704,7 @@ public class ConcurrentReferenceHashMap<K, V> extends AbstractMap<K, V> implemen
 		}
 
 		@Nullable
-		private Reference<K, V> findInChain(Reference<K, V> ref, @Nullable Object key, int hash) {
+		private Reference<K, V> findInChain(@Nullable Reference<K, V> ref, @Nullable Object key, int hash) {
 			Reference<K, V> currRef = ref;
 			while (currRef != null) {
 				if (currRef.getHash() == hash) {
@@ -679,6 +726,16 @@ public class ConcurrentReferenceHashMap<K, V> extends AbstractMap<K, V> implemen
 			return new Reference[size];
 		}
 
+		@SuppressWarnings("unchecked")
+		@Nullable
+		private Reference<K, V> getReferenceAt(Reference<K, V>[] references, int index) {
+			return (Reference<K, V>) REFERENCE_ARRAY.getAcquire(references, index);
+		}
+
+		private void setReferenceAt(Reference<K, V>[] references, int index, @Nullable Reference<K, V> reference) {
+			REFERENCE_ARRAY.setRelease(references, index, reference);
+		}
+
 		private int getIndex(int hash, Reference<K, V>[] references) {
 			return (hash & (references.length - 1));
 		}
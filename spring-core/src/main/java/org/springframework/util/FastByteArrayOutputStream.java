@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,9 @@ package org.springframework.util;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.security.MessageDigest;
 import java.util.ArrayDeque;
@@ -38,7 +41,12 @@ import org.springframework.lang.Nullable;
  *
  * <p>The initial buffer is only created when the stream is first written.
  * There is also no copying of the internal buffers if the stream's content is
- * extracted via the {@link #writeTo(OutputStream)} method.
+ * extracted via the {@link #writeTo(OutputStream)} or
+ * {@link #writeTo(WritableByteChannel)} methods.
+ *
+ * <p>A stream created with a {@link ByteArraySegmentPool} obtains fixed-size
+ * buffers from that pool and returns them on {@link #reset()} and {@link #close()},
+ * avoiding the allocation of new buffers for every stream.
  *
  * @author Craig Andrews
  * @author Juergen Hoeller
@@ -70,6 +78,14 @@ public class FastByteArrayOutputStream extends OutputStream {
 	// Is the stream closed?
 	private boolean closed = false;
 
+	// The pool to obtain buffers from, if any
+	@Nullable
+	private final ByteArraySegmentPool pool;
+
+	// A consolidated buffer which has not been obtained from the pool
+	@Nullable
+	private byte[] unpooledBuffer;
+
 
 	/**
 	 * Create a new {@code FastByteArrayOutputStream} with the default initial
@@ -88,6 +104,23 @@ public class FastByteArrayOutputStream extends OutputStream {
 		Assert.isTrue(initialBlockSize > 0, "Initial block size must be greater than 0");
 		this.initialBlockSize = initialBlockSize;
 		this.nextBlockSize = initialBlockSize;
+		this.pool = null;
+	}
+
+	/**
+	 * Create a new {@code FastByteArrayOutputStream} which obtains its buffers
+	 * from the given pool, returning them on {@link #reset()} and {@link #close()}.
+	 * <p>Note that the content of such a stream is discarded on {@link #close()},
+	 * so it needs to be retrieved before.
+	 * @param pool the pool to obtain buffers from
+	 * @since 6.2
+	 * @see ByteArraySegmentPool#getSharedInstance()
+	 */
+	public FastByteArrayOutputStream(ByteArraySegmentPool pool) {
+		Assert.notNull(pool, "ByteArraySegmentPool must not be null");
+		this.initialBlockSize = pool.getSegmentSize();
+		this.nextBlockSize = this.initialBlockSize;
+		this.pool = pool;
 	}
 
 
@@ -144,8 +177,16 @@ public class FastByteArrayOutputStream extends OutputStream {
 		}
 	}
 
+	/**
+	 * Close this stream, rejecting further writes.
+	 * <p>For a stream with a {@link ByteArraySegmentPool}, this also returns
+	 * the buffers to the pool, discarding the content of this stream.
+	 */
 	@Override
 	public void close() {
+		if (this.pool != null) {
+			reset();
+		}
 		this.closed = true;
 	}
 
@@ -235,6 +276,7 @@ public class FastByteArrayOutputStream extends OutputStream {
 	 * The output stream can be used again.
 	 */
 	public void reset() {
+		releaseBuffers();
 		this.buffers.clear();
 		this.nextBlockSize = this.initialBlockSize;
 		this.closed = false;
@@ -273,6 +315,36 @@ public class FastByteArrayOutputStream extends OutputStream {
 		}
 	}
 
+	/**
+	 * Write the contents of this {@code FastByteArrayOutputStream} to the given
+	 * {@link WritableByteChannel}, with a single gathering write for a
+	 * {@link GatheringByteChannel}, without consolidating the internal buffers.
+	 * @param channel the (blocking) channel to write to
+	 * @since 6.2
+	 */
+	public void writeTo(WritableByteChannel channel) throws IOException {
+		ByteBuffer[] byteBuffers = new ByteBuffer[this.buffers.size()];
+		int i = 0;
+		Iterator<byte[]> it = this.buffers.iterator();
+		while (it.hasNext()) {
+			byte[] bytes = it.next();
+			byteBuffers[i++] = ByteBuffer.wrap(bytes, 0, (it.hasNext() ? bytes.length : this.index));
+		}
+		if (channel instanceof GatheringByteChannel gatheringChannel) {
+			long remaining = size();
+			while (remaining > 0) {
+				remaining -= gatheringChannel.write(byteBuffers);
+			}
+		}
+		else {
+			for (ByteBuffer byteBuffer : byteBuffers) {
+				while (byteBuffer.hasRemaining()) {
+					channel.write(byteBuffer);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Resize the internal buffer size to the specified capacity.
 	 * @param targetCapacity the desired size of the buffer
@@ -283,9 +355,12 @@ public class FastByteArrayOutputStream extends OutputStream {
 	public void resize(int targetCapacity) {
 		Assert.isTrue(targetCapacity >= size(), "New capacity must not be smaller than current size");
 		if (this.buffers.peekFirst() == null) {
-			this.nextBlockSize = targetCapacity - size();
+			if (this.pool == null) {
+				this.nextBlockSize = targetCapacity - size();
+			}
 		}
-		else if (size() == targetCapacity && this.buffers.getFirst().length == targetCapacity) {
+		else if (size() == targetCapacity && this.buffers.getFirst().length == targetCapacity &&
+				(this.pool == null || this.buffers.getFirst() == this.unpooledBuffer)) {
 			// do nothing - already at the targetCapacity
 		}
 		else {
@@ -303,10 +378,14 @@ public class FastByteArrayOutputStream extends OutputStream {
 					System.arraycopy(bytes, 0, data, pos, this.index);
 				}
 			}
+			releaseBuffers();
 			this.buffers.clear();
 			this.buffers.add(data);
 			this.index = totalSize;
 			this.alreadyBufferedSize = 0;
+			if (this.pool != null) {
+				this.unpooledBuffer = data;
+			}
 		}
 	}
 
@@ -319,6 +398,11 @@ public class FastByteArrayOutputStream extends OutputStream {
 			this.alreadyBufferedSize += this.index;
 			this.index = 0;
 		}
+		if (this.pool != null) {
+			// fixed-size buffers from the pool, filled one after the other
+			this.buffers.add(this.pool.acquire());
+			return;
+		}
 		if (this.nextBlockSize < minCapacity) {
 			this.nextBlockSize = nextPowerOf2(minCapacity);
 		}
@@ -326,6 +410,21 @@ public class FastByteArrayOutputStream extends OutputStream {
 		this.nextBlockSize *= 2;  // block size doubles each time
 	}
 
+	/**
+	 * Return pooled buffers to the pool, if any.
+	 */
+	private void releaseBuffers() {
+		ByteArraySegmentPool pool = this.pool;
+		if (pool != null) {
+			for (byte[] buffer : this.buffers) {
+				if (buffer != this.unpooledBuffer) {
+					pool.release(buffer);
+				}
+			}
+			this.unpooledBuffer = null;
+		}
+	}
+
 	/**
 	 * Get the next power of 2 of a number (ex, the next power of 2 of 119 is 128).
 	 */
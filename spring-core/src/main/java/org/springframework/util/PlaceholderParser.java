@@ -55,12 +55,17 @@ import org.springframework.util.PropertyPlaceholderHelper.PlaceholderResolver;
  * escaping is conditional on providing non-null values for them.
  *
  * <p>This parser makes sure to resolves placeholders as lazily as possible.
+ * Parsed values are kept in a bounded cache per parser, so that repeated
+ * resolution of the same value only walks its precomputed parts. Values without
+ * any placeholder prefix are returned as-is, without parsing.
  *
  * @author Stephane Nicoll
  * @since 6.2
  */
 final class PlaceholderParser {
 
+	private static final int PARSED_VALUE_CACHE_LIMIT = 256;
+
 	private static final Log logger = LogFactory.getLog(PlaceholderParser.class);
 
 	private static final Map<String, String> wellKnownSimplePrefixes = Map.of(
@@ -84,6 +89,9 @@ final class PlaceholderParser {
 	@Nullable
 	private final Character escape;
 
+	private final ConcurrentLruCache<String, List<Part>> parsedValueCache =
+			new ConcurrentLruCache<>(PARSED_VALUE_CACHE_LIMIT, value -> parse(value, false));
+
 
 	/**
 	 * Create an instance using the specified input for the parser.
@@ -121,24 +129,44 @@ final class PlaceholderParser {
 	 */
 	public String replacePlaceholders(String value, PlaceholderResolver placeholderResolver) {
 		Assert.notNull(value, "'value' must not be null");
+		if (!value.contains(this.prefix)) {
+			return value;
+		}
 		ParsedValue parsedValue = parse(value);
 		PartResolutionContext resolutionContext = new PartResolutionContext(placeholderResolver,
-				this.prefix, this.suffix, this.ignoreUnresolvablePlaceholders,
-				candidate -> parse(candidate, false));
+				this.prefix, this.suffix, this.ignoreUnresolvablePlaceholders, this.parsedValueCache::get);
 		return parsedValue.resolve(resolutionContext);
 	}
 
 	/**
-	 * Parse the specified value.
+	 * Parse the specified value, reusing the parts of a previous parse
+	 * of the same value if available.
 	 * @param value the value containing the placeholders to be replaced
 	 * @return the different parts that have been identified
 	 */
 	ParsedValue parse(String value) {
-		List<Part> parts = parse(value, false);
+		List<Part> parts = this.parsedValueCache.get(value);
 		return new ParsedValue(value, parts);
 	}
 
+	/**
+	 * Return the number of parse requests served from the cache of parsed values.
+	 */
+	long getParsedValueCacheHitCount() {
+		return this.parsedValueCache.hitCount();
+	}
+
+	/**
+	 * Return the number of parse requests which required an actual parse.
+	 */
+	long getParsedValueCacheMissCount() {
+		return this.parsedValueCache.missCount();
+	}
+
 	private List<Part> parse(String value, boolean inPlaceholder) {
+		if (!inPlaceholder && !value.contains(this.prefix)) {
+			return List.of(new TextPart(value));
+		}
 		LinkedList<Part> parts = new LinkedList<>();
 		int startIndex = nextStartPrefix(value, 0);
 		if (startIndex == -1) {
@@ -459,10 +487,8 @@ final class PlaceholderParser {
 				resolutionContext.flagPlaceholderAsVisited(text);
 				// Let's check if we need to recursively resolve that value
 				List<Part> nestedParts = resolutionContext.parse(resolvedValue);
-				String value = toText(nestedParts);
-				if (!isTextOnly(nestedParts)) {
-					value = new ParsedValue(resolvedValue, nestedParts).resolve(resolutionContext);
-				}
+				String value = (isTextOnly(nestedParts) ? toText(nestedParts) :
+						new ParsedValue(resolvedValue, nestedParts).resolve(resolutionContext));
 				resolutionContext.removePlaceholder(text);
 				return value;
 			}
@@ -471,10 +497,18 @@ final class PlaceholderParser {
 		}
 
 		private boolean isTextOnly(List<Part> parts) {
-			return parts.stream().allMatch(TextPart.class::isInstance);
+			for (Part part : parts) {
+				if (!(part instanceof TextPart)) {
+					return false;
+				}
+			}
+			return true;
 		}
 
 		private String toText(List<Part> parts) {
+			if (parts.size() == 1) {
+				return parts.get(0).text();
+			}
 			StringBuilder sb = new StringBuilder();
 			parts.forEach(part -> sb.append(part.text()));
 			return sb.toString();
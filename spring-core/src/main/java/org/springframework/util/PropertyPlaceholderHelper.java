@@ -118,6 +118,26 @@ public class PropertyPlaceholderHelper {
 		return this.parser.replacePlaceholders(value, placeholderResolver);
 	}
 
+	/**
+	 * Return the number of values whose placeholder structure was served
+	 * from the cache of previously parsed values.
+	 * @since 6.2
+	 * @see #getParsedValueCacheMissCount()
+	 */
+	public long getParsedValueCacheHitCount() {
+		return this.parser.getParsedValueCacheHitCount();
+	}
+
+	/**
+	 * Return the number of values that had to be parsed since their
+	 * placeholder structure was not cached.
+	 * @since 6.2
+	 * @see #getParsedValueCacheHitCount()
+	 */
+	public long getParsedValueCacheMissCount() {
+		return this.parser.getParsedValueCacheMissCount();
+	}
+
 
 	/**
 	 * Strategy interface used to resolve replacement values for placeholders contained in Strings.
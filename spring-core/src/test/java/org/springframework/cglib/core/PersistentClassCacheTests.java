@@ -0,0 +1,135 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cglib.core;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.cglib.proxy.Callback;
+import org.springframework.cglib.proxy.CallbackFilter;
+import org.springframework.cglib.proxy.Enhancer;
+import org.springframework.cglib.proxy.FixedValue;
+import org.springframework.cglib.proxy.NoOp;
+import org.springframework.core.OverridingClassLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PersistentClassCache} with {@link ClassLoaderAwareGeneratorStrategy}.
+ *
+ * @author Spring Framework Team
+ */
+class PersistentClassCacheTests {
+
+	private static final FileTime MARKER_TIME = FileTime.fromMillis(0);
+
+	@TempDir
+	Path directory;
+
+
+	@Test
+	void reuseClassFileInFreshClassLoader() throws Exception {
+		PersistentClassCache cache = new PersistentClassCache(this.directory);
+
+		Object proxy = createProxy(cache, method -> 0);
+		assertThat(proxy.getClass().getName()).contains("$$SpringCGLIB$$");
+		assertThat(proxy.toString()).isEqualTo("original");
+		List<Path> files = cachedFiles();
+		assertThat(files).hasSize(1);
+		Files.setLastModifiedTime(files.get(0), MARKER_TIME);
+
+		Object proxy2 = createProxy(cache, method -> 0);
+		assertThat(proxy2.getClass()).isNotSameAs(proxy.getClass());
+		assertThat(proxy2.getClass().getName()).isEqualTo(proxy.getClass().getName());
+		assertThat(proxy2.toString()).isEqualTo("original");
+		assertThat(cachedFiles()).containsExactlyElementsOf(files);
+		assertThat(Files.getLastModifiedTime(files.get(0))).isEqualTo(MARKER_TIME);
+	}
+
+	@Test
+	void separateClassFileForDifferentCallbackFilterDecisions() throws Exception {
+		PersistentClassCache cache = new PersistentClassCache(this.directory);
+
+		assertThat(createProxy(cache, method -> 0).toString()).isEqualTo("original");
+		assertThat(createProxy(cache, method -> (method.getName().equals("toString") ? 1 : 0)).toString())
+				.isEqualTo("fixed");
+		assertThat(cachedFiles()).hasSize(2);
+	}
+
+	@Test
+	void ignoreClassFileForDifferentClassName() throws Exception {
+		PersistentClassCache cache = new PersistentClassCache(this.directory);
+		String resourceName = TestBean.class.getName().replace('.', '/') + ".class";
+		byte[] classFile = getClass().getClassLoader().getResourceAsStream(resourceName).readAllBytes();
+		cache.put(TestBean.class.getName(), "key", classFile);
+		cache.put("com.example.Foo", "key", classFile);
+
+		assertThat(cache.get(TestBean.class.getName(), "key")).isEqualTo(classFile);
+		assertThat(cache.get("com.example.Foo", "key")).isNull();
+	}
+
+	@Test
+	void classFileDigestIsStable() {
+		String digest = PersistentClassCache.classFileDigest(List.of(TestBean.class, Object.class));
+		assertThat(digest).isNotNull().isEqualTo(
+				PersistentClassCache.classFileDigest(List.of(TestBean.class, Object.class)));
+		assertThat(digest).isNotEqualTo(PersistentClassCache.classFileDigest(List.of(TestBean.class)));
+	}
+
+
+	private Object createProxy(PersistentClassCache cache, CallbackFilter filter) throws Exception {
+		ClassLoader classLoader = new OverridingClassLoader(getClass().getClassLoader()) {
+			@Override
+			protected boolean isEligibleForOverriding(String className) {
+				return className.equals(TestBean.class.getName());
+			}
+		};
+		Enhancer enhancer = new Enhancer();
+		enhancer.setSuperclass(classLoader.loadClass(TestBean.class.getName()));
+		enhancer.setCallbackFilter(filter);
+		enhancer.setCallbackTypes(new Class<?>[] {NoOp.class, FixedValue.class});
+		enhancer.setNamingPolicy(SpringNamingPolicy.INSTANCE);
+		enhancer.setUseFactory(false);
+		enhancer.setStrategy(new ClassLoaderAwareGeneratorStrategy(classLoader, cache));
+		Class<?> proxyClass = enhancer.createClass();
+		Enhancer.registerCallbacks(proxyClass, new Callback[] {NoOp.INSTANCE, (FixedValue) () -> "fixed"});
+		return proxyClass.getDeclaredConstructor().newInstance();
+	}
+
+	private List<Path> cachedFiles() throws IOException {
+		try (Stream<Path> files = Files.list(this.directory)) {
+			return files.toList();
+		}
+	}
+
+
+	public static class TestBean {
+
+		@Override
+		public String toString() {
+			return "original";
+		}
+	}
+
+}
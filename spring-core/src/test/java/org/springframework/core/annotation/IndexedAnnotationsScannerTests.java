@@ -0,0 +1,74 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.annotation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AnnotationsScanner} with all test classes
+ * {@linkplain AnnotationUtils#indexAnnotations indexed} upfront.
+ *
+ * @author Spring Framework Team
+ */
+class IndexedAnnotationsScannerTests extends AnnotationsScannerTests {
+
+	@BeforeEach
+	void indexAnnotations() {
+		for (Class<?> clazz : AnnotationsScannerTests.class.getDeclaredClasses()) {
+			AnnotationUtils.indexAnnotations(clazz);
+		}
+	}
+
+	@AfterEach
+	void clearCache() {
+		AnnotationUtils.clearCache();
+	}
+
+
+	@Test
+	void indexCoversSuperclassesAndInterfaces() {
+		AnnotationUtils.clearCache();
+		AnnotationUtils.indexAnnotations(WithHierarchy.class);
+		assertThat(AnnotationsScanner.isIndexed(WithHierarchy.class)).isTrue();
+		assertThat(AnnotationsScanner.isIndexed(HierarchySuperSuperclass.class)).isTrue();
+		assertThat(AnnotationsScanner.isIndexed(HierarchySuperclass.class)).isTrue();
+		assertThat(AnnotationsScanner.isIndexed(HierarchyInterface.class)).isTrue();
+		assertThat(AnnotationsScanner.isIndexed(HierarchyInterfaceInterface.class)).isTrue();
+		assertThat(AnnotationsScanner.isIndexed(Object.class)).isFalse();
+	}
+
+	@Test
+	void indexIsReleasedOnClearCache() {
+		assertThat(AnnotationsScanner.isIndexed(WithSingleAnnotation.class)).isTrue();
+		AnnotationUtils.clearCache();
+		assertThat(AnnotationsScanner.isIndexed(WithSingleAnnotation.class)).isFalse();
+	}
+
+	@Test
+	void indexedAnnotationsAreDefensivelyCopied() throws Exception {
+		assertThat(AnnotationsScanner.getDeclaredAnnotations(WithSingleAnnotation.class, true))
+				.isNotSameAs(AnnotationsScanner.getDeclaredAnnotations(WithSingleAnnotation.class, true))
+				.hasSize(1);
+		assertThat(AnnotationsScanner.getDeclaredAnnotations(
+				WithSingleAnnotation.class.getDeclaredConstructor(), false)).isEmpty();
+	}
+
+}
@@ -25,9 +25,11 @@ import reactor.test.StepVerifier;
 
 import org.springframework.core.ResolvableType;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.core.testfixture.codec.AbstractEncoderTests;
 import org.springframework.lang.Nullable;
 import org.springframework.util.MimeType;
@@ -74,6 +76,22 @@ class ResourceEncoderTests extends AbstractEncoderTests<ResourceEncoder> {
 				.verifyComplete());
 	}
 
+	@Test
+	void encodeFileThroughMemoryMapping() {
+		ResourceEncoder encoder = new ResourceEncoder(9);
+		encoder.setMemoryMappingThreshold(0);
+		Resource resource = new ClassPathResource("ResourceRegionEncoderTests.txt", getClass());
+		Flux<DataBuffer> result = encoder.encode(Flux.just(resource), this.bufferFactory,
+				ResolvableType.forClass(Resource.class), null, null);
+
+		StepVerifier.create(DataBufferUtils.join(result))
+				.consumeNextWith(buffer -> {
+					assertThat(buffer.toString(UTF_8)).isEqualTo("Spring Framework test resource content.");
+					DataBufferUtils.release(buffer);
+				})
+				.verifyComplete();
+	}
+
 	@Override
 	protected void testEncodeError(Publisher<?> input, ResolvableType outputType,
 			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
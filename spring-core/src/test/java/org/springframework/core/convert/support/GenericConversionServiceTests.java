@@ -123,6 +123,54 @@ class GenericConversionServiceTests {
 				conversionService.convert(null, TypeDescriptor.valueOf(String.class), TypeDescriptor.valueOf(int.class)));
 	}
 
+	@Test
+	void convertToPrimitiveAndEnumRepeatedly() {
+		conversionService.addConverterFactory(new StringToNumberConverterFactory());
+		conversionService.addConverter(new StringToBooleanConverter());
+		conversionService.addConverterFactory(new StringToEnumConverterFactory());
+		for (int i = 0; i < 3; i++) {
+			assertThat(conversionService.convert("3", int.class)).isEqualTo(3);
+			assertThat(conversionService.convert("3", Integer.class)).isEqualTo(3);
+			assertThat(conversionService.convert("3", Long.class)).isEqualTo(3L);
+			assertThat(conversionService.convert("true", boolean.class)).isTrue();
+			assertThat(conversionService.convert("B", MyEnum.class)).isEqualTo(MyEnum.B);
+			assertThat(conversionService.convert("3", TypeDescriptor.valueOf(String.class),
+					TypeDescriptor.valueOf(int.class))).isEqualTo(3);
+		}
+	}
+
+	@Test
+	void convertToPrimitiveFailure() {
+		conversionService.addConverterFactory(new StringToNumberConverterFactory());
+		assertThat(conversionService.convert("3", int.class)).isEqualTo(3);
+		assertThatExceptionOfType(ConversionFailedException.class).isThrownBy(() ->
+				conversionService.convert("x", int.class))
+			.withCauseInstanceOf(NumberFormatException.class);
+		assertThatExceptionOfType(ConverterNotFoundException.class).isThrownBy(() ->
+				conversionService.convert("true", boolean.class));
+	}
+
+	@Test
+	void convertToPrimitiveAfterConverterAdded() {
+		conversionService.addConverterFactory(new StringToNumberConverterFactory());
+		assertThat(conversionService.convert("3", int.class)).isEqualTo(3);
+		conversionService.addConverter(String.class, Integer.class, source -> 42);
+		assertThat(conversionService.convert("3", int.class)).isEqualTo(42);
+		conversionService.removeConvertible(String.class, Integer.class);
+		assertThat(conversionService.convert("3", int.class)).isEqualTo(3);
+	}
+
+	@Test
+	void convertToPrimitiveWithAnnotatedTargetType() throws Exception {
+		conversionService.addConverterFactory(new StringToNumberConverterFactory());
+		conversionService.addConverter(new AnnotatedIntegerConverter());
+		TypeDescriptor annotatedType = new TypeDescriptor(getClass().getField("annotatedInteger"));
+		assertThat(conversionService.convert("3", int.class)).isEqualTo(3);
+		assertThat(conversionService.convert("3", TypeDescriptor.valueOf(String.class), annotatedType)).isEqualTo(-3);
+		assertThat(conversionService.convert("3", TypeDescriptor.valueOf(String.class),
+				TypeDescriptor.valueOf(Integer.class))).isEqualTo(3);
+	}
+
 	@Test
 	void convertNotNullSourceNullSourceTypeDescriptor() {
 		assertThatIllegalArgumentException().isThrownBy(() ->
@@ -569,6 +617,9 @@ class GenericConversionServiceTests {
 	@ExampleAnnotation(active = true)
 	public String annotatedString;
 
+	@ExampleAnnotation(active = true)
+	public int annotatedInteger;
+
 	@ExampleAnnotation(active = true)
 	public Color activeColor;
 
@@ -652,6 +703,20 @@ class GenericConversionServiceTests {
 	}
 
 
+	private static class AnnotatedIntegerConverter implements Converter<String, Integer>, ConditionalConverter {
+
+		@Override
+		public boolean matches(TypeDescriptor sourceType, TypeDescriptor targetType) {
+			return targetType.hasAnnotation(ExampleAnnotation.class);
+		}
+
+		@Override
+		public Integer convert(String source) {
+			return -Integer.parseInt(source);
+		}
+	}
+
+
 	private static class MyConditionalConverter implements Converter<String, Color>, ConditionalConverter {
 
 		private int matchAttempts = 0;
@@ -358,4 +358,78 @@ class PropertySourcesPropertyResolverTests {
 			.withMessageContaining("Could not resolve placeholder 'bogus' in value \"${p1}:${p2}:${bogus}\"");
 	}
 
+	@Test
+	void getProperty_withPropertyIndex() {
+		MutablePropertySources sources = new MutablePropertySources();
+		PropertySourcesPropertyResolver resolver = new PropertySourcesPropertyResolver(sources);
+		resolver.setUsePropertyIndex(true);
+		CompositePropertySource composite = new CompositePropertySource("composite");
+		composite.addPropertySource(new MockPropertySource("nested").withProperty("p2", "nestedValue"));
+		sources.addLast(new MockPropertySource("ps1").withProperty("p1", "ps1Value"));
+		sources.addLast(composite);
+		sources.addLast(new MockPropertySource("ps2").withProperty("p1", "ps2Value").withProperty("p2", "ps2Value"));
+
+		assertThat(resolver.getProperty("p1")).isEqualTo("ps1Value");
+		assertThat(resolver.getProperty("p2")).isEqualTo("nestedValue");
+		assertThat(resolver.getProperty("p3")).isNull();
+		assertThat(resolver.containsProperty("p2")).isTrue();
+		assertThat(resolver.containsProperty("p3")).isFalse();
+
+		sources.addFirst(new MockPropertySource("ps0").withProperty("p2", "ps0Value"));
+		assertThat(resolver.getProperty("p2")).isEqualTo("ps0Value");
+		sources.remove("ps1");
+		assertThat(resolver.getProperty("p1")).isEqualTo("ps2Value");
+		sources.replace("ps0", new MockPropertySource("ps0").withProperty("p3", "ps0Value"));
+		assertThat(resolver.getProperty("p2")).isEqualTo("nestedValue");
+		assertThat(resolver.getProperty("p3")).isEqualTo("ps0Value");
+	}
+
+	@Test
+	void getProperty_withPropertyIndexAndNonEnumerablePropertySources() {
+		MutablePropertySources sources = new MutablePropertySources();
+		PropertySourcesPropertyResolver resolver = new PropertySourcesPropertyResolver(sources);
+		resolver.setUsePropertyIndex(true);
+		Map<String, Object> nonEnumerable = new HashMap<>();
+		sources.addLast(new PropertySource<>("nonEnumerable", nonEnumerable) {
+			@Override
+			public Object getProperty(String name) {
+				return nonEnumerable.get(name);
+			}
+		});
+		sources.addLast(new SystemEnvironmentPropertySource("env", Map.of("P_ONE", "envValue")));
+		sources.addLast(new MockPropertySource("ps").withProperty("p.one", "psValue").withProperty("p.two", "psValue"));
+
+		assertThat(resolver.getProperty("p.one")).isEqualTo("envValue");
+		assertThat(resolver.getProperty("p.two")).isEqualTo("psValue");
+		nonEnumerable.put("p.two", "nonEnumerableValue");
+		assertThat(resolver.getProperty("p.two")).isEqualTo("nonEnumerableValue");
+		assertThat(resolver.containsProperty("p.two")).isTrue();
+	}
+
+	@Test
+	void getProperty_withPropertyIndexAndChangedPropertyNames() {
+		MutablePropertySources sources = new MutablePropertySources();
+		PropertySourcesPropertyResolver resolver = new PropertySourcesPropertyResolver(sources);
+		resolver.setUsePropertyIndex(true);
+		Map<String, Object> map1 = new HashMap<>();
+		Map<String, Object> map2 = new HashMap<>();
+		map1.put("foo", "value1");
+		map2.put("foo", "value2");
+		sources.addLast(new MapPropertySource("ps1", map1));
+		sources.addLast(new MapPropertySource("ps2", map2));
+		assertThat(resolver.getProperty("foo")).isEqualTo("value1");
+
+		// values are not indexed
+		map1.put("foo", "newValue1");
+		assertThat(resolver.getProperty("foo")).isEqualTo("newValue1");
+		map1.remove("foo");
+		assertThat(resolver.getProperty("foo")).isEqualTo("value2");
+
+		// names are indexed until invalidated
+		map1.put("bar", "value1");
+		assertThat(resolver.getProperty("bar")).isNull();
+		resolver.invalidatePropertyIndex();
+		assertThat(resolver.getProperty("bar")).isEqualTo("value1");
+	}
+
 }
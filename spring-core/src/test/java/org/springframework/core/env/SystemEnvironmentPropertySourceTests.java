@@ -17,6 +17,7 @@
 package org.springframework.core.env;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -145,4 +146,24 @@ class SystemEnvironmentPropertySourceTests {
 		assertThat(ps.getProperty("A.hyphen-KEY")).isEqualTo("a_hyphen_value");
 	}
 
+	@Test
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	void processEnvironmentResolvesLikeMutableMap() {
+		Map<String, Object> processEnv = (Map) System.getenv();
+		PropertySource<?> indexed = new SystemEnvironmentPropertySource("sysEnv", processEnv);
+		PropertySource<?> plain = new SystemEnvironmentPropertySource("sysEnv", new HashMap<>(processEnv));
+
+		for (int i = 0; i < 2; i++) {
+			for (String key : processEnv.keySet()) {
+				for (String name : List.of(key, key.toLowerCase(), key.replace('_', '.'),
+						key.toLowerCase().replace('_', '.'), key.toLowerCase().replace('_', '-'), key + ".missing")) {
+					assertThat(indexed.getProperty(name)).as(name).isEqualTo(plain.getProperty(name));
+					assertThat(indexed.containsProperty(name)).as(name).isEqualTo(plain.containsProperty(name));
+				}
+			}
+			assertThat(indexed.getProperty("spring.no-such.variable")).isNull();
+			assertThat(indexed.containsProperty("spring.no-such.variable")).isFalse();
+		}
+	}
+
 }
@@ -16,8 +16,11 @@
 
 package org.springframework.core.io.buffer;
 
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -55,4 +58,82 @@ class DefaultDataBufferTests {
 		release(dataBuffer);
 	}
 
+	@Test
+	void joinWithoutCopying() throws Exception {
+		DefaultDataBuffer joined = this.bufferFactory.join(List.of(
+				stringBuffer("Hello "), stringBuffer(""), stringBuffer("composite "), stringBuffer("World")));
+
+		assertThat(joined.readableByteCount()).isEqualTo(21);
+		assertThat(joined.capacity()).isEqualTo(21);
+		assertThat(joined.getByte(6)).isEqualTo((byte) 'c');
+		assertThat(joined.indexOf(b -> b == 'W', 0)).isEqualTo(16);
+		assertThat(joined.lastIndexOf(b -> b == 'o', 20)).isEqualTo(17);
+		assertThat(joined.lastIndexOf(b -> b == 'H', 5)).isZero();
+		assertThat(joined.toString(4, 10, StandardCharsets.UTF_8)).isEqualTo("o composit");
+
+		List<String> parts = new ArrayList<>();
+		try (DataBuffer.ByteBufferIterator iterator = joined.readableByteBuffers()) {
+			iterator.forEachRemaining(byteBuffer -> parts.add(StandardCharsets.UTF_8.decode(byteBuffer).toString()));
+		}
+		assertThat(parts).containsExactly("Hello ", "composite ", "World");
+
+		assertThat(joined.read()).isEqualTo((byte) 'H');
+		byte[] bytes = new byte[8];
+		joined.read(bytes);
+		assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo("ello com");
+		parts.clear();
+		try (DataBuffer.ByteBufferIterator iterator = joined.readableByteBuffers()) {
+			iterator.forEachRemaining(byteBuffer -> parts.add(StandardCharsets.UTF_8.decode(byteBuffer).toString()));
+		}
+		assertThat(parts).containsExactly("posite ", "World");
+		try (InputStream inputStream = joined.asInputStream()) {
+			assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("posite World");
+		}
+		assertThat(joined.readableByteCount()).isZero();
+		assertThat(joined.readableByteBuffers().hasNext()).isFalse();
+	}
+
+	@Test
+	void joinConsolidatesOnWrite() {
+		DefaultDataBuffer joined = this.bufferFactory.join(List.of(stringBuffer("Hello "), stringBuffer("World")));
+		joined.readPosition(2);
+		joined.write("!", StandardCharsets.UTF_8);
+
+		assertThat(joined.readPosition()).isEqualTo(2);
+		assertThat(joined.writePosition()).isEqualTo(12);
+		assertThat(joined.toString(StandardCharsets.UTF_8)).isEqualTo("llo World!");
+		assertThat(joined.getNativeBuffer().remaining()).isEqualTo(10);
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	void joinReadThenView() {
+		DefaultDataBuffer joined = this.bufferFactory.join(List.of(stringBuffer("abc"), stringBuffer("def")));
+		joined.read(new byte[2]);
+
+		assertThat(StandardCharsets.UTF_8.decode(joined.asByteBuffer()).toString()).isEqualTo("cdef");
+		assertThat(StandardCharsets.UTF_8.decode(joined.toByteBuffer()).toString()).isEqualTo("cdef");
+		assertThat(joined.toString(StandardCharsets.UTF_8)).isEqualTo("cdef");
+		assertThat(joined.getNativeBuffer().position()).isEqualTo(2);
+		assertThat(StandardCharsets.UTF_8.decode(joined.asByteBuffer()).toString()).isEqualTo("cdef");
+	}
+
+	@Test
+	void joinComposites() {
+		DefaultDataBuffer first = this.bufferFactory.join(List.of(stringBuffer("a"), stringBuffer("b")));
+		first.read();
+		DefaultDataBuffer second = this.bufferFactory.join(List.of(stringBuffer("c"), stringBuffer("d")));
+		DefaultDataBuffer joined = this.bufferFactory.join(List.of(first, second));
+		assertThat(joined.toString(StandardCharsets.UTF_8)).isEqualTo("bcd");
+
+		ByteBuffer copy = ByteBuffer.allocate(3);
+		joined.toByteBuffer(copy);
+		assertThat(StandardCharsets.UTF_8.decode(copy).toString()).isEqualTo("bcd");
+	}
+
+
+	private DefaultDataBuffer stringBuffer(String value) {
+		return this.bufferFactory.wrap(value.getBytes(StandardCharsets.UTF_8));
+	}
+
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link DefaultPooledDataBufferFactory}.
+ *
+ * @author Spring Framework Team
+ */
+class DefaultPooledDataBufferFactoryTests {
+
+	private final DefaultPooledDataBufferFactory bufferFactory = new DefaultPooledDataBufferFactory();
+
+
+	@Test
+	void releasedBufferIsReused() {
+		DefaultPooledDataBuffer buffer = this.bufferFactory.allocateBuffer(100);
+		assertThat(this.bufferFactory.getActiveBufferCount()).isEqualTo(1);
+		assertThat(this.bufferFactory.getActiveBufferCount()).isEqualTo(1);
+
+		assertThat(DataBufferUtils.release(buffer)).isTrue();
+		assertThat(buffer.isAllocated()).isFalse();
+		assertThat(this.bufferFactory.getActiveBufferCount()).isZero();
+		assertThat(this.bufferFactory.getIdleBufferCount()).isEqualTo(1);
+
+		DefaultPooledDataBuffer other = this.bufferFactory.allocateBuffer(200);
+		assertThat(this.bufferFactory.getPoolHitCount()).isEqualTo(1);
+		assertThat(this.bufferFactory.getPooledAllocationCount()).isEqualTo(2);
+		assertThat(this.bufferFactory.getIdleBufferCount()).isZero();
+		DataBufferUtils.release(other);
+	}
+
+	@Test
+	void bufferGrowsIntoSizeClassCapacity() {
+		DefaultPooledDataBuffer buffer = this.bufferFactory.allocateBuffer(100);
+		assertThat(buffer.capacity()).isEqualTo(100);
+		buffer.write(new byte[100]);
+		byte[] memory = backingArray(buffer);
+
+		buffer.write(new byte[100]);
+		assertThat(buffer.capacity()).isEqualTo(ByteBufferPool.MIN_SIZE_CLASS_CAPACITY);
+		assertThat(backingArray(buffer)).isSameAs(memory);
+
+		buffer.write(new byte[100]);
+		assertThat(buffer.capacity()).isGreaterThan(ByteBufferPool.MIN_SIZE_CLASS_CAPACITY);
+		assertThat(backingArray(buffer)).isNotSameAs(memory);
+		DataBufferUtils.release(buffer);
+		assertThat(this.bufferFactory.getIdleBufferCount()).isEqualTo(1);
+	}
+
+	@Test
+	void leakedBufferIsNoLongerActive() throws InterruptedException {
+		this.bufferFactory.setLeakDetection(true);
+		this.bufferFactory.allocateBuffer(100).touch("leaked");
+		assertThat(this.bufferFactory.getActiveBufferCount()).isEqualTo(1);
+
+		for (int i = 0; i < 100 && this.bufferFactory.getLeakCount() == 0; i++) {
+			System.gc();
+			Thread.sleep(50);
+		}
+		assertThat(this.bufferFactory.getLeakCount()).isEqualTo(1);
+		assertThat(this.bufferFactory.getActiveBufferCount()).isZero();
+		assertThat(this.bufferFactory.getIdleBufferCount()).isZero();
+	}
+
+	@Test
+	void retainAndRelease() {
+		DefaultPooledDataBuffer buffer = this.bufferFactory.allocateBuffer(10);
+		buffer.retain();
+		assertThat(buffer.release()).isFalse();
+		assertThat(this.bufferFactory.getActiveBufferCount()).isEqualTo(1);
+		assertThat(buffer.release()).isTrue();
+		assertThat(this.bufferFactory.getActiveBufferCount()).isZero();
+		assertThatIllegalStateException().isThrownBy(buffer::release);
+		assertThatIllegalStateException().isThrownBy(buffer::retain);
+	}
+
+	@Test
+	void splitBuffersShareMemoryUntilAllReleased() {
+		DefaultPooledDataBuffer buffer = this.bufferFactory.allocateBuffer(10);
+		buffer.write("foobar", StandardCharsets.UTF_8);
+		DataBuffer split = buffer.split(3);
+
+		DataBufferUtils.release(buffer);
+		assertThat(this.bufferFactory.getActiveBufferCount()).isEqualTo(1);
+		assertThat(split.toString(StandardCharsets.UTF_8)).isEqualTo("foo");
+
+		DataBufferUtils.release(split);
+		assertThat(this.bufferFactory.getActiveBufferCount()).isZero();
+	}
+
+	@Test
+	void byteBufferIteratorRetainsMemoryUntilClosed() {
+		DefaultPooledDataBuffer buffer = this.bufferFactory.allocateBuffer(10);
+		buffer.write("foo", StandardCharsets.UTF_8);
+		try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+			DataBufferUtils.release(buffer);
+			assertThat(this.bufferFactory.getActiveBufferCount()).isEqualTo(1);
+			assertThat(iterator.next().remaining()).isEqualTo(3);
+		}
+		assertThat(this.bufferFactory.getActiveBufferCount()).isZero();
+	}
+
+	@Test
+	void largeBufferIsNotPooled() {
+		int capacity = this.bufferFactory.getMaxPooledCapacity() + 1;
+		DefaultPooledDataBuffer buffer = this.bufferFactory.allocateBuffer(capacity);
+		assertThat(buffer.capacity()).isEqualTo(capacity);
+		assertThat(this.bufferFactory.getUnpooledAllocationCount()).isEqualTo(1);
+		assertThat(this.bufferFactory.getActiveBufferCount()).isZero();
+		assertThat(DataBufferUtils.release(buffer)).isTrue();
+		assertThat(this.bufferFactory.getIdleBufferCount()).isZero();
+	}
+
+	@Test
+	void sharedArenaIsBounded() {
+		DefaultPooledDataBufferFactory bufferFactory = new DefaultPooledDataBufferFactory(false, 1024, 1);
+		bufferFactory.setThreadLocalCacheSize(0);
+		DataBuffer first = bufferFactory.allocateBuffer(512);
+		DataBuffer second = bufferFactory.allocateBuffer(512);
+		DataBufferUtils.release(first);
+		DataBufferUtils.release(second);
+		assertThat(bufferFactory.getIdleBufferCount()).isEqualTo(1);
+	}
+
+	@Test
+	void join() {
+		DataBuffer foo = this.bufferFactory.wrap("foo".getBytes(StandardCharsets.UTF_8));
+		DataBuffer bar = this.bufferFactory.allocateBuffer(3).write("bar", StandardCharsets.UTF_8);
+		DefaultPooledDataBuffer result = this.bufferFactory.join(List.of(foo, bar));
+		assertThat(result.toString(StandardCharsets.UTF_8)).isEqualTo("foobar");
+		assertThat(this.bufferFactory.getActiveBufferCount()).isEqualTo(1);
+		DataBufferUtils.release(result);
+		assertThat(this.bufferFactory.getActiveBufferCount()).isZero();
+	}
+
+
+	private static byte[] backingArray(DataBuffer buffer) {
+		try (DataBuffer.ByteBufferIterator iterator = buffer.writableByteBuffers()) {
+			return iterator.next().array();
+		}
+	}
+
+}
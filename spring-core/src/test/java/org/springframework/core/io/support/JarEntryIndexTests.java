@@ -0,0 +1,104 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.support;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link JarEntryIndex}.
+ *
+ * @author Spring Framework Team
+ */
+class JarEntryIndexTests {
+
+	@TempDir
+	Path tempDir;
+
+
+	@Test
+	void storeAndReadEntries() throws IOException {
+		File jarFile = createFile("test.jar", "content");
+		NavigableSet<String> entries = new TreeSet<>(List.of(
+				"META-INF/", "META-INF/MANIFEST.MF", "org/", "org/example/", "org/example/Foo.class",
+				"org/example/Foo$Bar.class", "org/example/sub/Baz.class", "ä/😀.txt", "ä/😁.txt"));
+		JarEntryIndex index = new JarEntryIndex(this.tempDir.resolve("index"));
+		assertThat(index.getEntries(jarFile)).isNull();
+
+		index.storeEntries(jarFile, entries);
+		assertThat(index.getEntries(jarFile)).containsExactlyElementsOf(entries);
+		assertThat(new JarEntryIndex(this.tempDir.resolve("index")).getEntries(jarFile)).containsExactlyElementsOf(entries);
+	}
+
+	@Test
+	void entriesAreIgnoredWhenJarFileChanges() throws IOException {
+		File jarFile = createFile("test.jar", "content");
+		JarEntryIndex index = new JarEntryIndex(this.tempDir.resolve("index"));
+		index.storeEntries(jarFile, new TreeSet<>(List.of("a.txt")));
+		assertThat(index.getEntries(jarFile)).containsExactly("a.txt");
+
+		long lastModified = jarFile.lastModified();
+		Files.writeString(jarFile.toPath(), "other content");
+		assertThat(jarFile.setLastModified(lastModified)).isTrue();
+		assertThat(index.getEntries(jarFile)).isNull();
+
+		index.storeEntries(jarFile, new TreeSet<>(List.of("b.txt")));
+		assertThat(jarFile.setLastModified(lastModified - 10_000)).isTrue();
+		assertThat(index.getEntries(jarFile)).isNull();
+	}
+
+	@Test
+	void entriesAreIgnoredForCorruptIndexFile() throws IOException {
+		File jarFile = createFile("test.jar", "content");
+		Path indexDir = this.tempDir.resolve("index");
+		JarEntryIndex index = new JarEntryIndex(indexDir);
+		index.storeEntries(jarFile, new TreeSet<>(List.of("a.txt")));
+		try (var indexFiles = Files.list(indexDir)) {
+			for (Path indexFile : indexFiles.toList()) {
+				Files.write(indexFile, new byte[] {0, 0, 0, 1, 0});
+			}
+		}
+		assertThat(index.getEntries(jarFile)).isNull();
+	}
+
+	@Test
+	void entriesForDifferentJarFilesAreKeptApart() throws IOException {
+		File jarFile1 = createFile("test1.jar", "content");
+		File jarFile2 = createFile("test2.jar", "content");
+		JarEntryIndex index = new JarEntryIndex(this.tempDir.resolve("index"));
+		index.storeEntries(jarFile1, new TreeSet<>(List.of("a.txt")));
+		index.storeEntries(jarFile2, new TreeSet<>(List.of("b.txt")));
+		assertThat(index.getEntries(jarFile1)).containsExactly("a.txt");
+		assertThat(index.getEntries(jarFile2)).containsExactly("b.txt");
+	}
+
+
+	private File createFile(String name, String content) throws IOException {
+		return Files.writeString(this.tempDir.resolve(name), content).toFile();
+	}
+
+}
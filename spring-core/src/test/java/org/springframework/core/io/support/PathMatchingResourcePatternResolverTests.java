@@ -16,19 +16,27 @@
 
 package org.springframework.core.io.support;
 
+import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.FileSystemResource;
@@ -276,6 +284,51 @@ class PathMatchingResourcePatternResolverTests {
 				.as("Could not find aspectj_1_5_0.dtd in the root of the aspectjweaver jar")
 				.containsExactly("aspectj_1_5_0.dtd");
 		}
+
+		@Test
+		void classpathStarWithPatternInJarUsingJarEntryIndex(@TempDir Path indexDir) throws IOException {
+			resolver.setJarEntryIndexDirectory(indexDir);
+			String pattern = "classpath*:reactor/util/annotation/*.class";
+			assertExactFilenames(pattern, CLASSES_IN_REACTOR_UTIL_ANNOTATION);
+			try (Stream<Path> indexFiles = Files.list(indexDir)) {
+				assertThat(indexFiles).isNotEmpty();
+			}
+
+			resolver = new PathMatchingResourcePatternResolver();
+			resolver.setJarEntryIndexDirectory(indexDir);
+			assertExactFilenames(pattern, CLASSES_IN_REACTOR_UTIL_ANNOTATION);
+		}
+
+		@Test
+		void jarEntryIndexForJarUrlPattern(@TempDir Path tempDir) throws IOException {
+			File jarFile = tempDir.resolve("test.jar").toFile();
+			writeJar(jarFile, "foo/", "foo/a.txt", "foo/b.txt", "bar/c.txt");
+			String pattern = "jar:" + jarFile.toURI() + "!/foo/*.txt";
+			resolver.setJarEntryIndexDirectory(tempDir.resolve("index"));
+			assertExactFilenames(pattern, "a.txt", "b.txt");
+
+			JarEntryIndex index = new JarEntryIndex(tempDir.resolve("index"));
+			assertThat(index.getEntries(jarFile)).containsExactly("bar/c.txt", "foo/", "foo/a.txt", "foo/b.txt");
+		}
+
+		@Test
+		void classpathStarWithPatternUsingParallelScanning() throws IOException {
+			String pattern = "classpath*:org/springframework/core/io/support/*.class";
+			Resource[] expected = resolver.getResources(pattern);
+			resolver = new PathMatchingResourcePatternResolver();
+			resolver.setParallelScanning(true);
+			assertThat(resolver.getResources(pattern)).containsExactly(expected);
+		}
+
+		private static void writeJar(File jarFile, String... entryNames) throws IOException {
+			try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jarFile))) {
+				for (String entryName : entryNames) {
+					out.putNextEntry(new JarEntry(entryName));
+					out.write(entryName.getBytes(StandardCharsets.UTF_8));
+					out.closeEntry();
+				}
+			}
+		}
 	}
 
 
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.task;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.task.ConcurrencyLimitingTaskExecutor.ConcurrencyStatistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link ConcurrencyLimitingTaskExecutor}.
+ *
+ * @author Spring Framework Team
+ */
+class ConcurrencyLimitingTaskExecutorTests {
+
+	private final ConcurrencyLimitingTaskExecutor executor =
+			new ConcurrencyLimitingTaskExecutor(new SimpleAsyncTaskExecutor());
+
+
+	@Test
+	void unboundedByDefault() throws Exception {
+		CompletableFuture<String> future = executor.submitCompletable(() -> "result");
+		assertThat(future.get(1, TimeUnit.SECONDS)).isEqualTo("result");
+		ConcurrencyStatistics statistics = executor.getStatistics(ConcurrencyLimitingTaskExecutor.DEFAULT_KEY);
+		assertThat(statistics).isNotNull();
+		assertThat(statistics.concurrencyLimit()).isEqualTo(ConcurrencyLimitingTaskExecutor.UNBOUNDED_CONCURRENCY);
+		assertThat(statistics.inFlight()).isZero();
+	}
+
+	@Test
+	void concurrencyLimitPerKey() throws Exception {
+		executor.setConcurrencyLimit(2);
+		executor.setConcurrencyLimits(Map.of("slow", 1));
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		Runnable task = () -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			try {
+				release.await();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			running.decrementAndGet();
+		};
+
+		executor.execute("fast", task);
+		executor.execute("fast", task);
+		executor.execute("slow", task);
+		Thread submitter = new Thread(() -> executor.execute("slow", task));
+		submitter.start();
+
+		assertEventually(() -> {
+			ConcurrencyStatistics slow = executor.getStatistics("slow");
+			assertThat(slow).isNotNull();
+			assertThat(slow.inFlight()).isEqualTo(1);
+			assertThat(slow.queued()).isEqualTo(1);
+		});
+		ConcurrencyStatistics fast = executor.getStatistics("fast");
+		assertThat(fast).isNotNull();
+		assertThat(fast.concurrencyLimit()).isEqualTo(2);
+		assertThat(fast.inFlight()).isEqualTo(2);
+		assertThat(fast.queued()).isZero();
+		assertThat(running.get()).isEqualTo(3);
+
+		release.countDown();
+		submitter.join(5000);
+		assertEventually(() ->
+				assertThat(executor.getStatistics()).allSatisfy((key, statistics) -> {
+					assertThat(statistics.inFlight()).isZero();
+					assertThat(statistics.queued()).isZero();
+				}));
+		assertThat(maxRunning.get()).isEqualTo(3);
+		assertThat(executor.getStatistics("slow").acquiredCount()).isEqualTo(2);
+		assertThat(executor.getStatistics("slow").totalWaitNanos()).isPositive();
+		assertThat(executor.getStatistics("fast").acquiredCount()).isEqualTo(2);
+	}
+
+	@Test
+	void rejectWhenQueueCapacityExceeded() throws Exception {
+		executor.setConcurrencyLimit(1);
+		executor.setQueueCapacity(0);
+		CountDownLatch release = new CountDownLatch(1);
+		executor.execute(() -> awaitQuietly(release));
+
+		assertThatExceptionOfType(TaskRejectedException.class).isThrownBy(() -> executor.execute(() -> {}));
+		ConcurrencyStatistics statistics = executor.getStatistics(ConcurrencyLimitingTaskExecutor.DEFAULT_KEY);
+		assertThat(statistics).isNotNull();
+		assertThat(statistics.rejectedCount()).isEqualTo(1);
+		assertThat(statistics.acquiredCount()).isEqualTo(1);
+		release.countDown();
+	}
+
+	@Test
+	void rejectWhenQueueTimeoutExceeded() {
+		executor.setConcurrencyLimit(1);
+		executor.setQueueTimeout(50);
+		CountDownLatch release = new CountDownLatch(1);
+		executor.execute(() -> awaitQuietly(release));
+
+		assertThatExceptionOfType(TaskRejectedException.class).isThrownBy(() -> executor.execute(() -> {}));
+		ConcurrencyStatistics statistics = executor.getStatistics(ConcurrencyLimitingTaskExecutor.DEFAULT_KEY);
+		assertThat(statistics).isNotNull();
+		assertThat(statistics.rejectedCount()).isEqualTo(1);
+		assertThat(statistics.queued()).isZero();
+		assertThat(statistics.totalWaitNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+		release.countDown();
+	}
+
+	@Test
+	void keyResolver() {
+		executor.setConcurrencyLimit(1);
+		executor.setQueueCapacity(0);
+		executor.setKeyResolver(task -> (task instanceof KeyedTask keyedTask ? keyedTask.key : null));
+		CountDownLatch release = new CountDownLatch(1);
+		executor.execute(new KeyedTask("a", release));
+		executor.execute(new KeyedTask("b", release));
+		executor.execute(() -> awaitQuietly(release));
+
+		assertThatExceptionOfType(TaskRejectedException.class).isThrownBy(() ->
+				executor.execute(new KeyedTask("a", release)));
+		assertThat(executor.getStatistics()).containsOnlyKeys("a", "b", ConcurrencyLimitingTaskExecutor.DEFAULT_KEY);
+		release.countDown();
+	}
+
+	@Test
+	void permitReleasedWhenTargetExecutorRejects() {
+		ConcurrencyLimitingTaskExecutor executor = new ConcurrencyLimitingTaskExecutor(task -> {
+			throw new TaskRejectedException("rejected");
+		});
+		executor.setConcurrencyLimit(1);
+		assertThatExceptionOfType(TaskRejectedException.class).isThrownBy(() -> executor.execute(() -> {}));
+		ConcurrencyStatistics statistics = executor.getStatistics(ConcurrencyLimitingTaskExecutor.DEFAULT_KEY);
+		assertThat(statistics).isNotNull();
+		assertThat(statistics.inFlight()).isZero();
+	}
+
+	@Test
+	void permitReleasedWhenTaskFails() throws Exception {
+		executor.setConcurrencyLimit(1);
+		executor.setQueueCapacity(0);
+		CompletableFuture<Object> future = executor.submitCompletable("key", () -> {
+			throw new IllegalStateException("failed");
+		});
+		assertThat(future).failsWithin(1, TimeUnit.SECONDS);
+		assertEventually(() ->
+				assertThat(executor.getStatistics("key").inFlight()).isZero());
+		assertThat(executor.submitCompletable("key", () -> "ok").get(1, TimeUnit.SECONDS)).isEqualTo("ok");
+	}
+
+	@Test
+	void permitReleasedOnceWhenTaskFailsInSynchronousTargetExecutor() {
+		ConcurrencyLimitingTaskExecutor executor = new ConcurrencyLimitingTaskExecutor(new SyncTaskExecutor());
+		executor.setConcurrencyLimit(2);
+		for (int i = 0; i < 3; i++) {
+			assertThatIllegalStateException().isThrownBy(() -> executor.execute(() -> {
+				throw new IllegalStateException("failed");
+			}));
+		}
+		ConcurrencyStatistics statistics = executor.getStatistics(ConcurrencyLimitingTaskExecutor.DEFAULT_KEY);
+		assertThat(statistics).isNotNull();
+		assertThat(statistics.inFlight()).isZero();
+		assertThat(statistics.acquiredCount()).isEqualTo(3);
+	}
+
+
+	private static void assertEventually(Runnable assertion) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (true) {
+			try {
+				assertion.run();
+				return;
+			}
+			catch (AssertionError ex) {
+				if (System.currentTimeMillis() > deadline) {
+					throw ex;
+				}
+				Thread.sleep(10);
+			}
+		}
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+
+	private record KeyedTask(String key, CountDownLatch latch) implements Runnable {
+
+		@Override
+		public void run() {
+			awaitQuietly(this.latch);
+		}
+	}
+
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.MethodMetadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+/**
+ * Tests for {@link PersistentMetadataReaderFactory}.
+ *
+ * @author Spring Framework Team
+ */
+class PersistentMetadataReaderFactoryTests {
+
+	private static final String ANNOTATED_COMPONENT = "org.springframework.core.type.AnnotationMetadataTests$AnnotatedComponent";
+
+	@TempDir
+	Path tempDir;
+
+
+	@Test
+	void storedMetadataMatchesParsedMetadata() throws IOException {
+		Path storeFile = this.tempDir.resolve("metadata.store");
+		PersistentMetadataReaderFactory factory = new PersistentMetadataReaderFactory(storeFile);
+		for (String className : Set.of(ANNOTATED_COMPONENT, WithPrimitiveValues.class.getName(),
+				PersistentMetadataReaderFactory.class.getName())) {
+			factory.getMetadataReader(className);
+		}
+		factory.flush();
+		assertThat(storeFile).isRegularFile();
+
+		SimpleMetadataReaderFactory parsingFactory = new SimpleMetadataReaderFactory();
+		PersistentMetadataReaderFactory storedFactory = new PersistentMetadataReaderFactory(storeFile);
+		for (String className : Set.of(ANNOTATED_COMPONENT, WithPrimitiveValues.class.getName(),
+				PersistentMetadataReaderFactory.class.getName())) {
+			assertSameMetadata(storedFactory.getMetadataReader(className).getAnnotationMetadata(),
+					parsingFactory.getMetadataReader(className).getAnnotationMetadata());
+		}
+	}
+
+	@Test
+	void storedMetadataIsUsedWithoutReadingClassFile() throws IOException {
+		Path classFile = copyClassFile(WithPrimitiveValues.class);
+		Path storeFile = this.tempDir.resolve("metadata.store");
+		PersistentMetadataReaderFactory factory = new PersistentMetadataReaderFactory(storeFile);
+		factory.getMetadataReader(new FileSystemResource(classFile));
+		assertThat(storeFile).doesNotExist();
+		factory.clearCache();
+		assertThat(storeFile).isRegularFile();
+
+		MetadataReader reader = new PersistentMetadataReaderFactory(storeFile).getMetadataReader(new UnreadableResource(classFile));
+		assertThat(reader.getClassMetadata().getClassName()).isEqualTo(WithPrimitiveValues.class.getName());
+		assertThat(reader.getAnnotationMetadata().isAnnotated(PrimitiveValues.class.getName())).isTrue();
+	}
+
+	@Test
+	void storedMetadataIsIgnoredForChangedClassFile() throws IOException {
+		Path classFile = copyClassFile(WithPrimitiveValues.class);
+		Path storeFile = this.tempDir.resolve("metadata.store");
+		PersistentMetadataReaderFactory factory = new PersistentMetadataReaderFactory(storeFile);
+		factory.getMetadataReader(new FileSystemResource(classFile));
+		factory.flush();
+
+		long lastModified = Files.getLastModifiedTime(classFile).toMillis();
+		Files.setLastModifiedTime(classFile, FileTime.fromMillis(lastModified - 10_000));
+		assertThatIOException().isThrownBy(() ->
+				new PersistentMetadataReaderFactory(storeFile).getMetadataReader(new UnreadableResource(classFile)));
+		assertThat(new PersistentMetadataReaderFactory(storeFile).getMetadataReader(new FileSystemResource(classFile))
+				.getClassMetadata().getClassName()).isEqualTo(WithPrimitiveValues.class.getName());
+	}
+
+	@Test
+	void corruptStoreFileIsIgnored() throws IOException {
+		Path storeFile = Files.write(this.tempDir.resolve("metadata.store"), new byte[] {0x53, 0x43, 0x4D, 0x44, 0, 0});
+		PersistentMetadataReaderFactory factory = new PersistentMetadataReaderFactory(storeFile);
+		assertThat(factory.getMetadataReader(WithPrimitiveValues.class.getName()).getClassMetadata().getClassName())
+				.isEqualTo(WithPrimitiveValues.class.getName());
+		factory.flush();
+		assertThat(new PersistentMetadataReaderFactory(storeFile).getMetadataReader(WithPrimitiveValues.class.getName())
+				.getClassMetadata().getClassName()).isEqualTo(WithPrimitiveValues.class.getName());
+	}
+
+
+	@Test
+	void storedMetadataIsIgnoredForChangedJarEntryWithSameTimestamps() throws IOException {
+		String entryName = WithPrimitiveValues.class.getName().replace('.', '/') + ".class";
+		byte[] classBytes = new ClassPathResource(entryName).getContentAsByteArray();
+		Path jarFile = this.tempDir.resolve("test.jar");
+		Path storeFile = this.tempDir.resolve("metadata.store");
+		boolean defaultUseCaches = URLConnection.getDefaultUseCaches("jar");
+		URLConnection.setDefaultUseCaches("jar", false);
+		try {
+			writeJarFile(jarFile, entryName, classBytes);
+			Resource resource = new UrlResource("jar:" + jarFile.toUri() + "!/" + entryName);
+			PersistentMetadataReaderFactory factory = new PersistentMetadataReaderFactory(storeFile);
+			assertThat(factory.getMetadataReader(resource).getAnnotationMetadata().hasAnnotatedMethods(
+					PrimitiveValues.class.getName())).isTrue();
+			factory.flush();
+
+			// Same length, same entry time and same jar timestamp, as with reproducible builds
+			FileTime jarLastModified = Files.getLastModifiedTime(jarFile);
+			Files.delete(jarFile);
+			writeJarFile(jarFile, entryName, renameMethod(classBytes, "test", "tess"));
+			Files.setLastModifiedTime(jarFile, jarLastModified);
+			MetadataReader reader = new PersistentMetadataReaderFactory(storeFile).getMetadataReader(resource);
+			assertThat(reader.getAnnotationMetadata().getAnnotatedMethods(PrimitiveValues.class.getName()))
+					.singleElement().extracting(MethodMetadata::getMethodName).isEqualTo("tess");
+		}
+		finally {
+			URLConnection.setDefaultUseCaches("jar", defaultUseCaches);
+		}
+	}
+
+	@Test
+	void unusedRecordsAreDroppedFromStore() throws IOException {
+		Path storeFile = this.tempDir.resolve("metadata.store");
+		PersistentMetadataReaderFactory factory = new PersistentMetadataReaderFactory(storeFile);
+		factory.getMetadataReader(WithPrimitiveValues.class.getName());
+		factory.getMetadataReader(ANNOTATED_COMPONENT);
+		factory.flush();
+		assertThat(Files.readString(storeFile, StandardCharsets.ISO_8859_1)).contains("$AnnotatedComponent.class");
+
+		factory = new PersistentMetadataReaderFactory(storeFile);
+		factory.getMetadataReader(WithPrimitiveValues.class.getName());
+		factory.getMetadataReader(PersistentMetadataReaderFactory.class.getName());
+		factory.flush();
+		assertThat(Files.readString(storeFile, StandardCharsets.ISO_8859_1))
+				.contains("$WithPrimitiveValues.class", "/PersistentMetadataReaderFactory.class")
+				.doesNotContain("$AnnotatedComponent.class");
+	}
+
+
+	private Path copyClassFile(Class<?> clazz) throws IOException {
+		Path classFile = this.tempDir.resolve(clazz.getSimpleName() + ".class");
+		try (InputStream in = new ClassPathResource(clazz.getName().replace('.', '/') + ".class").getInputStream()) {
+			Files.copy(in, classFile);
+		}
+		return classFile;
+	}
+
+	private static void writeJarFile(Path jarFile, String entryName, byte[] content) throws IOException {
+		try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jarFile))) {
+			JarEntry entry = new JarEntry(entryName);
+			entry.setTime(315532800000L);
+			out.putNextEntry(entry);
+			out.write(content);
+			out.closeEntry();
+		}
+	}
+
+	private static byte[] renameMethod(byte[] classBytes, String name, String newName) {
+		String content = new String(classBytes, StandardCharsets.ISO_8859_1);
+		String constant = "\u0001\u0000" + (char) name.length() + name;
+		assertThat(content).containsOnlyOnce(constant);
+		return content.replace(constant, "\u0001\u0000" + (char) newName.length() + newName)
+				.getBytes(StandardCharsets.ISO_8859_1);
+	}
+
+	private static void assertSameMetadata(AnnotationMetadata actual, AnnotationMetadata expected) {
+		assertThat(actual.getClassName()).isEqualTo(expected.getClassName());
+		assertThat(actual.isInterface()).isEqualTo(expected.isInterface());
+		assertThat(actual.isAbstract()).isEqualTo(expected.isAbstract());
+		assertThat(actual.isFinal()).isEqualTo(expected.isFinal());
+		assertThat(actual.isIndependent()).isEqualTo(expected.isIndependent());
+		assertThat(actual.getEnclosingClassName()).isEqualTo(expected.getEnclosingClassName());
+		assertThat(actual.getSuperClassName()).isEqualTo(expected.getSuperClassName());
+		assertThat(actual.getInterfaceNames()).isEqualTo(expected.getInterfaceNames());
+		assertThat(actual.getMemberClassNames()).isEqualTo(expected.getMemberClassNames());
+		assertThat(actual.getAnnotationTypes()).isEqualTo(expected.getAnnotationTypes());
+		for (String annotationType : expected.getAnnotationTypes()) {
+			assertThat(actual.getAnnotationAttributes(annotationType)).as(annotationType)
+					.usingRecursiveComparison().isEqualTo(expected.getAnnotationAttributes(annotationType));
+		}
+		assertThat(actual.getMetaAnnotationTypes("org.springframework.core.type.AnnotationMetadataTests$MetaMetaAnnotation"))
+				.isEqualTo(expected.getMetaAnnotationTypes("org.springframework.core.type.AnnotationMetadataTests$MetaMetaAnnotation"));
+		assertThat(actual.getDeclaredMethods()).hasSameSizeAs(expected.getDeclaredMethods());
+		for (MethodMetadata expectedMethod : expected.getDeclaredMethods()) {
+			MethodMetadata actualMethod = actual.getDeclaredMethods().stream()
+					.filter(method -> method.toString().equals(expectedMethod.toString())).findFirst().orElseThrow();
+			assertThat(actualMethod.getReturnTypeName()).isEqualTo(expectedMethod.getReturnTypeName());
+			assertThat(actualMethod.isStatic()).isEqualTo(expectedMethod.isStatic());
+			assertThat(actualMethod.isAbstract()).isEqualTo(expectedMethod.isAbstract());
+			assertThat(actualMethod.getAnnotations().stream().map(annotation -> annotation.synthesize().toString()).toList())
+					.isEqualTo(expectedMethod.getAnnotations().stream().map(annotation -> annotation.synthesize().toString()).toList());
+		}
+	}
+
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface PrimitiveValues {
+
+		int[] ints() default {};
+
+		long[] longs() default {};
+
+		char[] chars() default {};
+
+		short[] shorts() default {};
+
+		byte[] bytes() default {};
+
+		boolean[] booleans() default {};
+
+		float[] floats() default {};
+
+		double[] doubles() default {};
+
+		char singleChar() default 'x';
+
+		double singleDouble() default 0;
+
+		Class<?>[] classes() default {};
+	}
+
+
+	@PrimitiveValues(ints = {1, 2}, longs = 3L, chars = {'a', 'ä'}, shorts = 4, bytes = {5, 6},
+			booleans = {true, false}, floats = 7.5f, doubles = {8.5, 9.5}, singleChar = 'ü', singleDouble = 10.5,
+			classes = {String.class, int[].class})
+	static class WithPrimitiveValues {
+
+		@PrimitiveValues(ints = 42)
+		public static String test(int value) {
+			return String.valueOf(value);
+		}
+	}
+
+
+	private static class UnreadableResource extends FileSystemResource {
+
+		UnreadableResource(Path filePath) {
+			super(filePath);
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			throw new IOException("Class file not supposed to be read");
+		}
+
+		@Override
+		public Resource createRelative(String relativePath) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+}
@@ -16,9 +16,25 @@
 
 package org.springframework.core.type.classreading;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.asm.ClassReader;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.core.type.AbstractAnnotationMetadataTests;
 import org.springframework.core.type.AnnotationMetadata;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 /**
  * Tests for {@link SimpleAnnotationMetadata} and
  * {@link SimpleAnnotationMetadataReadingVisitor}.
@@ -39,4 +55,100 @@ class SimpleAnnotationMetadataTests extends AbstractAnnotationMetadataTests {
 		}
 	}
 
+	@Test
+	void declaredMethodsResolvedLazily() throws Exception {
+		AtomicInteger resolved = new AtomicInteger();
+		SimpleAnnotationMetadataReadingVisitor visitor = new SimpleAnnotationMetadataReadingVisitor(
+				getClass().getClassLoader(), () -> {
+					resolved.incrementAndGet();
+					return Set.of();
+				});
+		try (InputStream is = WithAnnotatedMethod.class.getResourceAsStream(
+				"/" + WithAnnotatedMethod.class.getName().replace('.', '/') + ".class")) {
+			new ClassReader(is).accept(visitor, ClassReader.SKIP_DEBUG);
+		}
+		AnnotationMetadata metadata = visitor.getMetadata();
+		assertThat(metadata.getClassName()).isEqualTo(WithAnnotatedMethod.class.getName());
+		assertThat(metadata.hasAnnotation(Marker.class.getName())).isTrue();
+		assertThat(resolved).hasValue(0);
+
+		assertThat(metadata.hasAnnotatedMethods(Marker.class.getName())).isFalse();
+		assertThat(metadata.getDeclaredMethods()).isEmpty();
+		assertThat(resolved).hasValue(1);
+	}
+
+	@Test
+	void declaredMethodsFromSecondPhase() throws Exception {
+		AnnotationMetadata metadata = get(WithAnnotatedMethod.class);
+		assertThat(metadata.hasAnnotation(Marker.class.getName())).isTrue();
+		assertThat(metadata.getAnnotatedMethods(Marker.class.getName()))
+				.singleElement().satisfies(method -> assertThat(method.getMethodName()).isEqualTo("test"));
+		assertThat(metadata.getDeclaredMethods()).hasSize(2);
+	}
+
+	@Test
+	void declaredMethodsReadUpfrontByDefault() throws Exception {
+		AtomicInteger opened = new AtomicInteger();
+		Resource resource = countingResource(opened);
+		AnnotationMetadata metadata = new SimpleMetadataReaderFactory(getClass().getClassLoader())
+				.getMetadataReader(resource).getAnnotationMetadata();
+		assertThat(metadata.hasAnnotation(Marker.class.getName())).isTrue();
+		assertThat(metadata.getAnnotatedMethods(Marker.class.getName())).hasSize(1);
+		assertThat(metadata.getDeclaredMethods()).hasSize(2);
+		assertThat(opened).hasValue(1);
+	}
+
+	@Test
+	void declaredMethodsReadFromResourceAgainWithLazyMethodParsing() throws Exception {
+		AtomicInteger opened = new AtomicInteger();
+		Resource resource = countingResource(opened);
+		SimpleMetadataReaderFactory factory = new SimpleMetadataReaderFactory(getClass().getClassLoader());
+		factory.setLazyMethodParsing(true);
+		AnnotationMetadata metadata = factory.getMetadataReader(resource).getAnnotationMetadata();
+		assertThat(metadata.hasAnnotation(Marker.class.getName())).isTrue();
+		assertThat(opened).hasValue(1);
+
+		assertThat(metadata.getAnnotatedMethods(Marker.class.getName())).hasSize(1);
+		assertThat(metadata.getDeclaredMethods()).hasSize(2);
+		assertThat(opened).hasValue(2);
+	}
+
+	@Test
+	void declaredMethodsReadUpfrontForStreamBasedResourceWithLazyMethodParsing() throws Exception {
+		byte[] content = countingResource(new AtomicInteger()).getContentAsByteArray();
+		Resource resource = new InputStreamResource(new ByteArrayInputStream(content));
+		SimpleMetadataReaderFactory factory = new SimpleMetadataReaderFactory(getClass().getClassLoader());
+		factory.setLazyMethodParsing(true);
+		AnnotationMetadata metadata = factory.getMetadataReader(resource).getAnnotationMetadata();
+		assertThat(metadata.hasAnnotatedMethods(Marker.class.getName())).isTrue();
+		assertThat(metadata.getDeclaredMethods()).hasSize(2);
+	}
+
+	private static Resource countingResource(AtomicInteger opened) {
+		return new ClassPathResource(WithAnnotatedMethod.class.getName().replace('.', '/') + ".class") {
+			@Override
+			public InputStream getInputStream() throws IOException {
+				opened.incrementAndGet();
+				return super.getInputStream();
+			}
+		};
+	}
+
+
+	@Marker
+	static class WithAnnotatedMethod {
+
+		@Marker
+		public void test() {
+		}
+
+		public void other() {
+		}
+	}
+
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Marker {
+	}
+
 }
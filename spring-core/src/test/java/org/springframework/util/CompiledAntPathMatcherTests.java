@@ -0,0 +1,166 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link CompiledAntPathMatcher}, mostly verifying that it matches
+ * exactly like {@link AntPathMatcher}.
+ *
+ * @author Spring Framework Team
+ */
+class CompiledAntPathMatcherTests {
+
+	private static final List<String> PATTERNS = List.of(
+			"", "/", "test", "/test", "/test/", "t?st", "??st", "tes?", "/t?st", "*", "/*", "/*/", "*.*", "test*",
+			"*test*", "/test*", "/te*st/*", "/test/*", "/test/**", "/**", "**", "/**/", "/**/*.jsp", "/**/test.jsp",
+			"/bla/**/bla", "/bla/**/**/bla", "/*bla/test", "/x/x/**/bla", "/foo/bar/**", "/**/bla/**/bla",
+			"/*bla*/**/bla/**", "/*bla*/**/bla/*", "*bla*/**/bla/**", "/a/b/**/c/**/d", "/*/a/*/", "/{hotel}",
+			"/hotels/{hotel}", "/hotels/{hotel}/bookings/{booking}", "/**/hotels/**/{hotel}", "/{page}.html",
+			"/{page}.*", "/A-{B}-C", "/{name}.{extension}", "/{id:[0-9]+}", "/web/{id:foo(bar)?}", "/x/{*rest}",
+			"/Test/*.JSP", "/ä*/ü?", "/group/{groupName}/members", "/docs/cvs/*.html", "/d?cs/**/*.html", "/.*");
+
+	private static final List<String> PATHS = List.of(
+			"", "/", "//", "test", "/test", "/test/", "/test//", "tst", "testt", "tes", "/tes", "test.test",
+			"/test/Test", "/test/t", "/test/te/st", "/test/ts", "/bla/bla", "/bla/bla/bla", "/bla/x/y/bla",
+			"/xbla/test", "/x/x/bla", "/x/x/y/bla", "/foo/bar", "/foo/bar/baz", "/a/b/x/c/y/d", "/a/b/c/d",
+			"/x/a/y/", "/x/a/y", "/hotels/1", "/hotels/1/bookings/2", "/foo/hotels/bar/1", "/42.html", "/42",
+			"/A-b-C", "/test.html", "/web/foobar", "/x/y/z", "/test/X.JSP", "/TEST/x.jsp", "/Äb/Üc", "/äbc/üx",
+			"/group/sales/members", "/docs/cvs/commit.html", "/docs/cvs/other/commit.html", "/.x", "/x.y.z");
+
+
+	@Test
+	void matchLikeAntPathMatcher() {
+		assertMatchesLikeAntPathMatcher(new AntPathMatcher(), new CompiledAntPathMatcher());
+	}
+
+	@Test
+	void matchLikeAntPathMatcherCaseInsensitive() {
+		AntPathMatcher antPathMatcher = new AntPathMatcher();
+		antPathMatcher.setCaseSensitive(false);
+		CompiledAntPathMatcher compiledMatcher = new CompiledAntPathMatcher();
+		compiledMatcher.setCaseSensitive(false);
+		assertMatchesLikeAntPathMatcher(antPathMatcher, compiledMatcher);
+	}
+
+	@Test
+	void matchLikeAntPathMatcherWithDotSeparator() {
+		List<String> patterns = PATTERNS.stream().map(pattern -> pattern.replace('/', '.')).toList();
+		List<String> paths = PATHS.stream().map(path -> path.replace('/', '.')).toList();
+		assertMatchesLikeAntPathMatcher(new AntPathMatcher("."), new CompiledAntPathMatcher("."), patterns, paths);
+	}
+
+	@Test
+	void matchLikeAntPathMatcherWithTrimTokens() {
+		AntPathMatcher antPathMatcher = new AntPathMatcher();
+		antPathMatcher.setTrimTokens(true);
+		CompiledAntPathMatcher compiledMatcher = new CompiledAntPathMatcher();
+		compiledMatcher.setTrimTokens(true);
+		assertMatchesLikeAntPathMatcher(antPathMatcher, compiledMatcher);
+		assertThat(compiledMatcher.match("/foo/bar", "/ foo/bar ")).isTrue();
+	}
+
+	@Test
+	void extractUriTemplateVariables() {
+		CompiledAntPathMatcher pathMatcher = new CompiledAntPathMatcher();
+		Map<String, String> expected = new LinkedHashMap<>();
+		expected.put("hotel", "1");
+		expected.put("booking", "2");
+		assertThat(pathMatcher.extractUriTemplateVariables("/hotels/{hotel}/bookings/{booking}", "/hotels/1/bookings/2"))
+				.isEqualTo(expected);
+		assertThat(pathMatcher.extractUriTemplateVariables("{symbolicName:[\\w\\.]+}-{version:[\\w\\.]+}.jar",
+				"com.example-1.0.0.jar")).containsEntry("symbolicName", "com.example").containsEntry("version", "1.0.0");
+		assertThatIllegalArgumentException().isThrownBy(() ->
+				pathMatcher.extractUriTemplateVariables("/web/{id:foo(bar)?}", "/web/foobar"))
+			.withMessageContaining("The number of capturing groups in the pattern");
+		assertThatIllegalArgumentException().isThrownBy(() ->
+				pathMatcher.extractUriTemplateVariables("/x/{*rest}", "/x/y"))
+			.withMessageContaining("Capturing patterns");
+	}
+
+	@Test
+	void patternSetMatchesInOrder() {
+		CompiledAntPathMatcher pathMatcher = new CompiledAntPathMatcher();
+		CompiledAntPathMatcher.PatternSet patternSet = pathMatcher.compilePatterns(
+				List.of("/hotels/**", "/**/*.html", "/hotels/{hotel}", "/bookings/*", "/*/1"));
+
+		assertThat(patternSet.getMatchingPatterns("/hotels/1"))
+				.containsExactly("/hotels/**", "/hotels/{hotel}", "/*/1");
+		assertThat(patternSet.getMatchingPatterns("/hotels/1.html"))
+				.containsExactly("/hotels/**", "/**/*.html", "/hotels/{hotel}");
+		assertThat(patternSet.getMatchingPatterns("/bookings/1")).containsExactly("/bookings/*", "/*/1");
+		assertThat(patternSet.getMatchingPatterns("/other")).isEmpty();
+		assertThat(patternSet.matchesAny("/bookings/2")).isTrue();
+		assertThat(patternSet.matchesAny("/bookings")).isFalse();
+		assertThat(patternSet.matchesAny("/")).isFalse();
+	}
+
+	@Test
+	void patternSetMatchesLikeAntPathMatcher() {
+		AntPathMatcher antPathMatcher = new AntPathMatcher();
+		CompiledAntPathMatcher.PatternSet patternSet = new CompiledAntPathMatcher().compilePatterns(PATTERNS);
+		for (String path : PATHS) {
+			List<String> expected = new ArrayList<>();
+			for (String pattern : PATTERNS) {
+				if (antPathMatcher.match(pattern, path)) {
+					expected.add(pattern);
+				}
+			}
+			assertThat(patternSet.getMatchingPatterns(path)).as(path).isEqualTo(expected);
+			assertThat(patternSet.matchesAny(path)).as(path).isEqualTo(!expected.isEmpty());
+		}
+	}
+
+	@Test
+	void cachePatternsSetToFalse() {
+		CompiledAntPathMatcher pathMatcher = new CompiledAntPathMatcher();
+		pathMatcher.setCachePatterns(false);
+		assertThat(pathMatcher.match("/hotels/{hotel}", "/hotels/1")).isTrue();
+		assertThat(pathMatcher.match("/hotels/{hotel}", "/bookings/1")).isFalse();
+	}
+
+
+	private static void assertMatchesLikeAntPathMatcher(AntPathMatcher expected, CompiledAntPathMatcher actual) {
+		assertMatchesLikeAntPathMatcher(expected, actual, PATTERNS, PATHS);
+	}
+
+	private static void assertMatchesLikeAntPathMatcher(AntPathMatcher expected, CompiledAntPathMatcher actual,
+			List<String> patterns, List<String> paths) {
+
+		for (String pattern : patterns) {
+			for (String path : paths) {
+				String description = "'" + pattern + "' against '" + path + "'";
+				assertThat(actual.match(pattern, path)).as(description).isEqualTo(expected.match(pattern, path));
+				assertThat(actual.matchStart(pattern, path)).as(description).isEqualTo(expected.matchStart(pattern, path));
+				if (expected.match(pattern, path) && !pattern.contains("(") && !pattern.contains("{*")) {
+					assertThat(actual.extractUriTemplateVariables(pattern, path)).as(description)
+							.isEqualTo(expected.extractUriTemplateVariables(pattern, path));
+				}
+			}
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -108,4 +108,70 @@ class ConcurrentLruCacheTests {
 		assertThat(this.cache.contains("k3")).isTrue();
 	}
 
+	@Test
+	void statistics() {
+		assertThat(this.cache.get("k1")).isEqualTo("k1value");
+		assertThat(this.cache.get("k1")).isEqualTo("k1value");
+		assertThat(this.cache.get("k2")).isEqualTo("k2value");
+		assertThat(this.cache.get("k3")).isEqualTo("k3value");
+		assertThat(this.cache.hitCount()).isEqualTo(1);
+		assertThat(this.cache.missCount()).isEqualTo(3);
+		assertThat(this.cache.evictionCount()).isEqualTo(1);
+		assertThat(this.cache.admissionRejectCount()).isZero();
+		this.cache.remove("k2");
+		this.cache.clear();
+		assertThat(this.cache.evictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void frequencyAdmissionKeepsFrequentlyUsedEntries() {
+		ConcurrentLruCache<String, String> cache = new ConcurrentLruCache<>(2, key -> key + "value", true);
+		assertThat(cache.isFrequencyAdmission()).isTrue();
+
+		for (int i = 0; i < 5; i++) {
+			assertThat(cache.get("k1")).isEqualTo("k1value");
+			assertThat(cache.get("k2")).isEqualTo("k2value");
+		}
+		for (int i = 0; i < 10; i++) {
+			assertThat(cache.get("scan" + i)).isEqualTo("scan" + i + "value");
+		}
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.contains("k1")).isTrue();
+		assertThat(cache.contains("k2")).isTrue();
+		assertThat(cache.admissionRejectCount()).isEqualTo(10);
+		assertThat(cache.evictionCount()).isZero();
+	}
+
+	@Test
+	void frequencyAdmissionAdmitsNewlyFrequentEntries() {
+		ConcurrentLruCache<String, String> cache = new ConcurrentLruCache<>(2, key -> key + "value", true);
+		assertThat(cache.get("k1")).isEqualTo("k1value");
+		assertThat(cache.get("k2")).isEqualTo("k2value");
+		assertThat(cache.get("k3")).isEqualTo("k3value");
+		assertThat(cache.contains("k3")).isFalse();
+		assertThat(cache.get("k3")).isEqualTo("k3value");
+		assertThat(cache.contains("k3")).isTrue();
+		assertThat(cache.contains("k1")).isFalse();
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.admissionRejectCount()).isEqualTo(1);
+		assertThat(cache.evictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void frequencyAdmissionForgetsFrequenciesOnClear() {
+		ConcurrentLruCache<String, String> cache = new ConcurrentLruCache<>(2, key -> key + "value", true);
+		for (int i = 0; i < 5; i++) {
+			assertThat(cache.get("k1")).isEqualTo("k1value");
+			assertThat(cache.get("k2")).isEqualTo("k2value");
+		}
+		cache.clear();
+		assertThat(cache.get("k3")).isEqualTo("k3value");
+		assertThat(cache.get("k4")).isEqualTo("k4value");
+		assertThat(cache.get("k1")).isEqualTo("k1value");
+		assertThat(cache.contains("k1")).isFalse();
+		assertThat(cache.contains("k3")).isTrue();
+		assertThat(cache.contains("k4")).isTrue();
+		assertThat(cache.admissionRejectCount()).isEqualTo(1);
+	}
+
 }
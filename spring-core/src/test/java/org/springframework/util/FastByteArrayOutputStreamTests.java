@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,9 +20,15 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIOException;
@@ -232,6 +238,68 @@ class FastByteArrayOutputStreamTests {
 	}
 
 
+	@Test
+	void writeToChannel() throws Exception {
+		for (int i = 0; i < 10; i++) {
+			this.os.write(this.helloBytes);
+		}
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		this.os.writeTo(Channels.newChannel(baos));
+		assertThat(baos.toString(StandardCharsets.UTF_8)).isEqualTo("Hello World".repeat(10));
+	}
+
+	@Test
+	void writeToGatheringChannel(@TempDir Path tempDir) throws Exception {
+		for (int i = 0; i < 100; i++) {
+			this.os.write(this.helloBytes);
+		}
+		Path file = tempDir.resolve("content");
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+			this.os.writeTo(channel);
+		}
+		assertThat(Files.readString(file)).isEqualTo("Hello World".repeat(100));
+	}
+
+	@Test
+	void pooledSegments() throws Exception {
+		ByteArraySegmentPool pool = new ByteArraySegmentPool(8, 16);
+		FastByteArrayOutputStream pooled = new FastByteArrayOutputStream(pool);
+		for (int i = 0; i < 3; i++) {
+			pooled.write(this.helloBytes);
+		}
+		pooled.write('!');
+		assertThat(pooled.size()).isEqualTo(34);
+		assertThat(pooled.toString(StandardCharsets.UTF_8)).isEqualTo("Hello World".repeat(3) + "!");
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		pooled.writeTo(baos);
+		assertThat(baos.toString(StandardCharsets.UTF_8)).isEqualTo("Hello World".repeat(3) + "!");
+
+		pooled.reset();
+		assertThat(pool.getPooledSegmentCount()).isEqualTo(5);
+		pooled.write(this.helloBytes);
+		assertThat(pool.getPooledSegmentCount()).isEqualTo(3);
+		assertThat(pooled.toByteArray()).isEqualTo(this.helloBytes);
+		// consolidated into an unpooled array, segments returned to the pool
+		assertThat(pool.getPooledSegmentCount()).isEqualTo(5);
+		pooled.close();
+		assertThat(pooled.size()).isZero();
+		assertThatIOException().isThrownBy(() -> pooled.write(this.helloBytes));
+	}
+
+	@Test
+	void pooledSegmentsNotExposedThroughUnsafeByteArray() throws Exception {
+		ByteArraySegmentPool pool = new ByteArraySegmentPool(8, 16);
+		FastByteArrayOutputStream pooled = new FastByteArrayOutputStream(pool);
+		pooled.write("12345678".getBytes(StandardCharsets.UTF_8));
+		byte[] content = pooled.toByteArrayUnsafe();
+		assertThat(content).asString(StandardCharsets.UTF_8).isEqualTo("12345678");
+		pooled.reset();
+
+		FastByteArrayOutputStream other = new FastByteArrayOutputStream(pool);
+		other.write("abcdefgh".getBytes(StandardCharsets.UTF_8));
+		assertThat(content).asString(StandardCharsets.UTF_8).isEqualTo("12345678");
+	}
+
 	private void assertByteArrayEqualsString(FastByteArrayOutputStream actual) {
 		assertThat(actual.toByteArray()).isEqualTo(this.helloBytes);
 	}
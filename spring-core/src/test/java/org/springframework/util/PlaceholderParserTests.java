@@ -332,6 +332,45 @@ class PlaceholderParserTests {
 
 	}
 
+	@Nested
+	class CacheTests {
+
+		private final PlaceholderParser parser = new PlaceholderParser("${", "}", ":", null, false);
+
+		@Test
+		void textWithoutPlaceholderIsNotParsed() {
+			PlaceholderResolver resolver = mockPlaceholderResolver();
+			String text = "no placeholder";
+			assertThat(this.parser.replacePlaceholders(text, resolver)).isSameAs(text);
+			assertThat(this.parser.getParsedValueCacheMissCount()).isZero();
+			verifyNoMoreInteractions(resolver);
+		}
+
+		@Test
+		void parsedValueIsReused() {
+			PlaceholderResolver resolver = mockPlaceholderResolver("firstName", "John", "name", "${firstName}");
+			for (int i = 0; i < 3; i++) {
+				assertThat(this.parser.replacePlaceholders("${name} ${lastName:Smith}", resolver)).isEqualTo("John Smith");
+			}
+			// Value as well as resolved "${firstName}" and "John" parsed once each
+			assertThat(this.parser.getParsedValueCacheMissCount()).isEqualTo(3);
+			assertThat(this.parser.getParsedValueCacheHitCount()).isEqualTo(6);
+		}
+
+		@Test
+		void parsedValueIsReusedWithDifferentResolvers() {
+			assertThat(this.parser.replacePlaceholders("${a:${b}}", mockPlaceholderResolver("a", "1")))
+					.isEqualTo("1");
+			assertThat(this.parser.replacePlaceholders("${a:${b}}", mockPlaceholderResolver("b", "2")))
+					.isEqualTo("2");
+			assertThatExceptionOfType(PlaceholderResolutionException.class)
+					.isThrownBy(() -> this.parser.replacePlaceholders("${a:${b}}", mockPlaceholderResolver()))
+					.withMessage("Could not resolve placeholder 'b' in value \"${a:${b}}\"");
+			assertThat(this.parser.getParsedValueCacheHitCount()).isEqualTo(2);
+		}
+
+	}
+
 	PlaceholderResolver mockPlaceholderResolver(String... pairs) {
 		if (pairs.length % 2 == 1) {
 			throw new IllegalArgumentException("size must be even, it is a set of key=value pairs");
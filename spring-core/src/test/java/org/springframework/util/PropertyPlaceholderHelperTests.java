@@ -100,6 +100,24 @@ class PropertyPlaceholderHelperTests {
 		assertThat(this.helper.replacePlaceholders(text, resolver)).isEqualTo("foo=bar");
 	}
 
+	@Test
+	void parsedValueCacheMetrics() {
+		String text = "foo=${foo}";
+		PlaceholderResolver resolver = placeholderName -> "foo".equals(placeholderName) ? "bar" : null;
+		PropertyPlaceholderHelper helper = new PropertyPlaceholderHelper("${", "}");
+		assertThat(helper.getParsedValueCacheHitCount()).isZero();
+		assertThat(helper.getParsedValueCacheMissCount()).isZero();
+
+		assertThat(helper.replacePlaceholders(text, resolver)).isEqualTo("foo=bar");
+		long missCount = helper.getParsedValueCacheMissCount();
+		assertThat(missCount).isPositive();
+		long hitCount = helper.getParsedValueCacheHitCount();
+
+		assertThat(helper.replacePlaceholders(text, resolver)).isEqualTo("foo=bar");
+		assertThat(helper.getParsedValueCacheMissCount()).isEqualTo(missCount);
+		assertThat(helper.getParsedValueCacheHitCount()).isGreaterThan(hitCount);
+	}
+
 	@Test
 	void unresolvedPlaceholderIsIgnored() {
 		String text = "foo=${foo},bar=${bar}";
@@ -48,6 +48,7 @@ import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.DefaultPooledDataBufferFactory;
 import org.springframework.core.io.buffer.Netty5DataBufferFactory;
 import org.springframework.core.io.buffer.NettyDataBufferFactory;
 
@@ -166,6 +167,10 @@ public abstract class AbstractDataBufferAllocatingTests {
 				}
 			}
 		}
+		else if (this.bufferFactory instanceof DefaultPooledDataBufferFactory pooledFactory) {
+			int active = pooledFactory.getActiveBufferCount();
+			assertThat(active).as("DataBuffer Leak: " + active + " unreleased allocations").isEqualTo(0);
+		}
 	}
 
 	private static long getAllocations(List<PoolArenaMetric> metrics) {
@@ -226,7 +231,12 @@ public abstract class AbstractDataBufferAllocatingTests {
 			arguments(named("DefaultDataBufferFactory - preferDirect = true",
 					new DefaultDataBufferFactory(true))),
 			arguments(named("DefaultDataBufferFactory - preferDirect = false",
-					new DefaultDataBufferFactory(false)))
+					new DefaultDataBufferFactory(false))),
+			// Default pooled
+			arguments(named("DefaultPooledDataBufferFactory - preferDirect = true",
+					new DefaultPooledDataBufferFactory(true))),
+			arguments(named("DefaultPooledDataBufferFactory - preferDirect = false",
+					new DefaultPooledDataBufferFactory(false)))
 		);
 	}
 
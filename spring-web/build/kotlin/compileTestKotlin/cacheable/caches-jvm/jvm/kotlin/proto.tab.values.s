@@ -0,0 +1 @@
+X
\ No newline at end of file
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http;
+
+import java.util.Locale;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+/**
+ * Benchmarks for {@link HttpHeaders} with its default {@link CaseInsensitiveHeaderMap}
+ * versus a {@link LinkedCaseInsensitiveMap}, for populating typical request headers
+ * and for reading them through differently cased names.
+ * <p>Run with {@code -prof gc} for the allocation rate per operation.
+ *
+ * @author Spring Framework Team
+ */
+@BenchmarkMode(Mode.Throughput)
+public class HttpHeadersBenchmark {
+
+	private static final String[][] REQUEST_HEADERS = {
+			{"Host", "example.org"},
+			{"User-Agent", "Mozilla/5.0 (X11; Linux x86_64)"},
+			{"Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8"},
+			{"Accept-Language", "en-US,en;q=0.5"},
+			{"Accept-Encoding", "gzip, deflate, br"},
+			{"Connection", "keep-alive"},
+			{"Cookie", "JSESSIONID=1234567890"},
+			{"Upgrade-Insecure-Requests", "1"},
+			{"Cache-Control", "max-age=0"},
+			{"X-Forwarded-For", "10.0.0.1"},
+	};
+
+
+	@Benchmark
+	public void populate(BenchmarkState state, Blackhole bh) {
+		HttpHeaders headers = state.newHttpHeaders();
+		for (String[] header : REQUEST_HEADERS) {
+			headers.add(header[0], header[1]);
+		}
+		bh.consume(headers);
+	}
+
+	@Benchmark
+	public void getWithConstantNames(BenchmarkState state, Blackhole bh) {
+		HttpHeaders headers = state.headers;
+		bh.consume(headers.getFirst(HttpHeaders.ACCEPT));
+		bh.consume(headers.getFirst(HttpHeaders.CONTENT_TYPE));
+		bh.consume(headers.getFirst(HttpHeaders.COOKIE));
+		bh.consume(headers.getFirst(HttpHeaders.AUTHORIZATION));
+	}
+
+	@Benchmark
+	public void getWithLowerCaseNames(BenchmarkState state, Blackhole bh) {
+		HttpHeaders headers = state.headers;
+		bh.consume(headers.getFirst("accept"));
+		bh.consume(headers.getFirst("content-type"));
+		bh.consume(headers.getFirst("cookie"));
+		bh.consume(headers.getFirst("x-forwarded-for"));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"CaseInsensitiveHeaderMap", "LinkedCaseInsensitiveMap"})
+		public String mapType;
+
+		public HttpHeaders headers;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.headers = newHttpHeaders();
+			for (String[] header : REQUEST_HEADERS) {
+				this.headers.add(header[0], header[1]);
+			}
+		}
+
+		HttpHeaders newHttpHeaders() {
+			return (this.mapType.equals("LinkedCaseInsensitiveMap") ?
+					new HttpHeaders(CollectionUtils.toMultiValueMap(new LinkedCaseInsensitiveMap<>(8, Locale.ENGLISH))) :
+					new HttpHeaders());
+		}
+	}
+
+}
@@ -0,0 +1,772 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http;
+
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * {@link MultiValueMap} for HTTP headers which stores String keys in a
+ * case-insensitive manner, preserving the original order as well as the
+ * original casing of keys, like a {@code LinkedCaseInsensitiveMap}.
+ *
+ * <p>Entries are kept in insertion order in plain arrays, indexed by a single
+ * open-addressing table. Keys are matched through a case-folded hash and a
+ * case-insensitive comparison on the fly, so that lookups do not allocate.
+ * Well-known header names as defined in {@link HttpHeaders} are stored as
+ * their constant instances, allowing for identity matches on lookup.
+ *
+ * <p>Does <i>not</i> support {@code null} keys.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ */
+@SuppressWarnings("serial")
+final class CaseInsensitiveHeaderMap implements MultiValueMap<String, String>, Serializable {
+
+	private static final int DEFAULT_CAPACITY = 8;
+
+	private static final Map<String, String> wellKnownNames = CollectionUtils.newHashMap(64);
+
+	static {
+		for (String name : new String[] {HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_CHARSET,
+				HttpHeaders.ACCEPT_ENCODING, HttpHeaders.ACCEPT_LANGUAGE, HttpHeaders.ACCEPT_PATCH,
+				HttpHeaders.ACCEPT_RANGES, HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS,
+				HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS, HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS,
+				HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS,
+				HttpHeaders.ACCESS_CONTROL_MAX_AGE, HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS,
+				HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, HttpHeaders.AGE, HttpHeaders.ALLOW,
+				HttpHeaders.AUTHORIZATION, HttpHeaders.CACHE_CONTROL, HttpHeaders.CONNECTION,
+				HttpHeaders.CONTENT_ENCODING, HttpHeaders.CONTENT_DISPOSITION, HttpHeaders.CONTENT_LANGUAGE,
+				HttpHeaders.CONTENT_LENGTH, HttpHeaders.CONTENT_LOCATION, HttpHeaders.CONTENT_RANGE,
+				HttpHeaders.CONTENT_TYPE, HttpHeaders.COOKIE, HttpHeaders.DATE, HttpHeaders.ETAG,
+				HttpHeaders.EXPECT, HttpHeaders.EXPIRES, HttpHeaders.FROM, HttpHeaders.HOST,
+				HttpHeaders.IF_MATCH, HttpHeaders.IF_MODIFIED_SINCE, HttpHeaders.IF_NONE_MATCH,
+				HttpHeaders.IF_RANGE, HttpHeaders.IF_UNMODIFIED_SINCE, HttpHeaders.LAST_MODIFIED,
+				HttpHeaders.LINK, HttpHeaders.LOCATION, HttpHeaders.MAX_FORWARDS, HttpHeaders.ORIGIN,
+				HttpHeaders.PRAGMA, HttpHeaders.PROXY_AUTHENTICATE, HttpHeaders.PROXY_AUTHORIZATION,
+				HttpHeaders.RANGE, HttpHeaders.REFERER, HttpHeaders.RETRY_AFTER, HttpHeaders.SERVER,
+				HttpHeaders.SET_COOKIE, HttpHeaders.SET_COOKIE2, HttpHeaders.TE, HttpHeaders.TRAILER,
+				HttpHeaders.TRANSFER_ENCODING, HttpHeaders.UPGRADE, HttpHeaders.USER_AGENT,
+				HttpHeaders.VARY, HttpHeaders.VIA, HttpHeaders.WARNING, HttpHeaders.WWW_AUTHENTICATE}) {
+			wellKnownNames.put(name, name);
+		}
+	}
+
+
+	/** Keys in insertion order, {@code null} for removed entries. */
+	private String[] keys;
+
+	/** Case-folded hashes of the keys. */
+	private int[] hashes;
+
+	/** Values in insertion order, of type {@code List<String>}. */
+	private Object[] values;
+
+	/** Open-addressing table of entry index + 1, with 0 marking a free slot. */
+	private int[] table;
+
+	/** Number of used entry slots, including removed entries. */
+	private int entryCount;
+
+	private int size;
+
+	private transient int modCount;
+
+	@Nullable
+	private transient Set<String> keySet;
+
+	@Nullable
+	private transient Collection<List<String>> valueCollection;
+
+	@Nullable
+	private transient Set<Map.Entry<String, List<String>>> entrySet;
+
+
+	/**
+	 * Create a new CaseInsensitiveHeaderMap with a default initial capacity.
+	 */
+	CaseInsensitiveHeaderMap() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create a new CaseInsensitiveHeaderMap for the given number of headers.
+	 * @param expectedSize the expected number of headers
+	 */
+	CaseInsensitiveHeaderMap(int expectedSize) {
+		Assert.isTrue(expectedSize >= 0, "Expected size must not be negative");
+		int capacity = Math.max(Integer.highestOneBit(Math.max(expectedSize, 1) * 2 - 1), 2);
+		this.keys = new String[capacity];
+		this.hashes = new int[capacity];
+		this.values = new Object[capacity];
+		this.table = new int[capacity * 2];
+	}
+
+
+	// MultiValueMap implementation
+
+	@Override
+	@Nullable
+	public String getFirst(String key) {
+		List<String> values = get(key);
+		return (!CollectionUtils.isEmpty(values) ? values.get(0) : null);
+	}
+
+	@Override
+	public void add(String key, @Nullable String value) {
+		List<String> values = getOrCreateValues(key, 1);
+		values.add(value);
+	}
+
+	@Override
+	public void addAll(String key, List<? extends String> values) {
+		List<String> currentValues = getOrCreateValues(key, values.size());
+		currentValues.addAll(values);
+	}
+
+	@Override
+	public void addAll(MultiValueMap<String, String> values) {
+		values.forEach(this::addAll);
+	}
+
+	@Override
+	public void set(String key, @Nullable String value) {
+		List<String> values = new ArrayList<>(1);
+		values.add(value);
+		put(key, values);
+	}
+
+	@Override
+	public void setAll(Map<String, String> values) {
+		values.forEach(this::set);
+	}
+
+	@Override
+	public Map<String, String> toSingleValueMap() {
+		Map<String, String> singleValueMap = CollectionUtils.newLinkedHashMap(this.size);
+		forEach((key, values) -> {
+			if (!CollectionUtils.isEmpty(values)) {
+				singleValueMap.put(key, values.get(0));
+			}
+		});
+		return singleValueMap;
+	}
+
+
+	// Map implementation
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return (this.size == 0);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return (key instanceof String string && indexOf(string, hash(string)) != -1);
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		for (int i = 0; i < this.entryCount; i++) {
+			if (this.keys[i] != null && Objects.equals(this.values[i], value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	@Nullable
+	public List<String> get(Object key) {
+		if (key instanceof String string) {
+			int index = indexOf(string, hash(string));
+			if (index != -1) {
+				return valueAt(index);
+			}
+		}
+		return null;
+	}
+
+	@Override
+	@Nullable
+	public List<String> getOrDefault(Object key, List<String> defaultValue) {
+		if (key instanceof String string) {
+			int index = indexOf(string, hash(string));
+			if (index != -1) {
+				return valueAt(index);
+			}
+		}
+		return defaultValue;
+	}
+
+	@Override
+	@Nullable
+	public List<String> put(String key, @Nullable List<String> value) {
+		int hash = hash(key);
+		int index = indexOf(key, hash);
+		if (index == -1) {
+			insert(key, hash, value);
+			return null;
+		}
+		List<String> oldValue = valueAt(index);
+		if (this.keys[index].equals(key)) {
+			this.values[index] = value;
+		}
+		else {
+			// Same key in different case: replace entry, like LinkedCaseInsensitiveMap
+			removeAt(index);
+			insert(key, hash, value);
+		}
+		return oldValue;
+	}
+
+	@Override
+	public void putAll(Map<? extends String, ? extends List<String>> map) {
+		map.forEach(this::put);
+	}
+
+	@Override
+	@Nullable
+	public List<String> putIfAbsent(String key, @Nullable List<String> value) {
+		int hash = hash(key);
+		int index = indexOf(key, hash);
+		if (index == -1) {
+			insert(key, hash, value);
+			return null;
+		}
+		List<String> oldValue = valueAt(index);
+		if (oldValue == null) {
+			this.values[index] = value;
+		}
+		return oldValue;
+	}
+
+	@Override
+	@Nullable
+	public List<String> computeIfAbsent(String key, Function<? super String, ? extends List<String>> mappingFunction) {
+		int hash = hash(key);
+		int index = indexOf(key, hash);
+		List<String> value = (index != -1 ? valueAt(index) : null);
+		if (value == null) {
+			value = mappingFunction.apply(key);
+			if (value != null) {
+				if (index != -1) {
+					this.values[index] = value;
+				}
+				else {
+					insert(key, hash, value);
+				}
+			}
+		}
+		return value;
+	}
+
+	@Override
+	@Nullable
+	public List<String> remove(Object key) {
+		if (key instanceof String string) {
+			int index = indexOf(string, hash(string));
+			if (index != -1) {
+				List<String> oldValue = valueAt(index);
+				removeAt(index);
+				return oldValue;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(this.keys, 0, this.entryCount, null);
+		Arrays.fill(this.values, 0, this.entryCount, null);
+		Arrays.fill(this.table, 0);
+		this.entryCount = 0;
+		this.size = 0;
+		this.modCount++;
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super String, ? super List<String>> action) {
+		int expectedModCount = this.modCount;
+		for (int i = 0; i < this.entryCount; i++) {
+			String key = this.keys[i];
+			if (key != null) {
+				action.accept(key, valueAt(i));
+				if (this.modCount != expectedModCount) {
+					throw new ConcurrentModificationException();
+				}
+			}
+		}
+	}
+
+	@Override
+	public Set<String> keySet() {
+		Set<String> keySet = this.keySet;
+		if (keySet == null) {
+			keySet = new KeySet();
+			this.keySet = keySet;
+		}
+		return keySet;
+	}
+
+	@Override
+	public Collection<List<String>> values() {
+		Collection<List<String>> values = this.valueCollection;
+		if (values == null) {
+			values = new Values();
+			this.valueCollection = values;
+		}
+		return values;
+	}
+
+	@Override
+	public Set<Map.Entry<String, List<String>>> entrySet() {
+		Set<Map.Entry<String, List<String>>> entrySet = this.entrySet;
+		if (entrySet == null) {
+			entrySet = new EntrySet();
+			this.entrySet = entrySet;
+		}
+		return entrySet;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof Map<?, ?> that) || that.size() != this.size) {
+			return false;
+		}
+		for (int i = 0; i < this.entryCount; i++) {
+			String key = this.keys[i];
+			if (key != null) {
+				Object value = this.values[i];
+				if (value == null ? (that.get(key) != null || !that.containsKey(key)) : !value.equals(that.get(key))) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int hashCode = 0;
+		for (int i = 0; i < this.entryCount; i++) {
+			String key = this.keys[i];
+			if (key != null) {
+				hashCode += key.hashCode() ^ Objects.hashCode(this.values[i]);
+			}
+		}
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("{");
+		for (int i = 0; i < this.entryCount; i++) {
+			String key = this.keys[i];
+			if (key != null) {
+				if (sb.length() > 1) {
+					sb.append(", ");
+				}
+				sb.append(key).append('=').append(this.values[i]);
+			}
+		}
+		return sb.append('}').toString();
+	}
+
+
+	// Internal table handling
+
+	private List<String> getOrCreateValues(String key, int initialCapacity) {
+		int hash = hash(key);
+		int index = indexOf(key, hash);
+		List<String> values = (index != -1 ? valueAt(index) : null);
+		if (values == null) {
+			values = new ArrayList<>(initialCapacity);
+			if (index != -1) {
+				this.values[index] = values;
+			}
+			else {
+				insert(key, hash, values);
+			}
+		}
+		return values;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Nullable
+	private List<String> valueAt(int index) {
+		return (List<String>) this.values[index];
+	}
+
+	private int indexOf(String key, int hash) {
+		int[] table = this.table;
+		int mask = table.length - 1;
+		for (int i = hash & mask; ; i = (i + 1) & mask) {
+			int slot = table[i];
+			if (slot == 0) {
+				return -1;
+			}
+			int index = slot - 1;
+			String candidate = this.keys[index];
+			if (candidate != null && this.hashes[index] == hash && equalsIgnoreCase(candidate, key)) {
+				return index;
+			}
+		}
+	}
+
+	private void insert(String key, int hash, @Nullable List<String> value) {
+		if (this.entryCount == this.keys.length) {
+			rehash();
+		}
+		int index = this.entryCount++;
+		String wellKnownName = wellKnownNames.get(key);
+		this.keys[index] = (wellKnownName != null ? wellKnownName : key);
+		this.hashes[index] = hash;
+		this.values[index] = value;
+		addToTable(index, hash);
+		this.size++;
+		this.modCount++;
+	}
+
+	private void addToTable(int index, int hash) {
+		int[] table = this.table;
+		int mask = table.length - 1;
+		for (int i = hash & mask; ; i = (i + 1) & mask) {
+			int slot = table[i];
+			// Reuse free slots as well as slots of removed entries
+			if (slot == 0 || this.keys[slot - 1] == null) {
+				table[i] = index + 1;
+				return;
+			}
+		}
+	}
+
+	private void removeAt(int index) {
+		// The table slot stays in place for probing, pointing to a removed entry
+		this.keys[index] = null;
+		this.values[index] = null;
+		this.size--;
+		this.modCount++;
+	}
+
+	/**
+	 * Drop removed entries and grow the entry arrays if necessary,
+	 * then rebuild the table for the remaining entries.
+	 */
+	private void rehash() {
+		int capacity = (this.size >= this.keys.length / 2 ? this.keys.length * 2 : this.keys.length);
+		String[] keys = new String[capacity];
+		int[] hashes = new int[capacity];
+		Object[] values = new Object[capacity];
+		int count = 0;
+		for (int i = 0; i < this.entryCount; i++) {
+			if (this.keys[i] != null) {
+				keys[count] = this.keys[i];
+				hashes[count] = this.hashes[i];
+				values[count] = this.values[i];
+				count++;
+			}
+		}
+		this.keys = keys;
+		this.hashes = hashes;
+		this.values = values;
+		this.table = new int[capacity * 2];
+		this.entryCount = count;
+		for (int i = 0; i < count; i++) {
+			addToTable(i, hashes[i]);
+		}
+	}
+
+	/**
+	 * Compute the hash of the given key, with all characters case-folded in
+	 * the same way as in {@link #equalsIgnoreCase}.
+	 */
+	private static int hash(String key) {
+		int hash = 0;
+		for (int i = 0; i < key.length(); i++) {
+			hash = 31 * hash + fold(key.charAt(i));
+		}
+		return hash ^ (hash >>> 16);
+	}
+
+	private static boolean equalsIgnoreCase(String candidate, String key) {
+		if (candidate == key) {
+			return true;
+		}
+		int length = candidate.length();
+		if (length != key.length()) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			char c1 = candidate.charAt(i);
+			char c2 = key.charAt(i);
+			if (c1 != c2 && fold(c1) != fold(c2)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static char fold(char c) {
+		if (c < 128) {
+			return (c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+		}
+		return Character.toLowerCase(Character.toUpperCase(c));
+	}
+
+
+	private abstract class EntryIterator<T> implements Iterator<T> {
+
+		private int nextIndex = nextEntry(0);
+
+		private int lastIndex = -1;
+
+		private int expectedModCount = modCount;
+
+		private int nextEntry(int index) {
+			while (index < entryCount && keys[index] == null) {
+				index++;
+			}
+			return index;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return (this.nextIndex < entryCount);
+		}
+
+		protected int nextIndex() {
+			if (modCount != this.expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (this.nextIndex >= entryCount) {
+				throw new NoSuchElementException();
+			}
+			this.lastIndex = this.nextIndex;
+			this.nextIndex = nextEntry(this.nextIndex + 1);
+			return this.lastIndex;
+		}
+
+		@Override
+		public void remove() {
+			if (this.lastIndex == -1) {
+				throw new IllegalStateException();
+			}
+			if (modCount != this.expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			removeAt(this.lastIndex);
+			this.lastIndex = -1;
+			this.expectedModCount = modCount;
+		}
+	}
+
+
+	private class KeySet extends AbstractSet<String> {
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return containsKey(o);
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			if (o instanceof String string) {
+				int index = indexOf(string, hash(string));
+				if (index != -1) {
+					removeAt(index);
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public void clear() {
+			CaseInsensitiveHeaderMap.this.clear();
+		}
+
+		@Override
+		public Iterator<String> iterator() {
+			return new EntryIterator<>() {
+				@Override
+				public String next() {
+					return keys[nextIndex()];
+				}
+			};
+		}
+	}
+
+
+	private class Values extends AbstractCollection<List<String>> {
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return containsValue(o);
+		}
+
+		@Override
+		public void clear() {
+			CaseInsensitiveHeaderMap.this.clear();
+		}
+
+		@Override
+		public Iterator<List<String>> iterator() {
+			return new EntryIterator<>() {
+				@Override
+				@Nullable
+				public List<String> next() {
+					return valueAt(nextIndex());
+				}
+			};
+		}
+	}
+
+
+	private class EntrySet extends AbstractSet<Map.Entry<String, List<String>>> {
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public void clear() {
+			CaseInsensitiveHeaderMap.this.clear();
+		}
+
+		@Override
+		public Iterator<Map.Entry<String, List<String>>> iterator() {
+			return new EntryIterator<>() {
+				@Override
+				public Map.Entry<String, List<String>> next() {
+					return new HeaderEntry(nextIndex());
+				}
+			};
+		}
+	}
+
+
+	/**
+	 * Entry for a key of this map: holds the key rather than just its position,
+	 * since entries move to another position when the entry arrays are rehashed.
+	 */
+	private final class HeaderEntry implements Map.Entry<String, List<String>> {
+
+		private final String key;
+
+		private final int hash;
+
+		private int index;
+
+		HeaderEntry(int index) {
+			this.key = keys[index];
+			this.hash = hashes[index];
+			this.index = index;
+		}
+
+		/**
+		 * Return the current position of this entry's key, or -1 if removed.
+		 */
+		private int currentIndex() {
+			int index = this.index;
+			if (index == -1 || index >= entryCount || keys[index] != this.key) {
+				index = indexOf(this.key, this.hash);
+				this.index = index;
+			}
+			return index;
+		}
+
+		@Override
+		public String getKey() {
+			return this.key;
+		}
+
+		@Override
+		@Nullable
+		public List<String> getValue() {
+			int index = currentIndex();
+			return (index != -1 ? valueAt(index) : null);
+		}
+
+		@Override
+		@Nullable
+		public List<String> setValue(@Nullable List<String> value) {
+			int index = currentIndex();
+			if (index == -1) {
+				throw new IllegalStateException("Entry for key '" + this.key + "' has been removed");
+			}
+			List<String> oldValue = valueAt(index);
+			values[index] = value;
+			return oldValue;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof Map.Entry<?, ?> that &&
+					this.key.equals(that.getKey()) && Objects.equals(getValue(), that.getValue())));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.key.hashCode() ^ Objects.hashCode(getValue());
+		}
+
+		@Override
+		public String toString() {
+			return this.key + "=" + getValue();
+		}
+	}
+
+}
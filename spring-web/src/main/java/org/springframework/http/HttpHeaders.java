@@ -47,7 +47,6 @@ import java.util.stream.Collectors;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
-import org.springframework.util.LinkedCaseInsensitiveMap;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.StringUtils;
@@ -429,7 +428,7 @@ public class HttpHeaders implements MultiValueMap<String, String>, Serializable
 	 * <p>This is the common constructor, using a case-insensitive map structure.
 	 */
 	public HttpHeaders() {
-		this(CollectionUtils.toMultiValueMap(new LinkedCaseInsensitiveMap<>(8, Locale.ENGLISH)));
+		this(new CaseInsensitiveHeaderMap());
 	}
 
 	/**
@@ -442,7 +441,7 @@ public class HttpHeaders implements MultiValueMap<String, String>, Serializable
 	public HttpHeaders(MultiValueMap<String, String> headers) {
 		Assert.notNull(headers, "MultiValueMap must not be null");
 		if (headers == EMPTY) {
-			this.headers = CollectionUtils.toMultiValueMap(new LinkedCaseInsensitiveMap<>(8, Locale.ENGLISH));
+			this.headers = new CaseInsensitiveHeaderMap();
 		}
 		else if (headers instanceof ReadOnlyHttpHeaders readOnlyHttpHeaders) {
 			this.headers = readOnlyHttpHeaders.headers;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,7 +29,9 @@ import jakarta.servlet.http.HttpServletResponse;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ByteArraySegmentPool;
 import org.springframework.util.DigestUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.context.request.ServletWebRequest;
@@ -65,6 +67,9 @@ public class ShallowEtagHeaderFilter extends OncePerRequestFilter {
 
 	private boolean writeWeakETag = false;
 
+	@Nullable
+	private ByteArraySegmentPool contentBufferPool;
+
 
 	/**
 	 * Set whether the ETag value written to the response should be weak, as per RFC 7232.
@@ -85,6 +90,17 @@ public class ShallowEtagHeaderFilter extends OncePerRequestFilter {
 		return this.writeWeakETag;
 	}
 
+	/**
+	 * Set a pool to obtain the buffers for caching response content from,
+	 * returning them to the pool once the content has been copied to the response.
+	 * <p>Default is none, allocating new buffers for every response.
+	 * @since 6.2
+	 * @see ByteArraySegmentPool#getSharedInstance()
+	 */
+	public void setContentBufferPool(@Nullable ByteArraySegmentPool contentBufferPool) {
+		this.contentBufferPool = contentBufferPool;
+	}
+
 
 	/**
 	 * The default value is {@code false} so that the filter may delay the generation
@@ -101,7 +117,9 @@ public class ShallowEtagHeaderFilter extends OncePerRequestFilter {
 
 		HttpServletResponse responseToUse = response;
 		if (!isAsyncDispatch(request) && !(response instanceof ConditionalContentCachingResponseWrapper)) {
-			responseToUse = new ConditionalContentCachingResponseWrapper(response, request);
+			responseToUse = (this.contentBufferPool != null ?
+					new ConditionalContentCachingResponseWrapper(response, request, this.contentBufferPool) :
+					new ConditionalContentCachingResponseWrapper(response, request));
 		}
 
 		filterChain.doFilter(request, responseToUse);
@@ -124,6 +142,8 @@ public class ShallowEtagHeaderFilter extends OncePerRequestFilter {
 				rawResponse.setHeader(HttpHeaders.ETAG, eTag);
 			}
 			if (new ServletWebRequest(request, rawResponse).checkNotModified(eTag)) {
+				// Discard the cached content, returning pooled buffers if any
+				wrapper.resetBuffer();
 				return;
 			}
 		}
@@ -213,6 +233,13 @@ public class ShallowEtagHeaderFilter extends OncePerRequestFilter {
 			this.request = request;
 		}
 
+		ConditionalContentCachingResponseWrapper(HttpServletResponse response, HttpServletRequest request,
+				ByteArraySegmentPool bufferPool) {
+
+			super(response, bufferPool);
+			this.request = request;
+		}
+
 		@Override
 		public ServletOutputStream getOutputStream() throws IOException {
 			return (isContentCachingDisabled(this.request) || hasETag() ?
@@ -33,6 +33,7 @@ import jakarta.servlet.http.HttpServletResponseWrapper;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ByteArraySegmentPool;
 import org.springframework.util.FastByteArrayOutputStream;
 
 /**
@@ -49,7 +50,7 @@ import org.springframework.util.FastByteArrayOutputStream;
  */
 public class ContentCachingResponseWrapper extends HttpServletResponseWrapper {
 
-	private final FastByteArrayOutputStream content = new FastByteArrayOutputStream(1024);
+	private final FastByteArrayOutputStream content;
 
 	@Nullable
 	private ServletOutputStream outputStream;
@@ -67,6 +68,23 @@ public class ContentCachingResponseWrapper extends HttpServletResponseWrapper {
 	 */
 	public ContentCachingResponseWrapper(HttpServletResponse response) {
 		super(response);
+		this.content = new FastByteArrayOutputStream(1024);
+	}
+
+	/**
+	 * Create a new ContentCachingResponseWrapper for the given servlet response,
+	 * caching the content in buffers obtained from the given pool.
+	 * <p>The buffers are returned to the pool once the content has been copied
+	 * to the response, or when the buffer of this wrapper is being reset.
+	 * The cached content must not be accessed after that point.
+	 * @param response the original servlet response
+	 * @param bufferPool the pool to obtain content buffers from
+	 * @since 6.2
+	 * @see #copyBodyToResponse()
+	 */
+	public ContentCachingResponseWrapper(HttpServletResponse response, ByteArraySegmentPool bufferPool) {
+		super(response);
+		this.content = new FastByteArrayOutputStream(bufferPool);
 	}
 
 
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.testfixture.io.SerializationTestUtils;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.util.MultiValueMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link CaseInsensitiveHeaderMap}.
+ *
+ * @author Spring Framework Team
+ */
+class CaseInsensitiveHeaderMapTests {
+
+	private final CaseInsensitiveHeaderMap map = new CaseInsensitiveHeaderMap();
+
+
+	@Test
+	void caseInsensitiveAccess() {
+		map.add("Content-Type", "text/plain");
+		map.add("X-Custom", "a");
+		map.add("x-custom", "b");
+
+		assertThat(map).hasSize(2);
+		assertThat(map.get("content-type")).containsExactly("text/plain");
+		assertThat(map.getFirst("CONTENT-TYPE")).isEqualTo("text/plain");
+		assertThat(map.get("X-CUSTOM")).containsExactly("a", "b");
+		assertThat(map.containsKey("x-Custom")).isTrue();
+		assertThat(map.containsKey("x-other")).isFalse();
+		assertThat(map.get(42)).isNull();
+		assertThat(map.keySet()).containsExactly("Content-Type", "X-Custom");
+	}
+
+	@Test
+	void wellKnownNameIsStoredAsConstant() {
+		map.add(new String("Content-Type".toCharArray()), "text/plain");
+		map.add("accept", "*/*");
+		assertThat(map.keySet().iterator().next()).isSameAs(HttpHeaders.CONTENT_TYPE);
+		assertThat(map.keySet()).containsExactly("Content-Type", "accept");
+	}
+
+	@Test
+	void putWithDifferentCaseReplacesKey() {
+		map.set("Alpha", "a");
+		map.set("Bravo", "b");
+		assertThat(map.put("ALPHA", List.of("A"))).containsExactly("a");
+		assertThat(map.keySet()).containsExactly("Bravo", "ALPHA");
+		assertThat(map.get("alpha")).containsExactly("A");
+		assertThat(map.putIfAbsent("alpha", List.of("x"))).containsExactly("A");
+		assertThat(map.keySet()).containsExactly("Bravo", "ALPHA");
+	}
+
+	@Test
+	void removeAndGrow() {
+		for (int i = 0; i < 100; i++) {
+			map.set("Header-" + i, String.valueOf(i));
+			if (i % 3 == 0) {
+				assertThat(map.remove("HEADER-" + i)).containsExactly(String.valueOf(i));
+			}
+		}
+		assertThat(map).hasSize(66);
+		for (int i = 0; i < 100; i++) {
+			assertThat(map.getFirst("header-" + i)).isEqualTo(i % 3 == 0 ? null : String.valueOf(i));
+		}
+		assertThat(map.keySet()).first().isEqualTo("Header-1");
+		map.clear();
+		assertThat(map).isEmpty();
+		assertThat(map.get("header-1")).isNull();
+		map.add("header-1", "x");
+		assertThat(map.keySet()).containsExactly("header-1");
+	}
+
+	@Test
+	void iteratorRemoval() {
+		map.set("Alpha", "a");
+		map.set("Bravo", "b");
+		map.set("Charlie", "c");
+		map.entrySet().removeIf(entry -> entry.getKey().equals("Bravo"));
+		assertThat(map.keySet()).containsExactly("Alpha", "Charlie");
+		assertThat(map.keySet().remove("CHARLIE")).isTrue();
+		assertThat(map.keySet()).containsExactly("Alpha");
+		map.values().clear();
+		assertThat(map).isEmpty();
+
+		map.set("Delta", "d");
+		Iterator<String> iterator = map.keySet().iterator();
+		map.set("Echo", "e");
+		assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(iterator::next);
+	}
+
+	@Test
+	void entrySetValue() {
+		map.set("Alpha", "a");
+		Map.Entry<String, List<String>> entry = map.entrySet().iterator().next();
+		entry.setValue(List.of("b"));
+		assertThat(map.get("alpha")).containsExactly("b");
+		assertThat(entry).isEqualTo(Map.entry("Alpha", List.of("b")));
+	}
+
+	@Test
+	void entrySetValueAfterGrowth() {
+		map.set("Alpha", "a");
+		map.set("Bravo", "b");
+		Iterator<Map.Entry<String, List<String>>> iterator = map.entrySet().iterator();
+		Map.Entry<String, List<String>> alpha = iterator.next();
+		Map.Entry<String, List<String>> bravo = iterator.next();
+		map.remove("Alpha");
+		for (int i = 0; i < 20; i++) {
+			map.set("Header-" + i, String.valueOf(i));
+		}
+		assertThat(map.keySet()).first().isEqualTo("Bravo");
+		assertThat(bravo.getValue()).containsExactly("b");
+		assertThat(bravo.setValue(List.of("c"))).containsExactly("b");
+		assertThat(map.get("bravo")).containsExactly("c");
+		assertThat(map.getFirst("header-0")).isEqualTo("0");
+		assertThat(map.getFirst("header-1")).isEqualTo("1");
+		assertThat(alpha.getValue()).isNull();
+		assertThatIllegalStateException().isThrownBy(() -> alpha.setValue(List.of("a")));
+		assertThat(map).doesNotContainKey("Alpha");
+	}
+
+	@Test
+	void equalsAndHashCodeLikeMultiValueMap() {
+		MultiValueMap<String, String> other =
+				CollectionUtils.toMultiValueMap(new LinkedCaseInsensitiveMap<>(8, Locale.ENGLISH));
+		map.add("Alpha", "a");
+		map.add("Bravo", "b1");
+		map.add("Bravo", "b2");
+		other.add("Alpha", "a");
+		other.add("Bravo", "b1");
+		other.add("Bravo", "b2");
+		assertThat(map).isEqualTo(other);
+		assertThat(other).isEqualTo(map);
+		assertThat(map.hashCode()).isEqualTo(other.hashCode());
+		assertThat(map.toString()).isEqualTo(other.toString());
+		assertThat(map.toSingleValueMap()).isEqualTo(other.toSingleValueMap());
+	}
+
+	@Test
+	void serializable() throws Exception {
+		map.add("Alpha", "a");
+		map.add("Bravo", "b");
+		map.remove("alpha");
+		map.add("Charlie", "c");
+		MultiValueMap<String, String> copy = SerializationTestUtils.serializeAndDeserialize(map);
+		assertThat(copy).isEqualTo(map);
+		assertThat(copy.getFirst("CHARLIE")).isEqualTo("c");
+		copy.add("delta", "d");
+		assertThat(copy.keySet()).containsExactly("Bravo", "Charlie", "delta");
+	}
+
+	@Test
+	void randomOperationsLikeLinkedCaseInsensitiveMap() {
+		MultiValueMap<String, String> expected =
+				CollectionUtils.toMultiValueMap(new LinkedCaseInsensitiveMap<>(8, Locale.ENGLISH));
+		String[] names = {"Accept", "accept", "ACCEPT", "Content-Type", "content-type", "X-A", "x-a", "X-B",
+				"x-b", "X-C", "Vary", "vary", "Set-Cookie", "X-Ünïcode", "x-üNÏCODE"};
+		Random random = new Random(42);
+		for (int i = 0; i < 10000; i++) {
+			String name = names[random.nextInt(names.length)];
+			String value = String.valueOf(i);
+			switch (random.nextInt(6)) {
+				case 0 -> {
+					expected.add(name, value);
+					map.add(name, value);
+				}
+				case 1 -> {
+					expected.set(name, value);
+					map.set(name, value);
+				}
+				case 2 -> assertThat(map.remove(name)).isEqualTo(expected.remove(name));
+				case 3 -> assertThat(map.put(name, new ArrayList<>(List.of(value))))
+						.isEqualTo(expected.put(name, new ArrayList<>(List.of(value))));
+				case 4 -> assertThat(map.get(name)).isEqualTo(expected.get(name));
+				default -> {
+					if (random.nextInt(50) == 0) {
+						expected.clear();
+						map.clear();
+					}
+				}
+			}
+			assertThat(map.keySet()).containsExactlyElementsOf(expected.keySet());
+		}
+		assertThat(map).isEqualTo(expected);
+	}
+
+}
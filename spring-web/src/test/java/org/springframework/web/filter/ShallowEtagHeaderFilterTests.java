@@ -22,6 +22,7 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.util.ByteArraySegmentPool;
 import org.springframework.util.FileCopyUtils;
 import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
 import org.springframework.web.testfixture.servlet.MockHttpServletResponse;
@@ -84,6 +85,28 @@ class ShallowEtagHeaderFilterTests {
 		assertThat(response.getContentAsByteArray()).as("Invalid content").isEqualTo(responseBody);
 	}
 
+	@Test
+	void filterNoMatchWithContentBufferPool() throws Exception {
+		ByteArraySegmentPool pool = new ByteArraySegmentPool(1024, 64);
+		this.filter.setContentBufferPool(pool);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/hotels");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		byte[] responseBody = "Hello World".repeat(2000).getBytes(UTF_8);
+		FilterChain filterChain = (filterRequest, filterResponse) -> {
+			((HttpServletResponse) filterResponse).setStatus(HttpServletResponse.SC_OK);
+			filterResponse.setContentType(TEXT_PLAIN_VALUE);
+			FileCopyUtils.copy(responseBody, filterResponse.getOutputStream());
+		};
+		filter.doFilter(request, response, filterChain);
+
+		assertThat(response.getStatus()).as("Invalid status").isEqualTo(200);
+		assertThat(response.getHeader("ETag")).as("Invalid ETag").isNotNull();
+		assertThat(response.getContentLength()).as("Invalid Content-Length header").isEqualTo(responseBody.length);
+		assertThat(response.getContentAsByteArray()).as("Invalid content").isEqualTo(responseBody);
+		assertThat(pool.getPooledSegmentCount()).isEqualTo(22);
+	}
+
 	@Test
 	void filterNoMatchWeakETag() throws Exception {
 		this.filter.setWriteWeakETag(true);